@@ -52,9 +52,61 @@ public final class Constants {
     /** X value increments on the PDF curve. */
     public static final double X_STEP = 0.05;
 
+    /**
+     * Maximum number of points of a coarse PDF curve, shown while the full
+     * curve is built in the background.
+     */
+    public static final int COARSE_PDF_POINTS = 256;
+
     /** Maximum number of iterations before converging on non-centrality. */
     public static final int NC_MAX_ITER = 100;
 
+    /**
+     * Initial bracketing step, absolute and relative to the guess, when a
+     * non-centrality search is warm-started from a nearby solution.
+     */
+    public static final double NC_WARM_STEP = 0.25;
+
+    /** Minimum number of grid points per parallel segment of a sweep. */
+    public static final int SWEEP_MIN_SEGMENT = 16;
+
+    /** Largest per-group sample size considered by the planning searches. */
+    public static final int MAX_PLANNING_SIZE = 10000000;
+
+    /**
+     * Number of replications in each block of a coverage simulation. Every
+     * block draws from its own random stream, so results do not depend on
+     * the number of threads.
+     */
+    public static final int SIMULATION_BLOCK = 4096;
+
+    /** Nominal size in bytes of the chunks a raw data file is parsed in. */
+    public static final int INGEST_CHUNK = 1 << 25;
+
+    /**
+     * Number of replicates in each block of a bootstrap. Like the simulation
+     * blocks, every block draws from its own random stream.
+     */
+    public static final int BOOTSTRAP_BLOCK = 64;
+
+    /** Number of rows in each parallel block of a column conversion. */
+    public static final int CONVERSION_BLOCK = 1 << 16;
+
+    /** Largest number of log factorials kept by Binomial. */
+    public static final int LOG_FACTORIAL_CACHE = 1 << 22;
+
+    /** Maximum number of iterations of a REML estimate of tau squared. */
+    public static final int META_MAX_ITER = 100;
+
+    /** Relative change in tau squared at which a REML search stops. */
+    public static final double META_TOLERANCE = 1e-10;
+
+    /**
+     * Number of analyses in each parallel block of a cumulative or
+     * leave-one-out meta-analysis.
+     */
+    public static final int META_BLOCK = 256;
+
     /** Minimum value for R. */
     public static final double MIN_R = -1 + PRECISION;
 
@@ -99,6 +151,9 @@ public final class Constants {
     /** Default graph width. */
     public static final int GRAPH_WIDTH = 680;
 
+    /** Shortest time between two redraws of a graph, in milliseconds. */
+    public static final int GRAPH_FRAME_MILLIS = 16;
+
     /** Graph gridline color. */
     public static final Color GRAPH_GRID_COLOR =
             UIManager.getColor("Table.gridColor");
@@ -188,6 +243,9 @@ public final class Constants {
     /** Greek letter uppercase phi. */
     public static final String PHI_UPPER = "\u03A6";
 
+    /** Greek letter lowercase rho. */
+    public static final String RHO_LOWER = "\u03C1";
+
     /** Greek letter lowercase sigma. */
     public static final String SIGMA_LOWER = "\u03C3";
 
@@ -3,20 +3,8 @@ package edu.missouristate.mote;
 import edu.missouristate.mote.effectsizes.AbstractNonCentralTest;
 import edu.missouristate.mote.effectsizes.AbstractNormalTest;
 import edu.missouristate.mote.effectsizes.AbstractTest;
-import edu.missouristate.mote.effectsizes.CohenDDepTAvgs;
-import edu.missouristate.mote.effectsizes.CohenDDepTDiff;
-import edu.missouristate.mote.effectsizes.CohenDIndT;
-import edu.missouristate.mote.effectsizes.CohenDR;
-import edu.missouristate.mote.effectsizes.CohenDSst;
 import edu.missouristate.mote.effectsizes.CohenDZ;
-import edu.missouristate.mote.effectsizes.Eta2FOmni;
-import edu.missouristate.mote.effectsizes.GlassDIndT;
-import edu.missouristate.mote.effectsizes.HedgesGIndT;
-import edu.missouristate.mote.effectsizes.OddsRisk;
-import edu.missouristate.mote.effectsizes.Omega2FOmni;
-import edu.missouristate.mote.effectsizes.PEta2FEff;
-import edu.missouristate.mote.effectsizes.POmega2FEff;
-import edu.missouristate.mote.effectsizes.RIntraCorrF;
+import edu.missouristate.mote.effectsizes.Measure;
 import java.awt.EventQueue;
 import java.awt.event.ActionListener;
 import java.awt.event.ActionEvent;
@@ -38,6 +26,7 @@ import org.jdesktop.layout.GroupLayout;
 import org.jdesktop.layout.LayoutStyle;
 import edu.missouristate.mote.graph.GraphPanel;
 import edu.missouristate.mote.propertygrid.PropertyGrid;
+import edu.missouristate.mote.sheet.StudySheetFrame;
 
 /**
  * Main application window.
@@ -115,45 +104,22 @@ public final class Mote extends JFrame {
     // PRIVATE METHODS
     // *************************************************************************
     /**
-     * Return a menu item based on the specified test. When clicked, the action
-     * will be to create and display a new instance of the test.
+     * Return a menu item for the specified measure. The label comes from the
+     * registry; the test is only created, and its intervals solved, when the
+     * item is clicked.
      *
-     * @param test test to associate with the menu item
+     * @param measure measure to associate with the menu item
      * @return menu item
      */
-    private JMenuItem createMenuItem(final AbstractNonCentralTest test) {
+    private JMenuItem createMenuItem(final Measure measure) {
         final JMenuItem result = new JMenuItem();
-        result.setText(test.getMeasureName() + " - " + test.getTestName());
+        result.setText(measure.getLabel());
         final ActionListener listener = new ActionListener() {
             @Override
             public void actionPerformed(final ActionEvent evt) {
                 try {
-                    updateTest(test.getClass().newInstance());
-                } catch (InstantiationException | IllegalAccessException ex) {
-                    result.setEnabled(false);
-                }
-            }
-        };
-        result.addActionListener(listener);
-        return result;
-    }
-
-    /**
-     * Return a menu item based on the specified test. When clicked, the action
-     * will be to create and display a new instance of the test.
-     *
-     * @param test test to associate with the menu item
-     * @return menu item
-     */
-    private JMenuItem createMenuItem(final AbstractNormalTest test) {
-        final JMenuItem result = new JMenuItem();
-        result.setText(test.getMeasureName() + " - " + test.getTestName());
-        final ActionListener listener = new ActionListener() {
-            @Override
-            public void actionPerformed(final ActionEvent evt) {
-                try {
-                    updateTest(test.getClass().newInstance());
-                } catch (InstantiationException | IllegalAccessException ex) {
+                    updateTest(measure.createTest());
+                } catch (IllegalStateException ex) {
                     result.setEnabled(false);
                 }
             }
@@ -176,6 +142,15 @@ public final class Mote extends JFrame {
                 selectedTest.reset();
             }
         }, KeyStroke.getKeyStroke(KeyEvent.VK_R, InputEvent.CTRL_MASK)));
+        result.add(createMenuItem("Study Sheet", new ActionListener() {
+            @Override
+            public void actionPerformed(final ActionEvent evt) {
+                final StudySheetFrame frame = new StudySheetFrame(
+                        Measure.forClass(selectedTest.getClass()));
+                frame.setLocationRelativeTo(Mote.this);
+                frame.setVisible(true);
+            }
+        }, KeyStroke.getKeyStroke(KeyEvent.VK_T, InputEvent.CTRL_MASK)));
         return result;
     }
 
@@ -187,35 +162,17 @@ public final class Mote extends JFrame {
     private JMenu createMeasuresMenu() {
         final JMenu result = new JMenu();
         result.setText("Measures");
-        // t Distribution
-        result.add(createMenuItem(new CohenDZ()));
-        result.add(createMenuItem(new CohenDSst()));
-        result.add(createMenuItem(new CohenDDepTAvgs()));
-        result.add(createMenuItem(new CohenDDepTDiff()));
-        result.add(createMenuItem(new CohenDIndT()));
-        result.add(createMenuItem(new CohenDR()));
-        result.add(createMenuItem(new HedgesGIndT()));
-        result.add(createMenuItem(new GlassDIndT()));
-        if (ENABLE_TESTING) {
-            // F Distribution
-            result.add(new Separator());
-            result.add(createDisabledMenuItem("R" + Constants.SUPERSCRIPT2
-                    + " - F Test Omnibus"));
-            result.add(createDisabledMenuItem(Constants.DELTA_UPPER + "R"
-                    + Constants.SUPERSCRIPT2 + " - F Test Change"));
-            result.add(createMenuItem(new Eta2FOmni()));
-            result.add(createMenuItem(new PEta2FEff()));
-            result.add(createMenuItem(new Omega2FOmni()));
-            result.add(createMenuItem(new POmega2FEff()));
-            result.add(createMenuItem(new RIntraCorrF()));
-            // Chi-Squared Distribution
-            result.add(new Separator());
-            result.add(createDisabledMenuItem("Cram" + Constants.E_ACCENT_LOWER
-                    + "r's " + Constants.PHI_UPPER + " - " + Constants.CHI_LOWER
-                    + Constants.SUPERSCRIPT2));
-            // Odds/Risk
-            result.add(new Separator());
-            result.add(createMenuItem(new OddsRisk()));
+        Measure.Family family = null;
+        for (Measure measure : Measure.values()) {
+            // Only the t Distribution measures are released
+            if (!ENABLE_TESTING && measure.getFamily() != Measure.Family.T) {
+                continue;
+            }
+            if (family != null && measure.getFamily() != family) {
+                result.add(new Separator());
+            }
+            family = measure.getFamily();
+            result.add(createMenuItem(measure));
         }
         return result;
     }
@@ -308,6 +265,19 @@ public final class Mote extends JFrame {
         setJMenuBar(menu);
     }
 
+    /**
+     * Set the selectedTest to 'test' and update the form.
+     *
+     * @param test test
+     */
+    private void updateTest(final AbstractTest test) {
+        if (test instanceof AbstractNonCentralTest) {
+            updateTest((AbstractNonCentralTest) test);
+        } else {
+            updateTest((AbstractNormalTest) test);
+        }
+    }
+
     /**
      * Set the selectedTest to 'test' and update the form.
      *
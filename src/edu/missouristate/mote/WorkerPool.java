@@ -0,0 +1,230 @@
+package edu.missouristate.mote;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Shared pool of daemon worker threads for batch calculations. A single
+ * calculation can also split its independent parts across the pool with
+ * fork; this is turned off on the workers themselves, where the pool is
+ * already busy with other calculations.
+ */
+public final class WorkerPool {
+
+    // *************************************************************************
+    // PRIVATE CONSTANTS
+    // *************************************************************************
+
+    /** Number of worker threads. */
+    private static final int THREADS =
+            Runtime.getRuntime().availableProcessors();
+
+    /** Worker threads. */
+    private static final ExecutorService EXECUTOR =
+            Executors.newFixedThreadPool(THREADS, new ThreadFactory() {
+                @Override
+                public Thread newThread(final Runnable runnable) {
+                    final Thread result = new WorkerThread(runnable);
+                    result.setDaemon(true);
+                    return result;
+                }
+            });
+
+    // *************************************************************************
+    // PRIVATE FIELDS
+    // *************************************************************************
+
+    /** True to split single calculations across the pool. */
+    private static volatile boolean splitting = THREADS > 1;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a WorkerPool.
+     */
+    private WorkerPool() {
+    }
+
+    // *************************************************************************
+    // PRIVATE STATIC METHODS
+    // *************************************************************************
+    /**
+     * Return an exception thrown by a task as an unchecked exception: a
+     * runtime exception unchanged, anything else wrapped.
+     *
+     * @param ex exception thrown by a task
+     * @return exception to throw
+     */
+    private static RuntimeException unchecked(final Throwable ex) {
+        if (ex instanceof Error) {
+            throw (Error) ex;
+        }
+        if (ex instanceof RuntimeException) {
+            return (RuntimeException) ex;
+        }
+        return new IllegalStateException(ex);
+    }
+
+    // *************************************************************************
+    // PUBLIC STATIC METHODS
+    // *************************************************************************
+    /**
+     * Run the independent parts of one calculation at the same time and
+     * return their results in order. The first part runs on the calling
+     * thread and the others on the pool; a part that no worker has started
+     * by the time the calling thread is free is taken back and run on the
+     * calling thread, so a busy pool never makes the calculation slower than
+     * running the parts in turn. The parts are run in turn, on the calling
+     * thread, when splitting is off or the calling thread is a worker. A
+     * runtime exception thrown by a part is rethrown unchanged.
+     *
+     * @param <T> result type
+     * @param tasks parts to run; each must be safe to run on another thread
+     * @return results of the parts
+     * @exception IllegalStateException if interrupted while waiting or a part
+     * throws a checked exception
+     */
+    public static <T> List<T> fork(final List<? extends Callable<T>> tasks) {
+        final List<T> result = new ArrayList<>(tasks.size());
+        if (!isSplitting() || tasks.size() == 1) {
+            try {
+                for (Callable<T> task : tasks) {
+                    result.add(task.call());
+                }
+            } catch (Exception ex) {
+                throw unchecked(ex);
+            }
+            return result;
+        }
+        final List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (int index = 1; index < tasks.size(); index++) {
+            futures.add(EXECUTOR.submit(tasks.get(index)));
+        }
+        try {
+            result.add(tasks.get(0).call());
+            for (int index = 1; index < tasks.size(); index++) {
+                final Future<T> future = futures.get(index - 1);
+                if (future.cancel(false)) {
+                    result.add(tasks.get(index).call());
+                } else {
+                    result.add(future.get());
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw unchecked(ex.getCause());
+        } catch (Exception ex) {
+            throw unchecked(ex);
+        } finally {
+            for (Future<T> future : futures) {
+                future.cancel(false);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Return the number of worker threads.
+     *
+     * @return number of worker threads
+     */
+    public static int getThreads() {
+        return THREADS;
+    }
+
+    /**
+     * Run the tasks on the pool and return their results in order. A single
+     * task is run on the calling thread. A runtime exception thrown by a task
+     * is rethrown unchanged.
+     *
+     * @param <T> result type
+     * @param tasks tasks to run
+     * @return results of the tasks
+     * @exception IllegalStateException if interrupted while waiting or a task
+     * throws a checked exception
+     */
+    public static <T> List<T> invokeAll(
+            final List<? extends Callable<T>> tasks) {
+        final List<T> result = new ArrayList<>(tasks.size());
+        try {
+            if (tasks.size() == 1) {
+                result.add(tasks.get(0).call());
+                return result;
+            }
+            for (Future<T> future : EXECUTOR.invokeAll(tasks)) {
+                result.add(future.get());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+        return result;
+    }
+
+    /**
+     * Return whether fork splits calculations on the calling thread: when
+     * splitting is on and the thread is not a worker.
+     *
+     * @return true if fork runs parts on the pool
+     */
+    public static boolean isSplitting() {
+        return splitting && !(Thread.currentThread() instanceof WorkerThread);
+    }
+
+    /**
+     * Start a task on the pool without waiting for it.
+     *
+     * @param <T> result type
+     * @param task task to run
+     * @return future of the task
+     */
+    public static <T> Future<T> submit(final Callable<T> task) {
+        return EXECUTOR.submit(task);
+    }
+
+    /**
+     * Turn the splitting of single calculations by fork on or off. It is on
+     * by default when there is more than one worker thread.
+     *
+     * @param value true to split calculations across the pool
+     */
+    public static void setSplitting(final boolean value) {
+        splitting = value;
+    }
+
+    // *************************************************************************
+    // INNER CLASSES
+    // *************************************************************************
+    /**
+     * Thread of the pool, told apart from other threads by its class.
+     */
+    private static final class WorkerThread extends Thread {
+
+        /**
+         * Initialize a new instance of a WorkerThread.
+         *
+         * @param runnable code to run
+         */
+        WorkerThread(final Runnable runnable) {
+            super(runnable, "mote-worker");
+        }
+    }
+}
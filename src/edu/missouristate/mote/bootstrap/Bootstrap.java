@@ -0,0 +1,393 @@
+package edu.missouristate.mote.bootstrap;
+
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.WorkerPool;
+import edu.missouristate.mote.statistics.NormalDist;
+import edu.missouristate.mote.statistics.SplitRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Nonparametric bootstrap of effect sizes from raw samples. Each replicate
+ * resamples every group with replacement, keeping the group sizes fixed.
+ * Resampling draws an array of indices into the original sample and
+ * accumulates the moments of the indexed values in place, so no resampled
+ * data is ever copied. Every replicate keeps only the mean and sum of
+ * squares of each group, which is enough for all of the BootstrapMeasures,
+ * so one resampling run serves every measure and confidence level.
+ *
+ * Replicates are divided into blocks of Constants.BOOTSTRAP_BLOCK, each with
+ * its own stream split from the seed in block order, and the blocks run in
+ * parallel on the shared worker pool; a seed always reproduces the same
+ * intervals. The BCa acceleration comes from the jackknife, with each
+ * leave-one-out estimate found by removing one value from its group's
+ * moments rather than by recomputing them.
+ *
+ * Resampling runs on the first call to interval. Instances are safe to share
+ * between threads.
+ */
+public final class Bootstrap {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Number of unsigned 32 bit values
+    private static final long UNSIGNED_RANGE = 1L << 32;
+    // Mask of the low 32 bits of a long
+    private static final long LOW_BITS = UNSIGNED_RANGE - 1;
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final double[][] samples;
+    private final double[] sizes;
+    private final double[] means;
+    private final double[] sumSquares;
+    private final int replicates;
+    private final long seed;
+    // Replicate group means and sums of squares, replicate by replicate
+    private double[] replicateMeans;
+    private double[] replicateSumSquares;
+    private long elapsedNanos;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a Bootstrap. The samples are copied.
+     *
+     * @param samples raw values of each group
+     * @param replicates number of bootstrap replicates
+     * @param seed random seed
+     * @exception IllegalArgumentException if there are fewer than two groups,
+     * a group is smaller than Constants.MIN_SS or there are fewer than two
+     * replicates
+     */
+    public Bootstrap(final double[][] samples, final int replicates,
+            final long seed) {
+        if (samples.length < 2) {
+            throw new IllegalArgumentException("groups < 2");
+        }
+        if (replicates < 2) {
+            throw new IllegalArgumentException("replicates < 2");
+        }
+        final int groups = samples.length;
+        this.samples = new double[groups][];
+        sizes = new double[groups];
+        means = new double[groups];
+        sumSquares = new double[groups];
+        for (int group = 0; group < groups; group++) {
+            if (samples[group].length < Constants.MIN_SS) {
+                throw new IllegalArgumentException("sample size too small");
+            }
+            this.samples[group] = samples[group].clone();
+            sizes[group] = samples[group].length;
+            double mean = 0;
+            double sumSquare = 0;
+            int count = 0;
+            for (double value : samples[group]) {
+                count++;
+                final double delta = value - mean;
+                mean += delta / count;
+                sumSquare += delta * (value - mean);
+            }
+            means[group] = mean;
+            sumSquares[group] = sumSquare;
+        }
+        this.replicates = replicates;
+        this.seed = seed;
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return the value at a probability of the sorted values, interpolating
+     * between neighbours.
+     *
+     * @param sorted values in ascending order
+     * @param prob probability; clamped to [0, 1]
+     * @return quantile
+     */
+    private static double quantile(final double[] sorted, final double prob) {
+        if (Double.isNaN(prob)) {
+            return Double.NaN;
+        }
+        final double position = Math.min(1, Math.max(0, prob))
+                * (sorted.length - 1);
+        final int below = (int) position;
+        if (below >= sorted.length - 1) {
+            return sorted[sorted.length - 1];
+        }
+        final double fraction = position - below;
+        return sorted[below] + fraction * (sorted[below + 1] - sorted[below]);
+    }
+
+    /**
+     * Fill the start of an array with uniform indices below a size. Each
+     * random long gives two indices by Lemire's multiply-shift method, with
+     * the rare biased products rejected.
+     *
+     * @param random random stream
+     * @param indices array to fill
+     * @param size number of indices and their bound
+     */
+    private static void drawIndices(final SplitRandom random,
+            final int[] indices, final int size) {
+        final long bound = size;
+        final long threshold = (UNSIGNED_RANGE - bound) % bound;
+        int index = 0;
+        while (index < size) {
+            final long bits = random.nextLong();
+            long product = (bits >>> 32) * bound;
+            if ((product & LOW_BITS) >= threshold) {
+                indices[index++] = (int) (product >>> 32);
+            }
+            product = (bits & LOW_BITS) * bound;
+            if (index < size && (product & LOW_BITS) >= threshold) {
+                indices[index++] = (int) (product >>> 32);
+            }
+        }
+    }
+
+    /**
+     * Draw every replicate, if not already done.
+     */
+    private synchronized void resample() {
+        if (replicateMeans != null) {
+            return;
+        }
+        final long start = System.nanoTime();
+        final int groups = samples.length;
+        final double[] blockMeans = new double[replicates * groups];
+        final double[] blockSumSquares = new double[replicates * groups];
+        final SplitRandom root = new SplitRandom(seed);
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        for (int first = 0; first < replicates;
+                first += Constants.BOOTSTRAP_BLOCK) {
+            final int from = first;
+            final int to = Math.min(replicates,
+                    first + Constants.BOOTSTRAP_BLOCK);
+            final SplitRandom random = root.split();
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    resampleBlock(random, from, to, blockMeans,
+                            blockSumSquares);
+                    return null;
+                }
+            });
+        }
+        WorkerPool.invokeAll(tasks);
+        replicateMeans = blockMeans;
+        replicateSumSquares = blockSumSquares;
+        elapsedNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Draw a block of replicates. The moments of each resampled group are
+     * accumulated about the original group mean, which keeps the sums small
+     * and the sum of squares accurate.
+     *
+     * @param random random stream of the block
+     * @param from first replicate
+     * @param to replicate after the last
+     * @param outMeans replicate group means to fill
+     * @param outSumSquares replicate group sums of squares to fill
+     */
+    private void resampleBlock(final SplitRandom random, final int from,
+            final int to, final double[] outMeans,
+            final double[] outSumSquares) {
+        final int groups = samples.length;
+        int longest = 0;
+        for (double[] sample : samples) {
+            longest = Math.max(longest, sample.length);
+        }
+        final int[] indices = new int[longest];
+        for (int rep = from; rep < to; rep++) {
+            for (int group = 0; group < groups; group++) {
+                final double[] sample = samples[group];
+                final int size = sample.length;
+                drawIndices(random, indices, size);
+                final double center = means[group];
+                double sum = 0;
+                double sumSquare = 0;
+                for (int index = 0; index < size; index++) {
+                    final double offset = sample[indices[index]] - center;
+                    sum += offset;
+                    sumSquare += offset * offset;
+                }
+                outMeans[rep * groups + group] = center + sum / size;
+                outSumSquares[rep * groups + group] = sumSquare
+                        - sum * sum / size;
+            }
+        }
+    }
+
+    /**
+     * Return the BCa acceleration from the jackknife estimates of the
+     * measure.
+     *
+     * @param measure measure
+     * @return acceleration; zero if the jackknife estimates do not vary
+     */
+    private double accelerate(final BootstrapMeasure measure) {
+        final int groups = samples.length;
+        final double[] jackSizes = sizes.clone();
+        final double[] jackMeans = means.clone();
+        final double[] jackSumSquares = sumSquares.clone();
+        int total = 0;
+        for (double[] sample : samples) {
+            total += sample.length;
+        }
+        final double[] estimates = new double[total];
+        int position = 0;
+        double average = 0;
+        for (int group = 0; group < groups; group++) {
+            final double size = sizes[group];
+            jackSizes[group] = size - 1;
+            for (double value : samples[group]) {
+                final double delta = value - means[group];
+                jackMeans[group] = means[group] - delta / (size - 1);
+                jackSumSquares[group] = sumSquares[group]
+                        - delta * delta * size / (size - 1);
+                estimates[position] = measure.estimate(jackSizes, jackMeans,
+                        jackSumSquares);
+                average += estimates[position];
+                position++;
+            }
+            jackSizes[group] = size;
+            jackMeans[group] = means[group];
+            jackSumSquares[group] = sumSquares[group];
+        }
+        average /= total;
+        double squares = 0;
+        double cubes = 0;
+        for (double estimate : estimates) {
+            final double offset = average - estimate;
+            squares += offset * offset;
+            cubes += offset * offset * offset;
+        }
+        return squares > 0 ? cubes / (6 * Math.pow(squares, 1.5)) : 0;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the number of groups.
+     *
+     * @return number of groups
+     */
+    public int getGroupCount() {
+        return samples.length;
+    }
+
+    /**
+     * Return the number of bootstrap replicates.
+     *
+     * @return replicates
+     */
+    public int getReplicates() {
+        return replicates;
+    }
+
+    /**
+     * Return the random seed.
+     *
+     * @return seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Return the measure computed from the original samples.
+     *
+     * @param measure measure
+     * @return estimate
+     * @exception IllegalArgumentException if the measure does not accept
+     * this number of groups
+     */
+    public double estimate(final BootstrapMeasure measure) {
+        if (!measure.accepts(samples.length)) {
+            throw new IllegalArgumentException(measure
+                    + " does not accept " + samples.length + " groups");
+        }
+        return measure.estimate(sizes, means, sumSquares);
+    }
+
+    /**
+     * Return the percentile and BCa intervals of a measure, resampling first
+     * if this is the first call. Replicates whose measure is not finite
+     * (a resampled group with no spread) are left out.
+     *
+     * @param measure measure
+     * @param confidence confidence level
+     * @return bootstrap intervals
+     * @exception IllegalArgumentException if the measure does not accept
+     * this number of groups or the confidence is not in the range (0, 1)
+     * @exception ArithmeticException if fewer than two replicates have a
+     * finite measure
+     */
+    public BootstrapInterval interval(final BootstrapMeasure measure,
+            final double confidence) {
+        final double estimate = estimate(measure);
+        if (!(confidence > 0 && confidence < 1)) {
+            throw new IllegalArgumentException("confidence not in (0, 1)");
+        }
+        resample();
+        final int groups = samples.length;
+        final double[] repMeans = new double[groups];
+        final double[] repSumSquares = new double[groups];
+        final double[] values = new double[replicates];
+        int count = 0;
+        int below = 0;
+        int ties = 0;
+        for (int rep = 0; rep < replicates; rep++) {
+            System.arraycopy(replicateMeans, rep * groups, repMeans, 0,
+                    groups);
+            System.arraycopy(replicateSumSquares, rep * groups, repSumSquares,
+                    0, groups);
+            final double value = measure.estimate(sizes, repMeans,
+                    repSumSquares);
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                continue;
+            }
+            values[count++] = value;
+            if (value < estimate) {
+                below++;
+            } else if (value == estimate) {
+                ties++;
+            }
+        }
+        if (count < 2) {
+            throw new ArithmeticException("too few finite replicates");
+        }
+        final double[] sorted = Arrays.copyOf(values, count);
+        Arrays.sort(sorted);
+        final double alpha = 1 - confidence;
+        final double[] percentile = new double[]{
+            quantile(sorted, alpha * 0.5), quantile(sorted, 1 - alpha * 0.5)};
+        // BCa: shift and stretch the percentile levels. The proportion below
+        // the estimate is kept half a replicate from 0 and 1 so that z0 stays
+        // finite when every replicate falls on one side of the estimate.
+        final double proportion = Math.min(1 - 0.5 / count,
+                Math.max(0.5 / count, (below + 0.5 * ties) / count));
+        final double biasCorrection = NormalDist.quantile(proportion);
+        final double acceleration = accelerate(measure);
+        final double[] bca = new double[2];
+        final double[] levels = new double[]{alpha * 0.5, 1 - alpha * 0.5};
+        for (int side = 0; side < 2; side++) {
+            final double zValue = biasCorrection
+                    + NormalDist.quantile(levels[side]);
+            bca[side] = quantile(sorted, NormalDist.cdf(biasCorrection
+                    + zValue / (1 - acceleration * zValue)));
+        }
+        return new BootstrapInterval(measure, confidence, estimate,
+                percentile, bca, biasCorrection, acceleration, count,
+                elapsedNanos);
+    }
+}
@@ -0,0 +1,166 @@
+package edu.missouristate.mote.bootstrap;
+
+/**
+ * Percentile and BCa bootstrap confidence intervals for one measure.
+ */
+public final class BootstrapInterval {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final BootstrapMeasure measure;
+    private final double confidence;
+    private final double estimate;
+    private final double[] percentile;
+    private final double[] bca;
+    private final double biasCorrection;
+    private final double acceleration;
+    private final int replicates;
+    private final long elapsedNanos;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a BootstrapInterval.
+     *
+     * @param measure bootstrapped measure
+     * @param confidence confidence level
+     * @param estimate measure from the original samples
+     * @param percentile lower and upper percentile limits
+     * @param bca lower and upper BCa limits
+     * @param biasCorrection BCa bias correction z0
+     * @param acceleration BCa acceleration
+     * @param replicates number of replicates with a finite measure
+     * @param elapsedNanos running time of the resampling
+     */
+    BootstrapInterval(final BootstrapMeasure measure, final double confidence,
+            final double estimate, final double[] percentile,
+            final double[] bca, final double biasCorrection,
+            final double acceleration, final int replicates,
+            final long elapsedNanos) {
+        this.measure = measure;
+        this.confidence = confidence;
+        this.estimate = estimate;
+        this.percentile = percentile.clone();
+        this.bca = bca.clone();
+        this.biasCorrection = biasCorrection;
+        this.acceleration = acceleration;
+        this.replicates = replicates;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the bootstrapped measure.
+     *
+     * @return measure
+     */
+    public BootstrapMeasure getMeasure() {
+        return measure;
+    }
+
+    /**
+     * Return the confidence level.
+     *
+     * @return confidence
+     */
+    public double getConfidence() {
+        return confidence;
+    }
+
+    /**
+     * Return the measure computed from the original samples.
+     *
+     * @return estimate
+     */
+    public double getEstimate() {
+        return estimate;
+    }
+
+    /**
+     * Return the lower limit of the percentile interval.
+     *
+     * @return lower percentile limit
+     */
+    public double getPercentileLower() {
+        return percentile[0];
+    }
+
+    /**
+     * Return the upper limit of the percentile interval.
+     *
+     * @return upper percentile limit
+     */
+    public double getPercentileUpper() {
+        return percentile[1];
+    }
+
+    /**
+     * Return the lower limit of the BCa interval.
+     *
+     * @return lower BCa limit
+     */
+    public double getBcaLower() {
+        return bca[0];
+    }
+
+    /**
+     * Return the upper limit of the BCa interval.
+     *
+     * @return upper BCa limit
+     */
+    public double getBcaUpper() {
+        return bca[1];
+    }
+
+    /**
+     * Return the BCa bias correction z0, the normal quantile of the share of
+     * replicates below the estimate.
+     *
+     * @return bias correction
+     */
+    public double getBiasCorrection() {
+        return biasCorrection;
+    }
+
+    /**
+     * Return the BCa acceleration, from the skewness of the jackknife
+     * estimates.
+     *
+     * @return acceleration
+     */
+    public double getAcceleration() {
+        return acceleration;
+    }
+
+    /**
+     * Return the number of replicates with a finite measure.
+     *
+     * @return replicates
+     */
+    public int getReplicates() {
+        return replicates;
+    }
+
+    /**
+     * Return the running time of the resampling in seconds.
+     *
+     * @return elapsed seconds
+     */
+    public double getElapsedSeconds() {
+        return elapsedNanos * 1.0E-9;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s=%.4f, %d%% percentile [%.4f, %.4f], "
+                + "BCa [%.4f, %.4f] (z0 %.4f, a %.5f), %d replicates "
+                + "in %.2f s", measure.getSymbol(), estimate,
+                Math.round(confidence * 100), percentile[0], percentile[1],
+                bca[0], bca[1], biasCorrection, acceleration, replicates,
+                getElapsedSeconds());
+    }
+}
@@ -0,0 +1,124 @@
+package edu.missouristate.mote.bootstrap;
+
+import edu.missouristate.mote.Constants;
+
+/**
+ * Effect sizes that can be bootstrapped from raw samples. Each is computed
+ * from the size, mean and sum of squares of every group, with the same
+ * formulas as the matching calculator: CohenDIndT, HedgesGIndT, GlassDIndT
+ * and Eta2FOmni. The two-group measures take group 1 minus group 2; Glass's
+ * delta standardizes by group 2.
+ */
+public enum BootstrapMeasure {
+
+    /** Cohen's d for two independent groups. */
+    COHEN_D("d", 2) {
+        @Override
+        double estimate(final double[] sizes, final double[] means,
+                final double[] sumSquares) {
+            final double stdDevPooled = Math.sqrt((sumSquares[0]
+                    + sumSquares[1]) / (sizes[0] + sizes[1] - 2));
+            return (means[0] - means[1]) / stdDevPooled;
+        }
+    },
+
+    /** Hedges' g for two independent groups. */
+    HEDGES_G("g", 2) {
+        @Override
+        double estimate(final double[] sizes, final double[] means,
+                final double[] sumSquares) {
+            final double correction = 1 - 3 / (4 * (sizes[0] + sizes[1]) - 9);
+            return correction * COHEN_D.estimate(sizes, means, sumSquares);
+        }
+    },
+
+    /** Glass's delta for two independent groups. */
+    GLASS_DELTA(Constants.DELTA_UPPER, 2) {
+        @Override
+        double estimate(final double[] sizes, final double[] means,
+                final double[] sumSquares) {
+            final double stdDev2 = Math.sqrt(sumSquares[1] / (sizes[1] - 1));
+            return (means[0] - means[1]) / stdDev2;
+        }
+    },
+
+    /** Eta squared for a one-way design. */
+    ETA_SQUARED(Constants.ETA_LOWER + Constants.SUPERSCRIPT2,
+            Integer.MAX_VALUE) {
+        @Override
+        double estimate(final double[] sizes, final double[] means,
+                final double[] sumSquares) {
+            double total = 0;
+            double grandSum = 0;
+            double ssError = 0;
+            for (int group = 0; group < sizes.length; group++) {
+                total += sizes[group];
+                grandSum += sizes[group] * means[group];
+                ssError += sumSquares[group];
+            }
+            final double grandMean = grandSum / total;
+            double ssEffect = 0;
+            for (int group = 0; group < sizes.length; group++) {
+                final double offset = means[group] - grandMean;
+                ssEffect += sizes[group] * offset * offset;
+            }
+            return ssEffect / (ssEffect + ssError);
+        }
+    };
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final String symbol;
+    private final int maxGroups;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a BootstrapMeasure.
+     *
+     * @param symbol measure symbol
+     * @param maxGroups largest number of groups the measure accepts
+     */
+    private BootstrapMeasure(final String symbol, final int maxGroups) {
+        this.symbol = symbol;
+        this.maxGroups = maxGroups;
+    }
+
+    // *************************************************************************
+    // PACKAGE METHODS
+    // *************************************************************************
+    /**
+     * Return the measure for groups with the given summaries.
+     *
+     * @param sizes size of each group
+     * @param means mean of each group
+     * @param sumSquares sum of squared deviations of each group
+     * @return measure; NaN or infinite if a group has no spread
+     */
+    abstract double estimate(double[] sizes, double[] means,
+            double[] sumSquares);
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the symbol of the measure.
+     *
+     * @return measure symbol
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Return whether the measure is defined for the number of groups.
+     *
+     * @param groups number of groups
+     * @return true if the measure accepts the groups
+     */
+    public boolean accepts(final int groups) {
+        return groups >= 2 && groups <= maxGroups;
+    }
+}
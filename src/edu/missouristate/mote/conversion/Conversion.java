@@ -0,0 +1,272 @@
+package edu.missouristate.mote.conversion;
+
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.WorkerPool;
+import edu.missouristate.mote.effectsizes.EffectSizes;
+import edu.missouristate.mote.effectsizes.NcInterval;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Conversion of point estimates and already-solved confidence limits from
+ * one measure to another. Limits are carried through the monotone maps of
+ * EffectScale without a new root search. The one exception is an interval
+ * converted into eta squared that contains zero difference: the map folds
+ * there, so the interval is solved again from the non-central F
+ * distribution of F = t^2 with one effect degree of freedom.
+ *
+ * Columns longer than Constants.CONVERSION_BLOCK are converted in blocks on
+ * the shared worker pool. Instances are immutable and safe to share between
+ * threads.
+ */
+public final class Conversion {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final EffectScale source;
+    private final EffectScale target;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a Conversion.
+     *
+     * @param source measure to convert from
+     * @param target measure to convert to
+     */
+    public Conversion(final EffectScale source, final EffectScale target) {
+        this.source = source;
+        this.target = target;
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return sqrt(n1 * n2 / N), the ratio of t to d.
+     *
+     * @param size1 group 1 size
+     * @param size2 group 2 size
+     * @return scale
+     */
+    private static double scale(final double size1, final double size2) {
+        return Math.sqrt(size1 * size2 / (size1 + size2));
+    }
+
+    /**
+     * Check that the group sizes match the rows.
+     *
+     * @param rows number of rows
+     * @param sizes1 group 1 sizes
+     * @param sizes2 group 2 sizes
+     * @exception IllegalArgumentException if a length differs
+     */
+    private static void checkSizes(final int rows, final double[] sizes1,
+            final double[] sizes2) {
+        if (sizes1.length != rows || sizes2.length != rows) {
+            throw new IllegalArgumentException("column lengths differ");
+        }
+    }
+
+    /**
+     * Convert one interval, writing the result into a row of a column.
+     *
+     * @param estimate point estimate
+     * @param lower lower limit
+     * @param upper upper limit
+     * @param size1 group 1 size
+     * @param size2 group 2 size
+     * @param confidence confidence level of the interval
+     * @param result column to write
+     * @param row row to write
+     */
+    private void convert(final double estimate, final double lower,
+            final double upper, final double size1, final double size2,
+            final double confidence, final IntervalColumn result,
+            final int row) {
+        final double scale = scale(size1, size2);
+        final double df = size1 + size2 - 2;
+        final double tValue = source.toT(estimate, scale, df);
+        final double lowerNc = source.toNc(lower, scale, df);
+        final double upperNc = source.toNc(upper, scale, df);
+        result.getEstimates()[row] = target.fromT(tValue, scale, df);
+        if (target.isSigned() || lowerNc >= 0) {
+            result.getLower()[row] = target.fromNc(lowerNc, scale, df);
+            result.getUpper()[row] = target.fromNc(upperNc, scale, df);
+        } else if (upperNc <= 0) {
+            // Entirely below zero: the folded map is decreasing
+            result.getLower()[row] = target.fromNc(upperNc, scale, df);
+            result.getUpper()[row] = target.fromNc(lowerNc, scale, df);
+        } else {
+            final double[] limits = solveFolded(tValue, lowerNc, upperNc,
+                    scale, df, confidence);
+            result.getLower()[row] = limits[0];
+            result.getUpper()[row] = limits[1];
+        }
+    }
+
+    /**
+     * Convert a range of rows of a column.
+     *
+     * @param column estimates and limits
+     * @param sizes1 group 1 sizes
+     * @param sizes2 group 2 sizes
+     * @param confidence confidence level of the intervals
+     * @param result column to write
+     * @param start first row
+     * @param end row after the last
+     */
+    private void convert(final IntervalColumn column, final double[] sizes1,
+            final double[] sizes2, final double confidence,
+            final IntervalColumn result, final int start, final int end) {
+        final double[] estimates = column.getEstimates();
+        final double[] lower = column.getLower();
+        final double[] upper = column.getUpper();
+        for (int row = start; row < end; row++) {
+            convert(estimates[row], lower[row], upper[row], sizes1[row],
+                    sizes2[row], confidence, result, row);
+        }
+    }
+
+    /**
+     * Solve an interval that contains zero difference from the non-central
+     * F distribution. The lower limit is zero, as the interval contains zero
+     * difference; the upper limit is solved, or taken from the image of the
+     * interval if there is nothing to solve (t is zero) or the search fails.
+     *
+     * @param tValue t
+     * @param lowerNc lower non-centrality parameter on the t scale
+     * @param upperNc upper non-centrality parameter on the t scale
+     * @param scale sqrt(n1 * n2 / N)
+     * @param df degrees of freedom
+     * @param confidence confidence level
+     * @return lower and upper limits of the measure
+     */
+    private double[] solveFolded(final double tValue, final double lowerNc,
+            final double upperNc, final double scale, final double df,
+            final double confidence) {
+        try {
+            final NcInterval solved = EffectSizes.eta2FOmni(tValue * tValue,
+                    1, df, confidence);
+            return new double[]{0, solved.getUpperMeasure()};
+        } catch (ArithmeticException | IllegalArgumentException ex) {
+            return new double[]{0,
+                target.fromNc(Math.max(-lowerNc, upperNc), scale, df)};
+        }
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the measure converted from.
+     *
+     * @return source measure
+     */
+    public EffectScale getSource() {
+        return source;
+    }
+
+    /**
+     * Return the measure converted to.
+     *
+     * @return target measure
+     */
+    public EffectScale getTarget() {
+        return target;
+    }
+
+    /**
+     * Convert a point estimate.
+     *
+     * @param value point estimate
+     * @param size1 group 1 size
+     * @param size2 group 2 size
+     * @return converted estimate
+     */
+    public double convert(final double value, final double size1,
+            final double size2) {
+        final double scale = scale(size1, size2);
+        final double df = size1 + size2 - 2;
+        return target.fromT(source.toT(value, scale, df), scale, df);
+    }
+
+    /**
+     * Convert a column of point estimates.
+     *
+     * @param values point estimates
+     * @param sizes1 group 1 sizes
+     * @param sizes2 group 2 sizes
+     * @return converted estimates
+     * @exception IllegalArgumentException if the arrays differ in length
+     */
+    public double[] convert(final double[] values, final double[] sizes1,
+            final double[] sizes2) {
+        checkSizes(values.length, sizes1, sizes2);
+        final double[] result = new double[values.length];
+        for (int row = 0; row < values.length; row++) {
+            result[row] = convert(values[row], sizes1[row], sizes2[row]);
+        }
+        return result;
+    }
+
+    /**
+     * Convert a point estimate and its confidence limits.
+     *
+     * @param estimate point estimate
+     * @param lower lower limit
+     * @param upper upper limit
+     * @param size1 group 1 size
+     * @param size2 group 2 size
+     * @param confidence confidence level of the interval
+     * @return converted estimate, lower limit and upper limit
+     */
+    public double[] convert(final double estimate, final double lower,
+            final double upper, final double size1, final double size2,
+            final double confidence) {
+        final IntervalColumn result = new IntervalColumn(1);
+        convert(estimate, lower, upper, size1, size2, confidence, result, 0);
+        return new double[]{result.getEstimates()[0], result.getLower()[0],
+            result.getUpper()[0]};
+    }
+
+    /**
+     * Convert a column of point estimates and confidence limits.
+     *
+     * @param column estimates and limits
+     * @param sizes1 group 1 sizes
+     * @param sizes2 group 2 sizes
+     * @param confidence confidence level of the intervals
+     * @return converted column
+     * @exception IllegalArgumentException if the arrays differ in length
+     */
+    public IntervalColumn convert(final IntervalColumn column,
+            final double[] sizes1, final double[] sizes2,
+            final double confidence) {
+        final int rows = column.size();
+        checkSizes(rows, sizes1, sizes2);
+        final IntervalColumn result = new IntervalColumn(rows);
+        if (rows <= Constants.CONVERSION_BLOCK) {
+            convert(column, sizes1, sizes2, confidence, result, 0, rows);
+            return result;
+        }
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        for (int first = 0; first < rows; first += Constants.CONVERSION_BLOCK) {
+            final int start = first;
+            final int end = Math.min(rows, first + Constants.CONVERSION_BLOCK);
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    convert(column, sizes1, sizes2, confidence, result, start,
+                            end);
+                    return null;
+                }
+            });
+        }
+        WorkerPool.invokeAll(tasks);
+        return result;
+    }
+}
@@ -0,0 +1,150 @@
+package edu.missouristate.mote.conversion;
+
+/**
+ * Measures of a two-group difference that can be converted into one
+ * another. Every conversion passes through the t scale of an independent t
+ * test with the given group sizes: a point estimate maps to t and a
+ * confidence limit maps to the non-centrality parameter of the limit, with
+ * the same formulas the calculators use (d = t / sqrt(n1 * n2 / N) and
+ * r = t / sqrt(t^2 + df) as in EffectSizes.tFamily, eta squared as in
+ * EffectSizes.eta2FOmni with one effect degree of freedom). Odds ratios use
+ * the logistic approximation ln(OR) = d * pi / sqrt(3).
+ *
+ * Every map is increasing except into eta squared, which loses the sign of
+ * the difference; a value converted from eta squared is never negative.
+ */
+public enum EffectScale {
+
+    /** Cohen's d. */
+    COHEN_D {
+        @Override
+        double toT(final double value, final double scale, final double df) {
+            return value * scale;
+        }
+
+        @Override
+        double fromT(final double tValue, final double scale,
+                final double df) {
+            return tValue / scale;
+        }
+    },
+
+    /** Point-biserial correlation. */
+    CORRELATION {
+        @Override
+        double toT(final double value, final double scale, final double df) {
+            return value * Math.sqrt(df / (1 - value * value));
+        }
+
+        @Override
+        double fromT(final double tValue, final double scale,
+                final double df) {
+            return tValue / Math.sqrt(tValue * tValue + df);
+        }
+    },
+
+    /** Odds ratio. */
+    ODDS_RATIO {
+        @Override
+        double toT(final double value, final double scale, final double df) {
+            return Math.log(value) * LOGISTIC_SCALE * scale;
+        }
+
+        @Override
+        double fromT(final double tValue, final double scale,
+                final double df) {
+            return Math.exp(tValue / (LOGISTIC_SCALE * scale));
+        }
+    },
+
+    /** Eta squared with one effect degree of freedom. */
+    ETA_SQUARED {
+        @Override
+        boolean isSigned() {
+            return false;
+        }
+
+        @Override
+        double toT(final double value, final double scale, final double df) {
+            return Math.sqrt(value * df / (1 - value));
+        }
+
+        @Override
+        double fromT(final double tValue, final double scale,
+                final double df) {
+            return tValue * tValue / (tValue * tValue + df);
+        }
+
+        @Override
+        double toNc(final double value, final double scale, final double df) {
+            return Math.sqrt(value * (df + 2) / (1 - value));
+        }
+
+        @Override
+        double fromNc(final double nc, final double scale, final double df) {
+            return nc * nc / (nc * nc + df + 2);
+        }
+    };
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Ratio of d to ln(OR), sqrt(3) / pi
+    private static final double LOGISTIC_SCALE = Math.sqrt(3) / Math.PI;
+
+    // *************************************************************************
+    // PACKAGE METHODS
+    // *************************************************************************
+    /**
+     * Return true if the measure keeps the sign of the difference.
+     *
+     * @return true if signed
+     */
+    boolean isSigned() {
+        return true;
+    }
+
+    /**
+     * Return the t value of a point estimate.
+     *
+     * @param value point estimate
+     * @param scale sqrt(n1 * n2 / N)
+     * @param df degrees of freedom, N - 2
+     * @return t
+     */
+    abstract double toT(double value, double scale, double df);
+
+    /**
+     * Return the point estimate of a t value.
+     *
+     * @param tValue t
+     * @param scale sqrt(n1 * n2 / N)
+     * @param df degrees of freedom, N - 2
+     * @return point estimate
+     */
+    abstract double fromT(double tValue, double scale, double df);
+
+    /**
+     * Return the non-centrality parameter of a confidence limit.
+     *
+     * @param value confidence limit
+     * @param scale sqrt(n1 * n2 / N)
+     * @param df degrees of freedom, N - 2
+     * @return non-centrality parameter
+     */
+    double toNc(final double value, final double scale, final double df) {
+        return toT(value, scale, df);
+    }
+
+    /**
+     * Return the confidence limit of a non-centrality parameter.
+     *
+     * @param nc non-centrality parameter
+     * @param scale sqrt(n1 * n2 / N)
+     * @param df degrees of freedom, N - 2
+     * @return confidence limit
+     */
+    double fromNc(final double nc, final double scale, final double df) {
+        return fromT(nc, scale, df);
+    }
+}
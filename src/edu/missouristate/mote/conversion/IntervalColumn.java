@@ -0,0 +1,87 @@
+package edu.missouristate.mote.conversion;
+
+/**
+ * Column of point estimates with their confidence limits, one row per study.
+ * The arrays are shared, not copied, so that a million-row column costs no
+ * more than its three arrays; callers must not change them while a
+ * conversion is running.
+ */
+public final class IntervalColumn {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final double[] estimates;
+    private final double[] lower;
+    private final double[] upper;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of an IntervalColumn.
+     *
+     * @param estimates point estimates
+     * @param lower lower confidence limits
+     * @param upper upper confidence limits
+     * @exception IllegalArgumentException if the arrays differ in length
+     */
+    public IntervalColumn(final double[] estimates, final double[] lower,
+            final double[] upper) {
+        if (lower.length != estimates.length
+                || upper.length != estimates.length) {
+            throw new IllegalArgumentException("column lengths differ");
+        }
+        this.estimates = estimates;
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    /**
+     * Initialize a new, zero-filled instance of an IntervalColumn.
+     *
+     * @param size number of rows
+     */
+    public IntervalColumn(final int size) {
+        this(new double[size], new double[size], new double[size]);
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the number of rows.
+     *
+     * @return number of rows
+     */
+    public int size() {
+        return estimates.length;
+    }
+
+    /**
+     * Return the point estimates.
+     *
+     * @return point estimates
+     */
+    public double[] getEstimates() {
+        return estimates;
+    }
+
+    /**
+     * Return the lower confidence limits.
+     *
+     * @return lower limits
+     */
+    public double[] getLower() {
+        return lower;
+    }
+
+    /**
+     * Return the upper confidence limits.
+     *
+     * @return upper limits
+     */
+    public double[] getUpper() {
+        return upper;
+    }
+}
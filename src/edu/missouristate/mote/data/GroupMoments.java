@@ -0,0 +1,159 @@
+package edu.missouristate.mote.data;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Running moments of a variable within groups identified by numeric codes,
+ * from which the one-way sums of squares follow. Groups are ordered by code.
+ * Partial results are combined with merge.
+ */
+public final class GroupMoments {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final TreeMap<Double, Moments> groups = new TreeMap<>();
+    // Most recently used group; rows usually arrive grouped
+    private double lastCode = Double.NaN;
+    private Moments lastGroup;
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Add an observation.
+     *
+     * @param code group code
+     * @param value observation
+     */
+    public void add(final double code, final double value) {
+        if (lastGroup == null || Double.compare(code, lastCode) != 0) {
+            lastGroup = groups.get(code);
+            if (lastGroup == null) {
+                lastGroup = new Moments();
+                groups.put(code, lastGroup);
+            }
+            lastCode = code;
+        }
+        lastGroup.add(value);
+    }
+
+    /**
+     * Add the observations summarized by another instance to this one.
+     *
+     * @param other moments to merge
+     */
+    public void merge(final GroupMoments other) {
+        for (Map.Entry<Double, Moments> entry : other.groups.entrySet()) {
+            Moments group = groups.get(entry.getKey());
+            if (group == null) {
+                group = new Moments();
+                groups.put(entry.getKey(), group);
+            }
+            group.merge(entry.getValue());
+        }
+    }
+
+    /**
+     * Return the number of groups.
+     *
+     * @return number of groups
+     */
+    public int getGroupCount() {
+        return groups.size();
+    }
+
+    /**
+     * Return the group codes in ascending order.
+     *
+     * @return group codes
+     */
+    public double[] getCodes() {
+        final double[] result = new double[groups.size()];
+        int index = 0;
+        for (Double code : groups.keySet()) {
+            result[index++] = code;
+        }
+        return result;
+    }
+
+    /**
+     * Return the moments of a group.
+     *
+     * @param code group code
+     * @return moments, or null if there is no such group
+     */
+    public Moments getGroup(final double code) {
+        return groups.get(code);
+    }
+
+    /**
+     * Return the moments of all observations.
+     *
+     * @return moments
+     */
+    public Moments getTotal() {
+        final Moments result = new Moments();
+        for (Moments group : groups.values()) {
+            result.merge(group);
+        }
+        return result;
+    }
+
+    /**
+     * Return the between-groups sum of squares.
+     *
+     * @return sum of squares of the effect
+     */
+    public double getSsEffect() {
+        final double grandMean = getTotal().getMean();
+        double result = 0;
+        for (Moments group : groups.values()) {
+            final double delta = group.getMean() - grandMean;
+            result += group.getCount() * delta * delta;
+        }
+        return result;
+    }
+
+    /**
+     * Return the within-groups sum of squares.
+     *
+     * @return sum of squares of the error
+     */
+    public double getSsError() {
+        double result = 0;
+        for (Moments group : groups.values()) {
+            result += group.getSumSquares();
+        }
+        return result;
+    }
+
+    /**
+     * Return the total sum of squares, the sum of the effect and error sums
+     * of squares.
+     *
+     * @return total sum of squares
+     */
+    public double getSsTotal() {
+        return getSsEffect() + getSsError();
+    }
+
+    /**
+     * Return the degrees of freedom of the effect.
+     *
+     * @return number of groups minus one
+     */
+    public double getDfEffect() {
+        return groups.size() - 1;
+    }
+
+    /**
+     * Return the degrees of freedom of the error.
+     *
+     * @return number of observations minus the number of groups
+     */
+    public double getDfError() {
+        return getTotal().getCount() - groups.size();
+    }
+}
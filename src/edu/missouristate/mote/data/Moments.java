@@ -0,0 +1,100 @@
+package edu.missouristate.mote.data;
+
+/**
+ * Running count, mean and sum of squared deviations of one variable, updated
+ * one observation at a time with Welford's method. Partial results from
+ * separate chunks of data are combined with merge.
+ */
+public final class Moments {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private long count;
+    private double mean;
+    private double sumSquares;
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Add an observation.
+     *
+     * @param value observation
+     */
+    public void add(final double value) {
+        count++;
+        final double delta = value - mean;
+        mean += delta / count;
+        sumSquares += delta * (value - mean);
+    }
+
+    /**
+     * Add the observations summarized by another instance to this one, using
+     * the pairwise update of Chan, Golub and LeVeque.
+     *
+     * @param other moments to merge
+     */
+    public void merge(final Moments other) {
+        if (other.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            sumSquares = other.sumSquares;
+            return;
+        }
+        final double total = count + other.count;
+        final double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        sumSquares += other.sumSquares
+                + delta * delta * count * other.count / total;
+        count += other.count;
+    }
+
+    /**
+     * Return the number of observations.
+     *
+     * @return count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Return the mean.
+     *
+     * @return mean
+     */
+    public double getMean() {
+        return count == 0 ? Double.NaN : mean;
+    }
+
+    /**
+     * Return the sum of squared deviations from the mean.
+     *
+     * @return sum of squares
+     */
+    public double getSumSquares() {
+        return sumSquares;
+    }
+
+    /**
+     * Return the sample variance.
+     *
+     * @return variance
+     */
+    public double getVariance() {
+        return count < 2 ? Double.NaN : sumSquares / (count - 1);
+    }
+
+    /**
+     * Return the sample standard deviation.
+     *
+     * @return standard deviation
+     */
+    public double getStdDev() {
+        return Math.sqrt(getVariance());
+    }
+}
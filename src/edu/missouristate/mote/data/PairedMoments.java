@@ -0,0 +1,146 @@
+package edu.missouristate.mote.data;
+
+/**
+ * Running moments of paired observations (such as time 1 and time 2 scores
+ * of the same subjects): both means, both sums of squares and the sum of
+ * cross-products, from which the correlation and the moments of the paired
+ * differences follow. Partial results are combined with merge.
+ */
+public final class PairedMoments {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private long count;
+    private double mean1;
+    private double mean2;
+    private double sumSquares1;
+    private double sumSquares2;
+    private double sumProducts;
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Add a pair of observations.
+     *
+     * @param value1 first observation
+     * @param value2 second observation
+     */
+    public void add(final double value1, final double value2) {
+        count++;
+        final double delta1 = value1 - mean1;
+        mean1 += delta1 / count;
+        final double delta2 = value2 - mean2;
+        mean2 += delta2 / count;
+        sumSquares1 += delta1 * (value1 - mean1);
+        sumSquares2 += delta2 * (value2 - mean2);
+        sumProducts += delta1 * (value2 - mean2);
+    }
+
+    /**
+     * Add the pairs summarized by another instance to this one.
+     *
+     * @param other moments to merge
+     */
+    public void merge(final PairedMoments other) {
+        if (other.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            count = other.count;
+            mean1 = other.mean1;
+            mean2 = other.mean2;
+            sumSquares1 = other.sumSquares1;
+            sumSquares2 = other.sumSquares2;
+            sumProducts = other.sumProducts;
+            return;
+        }
+        final double total = count + other.count;
+        final double weight = count * other.count / total;
+        final double delta1 = other.mean1 - mean1;
+        final double delta2 = other.mean2 - mean2;
+        mean1 += delta1 * other.count / total;
+        mean2 += delta2 * other.count / total;
+        sumSquares1 += other.sumSquares1 + delta1 * delta1 * weight;
+        sumSquares2 += other.sumSquares2 + delta2 * delta2 * weight;
+        sumProducts += other.sumProducts + delta1 * delta2 * weight;
+        count += other.count;
+    }
+
+    /**
+     * Return the number of pairs.
+     *
+     * @return count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Return the mean of the first observations.
+     *
+     * @return mean
+     */
+    public double getMean1() {
+        return count == 0 ? Double.NaN : mean1;
+    }
+
+    /**
+     * Return the mean of the second observations.
+     *
+     * @return mean
+     */
+    public double getMean2() {
+        return count == 0 ? Double.NaN : mean2;
+    }
+
+    /**
+     * Return the standard deviation of the first observations.
+     *
+     * @return standard deviation
+     */
+    public double getStdDev1() {
+        return count < 2 ? Double.NaN : Math.sqrt(sumSquares1 / (count - 1));
+    }
+
+    /**
+     * Return the standard deviation of the second observations.
+     *
+     * @return standard deviation
+     */
+    public double getStdDev2() {
+        return count < 2 ? Double.NaN : Math.sqrt(sumSquares2 / (count - 1));
+    }
+
+    /**
+     * Return the Pearson correlation of the pairs.
+     *
+     * @return correlation
+     */
+    public double getCorrelation() {
+        return sumProducts / Math.sqrt(sumSquares1 * sumSquares2);
+    }
+
+    /**
+     * Return the mean of the differences (first minus second).
+     *
+     * @return mean difference
+     */
+    public double getMeanDiff() {
+        return getMean1() - getMean2();
+    }
+
+    /**
+     * Return the standard deviation of the differences.
+     *
+     * @return standard deviation of the differences
+     */
+    public double getStdDevDiff() {
+        if (count < 2) {
+            return Double.NaN;
+        }
+        final double sumSquares = sumSquares1 + sumSquares2 - 2 * sumProducts;
+        return Math.sqrt(Math.max(0, sumSquares) / (count - 1));
+    }
+}
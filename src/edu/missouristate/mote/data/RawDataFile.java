@@ -0,0 +1,523 @@
+package edu.missouristate.mote.data;
+
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.WorkerPool;
+import edu.missouristate.mote.meta.StudyAccumulator;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Provide methods for summarizing raw numeric data files in one pass. A file
+ * holds one observation per line, with fields separated by commas,
+ * semicolons, tabs or spaces; columns are numbered from zero and extra
+ * columns are ignored. The first line may be a header. The file is
+ * memory-mapped in chunks of about Constants.INGEST_CHUNK bytes that end on
+ * line boundaries; the chunks are parsed in parallel and their partial
+ * moments merged in file order.
+ */
+public final class RawDataFile {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Exact powers of ten
+    private static final double[] POW10 = new double[23];
+    // Largest integer that a double holds exactly
+    private static final long MAX_EXACT = 1L << 53;
+    // Number of bytes read at a time when looking for a line end
+    private static final int SCAN_SIZE = 4096;
+
+    static {
+        POW10[0] = 1;
+        for (int index = 1; index < POW10.length; index++) {
+            POW10[index] = POW10[index - 1] * 10;
+        }
+    }
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a RawDataFile.
+     */
+    private RawDataFile() {
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return the chunk boundaries of a file: chunk i spans
+     * [result[i], result[i + 1]).
+     *
+     * @param channel file channel
+     * @param size file size in bytes
+     * @return ascending boundaries starting at 0 and ending at size
+     * @throws IOException if the file cannot be read
+     */
+    private static long[] chunkBounds(final FileChannel channel,
+            final long size) throws IOException {
+        final List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        final ByteBuffer buffer = ByteBuffer.allocate(SCAN_SIZE);
+        long position = Constants.INGEST_CHUNK;
+        while (position < size) {
+            // Move the boundary to just past the next line end
+            long bound = size;
+            long scan = position;
+            while (scan < size && bound == size) {
+                buffer.clear();
+                final int read = channel.read(buffer, scan);
+                if (read <= 0) {
+                    break;
+                }
+                for (int index = 0; index < read; index++) {
+                    if (buffer.get(index) == '\n') {
+                        bound = scan + index + 1;
+                        break;
+                    }
+                }
+                scan += read;
+            }
+            if (bound >= size) {
+                break;
+            }
+            bounds.add(bound);
+            position = bound + Constants.INGEST_CHUNK;
+        }
+        bounds.add(size);
+        final long[] result = new long[bounds.size()];
+        for (int index = 0; index < result.length; index++) {
+            result[index] = bounds.get(index);
+        }
+        return result;
+    }
+
+    /**
+     * Return true if the byte separates fields.
+     *
+     * @param value byte
+     * @return true for a comma, semicolon or tab
+     */
+    private static boolean isSeparator(final byte value) {
+        return value == ',' || value == ';' || value == '\t';
+    }
+
+    /**
+     * Parse a number with the slow but complete library parser.
+     *
+     * @param buffer data
+     * @param from first byte of the number
+     * @param to byte after the number
+     * @param values array receiving the number
+     * @param slot index into values
+     * @return true if the bytes are a number
+     */
+    private static boolean parseSlow(final ByteBuffer buffer, final int from,
+            final int to, final double[] values, final int slot) {
+        final byte[] bytes = new byte[to - from];
+        for (int index = from; index < to; index++) {
+            bytes[index - from] = buffer.get(index);
+        }
+        try {
+            values[slot] = Double.parseDouble(
+                    new String(bytes, StandardCharsets.US_ASCII));
+            return true;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Parse a number. Plain decimal numbers with at most 15 or so significant
+     * digits are converted exactly without allocating; anything else falls
+     * back to Double.parseDouble.
+     *
+     * @param buffer data
+     * @param from first byte of the number
+     * @param to byte after the number
+     * @param values array receiving the number
+     * @param slot index into values
+     * @return true if the bytes are a number
+     */
+    private static boolean parseNumber(final ByteBuffer buffer, final int from,
+            final int to, final double[] values, final int slot) {
+        int position = from;
+        boolean negative = false;
+        if (position < to && (buffer.get(position) == '-'
+                || buffer.get(position) == '+')) {
+            negative = buffer.get(position) == '-';
+            position++;
+        }
+        long mantissa = 0;
+        int exponent = 0;
+        boolean digits = false;
+        boolean exact = true;
+        boolean fraction = false;
+        while (position < to) {
+            final byte value = buffer.get(position);
+            if (value >= '0' && value <= '9') {
+                digits = true;
+                if (mantissa < MAX_EXACT / 10) {
+                    mantissa = mantissa * 10 + (value - '0');
+                    if (fraction) {
+                        exponent--;
+                    }
+                } else {
+                    exact &= value == '0';
+                    if (!fraction) {
+                        exponent++;
+                    }
+                }
+            } else if (value == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+            position++;
+        }
+        if (!digits || position != to || !exact
+                || exponent < -(POW10.length - 1)) {
+            return parseSlow(buffer, from, to, values, slot);
+        }
+        double result;
+        if (exponent >= 0) {
+            if (exponent >= POW10.length) {
+                return parseSlow(buffer, from, to, values, slot);
+            }
+            result = mantissa * POW10[exponent];
+        } else {
+            result = mantissa / POW10[-exponent];
+        }
+        values[slot] = negative ? -result : result;
+        return true;
+    }
+
+    /**
+     * Parse the required fields of a line.
+     *
+     * @param buffer data
+     * @param start first byte of the line
+     * @param end byte after the line, excluding the line terminator
+     * @param slots slot of each column in values, or -1 if not required
+     * @param values array receiving the required fields
+     * @return true if every required field is a number
+     */
+    private static boolean parseLine(final ByteBuffer buffer, final int start,
+            final int end, final int[] slots, final double[] values) {
+        int position = start;
+        int column = 0;
+        while (column < slots.length) {
+            while (position < end && buffer.get(position) == ' ') {
+                position++;
+            }
+            final int from = position;
+            while (position < end && buffer.get(position) != ' '
+                    && !isSeparator(buffer.get(position))) {
+                position++;
+            }
+            if (slots[column] >= 0 && (from == position || !parseNumber(
+                    buffer, from, position, values, slots[column]))) {
+                return false;
+            }
+            column++;
+            while (position < end && buffer.get(position) == ' ') {
+                position++;
+            }
+            if (position < end && isSeparator(buffer.get(position))) {
+                position++;
+            } else if (position >= end) {
+                break;
+            }
+        }
+        return column >= slots.length;
+    }
+
+    /**
+     * Summarize a chunk of a file.
+     *
+     * @param <T> partial result type
+     * @param buffer chunk
+     * @param offset position of the chunk in the file
+     * @param slots slot of each column in values, or -1 if not required
+     * @param fields number of required fields
+     * @param aggregator summary to calculate
+     * @return partial result
+     * @exception NumberFormatException if a line other than the first line of
+     * the file lacks a required number
+     */
+    private static <T> T parseChunk(final ByteBuffer buffer, final long offset,
+            final int[] slots, final int fields,
+            final Aggregator<T> aggregator) {
+        final T result = aggregator.create();
+        final double[] values = new double[fields];
+        final int limit = buffer.limit();
+        boolean header = offset == 0;
+        int position = 0;
+        while (position < limit) {
+            final int start = position;
+            while (position < limit && buffer.get(position) != '\n') {
+                position++;
+            }
+            int end = position;
+            position++;
+            if (end > start && buffer.get(end - 1) == '\r') {
+                end--;
+            }
+            boolean blank = true;
+            for (int index = start; index < end && blank; index++) {
+                blank = buffer.get(index) == ' '
+                        || isSeparator(buffer.get(index));
+            }
+            if (blank) {
+                continue;
+            }
+            if (parseLine(buffer, start, end, slots, values)) {
+                aggregator.add(result, values);
+            } else if (!header) {
+                throw new NumberFormatException("missing or non-numeric field "
+                        + "in the line at byte " + (offset + start));
+            }
+            header = false;
+        }
+        return result;
+    }
+
+    /**
+     * Summarize the required columns of a file.
+     *
+     * @param <T> result type
+     * @param file data file
+     * @param columns required columns in the order they are passed to the
+     * aggregator
+     * @param aggregator summary to calculate
+     * @return summary
+     * @throws IOException if the file cannot be read
+     * @exception NumberFormatException if a line other than the first lacks a
+     * required number
+     */
+    private static <T> T read(final File file, final int[] columns,
+            final Aggregator<T> aggregator) throws IOException {
+        int maxColumn = -1;
+        for (int column : columns) {
+            if (column < 0) {
+                throw new IllegalArgumentException("column < 0");
+            }
+            maxColumn = Math.max(maxColumn, column);
+        }
+        final int[] slots = new int[maxColumn + 1];
+        Arrays.fill(slots, -1);
+        for (int index = 0; index < columns.length; index++) {
+            slots[columns[index]] = index;
+        }
+        try (RandomAccessFile input = new RandomAccessFile(file, "r");
+                FileChannel channel = input.getChannel()) {
+            final long[] bounds = chunkBounds(channel, channel.size());
+            final List<Callable<T>> tasks = new ArrayList<>();
+            for (int chunk = 0; chunk + 1 < bounds.length; chunk++) {
+                final long offset = bounds[chunk];
+                final MappedByteBuffer buffer = channel.map(
+                        FileChannel.MapMode.READ_ONLY, offset,
+                        bounds[chunk + 1] - offset);
+                tasks.add(new Callable<T>() {
+                    @Override
+                    public T call() {
+                        return parseChunk(buffer, offset, slots,
+                                columns.length, aggregator);
+                    }
+                });
+            }
+            final T result = aggregator.create();
+            if (!tasks.isEmpty()) {
+                for (T partial : WorkerPool.invokeAll(tasks)) {
+                    aggregator.merge(result, partial);
+                }
+            }
+            return result;
+        }
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the moments of one column of a file.
+     *
+     * @param file data file
+     * @param column column number, starting at zero
+     * @return moments
+     * @throws IOException if the file cannot be read
+     * @exception NumberFormatException if a line other than the first lacks a
+     * number in the column
+     */
+    public static Moments readColumn(final File file, final int column)
+            throws IOException {
+        return read(file, new int[]{column}, new Aggregator<Moments>() {
+            @Override
+            public Moments create() {
+                return new Moments();
+            }
+
+            @Override
+            public void add(final Moments result, final double[] values) {
+                result.add(values[0]);
+            }
+
+            @Override
+            public void merge(final Moments result, final Moments partial) {
+                result.merge(partial);
+            }
+        });
+    }
+
+    /**
+     * Return the paired moments of two columns of a file, such as the time 1
+     * and time 2 scores of a dependent design.
+     *
+     * @param file data file
+     * @param column1 column of the first observation
+     * @param column2 column of the second observation
+     * @return paired moments
+     * @throws IOException if the file cannot be read
+     * @exception NumberFormatException if a line other than the first lacks a
+     * number in either column
+     */
+    public static PairedMoments readPaired(final File file, final int column1,
+            final int column2) throws IOException {
+        return read(file, new int[]{column1, column2},
+                new Aggregator<PairedMoments>() {
+                    @Override
+                    public PairedMoments create() {
+                        return new PairedMoments();
+                    }
+
+                    @Override
+                    public void add(final PairedMoments result,
+                            final double[] values) {
+                        result.add(values[0], values[1]);
+                    }
+
+                    @Override
+                    public void merge(final PairedMoments result,
+                            final PairedMoments partial) {
+                        result.merge(partial);
+                    }
+                });
+    }
+
+    /**
+     * Return the moments of a value column within the groups given by a
+     * numeric code column.
+     *
+     * @param file data file
+     * @param groupColumn column of the group code
+     * @param valueColumn column of the observation
+     * @return group moments
+     * @throws IOException if the file cannot be read
+     * @exception NumberFormatException if a line other than the first lacks a
+     * number in either column
+     */
+    public static GroupMoments readGroups(final File file,
+            final int groupColumn, final int valueColumn) throws IOException {
+        return read(file, new int[]{groupColumn, valueColumn},
+                new Aggregator<GroupMoments>() {
+                    @Override
+                    public GroupMoments create() {
+                        return new GroupMoments();
+                    }
+
+                    @Override
+                    public void add(final GroupMoments result,
+                            final double[] values) {
+                        result.add(values[0], values[1]);
+                    }
+
+                    @Override
+                    public void merge(final GroupMoments result,
+                            final GroupMoments partial) {
+                        result.merge(partial);
+                    }
+                });
+    }
+
+    /**
+     * Return the studies of a file with one study per line, such as the
+     * output of a batch of effect-size calculations. Studies keep the order
+     * of the file.
+     *
+     * @param file data file
+     * @param estimateColumn column of the effect size
+     * @param varianceColumn column of its sampling variance
+     * @return studies
+     * @throws IOException if the file cannot be read
+     * @exception NumberFormatException if a line other than the first lacks a
+     * number in either column
+     * @exception IllegalArgumentException if a variance is not positive
+     */
+    public static StudyAccumulator readStudies(final File file,
+            final int estimateColumn, final int varianceColumn)
+            throws IOException {
+        return read(file, new int[]{estimateColumn, varianceColumn},
+                new Aggregator<StudyAccumulator>() {
+                    @Override
+                    public StudyAccumulator create() {
+                        return new StudyAccumulator();
+                    }
+
+                    @Override
+                    public void add(final StudyAccumulator result,
+                            final double[] values) {
+                        result.add(values[0], values[1]);
+                    }
+
+                    @Override
+                    public void merge(final StudyAccumulator result,
+                            final StudyAccumulator partial) {
+                        result.merge(partial);
+                    }
+                });
+    }
+
+    // *************************************************************************
+    // INNER CLASSES
+    // *************************************************************************
+    /**
+     * Summary calculated over the lines of a file.
+     *
+     * @param <T> result type
+     */
+    private interface Aggregator<T> {
+
+        /**
+         * Return a new, empty result.
+         *
+         * @return result
+         */
+        T create();
+
+        /**
+         * Add the required fields of a line to a result.
+         *
+         * @param result result
+         * @param values required fields
+         */
+        void add(T result, double[] values);
+
+        /**
+         * Add a partial result to a result.
+         *
+         * @param result result
+         * @param partial partial result
+         */
+        void merge(T result, T partial);
+    }
+}
@@ -0,0 +1,106 @@
+package edu.missouristate.mote.data;
+
+import edu.missouristate.mote.effectsizes.CohenDDepTAvgs;
+import edu.missouristate.mote.effectsizes.CohenDDepTDiff;
+import edu.missouristate.mote.effectsizes.CohenDSst;
+import edu.missouristate.mote.effectsizes.SumOfSquaresInputs;
+import edu.missouristate.mote.effectsizes.TwoGroupInputs;
+
+/**
+ * Provide methods for entering summaries of raw data into the tests through
+ * their input setters.
+ */
+public final class SummaryInputs {
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a SummaryInputs.
+     */
+    private SummaryInputs() {
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Enter the moments of a single sample into a single sample t test.
+     *
+     * @param moments sample moments
+     * @param test test receiving the inputs
+     */
+    public static void apply(final Moments moments, final CohenDSst test) {
+        test.setSampleSize(moments.getCount());
+        test.setSampleMean(moments.getMean());
+        test.setSampleStdDev(moments.getStdDev());
+    }
+
+    /**
+     * Enter the moments of two groups into an independent t test; the group
+     * with the lower code is group 1.
+     *
+     * @param groups group moments
+     * @param test test receiving the inputs
+     * @exception IllegalArgumentException if there are not exactly two groups
+     */
+    public static void apply(final GroupMoments groups,
+            final TwoGroupInputs test) {
+        if (groups.getGroupCount() != 2) {
+            throw new IllegalArgumentException("expected two groups but found "
+                    + groups.getGroupCount());
+        }
+        final double[] codes = groups.getCodes();
+        final Moments group1 = groups.getGroup(codes[0]);
+        final Moments group2 = groups.getGroup(codes[1]);
+        test.setSize1(group1.getCount());
+        test.setSize2(group2.getCount());
+        test.setMean1(group1.getMean());
+        test.setMean2(group2.getMean());
+        test.setStdDev1(group1.getStdDev());
+        test.setStdDev2(group2.getStdDev());
+    }
+
+    /**
+     * Enter the one-way sums of squares of the groups into an F test.
+     *
+     * @param groups group moments
+     * @param test test receiving the inputs
+     */
+    public static void apply(final GroupMoments groups,
+            final SumOfSquaresInputs test) {
+        test.setDfEffect(groups.getDfEffect());
+        test.setDfError(groups.getDfError());
+        test.setSsEffect(groups.getSsEffect());
+        test.setSsTotal(groups.getSsTotal());
+    }
+
+    /**
+     * Enter paired moments into a dependent t test using the averages.
+     *
+     * @param pairs paired moments
+     * @param test test receiving the inputs
+     */
+    public static void apply(final PairedMoments pairs,
+            final CohenDDepTAvgs test) {
+        test.setSize(pairs.getCount());
+        test.setMean1(pairs.getMean1());
+        test.setMean2(pairs.getMean2());
+        test.setStdDev1(pairs.getStdDev1());
+        test.setStdDev2(pairs.getStdDev2());
+    }
+
+    /**
+     * Enter paired moments into a dependent t test using the differences.
+     *
+     * @param pairs paired moments
+     * @param test test receiving the inputs
+     */
+    public static void apply(final PairedMoments pairs,
+            final CohenDDepTDiff test) {
+        test.setSize(pairs.getCount());
+        test.setMean1(pairs.getMean1());
+        test.setMean2(pairs.getMean2());
+        test.setStdDevDiff(pairs.getStdDevDiff());
+    }
+}
@@ -5,6 +5,25 @@ package edu.missouristate.mote.effectsizes;
  */
 public abstract class AbstractNonCentralTest extends AbstractTest {
 
+    /**
+     * Return the values that determine the lower and upper curves: the test
+     * statistic and the two non-centrality parameters.
+     *
+     * @return curve key
+     */
+    @Override
+    protected double[] getCurveKey() {
+        return new double[]{getTestStatistic(), getLowerNc(), getUpperNc()};
+    }
+
+    /**
+     * Return the interval that the results and curves come from, for
+     * building its curves progressively.
+     *
+     * @return interval; null if the last calculation could not solve it
+     */
+    public abstract NcInterval getInterval();
+
     /**
      * Return the lower confidence interval value of the non-centrality
      * parameter.
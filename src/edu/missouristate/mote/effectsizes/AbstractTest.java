@@ -1,9 +1,18 @@
 package edu.missouristate.mote.effectsizes;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.events.ChangeEvent;
+import edu.missouristate.mote.events.ChangeKind;
 import edu.missouristate.mote.events.ChangeListener;
 import edu.missouristate.mote.events.ChangeNotifier;
+import edu.missouristate.mote.propertygrid.ObjectLoader;
+import edu.missouristate.mote.propertygrid.PropertyTableRow;
 
 /**
  * Base class for all statistical tests.
@@ -17,6 +26,18 @@ public abstract class AbstractTest implements ChangeNotifier {
     private String errorMessage;
     // List of listeners to notify on state changes
     private transient final List<ChangeListener> listeners;
+    // True while reset() restores the defaults; calculation waits for the end
+    private transient boolean resetting;
+    // Annotated properties, compared between notifications
+    private transient List<PropertyTableRow> properties;
+    // Property values, curve key and error message at the last notification
+    private transient double[] lastValues;
+    private transient double[] lastCurveKey;
+    private transient String lastMessage;
+    // Depth of nested beginUpdate() calls; notifications wait for the end
+    private transient int updateDepth;
+    // Cached results of the calculation, counting the work done and skipped
+    private final transient ResultCache resultCache;
 
     // *************************************************************************
     // CONSTRUCTORS
@@ -27,6 +48,7 @@ public abstract class AbstractTest implements ChangeNotifier {
     public AbstractTest() {
         errorMessage = "";
         listeners = new ArrayList<ChangeListener>();
+        resultCache = new ResultCache();
     }
 
     // *************************************************************************
@@ -78,21 +100,165 @@ public abstract class AbstractTest implements ChangeNotifier {
         }
     }
 
+    // *************************************************************************
+    // PACKAGE METHODS
+    // *************************************************************************
+    /**
+     * Return the cache that the cached results of the calculation count
+     * their work in.
+     *
+     * @return cache
+     */
+    final ResultCache getResultCache() {
+        return resultCache;
+    }
+
     // *************************************************************************
     // PROTECTED METHODS
     // *************************************************************************
     /**
-     * Notify all listeners that the state of this object has changed.
+     * Return true while reset() is restoring the default inputs. Subclasses
+     * skip calculating until the last default is set.
+     *
+     * @return true while resetting
+     */
+    protected final boolean isResetting() {
+        return resetting;
+    }
+
+    /**
+     * Mark the start or end of restoring the default inputs.
+     *
+     * @param value true at the start of reset(), false at the end
+     */
+    protected final void setResetting(final boolean value) {
+        resetting = value;
+    }
+
+    /**
+     * Set every input to its default value. Called while resetting, so the
+     * setters do not calculate; reset() calculates once afterwards.
+     */
+    protected abstract void setDefaults();
+
+    /**
+     * Return the values that determine the distribution curves. The curves
+     * are only reported as changed when these values change.
+     *
+     * @return curve key; empty if the curves never change
+     */
+    protected double[] getCurveKey() {
+        return new double[0];
+    }
+
+    /**
+     * Notify all listeners that the state of this object has changed. The
+     * event holds every property, curve and message change since the last
+     * notification; nothing is sent if nothing changed, or before the
+     * outermost endUpdate() while an update is in progress.
      */
     protected void doStateChanged() {
+        if (updateDepth > 0) {
+            return;
+        }
+        final ChangeEvent event = collectChanges();
+        if (event.isEmpty()) {
+            return;
+        }
         for (ChangeListener listener : listeners) {
-            listener.stateChanged();
+            listener.stateChanged(event);
+        }
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return the kind of change of a property category.
+     *
+     * @param category category annotation value
+     * @return kind of change
+     */
+    private static ChangeKind getKind(final String category) {
+        if (Constants.INPUT_CATEGORY.equals(category)) {
+            return ChangeKind.INPUT;
+        } else if (Constants.DERIVED_CATEGORY.equals(category)) {
+            return ChangeKind.DERIVED;
+        }
+        return ChangeKind.RESULT;
+    }
+
+    /**
+     * Compare the state with the state at the last notification and keep the
+     * current state for the next comparison.
+     *
+     * @return changes since the last notification
+     */
+    private ChangeEvent collectChanges() {
+        if (properties == null) {
+            properties = new ArrayList<>();
+            for (PropertyTableRow row : ObjectLoader.getRows(this)) {
+                if (row.getAccessor() != null) {
+                    properties.add(row);
+                }
+            }
+        }
+        final boolean first = lastValues == null;
+        if (first) {
+            lastValues = new double[properties.size()];
+        }
+        final Set<ChangeKind> kinds = EnumSet.noneOf(ChangeKind.class);
+        final Set<String> changed = new HashSet<>();
+        for (int index = 0; index < properties.size(); index++) {
+            final PropertyTableRow row = properties.get(index);
+            double value;
+            try {
+                value = row.getAccessor().get(this);
+            } catch (RuntimeException ex) {
+                value = Double.NaN;
+            }
+            if (first || Double.compare(value, lastValues[index]) != 0) {
+                lastValues[index] = value;
+                kinds.add(getKind(row.getCategory()));
+                changed.add(row.getKey());
+            }
+        }
+        final double[] curveKey = getCurveKey();
+        if (first || !Arrays.equals(curveKey, lastCurveKey)) {
+            lastCurveKey = curveKey;
+            kinds.add(ChangeKind.CURVE);
+        }
+        if (first || !errorMessage.equals(lastMessage)) {
+            lastMessage = errorMessage;
+            kinds.add(ChangeKind.MESSAGE);
         }
+        return new ChangeEvent(this, kinds, changed);
     }
 
     // *************************************************************************
     // PUBLIC METHODS
     // *************************************************************************
+    /**
+     * Start a group of changes, such as several inputs set together, as
+     * reset() and resetTo() do. The listeners are notified once, when the
+     * matching endUpdate() is called. Calls may be nested.
+     */
+    public void beginUpdate() {
+        updateDepth++;
+    }
+
+    /**
+     * End a group of changes started by beginUpdate(). The outermost call
+     * notifies the listeners of everything that changed in the group.
+     */
+    public void endUpdate() {
+        if (updateDepth == 0) {
+            throw new IllegalStateException("endUpdate without beginUpdate");
+        }
+        updateDepth--;
+        doStateChanged();
+    }
+
     /**
      * Add a new ChangeListener that should be notified on state changes.
      *
@@ -112,6 +278,16 @@ public abstract class AbstractTest implements ChangeNotifier {
      */
     public abstract double getAlpha();
 
+    /**
+     * Return the number of calculation steps computed since this test was
+     * created.
+     *
+     * @return count
+     */
+    public long getComputeCount() {
+        return resultCache.getComputeCount();
+    }
+
     /**
      * Return the value of the confidence probability.
      *
@@ -158,6 +334,16 @@ public abstract class AbstractTest implements ChangeNotifier {
      */
     public abstract String getMeasureSymbol();
 
+    /**
+     * Return the number of calculation steps skipped since this test was
+     * created, because the values they are computed from did not change.
+     *
+     * @return count
+     */
+    public long getSkipCount() {
+        return resultCache.getSkipCount();
+    }
+
     /**
      * Return the name of the underlying test.
      *
@@ -201,10 +387,50 @@ public abstract class AbstractTest implements ChangeNotifier {
     }
 
     /**
-     * Reset all parameters to their default values.
+     * Reset all parameters to their default values, notifying the listeners
+     * once, at the end.
      */
     public abstract void reset();
 
+    /**
+     * Reset all parameters and then set several inputs in order, as if they
+     * were entered one after another, but calculating only once, after the
+     * last one; the defaults themselves are not calculated. Inputs with a NaN
+     * value keep their defaults. The listeners are notified once, at the end.
+     *
+     * @param inputs input properties, each with a setter
+     * @param values value of each input; NaN to keep the default
+     */
+    public final void resetTo(final List<PropertyTableRow> inputs,
+            final double[] values) {
+        int last = values.length - 1;
+        while (last >= 0 && Double.isNaN(values[last])) {
+            last--;
+        }
+        if (last < 0) {
+            reset();
+            return;
+        }
+        beginUpdate();
+        try {
+            resetting = true;
+            try {
+                setDefaults();
+                for (int index = 0; index < last; index++) {
+                    if (!Double.isNaN(values[index])) {
+                        inputs.get(index).getAccessor().set(this,
+                                values[index]);
+                    }
+                }
+            } finally {
+                resetting = false;
+            }
+            inputs.get(last).getAccessor().set(this, values[last]);
+        } finally {
+            endUpdate();
+        }
+    }
+
     /**
      * Set the current error message.
      *
@@ -0,0 +1,110 @@
+package edu.missouristate.mote.effectsizes;
+
+/**
+ * Immutable sums of squares and degrees of freedom of one ANOVA effect: the
+ * input of the F family of measures.
+ */
+public final class AnovaSummary {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final double ssEffect;
+    private final double ssTotal;
+    private final double dfEffect;
+    private final double dfError;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of an AnovaSummary.
+     *
+     * @param ssEffect effect sum of squares
+     * @param ssTotal total sum of squares
+     * @param dfEffect effect degrees of freedom
+     * @param dfError error degrees of freedom
+     */
+    public AnovaSummary(final double ssEffect, final double ssTotal,
+            final double dfEffect, final double dfError) {
+        this.ssEffect = ssEffect;
+        this.ssTotal = ssTotal;
+        this.dfEffect = dfEffect;
+        this.dfError = dfError;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the effect sum of squares.
+     *
+     * @return effect sum of squares
+     */
+    public double getSsEffect() {
+        return ssEffect;
+    }
+
+    /**
+     * Return the total sum of squares.
+     *
+     * @return total sum of squares
+     */
+    public double getSsTotal() {
+        return ssTotal;
+    }
+
+    /**
+     * Return the error sum of squares, the total less the effect.
+     *
+     * @return error sum of squares
+     */
+    public double getSsError() {
+        return ssTotal - ssEffect;
+    }
+
+    /**
+     * Return the effect degrees of freedom.
+     *
+     * @return effect degrees of freedom
+     */
+    public double getDfEffect() {
+        return dfEffect;
+    }
+
+    /**
+     * Return the error degrees of freedom.
+     *
+     * @return error degrees of freedom
+     */
+    public double getDfError() {
+        return dfError;
+    }
+
+    /**
+     * Return the effect mean square.
+     *
+     * @return effect mean square
+     */
+    public double getMs() {
+        return ssEffect / dfEffect;
+    }
+
+    /**
+     * Return the error mean square.
+     *
+     * @return error mean square
+     */
+    public double getMse() {
+        return getSsError() / dfError;
+    }
+
+    /**
+     * Return the F statistic.
+     *
+     * @return F; zero if the error mean square is zero
+     */
+    public double getFValue() {
+        return Eta2FOmni.calcF(getMs(), getMse());
+    }
+}
@@ -5,6 +5,7 @@ import edu.missouristate.mote.propertygrid.CategoryAnnotation;
 import edu.missouristate.mote.propertygrid.DescriptionAnnotation;
 import edu.missouristate.mote.propertygrid.IndexAnnotation;
 import edu.missouristate.mote.propertygrid.NameAnnotation;
+import edu.missouristate.mote.propertygrid.StepAnnotation;
 
 /**
  * Cohen's d, dependent t (averages) test.
@@ -42,10 +43,27 @@ public final class CohenDDepTAvgs extends AbstractNonCentralTest {
     private transient boolean fixedSD2;
     private transient double lowerMeasure;
     private transient double lowerNc;
-    private transient double[][] lowerPdf;
+    private transient NcInterval interval;
     private transient double upperMeasure;
     private transient double upperNc;
-    private transient double[][] upperPdf;
+
+    // *************************************************************************
+    // CACHED RESULTS
+    // *************************************************************************
+    // Interval, solved again only when its inputs change
+    private final transient ResultCache.Entry<NcInterval> intervalEntry =
+            new ResultCache.Entry<NcInterval>(getResultCache()) {
+                @Override
+                protected double[] getKey() {
+                    return new double[]{meanDiff, stdDev1, stdDev2, size,
+                            confidence};
+                }
+
+                @Override
+                protected NcInterval compute() {
+                    return solveInterval();
+                }
+            };
 
     // *************************************************************************
     // CONSTRUCTORS
@@ -82,12 +100,11 @@ public final class CohenDDepTAvgs extends AbstractNonCentralTest {
      * Return the value for d.
      *
      * @param meanDiff mean difference
-     * @param stdDev1 time 1 standard deviation
-     * @param stdDev2 time 2 standard deviation
-     *
-     * @return d value
+     * @param stdDev1 group 1 standard deviation
+     * @param stdDev2 group 2 standard deviation
+     * @return d value; zero if the average standard deviation is zero
      */
-    private static double calcD(final double meanDiff, final double stdDev1,
+    static double calcD(final double meanDiff, final double stdDev1,
             final double stdDev2) {
         double result = 0.0;
         final double meanSD = (stdDev1 + stdDev2) * 0.5;
@@ -101,12 +118,11 @@ public final class CohenDDepTAvgs extends AbstractNonCentralTest {
      * Return the value for t.
      *
      * @param meanDiff mean difference
-     * @param stdDev1 time 1 standard error
-     * @param stdDev2 time 2 standard error
-     *
-     * @return t value
+     * @param stdErr1 group 1 standard error
+     * @param stdErr2 group 2 standard error
+     * @return t value; zero if the average standard error is zero
      */
-    private static double calcT(final double meanDiff, final double stdErr1,
+    static double calcT(final double meanDiff, final double stdErr1,
             final double stdErr2) {
         double result = 0.0;
         final double meanSE = (stdErr1 + stdErr2) * 0.5;
@@ -120,29 +136,56 @@ public final class CohenDDepTAvgs extends AbstractNonCentralTest {
      * Calculate the effect size.
      */
     private void calculate() {
+        if (isResetting()) {
+            return;
+        }
         setErrorMessage("");
         testStatistic = calcT(meanDiff, stdErr1, stdErr2);
         measure = calcD(meanDiff, stdDev1, stdDev2);
-        // Lower, upper non-centrality parameters
-        final double alpha = 1 - confidence;
         try {
-            lowerNc = ConfIntNct.findNonCentrality(testStatistic, df,
-                    1 - (alpha * 0.5));
-            upperNc = ConfIntNct.findNonCentrality(testStatistic, df, alpha * 0.5);
-        } catch (ArithmeticException ex) {
+            interval = intervalEntry.get();
+        } catch (ArithmeticException | IllegalArgumentException ex) {
             setErrorMessage(ex.getLocalizedMessage());
+            interval = null;
+            lowerNc = Double.NaN;
+            upperNc = Double.NaN;
+            lowerMeasure = Double.NaN;
+            upperMeasure = Double.NaN;
             doStateChanged();
             return;
         }
-        // Lower, upper Cohen's d
-        lowerMeasure = lowerNc / Math.sqrt(size);
-        upperMeasure = upperNc / Math.sqrt(size);
-        // PDF curves
-        lowerPdf = ConfIntNct.createPdf(testStatistic, df, lowerNc, lowerNc, upperNc);
-        upperPdf = ConfIntNct.createPdf(testStatistic, df, upperNc, lowerNc, upperNc);
+        lowerNc = interval.getLowerNc();
+        upperNc = interval.getUpperNc();
+        lowerMeasure = interval.getLowerMeasure();
+        upperMeasure = interval.getUpperMeasure();
         doStateChanged();
     }
 
+    /**
+     * Solve the confidence interval from the inputs.
+     *
+     * @return interval
+     */
+    private NcInterval solveInterval() {
+        return EffectSizes.cohenDDepTAvgs(new PairedSummary(
+                meanDiff, stdDev1, stdDev2, size), confidence);
+    }
+
+    // *************************************************************************
+    // PROTECTED METHODS
+    // *************************************************************************
+    @Override
+    protected void setDefaults() {
+        fixedSD1 = true;
+        fixedSD2 = true;
+        setSize(0);
+        setMean1(0);
+        setMean2(0);
+        setStdDev1(0);
+        setStdDev2(0);
+        setConfidence(0.95);
+    }
+
     // *************************************************************************
     // PUBLIC METHODS
     // *************************************************************************
@@ -168,14 +211,15 @@ public final class CohenDDepTAvgs extends AbstractNonCentralTest {
 
     @Override
     public void reset() {
-        fixedSD1 = true;
-        fixedSD2 = true;
-        setSize(0);
-        setMean1(0);
-        setMean2(0);
-        setStdDev1(0);
-        setStdDev2(0);
-        setConfidence(0.95);
+        beginUpdate();
+        try {
+            setResetting(true);
+            setDefaults();
+            setResetting(false);
+            calculate();
+        } finally {
+            endUpdate();
+        }
     }
 
     // *************************************************************************
@@ -300,6 +344,7 @@ public final class CohenDDepTAvgs extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Size (n)")
     @IndexAnnotation(value = 8)
+    @StepAnnotation(value = 1)
     @DescriptionAnnotation(value = "Size of the sample. If this value is "
             + "entered, the degrees of freedom will be automatically derived.")
     public double getSize() {
@@ -316,6 +361,7 @@ public final class CohenDDepTAvgs extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Degrees Freedom (df)")
     @IndexAnnotation(value = 9)
+    @StepAnnotation(value = 1)
     @DescriptionAnnotation(value = "Degrees of freedom of the sample. If this "
             + "value is entered, the sample size will be automatically "
             + "derived.")
@@ -333,6 +379,7 @@ public final class CohenDDepTAvgs extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Confidence (1 - " + Constants.ALPHA_LOWER + ")")
     @IndexAnnotation(value = 10)
+    @StepAnnotation(value = 0.001)
     @DescriptionAnnotation(value = "Confidence interval expressed as a "
             + "percentage in the range 0...1.")
     @Override
@@ -408,9 +455,14 @@ public final class CohenDDepTAvgs extends AbstractNonCentralTest {
         return lowerNc;
     }
 
+    @Override
+    public NcInterval getInterval() {
+        return interval;
+    }
+
     @Override
     public double[][] getLowerPdf() {
-        return lowerPdf;
+        return interval == null ? null : interval.getLowerPdf();
     }
 
     @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
@@ -426,6 +478,6 @@ public final class CohenDDepTAvgs extends AbstractNonCentralTest {
 
     @Override
     public double[][] getUpperPdf() {
-        return upperPdf;
+        return interval == null ? null : interval.getUpperPdf();
     }
 }
\ No newline at end of file
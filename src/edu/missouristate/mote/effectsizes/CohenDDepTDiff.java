@@ -5,6 +5,7 @@ import edu.missouristate.mote.propertygrid.CategoryAnnotation;
 import edu.missouristate.mote.propertygrid.DescriptionAnnotation;
 import edu.missouristate.mote.propertygrid.IndexAnnotation;
 import edu.missouristate.mote.propertygrid.NameAnnotation;
+import edu.missouristate.mote.propertygrid.StepAnnotation;
 
 /**
  * Cohen's d, dependent t (sd diff) test.
@@ -33,15 +34,35 @@ public final class CohenDDepTDiff extends AbstractNonCentralTest {
     private transient boolean fixedSD;
     private transient double lowerMeasure;
     private transient double lowerNc;
-    private transient double[][] lowerPdf;
+    private transient NcInterval interval;
     private transient double upperMeasure = 0.0;
     private transient double upperNc = 0.0;
-    private transient double[][] upperPdf;
     /**
      * True if d should be calculated from inputs; false if from t
      */
     private transient boolean useInputs;
 
+    // *************************************************************************
+    // CACHED RESULTS
+    // *************************************************************************
+    // Interval, solved again only when its inputs change
+    private final transient ResultCache.Entry<NcInterval> intervalEntry =
+            new ResultCache.Entry<NcInterval>(getResultCache()) {
+                @Override
+                protected double[] getKey() {
+                    if (useInputs) {
+                        return new double[]{1, meanDiff, stdDevDiff, size,
+                                confidence};
+                    }
+                    return new double[]{0, testStatistic, size, confidence};
+                }
+
+                @Override
+                protected NcInterval compute() {
+                    return solveInterval();
+                }
+            };
+
     // *************************************************************************
     // CONSTRUCTORS
     // *************************************************************************
@@ -76,7 +97,7 @@ public final class CohenDDepTDiff extends AbstractNonCentralTest {
      * @param stdDevDiff standard deviation difference
      * @return d value
      */
-    private static double calcD(final double meanDiff,
+    static double calcD(final double meanDiff,
             final double stdDevDiff) {
         double result;
         if (stdDevDiff != 0) {
@@ -94,7 +115,7 @@ public final class CohenDDepTDiff extends AbstractNonCentralTest {
      * @param stdErrDiff standard error difference
      * @return t value
      */
-    private static double calcT(final double meanDiff,
+    static double calcT(final double meanDiff,
             final double stdErrDiff) {
         double result;
         if (stdErrDiff != 0) {
@@ -109,32 +130,62 @@ public final class CohenDDepTDiff extends AbstractNonCentralTest {
      * Calculate the effect size.
      */
     private void calculate() {
+        if (isResetting()) {
+            return;
+        }
+        setErrorMessage("");
         if (useInputs) {
             testStatistic = calcT(meanDiff, stdErrDiff);
             measure = calcD(meanDiff, stdDevDiff);
         } else {
             measure = testStatistic / Math.sqrt(size);
         }
-        // Lower, upper non-centrality parameters
-        final double alpha = 1 - confidence;
         try {
-            lowerNc = ConfIntNct.findNonCentrality(testStatistic, df,
-                    1 - (alpha * 0.5));
-            upperNc = ConfIntNct.findNonCentrality(testStatistic, df, alpha * 0.5);
-        } catch (ArithmeticException ex) {
+            interval = intervalEntry.get();
+        } catch (ArithmeticException | IllegalArgumentException ex) {
             setErrorMessage(ex.getLocalizedMessage());
+            interval = null;
+            lowerNc = Double.NaN;
+            upperNc = Double.NaN;
+            lowerMeasure = Double.NaN;
+            upperMeasure = Double.NaN;
             doStateChanged();
             return;
         }
-        // Lower, upper Cohen's d
-        lowerMeasure = lowerNc / Math.sqrt(size);
-        upperMeasure = upperNc / Math.sqrt(size);
-        // PDF curves
-        lowerPdf = ConfIntNct.createPdf(testStatistic, df, lowerNc, lowerNc, upperNc);
-        upperPdf = ConfIntNct.createPdf(testStatistic, df, upperNc, lowerNc, upperNc);
+        lowerNc = interval.getLowerNc();
+        upperNc = interval.getUpperNc();
+        lowerMeasure = interval.getLowerMeasure();
+        upperMeasure = interval.getUpperMeasure();
         doStateChanged();
     }
 
+    /**
+     * Solve the confidence interval from the inputs.
+     *
+     * @return interval
+     */
+    private NcInterval solveInterval() {
+        return useInputs
+                ? EffectSizes.cohenDDepTDiff(new DifferenceSummary(
+                        meanDiff, stdDevDiff, size), confidence)
+                : EffectSizes.cohenDDepTDiff(testStatistic, size,
+                        confidence);
+    }
+
+    // *************************************************************************
+    // PROTECTED METHODS
+    // *************************************************************************
+    @Override
+    protected void setDefaults() {
+        fixedSD = true;
+        useInputs = true;
+        setSize(0);
+        setMean1(0);
+        setMean2(0);
+        setStdDevDiff(0);
+        setConfidence(0.95);
+    }
+
     // *************************************************************************
     // PUBLIC METHODS
     // *************************************************************************
@@ -160,13 +211,36 @@ public final class CohenDDepTDiff extends AbstractNonCentralTest {
 
     @Override
     public void reset() {
-        fixedSD = true;
-        useInputs = true;
-        setSize(0);
-        setMean1(0);
-        setMean2(0);
-        setStdDevDiff(0);
-        setConfidence(0.95);
+        beginUpdate();
+        try {
+            setResetting(true);
+            setDefaults();
+            setResetting(false);
+            calculate();
+        } finally {
+            endUpdate();
+        }
+    }
+
+    // *************************************************************************
+    // PACKAGE METHODS
+    // *************************************************************************
+    /**
+     * Return true if stdDevDiff is fixed and stdErrDiff is derived.
+     *
+     * @return true if stdDevDiff is fixed and stdErrDiff is derived
+     */
+    boolean isFixedSD() {
+        return fixedSD;
+    }
+
+    /**
+     * Return true if d is calculated from the inputs rather than t.
+     *
+     * @return true if d is calculated from the inputs rather than t
+     */
+    boolean isUseInputs() {
+        return useInputs;
     }
 
     // *************************************************************************
@@ -263,6 +337,7 @@ public final class CohenDDepTDiff extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Size (n)")
     @IndexAnnotation(value = 6)
+    @StepAnnotation(value = 1)
     @DescriptionAnnotation(value = "Size of the sample. If this value is "
             + "entered, the degrees of freedom will be automatically derived.")
     public double getSize() {
@@ -279,6 +354,7 @@ public final class CohenDDepTDiff extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Degrees Freedom (df)")
     @IndexAnnotation(value = 7)
+    @StepAnnotation(value = 1)
     @DescriptionAnnotation(value = "Degrees of freedom of the sample. If this "
             + "value is entered, the sample size will be automatically "
             + "derived.")
@@ -319,6 +395,7 @@ public final class CohenDDepTDiff extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Confidence (1 - " + Constants.ALPHA_LOWER + ")")
     @IndexAnnotation(value = 9)
+    @StepAnnotation(value = 0.001)
     @DescriptionAnnotation(value = "Confidence interval expressed as a "
             + "percentage in the range 0...1.")
     @Override
@@ -380,9 +457,14 @@ public final class CohenDDepTDiff extends AbstractNonCentralTest {
         return lowerNc;
     }
 
+    @Override
+    public NcInterval getInterval() {
+        return interval;
+    }
+
     @Override
     public double[][] getLowerPdf() {
-        return lowerPdf;
+        return interval == null ? null : interval.getLowerPdf();
     }
 
     @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
@@ -398,6 +480,6 @@ public final class CohenDDepTDiff extends AbstractNonCentralTest {
 
     @Override
     public double[][] getUpperPdf() {
-        return upperPdf;
+        return interval == null ? null : interval.getUpperPdf();
     }
 }
\ No newline at end of file
@@ -5,11 +5,13 @@ import edu.missouristate.mote.propertygrid.CategoryAnnotation;
 import edu.missouristate.mote.propertygrid.DescriptionAnnotation;
 import edu.missouristate.mote.propertygrid.IndexAnnotation;
 import edu.missouristate.mote.propertygrid.NameAnnotation;
+import edu.missouristate.mote.propertygrid.StepAnnotation;
 
 /**
  * Cohen's d, independent t test.
  */
-public final class CohenDIndT extends AbstractNonCentralTest {
+public final class CohenDIndT extends AbstractNonCentralTest
+        implements TwoGroupInputs {
 
     // *************************************************************************
     // INPUT FIELDS
@@ -45,15 +47,36 @@ public final class CohenDIndT extends AbstractNonCentralTest {
     private transient boolean fixedSD2;
     private transient double lowerMeasure;
     private transient double lowerNc;
-    private transient double[][] lowerPdf;
+    private transient NcInterval interval;
     private transient double upperMeasure;
     private transient double upperNc;
-    private transient double[][] upperPdf;
     /**
      * True if d should be calculated from inputs; false if from t
      */
     private transient boolean useInputs;
 
+    // *************************************************************************
+    // CACHED RESULTS
+    // *************************************************************************
+    // Interval, solved again only when its inputs change
+    private final transient ResultCache.Entry<NcInterval> intervalEntry =
+            new ResultCache.Entry<NcInterval>(getResultCache()) {
+                @Override
+                protected double[] getKey() {
+                    if (useInputs) {
+                        return new double[]{1, mean1, mean2, stdDev1, stdDev2,
+                                size1, size2, confidence};
+                    }
+                    return new double[]{0, testStatistic, size1, size2,
+                            confidence};
+                }
+
+                @Override
+                protected NcInterval compute() {
+                    return solveInterval();
+                }
+            };
+
     // *************************************************************************
     // CONSTRUCTORS
     // *************************************************************************
@@ -97,7 +120,7 @@ public final class CohenDIndT extends AbstractNonCentralTest {
      *
      * @return d value
      */
-    private static double calcD(final double mean1, final double mean2,
+    static double calcD(final double mean1, final double mean2,
             final double stdDevPooled) {
         double result;
         if (stdDevPooled != 0) {
@@ -108,6 +131,20 @@ public final class CohenDIndT extends AbstractNonCentralTest {
         return result;
     }
 
+    /**
+     * Return the value for d from t.
+     *
+     * @param tValue t value
+     * @param size1 group 1 size
+     * @param size2 group 2 size
+     * @return d value
+     */
+    static double calcDFromT(final double tValue, final double size1,
+            final double size2) {
+        final double size = size1 + size2;
+        return tValue * Math.sqrt(size / (size1 * size2) * size / (size - 2));
+    }
+
     /**
      * Return the pooled standard deviation.
      *
@@ -117,7 +154,7 @@ public final class CohenDIndT extends AbstractNonCentralTest {
      * @param size2 group 2 size
      * @return pooled standard deviation
      */
-    private static double calcSDPooled(final double stdDev1,
+    static double calcSDPooled(final double stdDev1,
             final double stdDev2, final double size1, final double size2) {
         double result;
         if (size1 + size2 > 2) {
@@ -137,7 +174,7 @@ public final class CohenDIndT extends AbstractNonCentralTest {
      * @param size2 group 2 size
      * @return
      */
-    private static double calcSEPooled(final double stdDevPooled,
+    static double calcSEPooled(final double stdDevPooled,
             final double size1, final double size2) {
         double result;
         if (size1 > 0 && size2 > 0) {
@@ -158,7 +195,7 @@ public final class CohenDIndT extends AbstractNonCentralTest {
      *
      * @return t value
      */
-    private static double calcT(final double mean1, final double mean2,
+    static double calcT(final double mean1, final double mean2,
             final double stdErrPooled) {
         double result;
         if (stdErrPooled != 0) {
@@ -173,6 +210,9 @@ public final class CohenDIndT extends AbstractNonCentralTest {
      * Calculate the effect size.
      */
     private void calculate() {
+        if (isResetting()) {
+            return;
+        }
         if (df <= 0) {
             setErrorMessage("degrees of freedom <= 0");
             return;
@@ -182,29 +222,57 @@ public final class CohenDIndT extends AbstractNonCentralTest {
             testStatistic = calcT(mean1, mean2, stdErrPooled);
             measure = calcD(mean1, mean2, stdDevPooled);
         } else {
-            measure = testStatistic * Math.sqrt(size / (size1 * size2) * size / df);
+            measure = calcDFromT(testStatistic, size1, size2);
         }
-        // Lower, upper non-centrality parameters
-        final double alpha = 1 - confidence;
         try {
-            lowerNc = ConfIntNct.findNonCentrality(testStatistic, df,
-                    1 - (alpha * 0.5));
-            upperNc = ConfIntNct.findNonCentrality(testStatistic, df, alpha * 0.5);
-        } catch (ArithmeticException ex) {
+            interval = intervalEntry.get();
+        } catch (ArithmeticException | IllegalArgumentException ex) {
             setErrorMessage(ex.getLocalizedMessage());
+            interval = null;
+            lowerNc = Double.NaN;
+            upperNc = Double.NaN;
+            lowerMeasure = Double.NaN;
+            upperMeasure = Double.NaN;
             doStateChanged();
             return;
         }
-        // Lower, upper Cohen's d
-        final double bottom = Math.sqrt((size1 * size2) / size);
-        lowerMeasure = lowerNc / bottom;
-        upperMeasure = upperNc / bottom;
-        // PDF curves
-        lowerPdf = ConfIntNct.createPdf(testStatistic, df, lowerNc, lowerNc, upperNc);
-        upperPdf = ConfIntNct.createPdf(testStatistic, df, upperNc, lowerNc, upperNc);
+        lowerNc = interval.getLowerNc();
+        upperNc = interval.getUpperNc();
+        lowerMeasure = interval.getLowerMeasure();
+        upperMeasure = interval.getUpperMeasure();
         doStateChanged();
     }
 
+    /**
+     * Solve the confidence interval from the inputs.
+     *
+     * @return interval
+     */
+    private NcInterval solveInterval() {
+        return useInputs
+                ? EffectSizes.cohenDIndT(new TwoGroupSummary(mean1, mean2,
+                        stdDev1, stdDev2, size1, size2), confidence)
+                : EffectSizes.cohenDIndT(testStatistic, size1, size2,
+                        confidence);
+    }
+
+    // *************************************************************************
+    // PROTECTED METHODS
+    // *************************************************************************
+    @Override
+    protected void setDefaults() {
+        fixedSD1 = true;
+        fixedSD2 = true;
+        useInputs = true;
+        setSize1(0);
+        setSize2(0);
+        setMean1(0);
+        setMean2(0);
+        setStdDev1(0);
+        setStdDev2(0);
+        setConfidence(0.95);
+    }
+
     // *************************************************************************
     // PUBLIC METHODS
     // *************************************************************************
@@ -230,16 +298,45 @@ public final class CohenDIndT extends AbstractNonCentralTest {
     
     @Override
     public void reset() {
-        fixedSD1 = true;
-        fixedSD2 = true;
-        useInputs = true;
-        setSize1(0);
-        setSize2(0);
-        setMean1(0);
-        setMean2(0);
-        setStdDev1(0);
-        setStdDev2(0);
-        setConfidence(0.95);
+        beginUpdate();
+        try {
+            setResetting(true);
+            setDefaults();
+            setResetting(false);
+            calculate();
+        } finally {
+            endUpdate();
+        }
+    }
+
+    // *************************************************************************
+    // PACKAGE METHODS
+    // *************************************************************************
+    /**
+     * Return true if stdDev1 is fixed and stdErr1 is derived.
+     *
+     * @return true if stdDev1 is fixed and stdErr1 is derived
+     */
+    boolean isFixedSD1() {
+        return fixedSD1;
+    }
+
+    /**
+     * Return true if stdDev2 is fixed and stdErr2 is derived.
+     *
+     * @return true if stdDev2 is fixed and stdErr2 is derived
+     */
+    boolean isFixedSD2() {
+        return fixedSD2;
+    }
+
+    /**
+     * Return true if d is calculated from the inputs rather than t.
+     *
+     * @return true if d is calculated from the inputs rather than t
+     */
+    boolean isUseInputs() {
+        return useInputs;
     }
 
     // *************************************************************************
@@ -360,6 +457,7 @@ public final class CohenDIndT extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Group 1 Size (n1)")
     @IndexAnnotation(value = 7)
+    @StepAnnotation(value = 1)
     @DescriptionAnnotation(value = "Size of the sample in group 1.")
     public double getSize1() {
         return size1;
@@ -376,6 +474,7 @@ public final class CohenDIndT extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Group 2 Size (n2)")
     @IndexAnnotation(value = 8)
+    @StepAnnotation(value = 1)
     @DescriptionAnnotation(value = "Size of the sample in group 2.")
     public double getSize2() {
         return size2;
@@ -415,6 +514,7 @@ public final class CohenDIndT extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Confidence (1 - " + Constants.ALPHA_LOWER + ")")
     @IndexAnnotation(value = 10)
+    @StepAnnotation(value = 0.001)
     @DescriptionAnnotation(value = "Confidence interval expressed as a "
             + "percentage in the range 0...1.")
     @Override
@@ -517,9 +617,14 @@ public final class CohenDIndT extends AbstractNonCentralTest {
         return lowerNc;
     }
 
+    @Override
+    public NcInterval getInterval() {
+        return interval;
+    }
+
     @Override
     public double[][] getLowerPdf() {
-        return lowerPdf;
+        return interval == null ? null : interval.getLowerPdf();
     }
 
     @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
@@ -535,6 +640,6 @@ public final class CohenDIndT extends AbstractNonCentralTest {
 
     @Override
     public double[][] getUpperPdf() {
-        return upperPdf;
+        return interval == null ? null : interval.getUpperPdf();
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import edu.missouristate.mote.propertygrid.CategoryAnnotation;
 import edu.missouristate.mote.propertygrid.DescriptionAnnotation;
 import edu.missouristate.mote.propertygrid.IndexAnnotation;
 import edu.missouristate.mote.propertygrid.NameAnnotation;
+import edu.missouristate.mote.propertygrid.StepAnnotation;
 
 /**
  * Cohen's d, r.
@@ -29,10 +30,26 @@ public final class CohenDR extends AbstractNonCentralTest {
     private transient double measure;
     private transient double lowerMeasure;
     private transient double lowerNc;
-    private transient double[][] lowerPdf;
+    private transient NcInterval interval;
     private transient double upperMeasure = 0.0;
     private transient double upperNc = 0.0;
-    private transient double[][] upperPdf;
+
+    // *************************************************************************
+    // CACHED RESULTS
+    // *************************************************************************
+    // Interval, solved again only when its inputs change
+    private final transient ResultCache.Entry<NcInterval> intervalEntry =
+            new ResultCache.Entry<NcInterval>(getResultCache()) {
+                @Override
+                protected double[] getKey() {
+                    return new double[]{rValue, size, confidence};
+                }
+
+                @Override
+                protected NcInterval compute() {
+                    return solveInterval();
+                }
+            };
 
     // *************************************************************************
     // CONSTRUCTORS
@@ -51,10 +68,10 @@ public final class CohenDR extends AbstractNonCentralTest {
     /**
      * Return the value for d.
      *
-     * @param rValue correlation coefficient
-     * @return d value
+     * @param rValue correlation
+     * @return d value; zero if the correlation is not in (-1, 1)
      */
-    private static double calcD(final double rValue) {
+    static double calcD(final double rValue) {
         double result;
         if (Math.abs(rValue) < 1) {
             final double rSquared = rValue * rValue;
@@ -68,11 +85,12 @@ public final class CohenDR extends AbstractNonCentralTest {
     /**
      * Return the value for t.
      *
-     * @param rValue correlation coefficient
+     * @param rValue correlation
      * @param size sample size
-     * @return t value
+     * @return t value; zero if the correlation is not in (-1, 1) or the
+     * size is two or less
      */
-    private static double calcT(final double rValue, final double size) {
+    static double calcT(final double rValue, final double size) {
         double result;
         if (Math.abs(rValue) < 1 && size > 2) {
             final double rSquared = rValue * rValue;
@@ -87,31 +105,40 @@ public final class CohenDR extends AbstractNonCentralTest {
      * Calculate the effect size.
      */
     private void calculate() {
+        if (isResetting()) {
+            return;
+        }
         setErrorMessage("");
         testStatistic = calcT(rValue, size);
         measure = calcD(rValue);
-        // Lower, upper non-centrality parameters
-        final double alpha = 1 - confidence;
         try {
-            lowerNc = ConfIntNct.findNonCentrality(testStatistic, df,
-                    1 - (alpha * 0.5));
-            upperNc = ConfIntNct.findNonCentrality(testStatistic, df, alpha * 0.5);
-        } catch (ArithmeticException ex) {
+            interval = intervalEntry.get();
+        } catch (ArithmeticException | IllegalArgumentException ex) {
             setErrorMessage(ex.getLocalizedMessage());
+            interval = null;
+            lowerNc = Double.NaN;
+            upperNc = Double.NaN;
+            lowerMeasure = Double.NaN;
+            upperMeasure = Double.NaN;
             doStateChanged();
             return;
         }
-        // Lower, upper Cohen's d
-        //lowerMeasure = lowerNc / Math.sqrt(size);
-        //upperMeasure = upperNc / Math.sqrt(size);
-        lowerMeasure = 2 * lowerNc / Math.sqrt(df);
-        upperMeasure = 2 * upperNc / Math.sqrt(df);
-        // PDF curves
-        lowerPdf = ConfIntNct.createPdf(testStatistic, df, lowerNc, lowerNc, upperNc);
-        upperPdf = ConfIntNct.createPdf(testStatistic, df, upperNc, lowerNc, upperNc);
+        lowerNc = interval.getLowerNc();
+        upperNc = interval.getUpperNc();
+        lowerMeasure = interval.getLowerMeasure();
+        upperMeasure = interval.getUpperMeasure();
         doStateChanged();
     }
 
+    /**
+     * Solve the confidence interval from the inputs.
+     *
+     * @return interval
+     */
+    private NcInterval solveInterval() {
+        return EffectSizes.cohenDR(rValue, size, confidence);
+    }
+
     // *************************************************************************
     // PROTECTED STATIC METHODS
     // *************************************************************************
@@ -135,6 +162,16 @@ public final class CohenDR extends AbstractNonCentralTest {
         return df + 2;
     }
     
+    // *************************************************************************
+    // PROTECTED METHODS
+    // *************************************************************************
+    @Override
+    protected void setDefaults() {
+        setSize(0);
+        setRValue(0);
+        setConfidence(0.95);
+    }
+
     // *************************************************************************
     // PUBLIC METHODS
     // *************************************************************************
@@ -160,9 +197,15 @@ public final class CohenDR extends AbstractNonCentralTest {
 
     @Override
     public void reset() {
-        setSize(0);
-        setRValue(0);
-        setConfidence(0.95);
+        beginUpdate();
+        try {
+            setResetting(true);
+            setDefaults();
+            setResetting(false);
+            calculate();
+        } finally {
+            endUpdate();
+        }
     }
 
     // *************************************************************************
@@ -185,6 +228,7 @@ public final class CohenDR extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Sample Size (n)")
     @IndexAnnotation(value = 2)
+    @StepAnnotation(value = 1)
     @DescriptionAnnotation(value = "Size of the sample. If this value is "
             + "entered, the degrees of freedom will be automatically derived.")
     public double getSize() {
@@ -200,6 +244,7 @@ public final class CohenDR extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Sample Deg Free (df)")
     @IndexAnnotation(value = 3)
+    @StepAnnotation(value = 1)
     @DescriptionAnnotation(value = "Degrees of freedom of the sample. If "
             + "this value is entered, the sample size will be automatically "
             + "derived.")
@@ -216,6 +261,7 @@ public final class CohenDR extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Confidence (1 - " + Constants.ALPHA_LOWER + ")")
     @IndexAnnotation(value = 4)
+    @StepAnnotation(value = 0.001)
     @DescriptionAnnotation(value = "Confidence interval expressed as a "
             + "percentage in the range 0...1.")
     @Override
@@ -298,9 +344,14 @@ public final class CohenDR extends AbstractNonCentralTest {
         return lowerNc;
     }
 
+    @Override
+    public NcInterval getInterval() {
+        return interval;
+    }
+
     @Override
     public double[][] getLowerPdf() {
-        return lowerPdf;
+        return interval == null ? null : interval.getLowerPdf();
     }
 
     @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
@@ -316,6 +367,6 @@ public final class CohenDR extends AbstractNonCentralTest {
 
     @Override
     public double[][] getUpperPdf() {
-        return upperPdf;
+        return interval == null ? null : interval.getUpperPdf();
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import edu.missouristate.mote.propertygrid.CategoryAnnotation;
 import edu.missouristate.mote.propertygrid.DescriptionAnnotation;
 import edu.missouristate.mote.propertygrid.IndexAnnotation;
 import edu.missouristate.mote.propertygrid.NameAnnotation;
+import edu.missouristate.mote.propertygrid.StepAnnotation;
 
 /**
  * Cohen's d, single sample t test.
@@ -32,15 +33,36 @@ public final class CohenDSst extends AbstractNonCentralTest {
     private transient boolean fixedSD;
     private transient double lowerMeasure;
     private transient double lowerNc;
-    private transient double[][] lowerPdf;
+    private transient NcInterval interval;
     private transient double upperMeasure;
     private transient double upperNc;
-    private transient double[][] upperPdf;
     /**
      * True if d should be calculated from inputs; false if from t
      */
     private transient boolean useInputs;
 
+    // *************************************************************************
+    // CACHED RESULTS
+    // *************************************************************************
+    // Interval, solved again only when its inputs change
+    private final transient ResultCache.Entry<NcInterval> intervalEntry =
+            new ResultCache.Entry<NcInterval>(getResultCache()) {
+                @Override
+                protected double[] getKey() {
+                    if (useInputs) {
+                        return new double[]{1, sampleMean, populationMean,
+                                sampleStdDev, sampleSize, confidence};
+                    }
+                    return new double[]{0, testStatistic, sampleSize,
+                            confidence};
+                }
+
+                @Override
+                protected NcInterval compute() {
+                    return solveInterval();
+                }
+            };
+
     // *************************************************************************
     // CONSTRUCTORS
     // *************************************************************************
@@ -73,9 +95,9 @@ public final class CohenDSst extends AbstractNonCentralTest {
      * @param sampleMean sample mean
      * @param populationMean population mean
      * @param sampleStdDev sample standard deviation
-     * @return d value
+     * @return d value; zero if the standard deviation is zero
      */
-    private static double calcD(final double sampleMean,
+    static double calcD(final double sampleMean,
             final double populationMean, final double sampleStdDev) {
         double result = 0.0;
         if (sampleStdDev != 0) {
@@ -90,9 +112,9 @@ public final class CohenDSst extends AbstractNonCentralTest {
      * @param sampleMean sample mean
      * @param populationMean population mean
      * @param sampleStdErr sample standard error
-     * @return t value
+     * @return t value; zero if the standard error is zero
      */
-    private static double calcT(final double sampleMean,
+    static double calcT(final double sampleMean,
             final double populationMean, final double sampleStdErr) {
         double result = 0.0;
         if (sampleStdErr != 0) {
@@ -105,6 +127,9 @@ public final class CohenDSst extends AbstractNonCentralTest {
      * Calculate the effect size.
      */
     private void calculate() {
+        if (isResetting()) {
+            return;
+        }
         setErrorMessage("");
         if (useInputs) {
             testStatistic = calcT(sampleMean, populationMean, sampleStdErr);
@@ -112,29 +137,53 @@ public final class CohenDSst extends AbstractNonCentralTest {
         } else {
             measure = testStatistic / Math.sqrt(sampleSize);
         }
-        // Lower, upper non-centrality parameters
-        final double alpha = 1 - confidence;
         try {
-            lowerNc = ConfIntNct.findNonCentrality(testStatistic, sampleDf,
-                    1 - (alpha * 0.5));
-            upperNc = ConfIntNct.findNonCentrality(testStatistic, sampleDf,
-                    alpha * 0.5);
-        } catch (ArithmeticException ex) {
+            interval = intervalEntry.get();
+        } catch (ArithmeticException | IllegalArgumentException ex) {
             setErrorMessage(ex.getLocalizedMessage());
+            interval = null;
+            lowerNc = Double.NaN;
+            upperNc = Double.NaN;
+            lowerMeasure = Double.NaN;
+            upperMeasure = Double.NaN;
             doStateChanged();
             return;
         }
-        // Lower, upper Cohen's d
-        lowerMeasure = lowerNc / Math.sqrt(sampleSize);
-        upperMeasure = upperNc / Math.sqrt(sampleSize);
-        // PDF curves
-        lowerPdf = ConfIntNct.createPdf(testStatistic, sampleDf, lowerNc, lowerNc,
-                upperNc);
-        upperPdf = ConfIntNct.createPdf(testStatistic, sampleDf, upperNc, lowerNc,
-                upperNc);
+        lowerNc = interval.getLowerNc();
+        upperNc = interval.getUpperNc();
+        lowerMeasure = interval.getLowerMeasure();
+        upperMeasure = interval.getUpperMeasure();
         doStateChanged();
     }
 
+    /**
+     * Solve the confidence interval from the inputs.
+     *
+     * @return interval
+     */
+    private NcInterval solveInterval() {
+        return useInputs
+                ? EffectSizes.cohenDSst(new OneSampleSummary(sampleMean,
+                        populationMean, sampleStdDev, sampleSize),
+                        confidence)
+                : EffectSizes.cohenDSst(testStatistic, sampleSize,
+                        confidence);
+    }
+
+    // *************************************************************************
+    // PROTECTED METHODS
+    // *************************************************************************
+    @Override
+    protected void setDefaults() {
+        fixedSD = true;
+        useInputs = true;
+        setSampleSize(0);
+        setSampleMean(0);
+        setPopulationMean(0);
+        setSampleStdDev(0);
+        setConfidence(0.95);
+    }
+
     // *************************************************************************
     // PUBLIC METHODS
     // *************************************************************************
@@ -160,13 +209,15 @@ public final class CohenDSst extends AbstractNonCentralTest {
 
     @Override
     public void reset() {
-        fixedSD = true;
-        useInputs = true;
-        setSampleSize(0);
-        setSampleMean(0);
-        setPopulationMean(0);
-        setSampleStdDev(0);
-        setConfidence(0.95);
+        beginUpdate();
+        try {
+            setResetting(true);
+            setDefaults();
+            setResetting(false);
+            calculate();
+        } finally {
+            endUpdate();
+        }
     }
 
     // *************************************************************************
@@ -241,6 +292,7 @@ public final class CohenDSst extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Sample Size (n)")
     @IndexAnnotation(value = 5)
+    @StepAnnotation(value = 1)
     @DescriptionAnnotation(value = "Size of the sample. If this value is "
             + "entered, the degrees of freedom will be automatically derived.")
     public double getSampleSize() {
@@ -257,6 +309,7 @@ public final class CohenDSst extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Sample Deg Free (df)")
     @IndexAnnotation(value = 6)
+    @StepAnnotation(value = 1)
     @DescriptionAnnotation(value = "Degrees of freedom of the sample. If "
             + "this value is entered, the sample size will be automatically "
             + "derived.")
@@ -296,6 +349,7 @@ public final class CohenDSst extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Confidence (1 - " + Constants.ALPHA_LOWER + ")")
     @IndexAnnotation(value = 8)
+    @StepAnnotation(value = 0.001)
     @DescriptionAnnotation(value = "Confidence interval expressed as a "
             + "percentage in the range 0...1.")
     @Override
@@ -357,9 +411,14 @@ public final class CohenDSst extends AbstractNonCentralTest {
         return lowerNc;
     }
 
+    @Override
+    public NcInterval getInterval() {
+        return interval;
+    }
+
     @Override
     public double[][] getLowerPdf() {
-        return lowerPdf;
+        return interval == null ? null : interval.getLowerPdf();
     }
 
     @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
@@ -375,6 +434,6 @@ public final class CohenDSst extends AbstractNonCentralTest {
 
     @Override
     public double[][] getUpperPdf() {
-        return upperPdf;
+        return interval == null ? null : interval.getUpperPdf();
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import edu.missouristate.mote.propertygrid.CategoryAnnotation;
 import edu.missouristate.mote.propertygrid.DescriptionAnnotation;
 import edu.missouristate.mote.propertygrid.IndexAnnotation;
 import edu.missouristate.mote.propertygrid.NameAnnotation;
+import edu.missouristate.mote.propertygrid.StepAnnotation;
 
 /**
  * Cohen's d, Z test.
@@ -32,13 +33,35 @@ public final class CohenDZ extends AbstractNormalTest {
      */
     private transient boolean fixedSD;
     private transient double lowerMeasure;
-    private transient double[][] pdf;
+    private transient NormalInterval interval;
     private transient double upperMeasure;
     /**
      * True if d should be calculated from inputs; false if from Z
      */
     private transient boolean useInputs;
 
+    // *************************************************************************
+    // CACHED RESULTS
+    // *************************************************************************
+    // Interval, solved again only when its inputs change
+    private final transient ResultCache.Entry<NormalInterval> intervalEntry =
+            new ResultCache.Entry<NormalInterval>(getResultCache()) {
+                @Override
+                protected double[] getKey() {
+                    if (useInputs) {
+                        return new double[]{1, sampleMean, populationMean,
+                                populationStdDev, sampleSize, confidence};
+                    }
+                    return new double[]{0, testStatistic, populationStdDev,
+                            sampleSize, confidence};
+                }
+
+                @Override
+                protected NormalInterval compute() {
+                    return solveInterval();
+                }
+            };
+
     // *************************************************************************
     // CONSTRUCTORS
     // *************************************************************************
@@ -71,9 +94,9 @@ public final class CohenDZ extends AbstractNormalTest {
      * @param sampleMean sample mean
      * @param populationMean population mean
      * @param populationStdDev population standard deviation
-     * @return d value
+     * @return d value; zero if the standard deviation is zero
      */
-    private static double calcD(final double sampleMean,
+    static double calcD(final double sampleMean,
             final double populationMean, final double populationStdDev) {
         double result;
         if (populationStdDev != 0) {
@@ -90,9 +113,9 @@ public final class CohenDZ extends AbstractNormalTest {
      * @param sampleMean sample mean
      * @param populationMean population mean
      * @param populationStdErr population standard error
-     * @return z value
+     * @return z value; zero if the standard error is zero
      */
-    private static double calcZ(final double sampleMean,
+    static double calcZ(final double sampleMean,
             final double populationMean, final double populationStdErr) {
         double result;
         if (populationStdErr != 0) {
@@ -107,23 +130,62 @@ public final class CohenDZ extends AbstractNormalTest {
      * Calculate the effect size.
      */
     private void calculate() {
+        if (isResetting()) {
+            return;
+        }
+        setErrorMessage("");
         if (useInputs) {
-            testStatistic = calcZ(sampleMean, populationMean, populationStdErr);
+            testStatistic = calcZ(sampleMean, populationMean,
+                    populationStdErr);
             measure = calcD(sampleMean, populationMean, populationStdDev);
         } else {
             measure = testStatistic / Math.sqrt(sampleSize);
         }
-        // Standard deviations
-        final double alpha = 1 - confidence;
-        deviations = ConfIntNormal.findX(1 - (alpha * 0.5));
-        // Lower, upper Cohen's d
-        lowerMeasure = measure - deviations * populationStdDev;
-        upperMeasure = measure + deviations * populationStdDev;
-        // PDF
-        pdf = ConfIntNormal.createPdf();
+        try {
+            interval = intervalEntry.get();
+        } catch (IllegalArgumentException ex) {
+            setErrorMessage(ex.getLocalizedMessage());
+            interval = null;
+            deviations = Double.NaN;
+            lowerMeasure = Double.NaN;
+            upperMeasure = Double.NaN;
+            doStateChanged();
+            return;
+        }
+        deviations = interval.getDeviations();
+        lowerMeasure = interval.getLowerMeasure();
+        upperMeasure = interval.getUpperMeasure();
         doStateChanged();
     }
 
+    /**
+     * Solve the confidence interval from the inputs.
+     *
+     * @return interval
+     */
+    private NormalInterval solveInterval() {
+        return useInputs
+                ? EffectSizes.cohenDZ(new OneSampleSummary(sampleMean,
+                        populationMean, populationStdDev, sampleSize),
+                        confidence)
+                : EffectSizes.cohenDZ(testStatistic, populationStdDev,
+                        sampleSize, confidence);
+    }
+
+    // *************************************************************************
+    // PROTECTED METHODS
+    // *************************************************************************
+    @Override
+    protected void setDefaults() {
+        fixedSD = true;
+        useInputs = true;
+        setSampleSize(0);
+        setSampleMean(0);
+        setPopulationMean(0);
+        setPopulationStdDev(0);
+        setConfidence(0.95);
+    }
+
     // *************************************************************************
     // PUBLIC METHODS
     // *************************************************************************
@@ -149,13 +211,15 @@ public final class CohenDZ extends AbstractNormalTest {
 
     @Override
     public void reset() {
-        fixedSD = true;
-        useInputs = true;
-        setSampleSize(0);
-        setSampleMean(0);
-        setPopulationMean(0);
-        setPopulationStdDev(0);
-        setConfidence(0.95);
+        beginUpdate();
+        try {
+            setResetting(true);
+            setDefaults();
+            setResetting(false);
+            calculate();
+        } finally {
+            endUpdate();
+        }
     }
 
     // *************************************************************************
@@ -228,6 +292,7 @@ public final class CohenDZ extends AbstractNormalTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Sample Size (n)")
     @IndexAnnotation(value = 5)
+    @StepAnnotation(value = 1)
     @DescriptionAnnotation(value = "Size of the sample. If this value is "
             + "entered, the degrees of freedom will be automatically derived.")
     public double getSampleSize() {
@@ -244,6 +309,7 @@ public final class CohenDZ extends AbstractNormalTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Sample Deg Free (df)")
     @IndexAnnotation(value = 6)
+    @StepAnnotation(value = 1)
     @DescriptionAnnotation(value = "Degrees of freedom of the sample. If "
             + "this value is entered, the sample size will be automatically "
             + "derived.")
@@ -280,6 +346,7 @@ public final class CohenDZ extends AbstractNormalTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Confidence (1 - " + Constants.ALPHA_LOWER + ")")
     @IndexAnnotation(value = 8)
+    @StepAnnotation(value = 0.001)
     @DescriptionAnnotation(value = "Confidence interval expressed as a "
             + "percentage in the range 0...1.")
     @Override
@@ -342,6 +409,6 @@ public final class CohenDZ extends AbstractNormalTest {
 
     @Override
     public double[][] getPdf() {
-        return pdf;
+        return interval == null ? null : interval.getPdf();
     }
 }
\ No newline at end of file
@@ -133,15 +133,42 @@ public final class ConfIntNcf {
     public static double[][] createPdf(final double fValue, final double df1,
             final double df2, final double nc, final double lowerNc,
             final double upperNc) {
+        return createPdf(fValue, df1, df2, nc, lowerNc, upperNc,
+                Integer.MAX_VALUE);
+    }
+
+    /**
+     * Return the PDF curve of createPdf(fValue, df1, df2, nc, lowerNc,
+     * upperNc) with at most maxPoints points. If the curve would have more
+     * points, the F increment is widened so that maxPoints points cover the
+     * same range.
+     *
+     * @param fValue F value
+     * @param df1 numerator degrees of freedom
+     * @param df2 denominator degrees of freedom
+     * @param nc non-centrality parameter
+     * @param lowerNc lower confidence interval non-centrality parameter
+     * @param upperNc upper confidence interval non-centrality parameter
+     * @param maxPoints maximum number of points, at least 2
+     * @return two-dimensional array holding the PDF
+     */
+    public static double[][] createPdf(final double fValue, final double df1,
+            final double df2, final double nc, final double lowerNc,
+            final double upperNc, final int maxPoints) {
         // Find the correct upper boundary for F
         final double upperFa = findUpperPdfF(df1, df2, upperNc);
         final double width = upperNc - lowerNc;
         final double upperF = Math.max(upperFa, fValue + width);
         // Create the PDF curve
-        final int size = (int) (upperF / Constants.F_STEP) + 1;
+        int size = (int) (upperF / Constants.F_STEP) + 1;
+        double step = Constants.F_STEP;
+        if (size > maxPoints) {
+            size = maxPoints;
+            step = upperF / (maxPoints - 1);
+        }
         final double[][] result = new double[2][size];
         for (int index = 0; index < size; index++) {
-            result[0][index] = index * Constants.F_STEP;
+            result[0][index] = index * step;
             result[1][index] = FDist.pdf(result[0][index], df1, df2, nc);
         }
         return result;
@@ -179,4 +206,95 @@ public final class ConfIntNcf {
         }
         return result;
     }
+
+    /**
+     * Find the non-centrality parameter that is within PRECISION of the target
+     * cumulative probability on the CDF for the specified F, starting the
+     * search from a nearby guess (typically the solution for a neighbouring
+     * F, df or target). The guess is bracketed by a small expanding step and
+     * the bracket is closed with an Illinois false-position search. If the
+     * guess is not finite, is not positive or cannot be bracketed above zero,
+     * the cold search is used instead so that the truncated lower bound keeps
+     * its usual value.
+     *
+     * @param fValue F
+     * @param df1 numerator degrees of freedom
+     * @param df2 denominator degrees of freedom
+     * @param target target probability
+     * @param guess initial guess for the non-centrality parameter
+     * @return non-centrality parameter
+     */
+    public static double findNonCentrality(final double fValue,
+            final double df1, final double df2, final double target,
+            final double guess) {
+        if (!(guess > 0) || Double.isInfinite(guess)) {
+            return findNonCentrality(fValue, df1, df2, target);
+        }
+        double prob = FDist.cdf(fValue, df1, df2, guess);
+        if (Math.abs(prob - target) <= Constants.PRECISION) {
+            return guess;
+        }
+        // Bracket the root; the CDF decreases as the non-centrality increases
+        double step = Math.max(Constants.NC_WARM_STEP,
+                guess * Constants.NC_WARM_STEP);
+        double lowerNc = guess, upperNc = guess;
+        double lowerProb = prob, upperProb = prob;
+        int count = 0;
+        if (prob > target) {
+            do {
+                lowerNc = upperNc;
+                lowerProb = upperProb;
+                upperNc += step;
+                upperProb = FDist.cdf(fValue, df1, df2, upperNc);
+                step *= 2;
+                count++;
+            } while (upperProb > target && count < Constants.NC_MAX_ITER);
+        } else {
+            do {
+                upperNc = lowerNc;
+                upperProb = lowerProb;
+                lowerNc = Math.max(0, lowerNc - step);
+                lowerProb = FDist.cdf(fValue, df1, df2, lowerNc);
+                step *= 2;
+                count++;
+            } while (lowerProb < target && lowerNc > 0
+                    && count < Constants.NC_MAX_ITER);
+        }
+        if (lowerProb < target || upperProb > target) {
+            return findNonCentrality(fValue, df1, df2, target);
+        }
+        // Illinois false position on the bracket
+        double result = guess;
+        int side = 0;
+        count = 0;
+        double error = Double.MAX_VALUE;
+        while (error > Constants.PRECISION && count < Constants.NC_MAX_ITER) {
+            final double lowerErr = lowerProb - target;
+            final double upperErr = upperProb - target;
+            result = (lowerNc * upperErr - upperNc * lowerErr)
+                    / (upperErr - lowerErr);
+            if (!(result > lowerNc && result < upperNc)) {
+                result = (lowerNc + upperNc) * 0.5;
+            }
+            prob = FDist.cdf(fValue, df1, df2, result);
+            error = Math.abs(prob - target);
+            if (prob > target) {
+                lowerNc = result;
+                lowerProb = prob;
+                if (side == -1) {
+                    upperProb = target + (upperProb - target) * 0.5;
+                }
+                side = -1;
+            } else {
+                upperNc = result;
+                upperProb = prob;
+                if (side == 1) {
+                    lowerProb = target + (lowerProb - target) * 0.5;
+                }
+                side = 1;
+            }
+            count++;
+        }
+        return result;
+    }
 }
@@ -0,0 +1,204 @@
+package edu.missouristate.mote.effectsizes;
+
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.statistics.NoncentralHypergeometric;
+
+/**
+ * Provide methods for the exact conditional (Cornfield) confidence interval
+ * and the conditional maximum likelihood estimate of an odds ratio, using
+ * Fisher's non-central hypergeometric distribution. Every search works on
+ * the log odds ratio: a bracket is grown outward from a starting guess and
+ * closed with an Illinois false-position search.
+ */
+public final class ConfIntNchg {
+
+    // *************************************************************************
+    // CONSTRUCTOR
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a ConfIntNchg.
+     */
+    private ConfIntNchg() {
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Find the log odds ratio at which an increasing function reaches a
+     * target.
+     *
+     * @param function function of the log odds ratio
+     * @param target target value
+     * @param guess starting log odds ratio
+     * @param tolerance allowed difference from the target
+     * @return log odds ratio
+     * @exception ArithmeticException if the root cannot be bracketed
+     */
+    private static double solve(final Function function, final double target,
+            final double guess, final double tolerance) {
+        double value = function.eval(guess);
+        if (Math.abs(value - target) <= tolerance) {
+            return guess;
+        }
+        // Bracket the root
+        double step = 1;
+        double lowerLog = guess, upperLog = guess;
+        double lowerValue = value, upperValue = value;
+        int count = 0;
+        if (value < target) {
+            do {
+                lowerLog = upperLog;
+                lowerValue = upperValue;
+                upperLog += step;
+                upperValue = function.eval(upperLog);
+                step *= 2;
+                count++;
+            } while (upperValue < target && count < Constants.NC_MAX_ITER);
+        } else {
+            do {
+                upperLog = lowerLog;
+                upperValue = lowerValue;
+                lowerLog -= step;
+                lowerValue = function.eval(lowerLog);
+                step *= 2;
+                count++;
+            } while (lowerValue > target && count < Constants.NC_MAX_ITER);
+        }
+        if (lowerValue > target || upperValue < target) {
+            throw new ArithmeticException("odds ratio limit not bracketed");
+        }
+        // Illinois false position on the bracket
+        double result = guess;
+        int side = 0;
+        count = 0;
+        double error = Double.MAX_VALUE;
+        while (error > tolerance && upperLog - lowerLog > Constants.PRECISION
+                && count < Constants.NC_MAX_ITER) {
+            final double lowerErr = lowerValue - target;
+            final double upperErr = upperValue - target;
+            result = (lowerLog * upperErr - upperLog * lowerErr)
+                    / (upperErr - lowerErr);
+            if (!(result > lowerLog && result < upperLog)) {
+                result = (lowerLog + upperLog) * 0.5;
+            }
+            value = function.eval(result);
+            error = Math.abs(value - target);
+            if (value < target) {
+                lowerLog = result;
+                lowerValue = value;
+                if (side == -1) {
+                    upperValue = target + (upperValue - target) * 0.5;
+                }
+                side = -1;
+            } else {
+                upperLog = result;
+                upperValue = value;
+                if (side == 1) {
+                    lowerValue = target + (lowerValue - target) * 0.5;
+                }
+                side = 1;
+            }
+            count++;
+        }
+        return result;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the lower confidence limit of the odds ratio: the odds ratio at
+     * which P(X &gt;= x) is the target, or zero if x is the smallest possible
+     * count.
+     *
+     * @param dist distribution of the table given its margins
+     * @param xValue observed top-left count
+     * @param target target probability, alpha / 2
+     * @param guess starting log odds ratio
+     * @return lower limit
+     */
+    public static double findLowerLimit(final NoncentralHypergeometric dist,
+            final int xValue, final double target, final double guess) {
+        if (xValue <= dist.getLower()) {
+            return 0;
+        }
+        return Math.exp(solve(new Function() {
+            @Override
+            public double eval(final double logOdds) {
+                return dist.sf(xValue, logOdds);
+            }
+        }, target, guess, Constants.PRECISION * target));
+    }
+
+    /**
+     * Return the upper confidence limit of the odds ratio: the odds ratio at
+     * which P(X &lt;= x) is the target, or infinity if x is the largest
+     * possible count.
+     *
+     * @param dist distribution of the table given its margins
+     * @param xValue observed top-left count
+     * @param target target probability, alpha / 2
+     * @param guess starting log odds ratio
+     * @return upper limit
+     */
+    public static double findUpperLimit(final NoncentralHypergeometric dist,
+            final int xValue, final double target, final double guess) {
+        if (xValue >= dist.getUpper()) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return Math.exp(solve(new Function() {
+            @Override
+            public double eval(final double logOdds) {
+                return -dist.cdf(xValue, logOdds);
+            }
+        }, -target, guess, Constants.PRECISION * target));
+    }
+
+    /**
+     * Return the conditional maximum likelihood estimate of the odds ratio:
+     * the odds ratio at which the mean count is the observed count.
+     *
+     * @param dist distribution of the table given its margins
+     * @param xValue observed top-left count
+     * @param guess starting log odds ratio
+     * @return estimate; zero or infinity at the ends of the support and NaN
+     * if the support is a single count
+     */
+    public static double findConditionalMle(
+            final NoncentralHypergeometric dist, final int xValue,
+            final double guess) {
+        if (dist.getLower() == dist.getUpper()) {
+            return Double.NaN;
+        }
+        if (xValue <= dist.getLower()) {
+            return 0;
+        }
+        if (xValue >= dist.getUpper()) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return Math.exp(solve(new Function() {
+            @Override
+            public double eval(final double logOdds) {
+                return dist.mean(logOdds);
+            }
+        }, xValue, guess, Constants.PRECISION));
+    }
+
+    // *************************************************************************
+    // INNER CLASSES
+    // *************************************************************************
+    /**
+     * Function of the log odds ratio.
+     */
+    private interface Function {
+
+        /**
+         * Evaluate the function.
+         *
+         * @param logOdds log odds ratio
+         * @return value
+         */
+        double eval(double logOdds);
+    }
+}
@@ -1,6 +1,7 @@
 package edu.missouristate.mote.effectsizes;
 
 import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.statistics.NctKernel;
 import edu.missouristate.mote.statistics.TDist;
 
 /**
@@ -25,19 +26,18 @@ public final class ConfIntNct {
      * Find an initial value for the non-centrality parameter that is used to
      * create a lower bound for the binary search.
      *
-     * @param tValue t value
-     * @param df degrees of freedom
+     * @param kernel CDF kernel for the t value and degrees of freedom
      * @param target target probability
      * @return non-centrality parameter
      */
-    private static double estimateLowerNc(final double tValue, final double df,
+    private static double estimateLowerNc(final NctKernel kernel,
             final double target) {
         double result = -1;
-        double prob = TDist.cdf(tValue, df, result);
+        double prob = kernel.cdf(result);
         int count = 0;
         while (prob < target && count < Constants.NC_MAX_ITER) {
             result *= 2;
-            prob = TDist.cdf(tValue, df, result);
+            prob = kernel.cdf(result);
             count++;
         }
         return result;
@@ -47,19 +47,18 @@ public final class ConfIntNct {
      * Find an initial value for the non-centrality parameter that is used to
      * create an upper bound for the binary search.
      *
-     * @param tValue t value
-     * @param df degrees of freedom
+     * @param kernel CDF kernel for the t value and degrees of freedom
      * @param target target probability
      * @return non-centrality parameter
      */
-    private static double estimateUpperNc(final double tValue, final double df,
+    private static double estimateUpperNc(final NctKernel kernel,
             final double target) {
         double result = 1;
-        double prob = TDist.cdf(tValue, df, result);
+        double prob = kernel.cdf(result);
         int count = 0;
         while (prob > target && count < Constants.NC_MAX_ITER) {
             result *= 2;
-            prob = TDist.cdf(tValue, df, result);
+            prob = kernel.cdf(result);
             count++;
         }
         return result;
@@ -130,16 +129,41 @@ public final class ConfIntNct {
      */
     public static double[][] createPdf(final double tValue, final double df,
             final double nc, final double lowerNc, final double upperNc) {
+        return createPdf(tValue, df, nc, lowerNc, upperNc, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Return the PDF curve of createPdf(tValue, df, nc, lowerNc, upperNc)
+     * with at most maxPoints points. If the curve would have more points,
+     * the t increment is widened so that maxPoints points cover the same
+     * range.
+     *
+     * @param tValue t value
+     * @param df degrees of freedom
+     * @param nc non-centrality parameter
+     * @param lowerNc lower confidence interval non-centrality parameter
+     * @param upperNc upper confidence interval non-centrality parameter
+     * @param maxPoints maximum number of points, at least 2
+     * @return two-dimensional array holding the PDF
+     */
+    public static double[][] createPdf(final double tValue, final double df,
+            final double nc, final double lowerNc, final double upperNc,
+            final int maxPoints) {
         // Find the correct upper/lower boundaries for t
         final double lowerT = findPdfBoundary(findPdfMax(df, lowerNc), df, nc,
                 -Constants.T_STEP);
         final double upperT = findPdfBoundary(findPdfMax(df, upperNc), df, nc,
                 Constants.T_STEP);
         // Create the PDF curve
-        final int size = (int) ((upperT - lowerT) / Constants.T_STEP) + 1;
+        int size = (int) ((upperT - lowerT) / Constants.T_STEP) + 1;
+        double step = Constants.T_STEP;
+        if (size > maxPoints) {
+            size = maxPoints;
+            step = (upperT - lowerT) / (maxPoints - 1);
+        }
         final double[][] result = new double[2][size];
         for (int index = 0; index < size; index++) {
-            result[0][index] = lowerT + index * Constants.T_STEP;
+            result[0][index] = lowerT + index * step;
             result[1][index] = TDist.pdf(result[0][index], df, nc);
         }
         return result;
@@ -156,10 +180,24 @@ public final class ConfIntNct {
      */
     public static double findNonCentrality(final double tValue, final double df,
             final double target) {
-        double lowerNc = estimateLowerNc(tValue, df, target);
-        double upperNc = estimateUpperNc(tValue, df, target);
+        return findNonCentrality(new NctKernel(tValue, df), target);
+    }
+
+    /**
+     * Find the non-centrality parameter that is within PRECISION of the target
+     * cumulative probability on the CDF of a kernel. Reusing one kernel for
+     * both limits of an interval shares its incomplete beta terms.
+     *
+     * @param kernel CDF kernel for the t value and degrees of freedom
+     * @param target target probability
+     * @return Non-centrality parameter
+     */
+    public static double findNonCentrality(final NctKernel kernel,
+            final double target) {
+        double lowerNc = estimateLowerNc(kernel, target);
+        double upperNc = estimateUpperNc(kernel, target);
         double result = (lowerNc + upperNc) * 0.5;
-        double prob = TDist.cdf(tValue, df, result);
+        double prob = kernel.cdf(result);
         int count = 0;
         double error = Math.abs(prob - target);
         while (error > Constants.PRECISION && count < Constants.NC_MAX_ITER) {
@@ -170,10 +208,112 @@ public final class ConfIntNct {
                 lowerNc = result;
                 result = (upperNc + result) / 2;
             }
-            prob = TDist.cdf(tValue, df, result);
+            prob = kernel.cdf(result);
+            error = Math.abs(prob - target);
+            count++;
+        }
+        return result;
+    }
+
+    /**
+     * Find the non-centrality parameter that is within PRECISION of the target
+     * cumulative probability on the CDF for the specified t, starting the
+     * search from a nearby guess (typically the solution for a neighbouring
+     * t, df or target). The guess is bracketed by a small expanding step and
+     * the bracket is closed with an Illinois false-position search, which
+     * needs far fewer CDF evaluations than a cold bisection. If the guess is
+     * not finite or cannot be bracketed, the cold search is used instead.
+     *
+     * @param tValue t
+     * @param df degrees of freedom
+     * @param target target probability
+     * @param guess initial guess for the non-centrality parameter
+     * @return Non-centrality parameter
+     */
+    public static double findNonCentrality(final double tValue, final double df,
+            final double target, final double guess) {
+        return findNonCentrality(new NctKernel(tValue, df), target, guess);
+    }
+
+    /**
+     * Find the non-centrality parameter that is within PRECISION of the target
+     * cumulative probability on the CDF of a kernel, starting the search from
+     * a nearby guess.
+     *
+     * @param kernel CDF kernel for the t value and degrees of freedom
+     * @param target target probability
+     * @param guess initial guess for the non-centrality parameter
+     * @return Non-centrality parameter
+     */
+    public static double findNonCentrality(final NctKernel kernel,
+            final double target, final double guess) {
+        if (Double.isNaN(guess) || Double.isInfinite(guess)) {
+            return findNonCentrality(kernel, target);
+        }
+        double prob = kernel.cdf(guess);
+        if (Math.abs(prob - target) <= Constants.PRECISION) {
+            return guess;
+        }
+        // Bracket the root; the CDF decreases as the non-centrality increases
+        double step = Math.max(Constants.NC_WARM_STEP,
+                Math.abs(guess) * Constants.NC_WARM_STEP);
+        double lowerNc = guess, upperNc = guess;
+        double lowerProb = prob, upperProb = prob;
+        int count = 0;
+        if (prob > target) {
+            do {
+                lowerNc = upperNc;
+                lowerProb = upperProb;
+                upperNc += step;
+                upperProb = kernel.cdf(upperNc);
+                step *= 2;
+                count++;
+            } while (upperProb > target && count < Constants.NC_MAX_ITER);
+        } else {
+            do {
+                upperNc = lowerNc;
+                upperProb = lowerProb;
+                lowerNc -= step;
+                lowerProb = kernel.cdf(lowerNc);
+                step *= 2;
+                count++;
+            } while (lowerProb < target && count < Constants.NC_MAX_ITER);
+        }
+        if (lowerProb < target || upperProb > target) {
+            return findNonCentrality(kernel, target);
+        }
+        // Illinois false position on the bracket
+        double result = guess;
+        int side = 0;
+        count = 0;
+        double error = Double.MAX_VALUE;
+        while (error > Constants.PRECISION && count < Constants.NC_MAX_ITER) {
+            final double lowerErr = lowerProb - target;
+            final double upperErr = upperProb - target;
+            result = (lowerNc * upperErr - upperNc * lowerErr)
+                    / (upperErr - lowerErr);
+            if (!(result > lowerNc && result < upperNc)) {
+                result = (lowerNc + upperNc) * 0.5;
+            }
+            prob = kernel.cdf(result);
             error = Math.abs(prob - target);
+            if (prob > target) {
+                lowerNc = result;
+                lowerProb = prob;
+                if (side == -1) {
+                    upperProb = target + (upperProb - target) * 0.5;
+                }
+                side = -1;
+            } else {
+                upperNc = result;
+                upperProb = prob;
+                if (side == 1) {
+                    lowerProb = target + (lowerProb - target) * 0.5;
+                }
+                side = 1;
+            }
             count++;
         }
         return result;
     }
-}
\ No newline at end of file
+}
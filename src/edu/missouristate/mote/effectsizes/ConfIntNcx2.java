@@ -0,0 +1,192 @@
+package edu.missouristate.mote.effectsizes;
+
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.statistics.ChiSquareDist;
+
+/**
+ * Provide methods for calculating effect sizes using the non-central
+ * chi-square distribution.
+ */
+public final class ConfIntNcx2 {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Standard deviations beyond the interval shown on the PDF curve
+    private static final double PDF_DEVIATIONS = 4;
+
+    // *************************************************************************
+    // CONSTRUCTOR
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a ConfIntNcx2.
+     */
+    private ConfIntNcx2() {
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return a two-dimensional array representing the probability density
+     * function for the non-central chi-square distribution. The x values are
+     * in array[0][0..n] and the y values in array[1][0..n]. The curve covers
+     * the chi-square value and PDF_DEVIATIONS standard deviations on either
+     * side of the means at the two confidence limits.
+     *
+     * @param chiSquare chi-square value
+     * @param df degrees of freedom
+     * @param nc non-centrality parameter
+     * @param lowerNc lower confidence interval non-centrality parameter
+     * @param upperNc upper confidence interval non-centrality parameter
+     * @return two-dimensional array holding the PDF
+     */
+    public static double[][] createPdf(final double chiSquare,
+            final double df, final double nc, final double lowerNc,
+            final double upperNc) {
+        return createPdf(chiSquare, df, nc, lowerNc, upperNc,
+                Integer.MAX_VALUE);
+    }
+
+    /**
+     * Return the PDF curve of createPdf(chiSquare, df, nc, lowerNc, upperNc)
+     * with at most maxPoints points. If the curve would have more points,
+     * the x increment is widened so that maxPoints points cover the same
+     * range.
+     *
+     * @param chiSquare chi-square value
+     * @param df degrees of freedom
+     * @param nc non-centrality parameter
+     * @param lowerNc lower confidence interval non-centrality parameter
+     * @param upperNc upper confidence interval non-centrality parameter
+     * @param maxPoints maximum number of points, at least 2
+     * @return two-dimensional array holding the PDF
+     */
+    public static double[][] createPdf(final double chiSquare,
+            final double df, final double nc, final double lowerNc,
+            final double upperNc, final int maxPoints) {
+        final double lowerX = Math.max(0, Math.min(chiSquare, df + lowerNc
+                - PDF_DEVIATIONS * Math.sqrt(2 * (df + 2 * lowerNc))));
+        final double upperX = Math.max(chiSquare, df + upperNc
+                + PDF_DEVIATIONS * Math.sqrt(2 * (df + 2 * upperNc)));
+        int size = (int) ((upperX - lowerX) / Constants.X_STEP) + 1;
+        double step = Constants.X_STEP;
+        if (size > maxPoints) {
+            size = maxPoints;
+            step = (upperX - lowerX) / (maxPoints - 1);
+        }
+        final double[][] result = new double[2][size];
+        for (int index = 0; index < size; index++) {
+            result[0][index] = lowerX + index * step;
+            result[1][index] = ChiSquareDist.pdf(result[0][index], df, nc);
+        }
+        return result;
+    }
+
+    /**
+     * Find the non-centrality parameter that is within PRECISION of the target
+     * cumulative probability on the CDF for the specified chi-square,
+     * starting from the moment estimate chi-square - df.
+     *
+     * @param chiSquare chi-square value
+     * @param df degrees of freedom
+     * @param target target probability
+     * @return non-centrality parameter; zero if the central distribution is
+     * already at or below the target
+     */
+    public static double findNonCentrality(final double chiSquare,
+            final double df, final double target) {
+        return findNonCentrality(chiSquare, df, target,
+                Math.max(Constants.NC_WARM_STEP, chiSquare - df));
+    }
+
+    /**
+     * Find the non-centrality parameter that is within PRECISION of the target
+     * cumulative probability on the CDF for the specified chi-square,
+     * starting the search from a nearby guess. The guess is bracketed by an
+     * expanding step and the bracket is closed with an Illinois
+     * false-position search.
+     *
+     * @param chiSquare chi-square value
+     * @param df degrees of freedom
+     * @param target target probability
+     * @param guess initial guess for the non-centrality parameter
+     * @return non-centrality parameter; zero if the central distribution is
+     * already at or below the target
+     */
+    public static double findNonCentrality(final double chiSquare,
+            final double df, final double target, final double guess) {
+        // The CDF decreases as the non-centrality increases
+        if (ChiSquareDist.cdf(chiSquare, df, 0) <= target) {
+            return 0;
+        }
+        final double start = guess > 0 && !Double.isInfinite(guess)
+                ? guess : Constants.NC_WARM_STEP;
+        double prob = ChiSquareDist.cdf(chiSquare, df, start);
+        if (Math.abs(prob - target) <= Constants.PRECISION) {
+            return start;
+        }
+        // Bracket the root
+        double step = Math.max(Constants.NC_WARM_STEP,
+                start * Constants.NC_WARM_STEP);
+        double lowerNc = start, upperNc = start;
+        double lowerProb = prob, upperProb = prob;
+        int count = 0;
+        if (prob > target) {
+            do {
+                lowerNc = upperNc;
+                lowerProb = upperProb;
+                upperNc += step;
+                upperProb = ChiSquareDist.cdf(chiSquare, df, upperNc);
+                step *= 2;
+                count++;
+            } while (upperProb > target && count < Constants.NC_MAX_ITER);
+        } else {
+            do {
+                upperNc = lowerNc;
+                upperProb = lowerProb;
+                lowerNc = Math.max(0, lowerNc - step);
+                lowerProb = ChiSquareDist.cdf(chiSquare, df, lowerNc);
+                step *= 2;
+                count++;
+            } while (lowerProb < target && lowerNc > 0
+                    && count < Constants.NC_MAX_ITER);
+        }
+        if (lowerProb < target || upperProb > target) {
+            throw new ArithmeticException("non-centrality not bracketed");
+        }
+        // Illinois false position on the bracket
+        double result = start;
+        int side = 0;
+        count = 0;
+        double error = Double.MAX_VALUE;
+        while (error > Constants.PRECISION && count < Constants.NC_MAX_ITER) {
+            final double lowerErr = lowerProb - target;
+            final double upperErr = upperProb - target;
+            result = (lowerNc * upperErr - upperNc * lowerErr)
+                    / (upperErr - lowerErr);
+            if (!(result > lowerNc && result < upperNc)) {
+                result = (lowerNc + upperNc) * 0.5;
+            }
+            prob = ChiSquareDist.cdf(chiSquare, df, result);
+            error = Math.abs(prob - target);
+            if (prob > target) {
+                lowerNc = result;
+                lowerProb = prob;
+                if (side == -1) {
+                    upperProb = target + (upperProb - target) * 0.5;
+                }
+                side = -1;
+            } else {
+                upperNc = result;
+                upperProb = prob;
+                if (side == 1) {
+                    lowerProb = target + (lowerProb - target) * 0.5;
+                }
+                side = 1;
+            }
+            count++;
+        }
+        return result;
+    }
+}
@@ -17,43 +17,6 @@ public final class ConfIntNormal {
     private ConfIntNormal() {
     }
 
-    // *************************************************************************
-    // PRIVATE METHODS
-    // *************************************************************************
-    /**
-     * Find an initial value for x that is used to create a lower bound for the
-     * binary search.
-     *
-     * @param target target probability
-     * @return x value
-     */
-    private static double estimateLowerX(final double target) {
-        double result = 0;
-        double actual = NormalDist.cdf(result);
-        while (actual > target) {
-            result -= 1;
-            actual = NormalDist.cdf(result);
-        }
-        return result;
-    }
-
-    /**
-     * Find an initial value for x that is used to create an upper bound for the
-     * binary search.
-     *
-     * @param target target probability
-     * @return x value
-     */
-    private static double estimateUpperX(final double target) {
-        double result = 0;
-        double actual = 1 - NormalDist.cdf(result);
-        while (actual < target) {
-            result += 1;
-            actual = NormalDist.cdf(result);
-        }
-        return result;
-    }
-
     // *************************************************************************
     // PUBLIC METHODS
     // *************************************************************************
@@ -76,6 +39,16 @@ public final class ConfIntNormal {
         return result;
     }
 
+    /**
+     * Return the shared standard normal PDF curve, built on first use. The
+     * curve never changes, so callers must not modify it.
+     *
+     * @return two-dimensional array holding the PDF
+     */
+    public static double[][] getPdf() {
+        return PdfHolder.PDF;
+    }
+
     /**
      * Find a value for x that is used to create a lower bound on the left edge
      * of the PDF curve.
@@ -109,26 +82,33 @@ public final class ConfIntNormal {
     }
 
     /**
-     * Find the x value that is within PRECISION of the target cumulative
-     * probability on the normal CDF.
+     * Find the x value with the target cumulative probability on the normal
+     * CDF, from NormalDist.quantile.
      *
+     * @param target target probability
      * @return x value
+     * @exception IllegalArgumentException if the target is not in the range
+     * [0, 1]
      */
     public static double findX(final double target) {
-        double lowerX = estimateLowerX(target);
-        double upperX = estimateUpperX(target);
-        double result = (lowerX + upperX) * 0.5;
-        double actual = NormalDist.cdf(result);
-        while (Math.abs(actual - target) > Constants.PRECISION) {
-            if (actual > target) {
-                upperX = result;
-                result = (lowerX + result) * 0.5;
-            } else {
-                lowerX = result;
-                result = (upperX + result) * 0.5;
-            }
-            actual = NormalDist.cdf(result);
+        return NormalDist.quantile(target);
+    }
+
+    // *************************************************************************
+    // INNER CLASSES
+    // *************************************************************************
+    /**
+     * Holder of the shared PDF curve, initialized on first use.
+     */
+    private static final class PdfHolder {
+
+        /** Standard normal PDF curve. */
+        private static final double[][] PDF = createPdf();
+
+        /**
+         * Initialize a new instance of a PdfHolder.
+         */
+        private PdfHolder() {
         }
-        return result;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,137 @@
+package edu.missouristate.mote.effectsizes;
+
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.statistics.RSquareDist;
+
+/**
+ * Provide methods for the exact confidence interval of the population
+ * squared multiple correlation with random regressors, using the sampling
+ * distribution of R^2. The search works on the logit of rho^2, so that the
+ * bracket can grow without leaving (0, 1): a bracket is grown outward from a
+ * starting guess and closed with an Illinois false-position search.
+ */
+public final class ConfIntR2 {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Smallest rho^2 used as a starting guess
+    private static final double MIN_GUESS = 0.001;
+
+    // *************************************************************************
+    // CONSTRUCTOR
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a ConfIntR2.
+     */
+    private ConfIntR2() {
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return the rho^2 of a logit.
+     *
+     * @param logit log(rho^2 / (1 - rho^2))
+     * @return rho^2
+     */
+    private static double fromLogit(final double logit) {
+        return 1 / (1 + Math.exp(-logit));
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Find the rho^2 at which P(R^2 &lt;= r^2) is within PRECISION of the
+     * target.
+     *
+     * @param rSquared observed R^2
+     * @param predictors number of predictors, k
+     * @param size sample size, N
+     * @param target target probability
+     * @param guess starting rho^2, typically the adjusted R^2
+     * @return rho^2; zero if the distribution at rho^2 = 0 is already at or
+     * below the target
+     * @exception ArithmeticException if the root cannot be bracketed
+     */
+    public static double findRhoSquared(final double rSquared,
+            final double predictors, final double size, final double target,
+            final double guess) {
+        // The CDF decreases as rho^2 increases
+        if (RSquareDist.cdf(rSquared, predictors, size, 0) <= target) {
+            return 0;
+        }
+        final double start = Math.min(1 - MIN_GUESS,
+                Math.max(MIN_GUESS, guess));
+        final double startLogit = Math.log(start / (1 - start));
+        double prob = RSquareDist.cdf(rSquared, predictors, size, start);
+        if (Math.abs(prob - target) <= Constants.PRECISION) {
+            return start;
+        }
+        // Bracket the root
+        double step = 1;
+        double lowerLogit = startLogit, upperLogit = startLogit;
+        double lowerProb = prob, upperProb = prob;
+        int count = 0;
+        if (prob > target) {
+            do {
+                lowerLogit = upperLogit;
+                lowerProb = upperProb;
+                upperLogit += step;
+                upperProb = RSquareDist.cdf(rSquared, predictors, size,
+                        fromLogit(upperLogit));
+                step *= 2;
+                count++;
+            } while (upperProb > target && count < Constants.NC_MAX_ITER);
+        } else {
+            do {
+                upperLogit = lowerLogit;
+                upperProb = lowerProb;
+                lowerLogit -= step;
+                lowerProb = RSquareDist.cdf(rSquared, predictors, size,
+                        fromLogit(lowerLogit));
+                step *= 2;
+                count++;
+            } while (lowerProb < target && count < Constants.NC_MAX_ITER);
+        }
+        if (lowerProb < target || upperProb > target) {
+            throw new ArithmeticException("rho squared limit not bracketed");
+        }
+        // Illinois false position on the bracket
+        double result = startLogit;
+        int side = 0;
+        count = 0;
+        double error = Double.MAX_VALUE;
+        while (error > Constants.PRECISION && count < Constants.NC_MAX_ITER) {
+            final double lowerErr = lowerProb - target;
+            final double upperErr = upperProb - target;
+            result = (lowerLogit * upperErr - upperLogit * lowerErr)
+                    / (upperErr - lowerErr);
+            if (!(result > lowerLogit && result < upperLogit)) {
+                result = (lowerLogit + upperLogit) * 0.5;
+            }
+            prob = RSquareDist.cdf(rSquared, predictors, size,
+                    fromLogit(result));
+            error = Math.abs(prob - target);
+            if (prob > target) {
+                lowerLogit = result;
+                lowerProb = prob;
+                if (side == -1) {
+                    upperProb = target + (upperProb - target) * 0.5;
+                }
+                side = -1;
+            } else {
+                upperLogit = result;
+                upperProb = prob;
+                if (side == 1) {
+                    lowerProb = target + (lowerProb - target) * 0.5;
+                }
+                side = 1;
+            }
+            count++;
+        }
+        return fromLogit(result);
+    }
+}
@@ -0,0 +1,112 @@
+package edu.missouristate.mote.effectsizes;
+
+/**
+ * Immutable counts of an r x c contingency table: the input of Cramer's V.
+ * Pearson's chi-square is computed once, when the table is created.
+ */
+public final class ContingencyTable {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final int rows;
+    private final int columns;
+    private final double size;
+    private final double chiSquare;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a ContingencyTable.
+     *
+     * @param counts cell counts, counts[row][column]; not kept
+     * @exception IllegalArgumentException if the table is smaller than 2 x 2,
+     * is not rectangular, has a negative count or has an empty row or column
+     */
+    public ContingencyTable(final double[][] counts) {
+        rows = counts.length;
+        columns = rows == 0 ? 0 : counts[0].length;
+        if (rows < 2 || columns < 2) {
+            throw new IllegalArgumentException("table smaller than 2 x 2");
+        }
+        final double[] rowTotals = new double[rows];
+        final double[] columnTotals = new double[columns];
+        double total = 0;
+        for (int row = 0; row < rows; row++) {
+            if (counts[row].length != columns) {
+                throw new IllegalArgumentException("rows differ in length");
+            }
+            for (int column = 0; column < columns; column++) {
+                final double count = counts[row][column];
+                if (!(count >= 0) || Double.isInfinite(count)) {
+                    throw new IllegalArgumentException("negative count");
+                }
+                rowTotals[row] += count;
+                columnTotals[column] += count;
+                total += count;
+            }
+        }
+        for (final double value : rowTotals) {
+            if (value == 0) {
+                throw new IllegalArgumentException("empty row");
+            }
+        }
+        for (final double value : columnTotals) {
+            if (value == 0) {
+                throw new IllegalArgumentException("empty column");
+            }
+        }
+        // Sum of (O - E)^2 / E
+        double sum = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                final double expected = rowTotals[row] * columnTotals[column]
+                        / total;
+                final double diff = counts[row][column] - expected;
+                sum += diff * diff / expected;
+            }
+        }
+        size = total;
+        chiSquare = sum;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the number of rows.
+     *
+     * @return r
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Return the number of columns.
+     *
+     * @return c
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Return the total count.
+     *
+     * @return N
+     */
+    public double getSize() {
+        return size;
+    }
+
+    /**
+     * Return Pearson's chi-square test of independence.
+     *
+     * @return chi-square
+     */
+    public double getChiSquare() {
+        return chiSquare;
+    }
+}
@@ -0,0 +1,379 @@
+package edu.missouristate.mote.effectsizes;
+
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.propertygrid.CategoryAnnotation;
+import edu.missouristate.mote.propertygrid.DescriptionAnnotation;
+import edu.missouristate.mote.propertygrid.IndexAnnotation;
+import edu.missouristate.mote.propertygrid.NameAnnotation;
+import edu.missouristate.mote.propertygrid.StepAnnotation;
+
+/**
+ * Cramer's phi (V), chi-square test of independence.
+ */
+public final class CramersPhiChi2 extends AbstractNonCentralTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Smallest number of rows or columns of a contingency table
+    private static final double MIN_CATEGORIES = 2;
+
+    // *************************************************************************
+    // INPUT FIELDS
+    // *************************************************************************
+    private double confidence;
+    private double testStatistic;
+    private double size;
+    private double rows;
+    private double columns;
+    // *************************************************************************
+    // RESULT FIELDS
+    // *************************************************************************
+    private transient double measure;
+    private transient double lowerMeasure;
+    private transient double lowerNc;
+    private transient NcInterval interval;
+    private transient double upperMeasure;
+    private transient double upperNc;
+
+    // *************************************************************************
+    // CACHED RESULTS
+    // *************************************************************************
+    // Interval, solved again only when its inputs change
+    private final transient ResultCache.Entry<NcInterval> intervalEntry =
+            new ResultCache.Entry<NcInterval>(getResultCache()) {
+                @Override
+                protected double[] getKey() {
+                    return new double[]{testStatistic, size, rows, columns,
+                            confidence};
+                }
+
+                @Override
+                protected NcInterval compute() {
+                    return solveInterval();
+                }
+            };
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a CramersPhiChi2.
+     */
+    public CramersPhiChi2() {
+        super();
+        reset();
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return the value for Cramer's V of a non-centrality parameter,
+     * sqrt(lambda / (N * (min(r, c) - 1))), capped at one.
+     *
+     * @param nonCentrality non-centrality parameter
+     * @param size total count
+     * @param rows number of rows
+     * @param columns number of columns
+     * @return Cramer's V
+     */
+    static double calcV(final double nonCentrality, final double size,
+            final double rows, final double columns) {
+        return Math.min(1, Math.sqrt(nonCentrality
+                / (size * (Math.min(rows, columns) - 1))));
+    }
+
+    /**
+     * Return the estimate of Cramer's V from chi-square, on the scale of its
+     * interval: V of the non-centrality max(0, chi-square - df).
+     *
+     * @param chiSquare chi-square
+     * @param size total count
+     * @param rows number of rows
+     * @param columns number of columns
+     * @return Cramer's V
+     */
+    static double calcEstimate(final double chiSquare, final double size,
+            final double rows, final double columns) {
+        return calcV(Math.max(0, chiSquare - (rows - 1) * (columns - 1)),
+                size, rows, columns);
+    }
+
+    /**
+     * Calculate the effect size.
+     */
+    private void calculate() {
+        if (isResetting()) {
+            return;
+        }
+        setErrorMessage("");
+        measure = calcEstimate(testStatistic, size, rows, columns);
+        try {
+            interval = intervalEntry.get();
+        } catch (ArithmeticException | IllegalArgumentException ex) {
+            setErrorMessage(ex.getLocalizedMessage());
+            interval = null;
+            lowerNc = Double.NaN;
+            upperNc = Double.NaN;
+            lowerMeasure = Double.NaN;
+            upperMeasure = Double.NaN;
+            doStateChanged();
+            return;
+        }
+        lowerNc = interval.getLowerNc();
+        upperNc = interval.getUpperNc();
+        lowerMeasure = interval.getLowerMeasure();
+        upperMeasure = interval.getUpperMeasure();
+        doStateChanged();
+    }
+
+    /**
+     * Solve the confidence interval from the inputs.
+     *
+     * @return interval
+     */
+    private NcInterval solveInterval() {
+        return EffectSizes.cramersV(testStatistic, size, (int) rows,
+                (int) columns, confidence);
+    }
+
+    /**
+     * Return a number of categories as a whole number of at least two.
+     *
+     * @param value number of categories
+     * @return whole number of categories
+     */
+    private static double categories(final double value) {
+        return Math.max(MIN_CATEGORIES, Math.rint(value));
+    }
+
+    // *************************************************************************
+    // PROTECTED METHODS
+    // *************************************************************************
+    @Override
+    protected void setDefaults() {
+        setTestStatistic(0);
+        setSize(0);
+        setRows(0);
+        setColumns(0);
+        setConfidence(0.95);
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    @Override
+    public String getMeasureName() {
+        return "Cram" + Constants.E_ACCENT_LOWER + "r's " + Constants.PHI_UPPER;
+    }
+
+    @Override
+    public String getMeasureSymbol() {
+        return Constants.PHI_UPPER;
+    }
+
+    @Override
+    public String getTestName() {
+        return Constants.CHI_LOWER + Constants.SUPERSCRIPT2;
+    }
+
+    @Override
+    public String getTestStatisticSymbol() {
+        return Constants.CHI_LOWER + Constants.SUPERSCRIPT2;
+    }
+
+    @Override
+    public void reset() {
+        beginUpdate();
+        try {
+            setResetting(true);
+            setDefaults();
+            setResetting(false);
+            calculate();
+        } finally {
+            endUpdate();
+        }
+    }
+
+    // *************************************************************************
+    // INPUT GETTER/SETTERS
+    // *************************************************************************
+    @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
+    @NameAnnotation(value = Constants.CHI_LOWER + Constants.SUPERSCRIPT2
+            + " Statistic")
+    @IndexAnnotation(value = 1)
+    @DescriptionAnnotation(value = "Pearson's " + Constants.CHI_LOWER
+            + Constants.SUPERSCRIPT2 + " test of independence.")
+    @Override
+    public double getTestStatistic() {
+        return testStatistic;
+    }
+
+    public void setTestStatistic(final double value) {
+        testStatistic = Math.max(0, value);
+        calculate();
+    }
+
+    @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
+    @NameAnnotation(value = "Sample Size")
+    @IndexAnnotation(value = 2)
+    @StepAnnotation(value = 1)
+    @DescriptionAnnotation(value = "Total count of the contingency table.")
+    public double getSize() {
+        return size;
+    }
+
+    public void setSize(final double value) {
+        size = Math.max(Constants.MIN_SS, value);
+        calculate();
+    }
+
+    @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
+    @NameAnnotation(value = "Rows")
+    @IndexAnnotation(value = 3)
+    @StepAnnotation(value = 1)
+    @DescriptionAnnotation(value = "Number of rows of the contingency table.")
+    public double getRows() {
+        return rows;
+    }
+
+    public void setRows(final double value) {
+        rows = categories(value);
+        calculate();
+    }
+
+    @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
+    @NameAnnotation(value = "Columns")
+    @IndexAnnotation(value = 4)
+    @StepAnnotation(value = 1)
+    @DescriptionAnnotation(value = "Number of columns of the contingency "
+            + "table.")
+    public double getColumns() {
+        return columns;
+    }
+
+    public void setColumns(final double value) {
+        columns = categories(value);
+        calculate();
+    }
+
+    @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
+    @NameAnnotation(value = "Confidence (1 - " + Constants.ALPHA_LOWER + ")")
+    @IndexAnnotation(value = 5)
+    @StepAnnotation(value = 0.001)
+    @DescriptionAnnotation(value = "Confidence interval expressed as a "
+            + "percentage in the range 0...1.")
+    @Override
+    public double getConfidence() {
+        return confidence;
+    }
+
+    public void setConfidence(final double value) {
+        confidence = Math.min(Constants.MAX_CONFIDENCE,
+                Math.max(Constants.MIN_CONFIDENCE, value));
+        calculate();
+    }
+
+    // *************************************************************************
+    // DERIVED GETTERS
+    // *************************************************************************
+    @CategoryAnnotation(value = Constants.DERIVED_CATEGORY)
+    @NameAnnotation(value = "Deg Free")
+    @IndexAnnotation(value = 6)
+    @DescriptionAnnotation(value = "Degrees of freedom, (rows - 1) * "
+            + "(columns - 1).")
+    public double getDf() {
+        return (rows - 1) * (columns - 1);
+    }
+
+    @CategoryAnnotation(value = Constants.DERIVED_CATEGORY)
+    @NameAnnotation(value = Constants.PHI_UPPER + " (2 x 2)")
+    @IndexAnnotation(value = 7)
+    @DescriptionAnnotation(value = "Phi coefficient, the square root of "
+            + Constants.CHI_LOWER + Constants.SUPERSCRIPT2 + " / N, without "
+            + "the degrees of freedom subtracted.")
+    public double getPhi() {
+        return Math.sqrt(testStatistic / size);
+    }
+
+    // *************************************************************************
+    // RESULT GETTERS
+    // *************************************************************************
+    @Override
+    public double getAlpha() {
+        return 1 - confidence;
+    }
+
+    @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
+    @NameAnnotation(value = "Lower " + Constants.PHI_UPPER)
+    @IndexAnnotation(value = 8)
+    @DescriptionAnnotation(value = "Minimum value of Cram"
+            + Constants.E_ACCENT_LOWER + "r's " + Constants.PHI_UPPER
+            + " on the confidence interval.")
+    @Override
+    public double getLowerMeasure() {
+        return lowerMeasure;
+    }
+
+    @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
+    @NameAnnotation(value = Constants.PHI_UPPER)
+    @IndexAnnotation(value = 9)
+    @DescriptionAnnotation(value = "Cram" + Constants.E_ACCENT_LOWER
+            + "r's " + Constants.PHI_UPPER + " (V), the square root of "
+            + "max(0, " + Constants.CHI_LOWER + Constants.SUPERSCRIPT2
+            + " - df) / (N * (min(rows, columns) - 1)), on the same scale "
+            + "as its interval.")
+    @Override
+    public double getMeasure() {
+        return measure;
+    }
+
+    @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
+    @NameAnnotation(value = "Upper " + Constants.PHI_UPPER)
+    @IndexAnnotation(value = 10)
+    @DescriptionAnnotation(value = "Maximum value of Cram"
+            + Constants.E_ACCENT_LOWER + "r's " + Constants.PHI_UPPER
+            + " on the confidence interval.")
+    @Override
+    public double getUpperMeasure() {
+        return upperMeasure;
+    }
+
+    @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
+    @NameAnnotation(value = "Lower NC (" + Constants.LAMBDA_LOWER + "min)")
+    @IndexAnnotation(value = 11)
+    @DescriptionAnnotation(value = "Non-centrality parameter ("
+            + Constants.LAMBDA_LOWER + ") corresponding to the minimum value of "
+            + "the measure on the confidence interval.")
+    @Override
+    public double getLowerNc() {
+        return lowerNc;
+    }
+
+    @Override
+    public NcInterval getInterval() {
+        return interval;
+    }
+
+    @Override
+    public double[][] getLowerPdf() {
+        return interval == null ? null : interval.getLowerPdf();
+    }
+
+    @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
+    @NameAnnotation(value = "Upper NC (" + Constants.LAMBDA_LOWER + "max)")
+    @IndexAnnotation(value = 12)
+    @DescriptionAnnotation(value = "Non-centrality parameter ("
+            + Constants.LAMBDA_LOWER + ") corresponding to the maximum value of "
+            + "the measure on the confidence interval.")
+    @Override
+    public double getUpperNc() {
+        return upperNc;
+    }
+
+    @Override
+    public double[][] getUpperPdf() {
+        return interval == null ? null : interval.getUpperPdf();
+    }
+}
@@ -0,0 +1,372 @@
+package edu.missouristate.mote.effectsizes;
+
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.propertygrid.CategoryAnnotation;
+import edu.missouristate.mote.propertygrid.DescriptionAnnotation;
+import edu.missouristate.mote.propertygrid.IndexAnnotation;
+import edu.missouristate.mote.propertygrid.NameAnnotation;
+import edu.missouristate.mote.propertygrid.StepAnnotation;
+
+/**
+ * R-squared change, F test of the predictors added to a multiple regression.
+ */
+public final class DeltaR2FChange extends AbstractNonCentralTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Largest R squared accepted as input
+    private static final double MAX_R_SQUARED = 0.999;
+
+    // *************************************************************************
+    // INPUT FIELDS
+    // *************************************************************************
+    private double confidence;
+    private double rSquared;
+    private double rSquaredReduced;
+    private double size;
+    private double predictors;
+    private double added;
+    // *************************************************************************
+    // RESULT FIELDS
+    // *************************************************************************
+    private transient double testStatistic;
+    private transient double measure;
+    private transient double lowerMeasure;
+    private transient double lowerNc;
+    private transient NcInterval interval;
+    private transient double upperMeasure;
+    private transient double upperNc;
+
+    // *************************************************************************
+    // CACHED RESULTS
+    // *************************************************************************
+    // Interval, solved again only when its inputs change
+    private final transient ResultCache.Entry<NcInterval> intervalEntry =
+            new ResultCache.Entry<NcInterval>(getResultCache()) {
+                @Override
+                protected double[] getKey() {
+                    return new double[]{rSquared, rSquaredReduced, size,
+                            predictors, added, confidence};
+                }
+
+                @Override
+                protected NcInterval compute() {
+                    return solveInterval();
+                }
+            };
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a DeltaR2FChange.
+     */
+    public DeltaR2FChange() {
+        super();
+        reset();
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return the value for F of the change test.
+     *
+     * @param rSquaredFull R squared of the full model
+     * @param rSquaredReduced R squared of the reduced model
+     * @param size sample size
+     * @param predictors number of predictors of the full model
+     * @param added number of predictors added to the reduced model
+     * @return F
+     */
+    static double calcF(final double rSquaredFull,
+            final double rSquaredReduced, final double size,
+            final double predictors, final double added) {
+        return ((rSquaredFull - rSquaredReduced) / added)
+                / ((1 - rSquaredFull) / (size - predictors - 1));
+    }
+
+    /**
+     * Calculate the effect size.
+     */
+    private void calculate() {
+        if (isResetting()) {
+            return;
+        }
+        setErrorMessage("");
+        testStatistic = calcF(rSquared, rSquaredReduced, size, predictors,
+                added);
+        measure = rSquared - rSquaredReduced;
+        try {
+            interval = intervalEntry.get();
+        } catch (ArithmeticException | IllegalArgumentException ex) {
+            setErrorMessage(ex.getLocalizedMessage());
+            interval = null;
+            lowerNc = Double.NaN;
+            upperNc = Double.NaN;
+            lowerMeasure = Double.NaN;
+            upperMeasure = Double.NaN;
+            doStateChanged();
+            return;
+        }
+        lowerNc = interval.getLowerNc();
+        upperNc = interval.getUpperNc();
+        lowerMeasure = interval.getLowerMeasure();
+        upperMeasure = interval.getUpperMeasure();
+        doStateChanged();
+    }
+
+    /**
+     * Solve the confidence interval from the inputs.
+     *
+     * @return interval
+     */
+    private NcInterval solveInterval() {
+        return EffectSizes.deltaR2FChange(rSquared, rSquaredReduced,
+                size, predictors, added, confidence);
+    }
+
+    // *************************************************************************
+    // PROTECTED METHODS
+    // *************************************************************************
+    @Override
+    protected void setDefaults() {
+        setRSquared(0);
+        setRSquaredReduced(0);
+        setSize(0);
+        setPredictors(1);
+        setAdded(1);
+        setConfidence(0.95);
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    @Override
+    public String getMeasureName() {
+        return Constants.DELTA_UPPER + "R" + Constants.SUPERSCRIPT2;
+    }
+
+    @Override
+    public String getMeasureSymbol() {
+        return Constants.DELTA_UPPER + "R" + Constants.SUPERSCRIPT2;
+    }
+
+    @Override
+    public String getTestName() {
+        return "F Test Change";
+    }
+
+    @Override
+    public String getTestStatisticSymbol() {
+        return "F";
+    }
+
+    @Override
+    public void reset() {
+        beginUpdate();
+        try {
+            setResetting(true);
+            setDefaults();
+            setResetting(false);
+            calculate();
+        } finally {
+            endUpdate();
+        }
+    }
+
+    // *************************************************************************
+    // INPUT GETTER/SETTERS
+    // *************************************************************************
+    @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
+    @NameAnnotation(value = "R" + Constants.SUPERSCRIPT2 + " Full")
+    @IndexAnnotation(value = 1)
+    @DescriptionAnnotation(value = "Squared multiple correlation of the "
+            + "full regression.")
+    public double getRSquared() {
+        return rSquared;
+    }
+
+    public void setRSquared(final double value) {
+        rSquared = Math.min(MAX_R_SQUARED, Math.max(0, value));
+        calculate();
+    }
+
+    @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
+    @NameAnnotation(value = "R" + Constants.SUPERSCRIPT2 + " Reduced")
+    @IndexAnnotation(value = 2)
+    @DescriptionAnnotation(value = "Squared multiple correlation of the "
+            + "regression without the added predictors.")
+    public double getRSquaredReduced() {
+        return rSquaredReduced;
+    }
+
+    public void setRSquaredReduced(final double value) {
+        rSquaredReduced = Math.min(MAX_R_SQUARED, Math.max(0, value));
+        calculate();
+    }
+
+    @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
+    @NameAnnotation(value = "Sample Size")
+    @IndexAnnotation(value = 3)
+    @StepAnnotation(value = 1)
+    @DescriptionAnnotation(value = "Number of cases.")
+    public double getSize() {
+        return size;
+    }
+
+    public void setSize(final double value) {
+        size = Math.max(Constants.MIN_SS, value);
+        calculate();
+    }
+
+    @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
+    @NameAnnotation(value = "Predictors")
+    @IndexAnnotation(value = 4)
+    @StepAnnotation(value = 1)
+    @DescriptionAnnotation(value = "Number of predictors of the full "
+            + "regression.")
+    public double getPredictors() {
+        return predictors;
+    }
+
+    public void setPredictors(final double value) {
+        predictors = Math.max(1, Math.rint(value));
+        calculate();
+    }
+
+    @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
+    @NameAnnotation(value = "Added Predictors")
+    @IndexAnnotation(value = 5)
+    @StepAnnotation(value = 1)
+    @DescriptionAnnotation(value = "Number of predictors added to the reduced "
+            + "regression.")
+    public double getAdded() {
+        return added;
+    }
+
+    public void setAdded(final double value) {
+        added = Math.max(1, Math.rint(value));
+        calculate();
+    }
+
+    @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
+    @NameAnnotation(value = "Confidence (1 - " + Constants.ALPHA_LOWER + ")")
+    @IndexAnnotation(value = 6)
+    @StepAnnotation(value = 0.001)
+    @DescriptionAnnotation(value = "Confidence interval expressed as a "
+            + "percentage in the range 0...1.")
+    @Override
+    public double getConfidence() {
+        return confidence;
+    }
+
+    public void setConfidence(final double value) {
+        confidence = Math.min(Constants.MAX_CONFIDENCE,
+                Math.max(Constants.MIN_CONFIDENCE, value));
+        calculate();
+    }
+
+    // *************************************************************************
+    // DERIVED GETTERS
+    // *************************************************************************
+    @CategoryAnnotation(value = Constants.DERIVED_CATEGORY)
+    @NameAnnotation(value = "Deg Free Error")
+    @IndexAnnotation(value = 7)
+    @DescriptionAnnotation(value = "Error degrees of freedom, N - predictors "
+            + "- 1.")
+    public double getDfError() {
+        return size - predictors - 1;
+    }
+
+    @CategoryAnnotation(value = Constants.DERIVED_CATEGORY)
+    @NameAnnotation(value = "F")
+    @IndexAnnotation(value = 8)
+    @DescriptionAnnotation(value = "F change test, (" + Constants.DELTA_UPPER
+            + "R" + Constants.SUPERSCRIPT2 + " / added predictors) / ((1 - R"
+            + Constants.SUPERSCRIPT2 + " full) / deg free error).")
+    @Override
+    public double getTestStatistic() {
+        return testStatistic;
+    }
+
+    // *************************************************************************
+    // RESULT GETTERS
+    // *************************************************************************
+    @Override
+    public double getAlpha() {
+        return 1 - confidence;
+    }
+
+    @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
+    @NameAnnotation(value = "Lower " + Constants.DELTA_UPPER + "R"
+            + Constants.SUPERSCRIPT2)
+    @IndexAnnotation(value = 9)
+    @DescriptionAnnotation(value = "Minimum value of " + Constants.DELTA_UPPER
+            + "R" + Constants.SUPERSCRIPT2 + " on the confidence interval.")
+    @Override
+    public double getLowerMeasure() {
+        return lowerMeasure;
+    }
+
+    @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
+    @NameAnnotation(value = Constants.DELTA_UPPER + "R"
+            + Constants.SUPERSCRIPT2)
+    @IndexAnnotation(value = 10)
+    @DescriptionAnnotation(value = "Change of R" + Constants.SUPERSCRIPT2
+            + ", R" + Constants.SUPERSCRIPT2 + " full - R"
+            + Constants.SUPERSCRIPT2 + " reduced.")
+    @Override
+    public double getMeasure() {
+        return measure;
+    }
+
+    @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
+    @NameAnnotation(value = "Upper " + Constants.DELTA_UPPER + "R"
+            + Constants.SUPERSCRIPT2)
+    @IndexAnnotation(value = 11)
+    @DescriptionAnnotation(value = "Maximum value of " + Constants.DELTA_UPPER
+            + "R" + Constants.SUPERSCRIPT2 + " on the confidence interval.")
+    @Override
+    public double getUpperMeasure() {
+        return upperMeasure;
+    }
+
+    @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
+    @NameAnnotation(value = "Lower NC (" + Constants.LAMBDA_LOWER + "min)")
+    @IndexAnnotation(value = 12)
+    @DescriptionAnnotation(value = "Non-centrality parameter ("
+            + Constants.LAMBDA_LOWER + ") corresponding to the minimum value of "
+            + "the measure on the confidence interval.")
+    @Override
+    public double getLowerNc() {
+        return lowerNc;
+    }
+
+    @Override
+    public NcInterval getInterval() {
+        return interval;
+    }
+
+    @Override
+    public double[][] getLowerPdf() {
+        return interval == null ? null : interval.getLowerPdf();
+    }
+
+    @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
+    @NameAnnotation(value = "Upper NC (" + Constants.LAMBDA_LOWER + "max)")
+    @IndexAnnotation(value = 13)
+    @DescriptionAnnotation(value = "Non-centrality parameter ("
+            + Constants.LAMBDA_LOWER + ") corresponding to the maximum value of "
+            + "the measure on the confidence interval.")
+    @Override
+    public double getUpperNc() {
+        return upperNc;
+    }
+
+    @Override
+    public double[][] getUpperPdf() {
+        return interval == null ? null : interval.getUpperPdf();
+    }
+}
@@ -0,0 +1,71 @@
+package edu.missouristate.mote.effectsizes;
+
+/**
+ * Immutable summary of paired differences: the input of Cohen's d for a
+ * dependent t test using the standard deviation of the differences.
+ */
+public final class DifferenceSummary {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final double meanDiff;
+    private final double stdDevDiff;
+    private final double size;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a DifferenceSummary.
+     *
+     * @param meanDiff mean difference
+     * @param stdDevDiff standard deviation of the differences
+     * @param size number of pairs
+     */
+    public DifferenceSummary(final double meanDiff, final double stdDevDiff,
+            final double size) {
+        this.meanDiff = meanDiff;
+        this.stdDevDiff = stdDevDiff;
+        this.size = size;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the mean difference.
+     *
+     * @return mean difference
+     */
+    public double getMeanDiff() {
+        return meanDiff;
+    }
+
+    /**
+     * Return the standard deviation of the differences.
+     *
+     * @return standard deviation of the differences
+     */
+    public double getStdDevDiff() {
+        return stdDevDiff;
+    }
+
+    /**
+     * Return the number of pairs.
+     *
+     * @return number of pairs
+     */
+    public double getSize() {
+        return size;
+    }
+
+    /**
+     * Return the degrees of freedom, n - 1.
+     *
+     * @return degrees of freedom
+     */
+    public double getDf() {
+        return size - 1;
+    }
+}
@@ -0,0 +1,1196 @@
+package edu.missouristate.mote.effectsizes;
+
+import edu.missouristate.mote.WorkerPool;
+import edu.missouristate.mote.statistics.NctKernel;
+import edu.missouristate.mote.statistics.NoncentralHypergeometric;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Stateless calculators for every effect size. Each method takes an
+ * immutable input and a confidence level and returns an immutable result,
+ * so the methods are safe to call from any number of threads; the Swing
+ * beans are thin adapters over them.
+ *
+ * Every method throws IllegalArgumentException for inputs that have no
+ * interval (a confidence outside (0, 1), degrees of freedom at or below
+ * zero, or an F of zero) and ArithmeticException if a non-centrality search
+ * does not converge.
+ */
+public final class EffectSizes {
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of an EffectSizes.
+     */
+    private EffectSizes() {
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return the alpha level of a confidence level.
+     *
+     * @param confidence confidence level
+     * @return alpha
+     * @exception IllegalArgumentException if the confidence is not in the
+     * range (0, 1)
+     */
+    private static double alpha(final double confidence) {
+        if (!(confidence > 0 && confidence < 1)) {
+            throw new IllegalArgumentException("confidence not in (0, 1)");
+        }
+        return 1 - confidence;
+    }
+
+    /**
+     * Solve the lower and upper bounds at the same time when the worker pool
+     * splits calculations, or in turn otherwise.
+     *
+     * @param lower solve of the lower bound
+     * @param upper solve of the upper bound
+     * @return lower and upper non-centrality parameters
+     */
+    private static double[] forkBounds(final Callable<Double> lower,
+            final Callable<Double> upper) {
+        final List<Double> bounds = WorkerPool.fork(Arrays.asList(lower,
+                upper));
+        return new double[]{bounds.get(0), bounds.get(1)};
+    }
+
+    /**
+     * Solve the non-central t bounds without guesses.
+     *
+     * @param tValue t
+     * @param df degrees of freedom
+     * @param confidence confidence level
+     * @return lower and upper non-centrality parameters
+     */
+    private static double[] findTBounds(final double tValue, final double df,
+            final double confidence) {
+        return findTBounds(tValue, df, confidence, Double.NaN, Double.NaN);
+    }
+
+    /**
+     * Solve the non-central t bounds. Solved in turn, both bounds share one
+     * series kernel; solved at the same time, each has its own, as kernels
+     * are not thread-safe. Bounds with a guess are always solved in turn,
+     * each search starting from its guess.
+     *
+     * @param tValue t
+     * @param df degrees of freedom
+     * @param confidence confidence level
+     * @param lowerGuess lower non-centrality guess or NaN
+     * @param upperGuess upper non-centrality guess or NaN
+     * @return lower and upper non-centrality parameters
+     */
+    private static double[] findTBounds(final double tValue, final double df,
+            final double confidence, final double lowerGuess,
+            final double upperGuess) {
+        final double alpha = alpha(confidence);
+        if (!(df > 0)) {
+            throw new IllegalArgumentException("degrees of freedom <= 0");
+        }
+        if (!Double.isNaN(lowerGuess) || !Double.isNaN(upperGuess)) {
+            final NctKernel kernel = new NctKernel(tValue, df);
+            return new double[]{
+                ConfIntNct.findNonCentrality(kernel, 1 - (alpha * 0.5),
+                        lowerGuess),
+                ConfIntNct.findNonCentrality(kernel, alpha * 0.5,
+                        upperGuess)};
+        }
+        if (!WorkerPool.isSplitting()) {
+            final NctKernel kernel = new NctKernel(tValue, df);
+            return new double[]{
+                ConfIntNct.findNonCentrality(kernel, 1 - (alpha * 0.5)),
+                ConfIntNct.findNonCentrality(kernel, alpha * 0.5)};
+        }
+        return forkBounds(new Callable<Double>() {
+            @Override
+            public Double call() {
+                return ConfIntNct.findNonCentrality(tValue, df,
+                        1 - (alpha * 0.5));
+            }
+        }, new Callable<Double>() {
+            @Override
+            public Double call() {
+                return ConfIntNct.findNonCentrality(tValue, df, alpha * 0.5);
+            }
+        });
+    }
+
+    /**
+     * Scale solved non-central t bounds to the measure.
+     *
+     * @param tValue t
+     * @param df degrees of freedom
+     * @param measure value of the measure
+     * @param scale ratio of a non-centrality parameter to the measure
+     * @param bounds lower and upper non-centrality parameters
+     * @return result
+     */
+    private static NcInterval mapT(final double tValue, final double df,
+            final double measure, final double scale, final double[] bounds) {
+        return NcInterval.forT(tValue, df, measure, bounds[0], bounds[1],
+                bounds[0] / scale, bounds[1] / scale);
+    }
+
+    /**
+     * Solve the non-central t bounds and scale them to the measure.
+     *
+     * @param tValue t
+     * @param df degrees of freedom
+     * @param measure value of the measure
+     * @param scale ratio of a non-centrality parameter to the measure
+     * @param confidence confidence level
+     * @return result
+     */
+    private static NcInterval solveT(final double tValue, final double df,
+            final double measure, final double scale,
+            final double confidence) {
+        return solveT(tValue, df, measure, scale, confidence, Double.NaN,
+                Double.NaN);
+    }
+
+    /**
+     * Solve the non-central t bounds from guesses and scale them to the
+     * measure.
+     *
+     * @param tValue t
+     * @param df degrees of freedom
+     * @param measure value of the measure
+     * @param scale ratio of a non-centrality parameter to the measure
+     * @param confidence confidence level
+     * @param lowerGuess lower non-centrality guess or NaN
+     * @param upperGuess upper non-centrality guess or NaN
+     * @return result
+     */
+    private static NcInterval solveT(final double tValue, final double df,
+            final double measure, final double scale, final double confidence,
+            final double lowerGuess, final double upperGuess) {
+        return mapT(tValue, df, measure, scale, findTBounds(tValue, df,
+                confidence, lowerGuess, upperGuess));
+    }
+
+    /**
+     * Map solved non-central t bounds of an independent t test to the
+     * point-biserial correlation, r = t / sqrt(t^2 + df).
+     *
+     * @param tValue t
+     * @param df degrees of freedom
+     * @param bounds lower and upper non-centrality parameters
+     * @return result
+     */
+    private static NcInterval mapR(final double tValue, final double df,
+            final double[] bounds) {
+        return NcInterval.forT(tValue, df, toR(tValue, df), bounds[0],
+                bounds[1], toR(bounds[0], df), toR(bounds[1], df));
+    }
+
+    /**
+     * Return the correlation equivalent to a t value.
+     *
+     * @param tValue t or a non-centrality parameter
+     * @param df degrees of freedom
+     * @return correlation
+     */
+    private static double toR(final double tValue, final double df) {
+        return tValue / Math.sqrt(tValue * tValue + df);
+    }
+
+    /**
+     * Solve the non-central F bounds without guesses.
+     *
+     * @param fValue F
+     * @param dfEffect numerator degrees of freedom
+     * @param dfError denominator degrees of freedom
+     * @param confidence confidence level
+     * @return lower and upper non-centrality parameters
+     */
+    private static double[] findFBounds(final double fValue,
+            final double dfEffect, final double dfError,
+            final double confidence) {
+        return findFBounds(fValue, dfEffect, dfError, confidence, Double.NaN,
+                Double.NaN);
+    }
+
+    /**
+     * Solve the non-central F bounds, at the same time when the worker pool
+     * splits calculations, or in turn from their guesses when there are any.
+     * An F below the lower critical value has a lower non-centrality of
+     * zero, and an F below the upper critical value an upper non-centrality
+     * of zero.
+     *
+     * @param fValue F
+     * @param dfEffect numerator degrees of freedom
+     * @param dfError denominator degrees of freedom
+     * @param confidence confidence level
+     * @param lowerGuess lower non-centrality guess or NaN
+     * @param upperGuess upper non-centrality guess or NaN
+     * @return lower and upper non-centrality parameters
+     */
+    private static double[] findFBounds(final double fValue,
+            final double dfEffect, final double dfError,
+            final double confidence, final double lowerGuess,
+            final double upperGuess) {
+        final double alpha = alpha(confidence);
+        if (fValue <= 0 || Double.isNaN(fValue)) {
+            throw new IllegalArgumentException("F is zero");
+        }
+        final double[] bounds;
+        if (!Double.isNaN(lowerGuess) || !Double.isNaN(upperGuess)) {
+            bounds = new double[]{
+                ConfIntNcf.findNonCentrality(fValue, dfEffect, dfError,
+                        1 - (alpha * 0.5), lowerGuess),
+                ConfIntNcf.findNonCentrality(fValue, dfEffect, dfError,
+                        alpha * 0.5, upperGuess)};
+        } else {
+            bounds = forkBounds(new Callable<Double>() {
+                @Override
+                public Double call() {
+                    return ConfIntNcf.findNonCentrality(fValue, dfEffect,
+                            dfError, 1 - (alpha * 0.5));
+                }
+            }, new Callable<Double>() {
+                @Override
+                public Double call() {
+                    return ConfIntNcf.findNonCentrality(fValue, dfEffect,
+                            dfError, alpha * 0.5);
+                }
+            });
+        }
+        bounds[0] = Math.max(0, bounds[0]);
+        bounds[1] = Math.max(bounds[0], bounds[1]);
+        return bounds;
+    }
+
+    /**
+     * Map solved non-central F bounds to a proportion of variance,
+     * lambda / (lambda + N).
+     *
+     * @param fValue F
+     * @param dfEffect numerator degrees of freedom
+     * @param dfError denominator degrees of freedom
+     * @param measure value of the measure
+     * @param bounds lower and upper non-centrality parameters
+     * @return result
+     */
+    private static NcInterval mapF(final double fValue, final double dfEffect,
+            final double dfError, final double measure,
+            final double[] bounds) {
+        final double size = dfEffect + dfError + 1;
+        return NcInterval.forF(fValue, dfEffect, dfError, measure, bounds[0],
+                bounds[1], bounds[0] / (bounds[0] + size),
+                bounds[1] / (bounds[1] + size));
+    }
+
+    /**
+     * Solve the non-central F bounds and map them to a proportion of
+     * variance.
+     *
+     * @param fValue F
+     * @param dfEffect numerator degrees of freedom
+     * @param dfError denominator degrees of freedom
+     * @param measure value of the measure
+     * @param confidence confidence level
+     * @return result
+     */
+    private static NcInterval solveF(final double fValue,
+            final double dfEffect, final double dfError, final double measure,
+            final double confidence) {
+        return solveF(fValue, dfEffect, dfError, measure, confidence,
+                Double.NaN, Double.NaN);
+    }
+
+    /**
+     * Solve the non-central F bounds from guesses and map them to a
+     * proportion of variance.
+     *
+     * @param fValue F
+     * @param dfEffect numerator degrees of freedom
+     * @param dfError denominator degrees of freedom
+     * @param measure value of the measure
+     * @param confidence confidence level
+     * @param lowerGuess lower non-centrality guess or NaN
+     * @param upperGuess upper non-centrality guess or NaN
+     * @return result
+     */
+    private static NcInterval solveF(final double fValue,
+            final double dfEffect, final double dfError, final double measure,
+            final double confidence, final double lowerGuess,
+            final double upperGuess) {
+        return mapF(fValue, dfEffect, dfError, measure, findFBounds(fValue,
+                dfEffect, dfError, confidence, lowerGuess, upperGuess));
+    }
+
+    /**
+     * Solve the non-central chi-square bounds and map them to Cramer's V,
+     * sqrt(lambda / (N * (min(r, c) - 1))), capped at one. The estimate is
+     * mapped from max(0, chi-square - df) so that it is on the same scale.
+     *
+     * @param chiSquare chi-square
+     * @param size total count
+     * @param rows number of rows
+     * @param columns number of columns
+     * @param confidence confidence level
+     * @return result
+     */
+    private static NcInterval solveChiSquare(final double chiSquare,
+            final double size, final int rows, final int columns,
+            final double confidence) {
+        final double alpha = alpha(confidence);
+        if (rows < 2 || columns < 2) {
+            throw new IllegalArgumentException("table smaller than 2 x 2");
+        }
+        if (!(chiSquare >= 0) || !(size > 0)) {
+            throw new IllegalArgumentException("chi-square < 0 or N <= 0");
+        }
+        final double df = (rows - 1.0) * (columns - 1.0);
+        final double lowerNc = ConfIntNcx2.findNonCentrality(chiSquare, df,
+                1 - (alpha * 0.5));
+        final double upperNc = ConfIntNcx2.findNonCentrality(chiSquare, df,
+                alpha * 0.5, Math.max(lowerNc, chiSquare - df));
+        return NcInterval.forChiSquare(chiSquare, df,
+                CramersPhiChi2.calcEstimate(chiSquare, size, rows, columns),
+                lowerNc, upperNc,
+                CramersPhiChi2.calcV(lowerNc, size, rows, columns),
+                CramersPhiChi2.calcV(upperNc, size, rows, columns));
+    }
+
+    /**
+     * Solve the non-central F bounds of a regression F test and map them to
+     * a proportion of variance.
+     *
+     * @param fValue F
+     * @param dfEffect numerator degrees of freedom
+     * @param dfError denominator degrees of freedom
+     * @param measure value of the measure
+     * @param scale factor applied to the mapped limits
+     * @param confidence confidence level
+     * @return result
+     */
+    private static NcInterval solveRegression(final double fValue,
+            final double dfEffect, final double dfError, final double measure,
+            final double scale, final double confidence) {
+        final double[] bounds = findFBounds(fValue, dfEffect, dfError,
+                confidence);
+        final double size = dfEffect + dfError + 1;
+        return NcInterval.forF(fValue, dfEffect, dfError, measure, bounds[0],
+                bounds[1], scale * bounds[0] / (bounds[0] + size),
+                scale * bounds[1] / (bounds[1] + size));
+    }
+
+    /**
+     * Check the size of a regression.
+     *
+     * @param rSquared R squared
+     * @param size sample size
+     * @param predictors number of predictors
+     * @exception IllegalArgumentException if R squared is not in [0, 1),
+     * there is no predictor or N is not larger than predictors + 1
+     */
+    private static void checkRegression(final double rSquared,
+            final double size, final double predictors) {
+        if (!(rSquared >= 0 && rSquared < 1)) {
+            throw new IllegalArgumentException("R squared not in [0, 1)");
+        }
+        if (!(predictors >= 1) || !(size > predictors + 1)) {
+            throw new IllegalArgumentException("N <= predictors + 1");
+        }
+    }
+
+    /**
+     * Return the ratio of the non-centrality parameter of an independent t
+     * test to the standardized mean difference.
+     *
+     * @param size1 group 1 size
+     * @param size2 group 2 size
+     * @return scale
+     */
+    private static double indTScale(final double size1, final double size2) {
+        return Math.sqrt((size1 * size2) / (size1 + size2));
+    }
+
+    /**
+     * Return a measure with a symmetric normal interval.
+     *
+     * @param zValue z
+     * @param measure value of the measure
+     * @param stdErr standard error of the measure
+     * @param confidence confidence level
+     * @return measure and its interval
+     */
+    private static NormalInterval normal(final double zValue,
+            final double measure, final double stdErr,
+            final double confidence) {
+        final double deviations = ConfIntNormal.findX(
+                1 - (alpha(confidence) * 0.5));
+        return new NormalInterval(zValue, measure, deviations,
+                measure - deviations * stdErr, measure + deviations * stdErr);
+    }
+
+    /**
+     * Return a cell count as a whole number.
+     *
+     * @param value cell count
+     * @return count
+     * @exception IllegalArgumentException if the count is negative or not a
+     * whole number
+     */
+    private static int count(final double value) {
+        if (!(value >= 0 && value <= Integer.MAX_VALUE)
+                || value != Math.rint(value)) {
+            throw new IllegalArgumentException("counts must be whole numbers");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Return omega squared from sums of squares.
+     *
+     * @param input sums of squares
+     * @return omega squared; zero if undefined
+     */
+    private static double omegaSquared(final AnovaSummary input) {
+        return Omega2FOmni.calcOmegaSquared(input.getSsEffect(),
+                input.getSsTotal(), input.getDfEffect(), input.getMse());
+    }
+
+    /**
+     * Return the intraclass correlation from sums of squares.
+     *
+     * @param input sums of squares
+     * @return intraclass correlation; zero if undefined
+     */
+    private static double intraCorr(final AnovaSummary input) {
+        return RIntraCorrF.calcR(input.getMs(), input.getMse(),
+                input.getDfEffect());
+    }
+
+    // *************************************************************************
+    // PACKAGE METHODS
+    // *************************************************************************
+    /**
+     * Return Cohen's d for an independent t test, each non-centrality search
+     * starting from a guess, such as the bound of a neighbouring input.
+     *
+     * @param input group summaries
+     * @param confidence confidence level
+     * @param lowerGuess lower non-centrality guess or NaN
+     * @param upperGuess upper non-centrality guess or NaN
+     * @return d and its interval
+     */
+    static NcInterval cohenDIndT(final TwoGroupSummary input,
+            final double confidence, final double lowerGuess,
+            final double upperGuess) {
+        final double measure = CohenDIndT.calcD(input.getMean1(),
+                input.getMean2(), input.getStdDevPooled());
+        return solveT(input.getTValue(), input.getDf(), measure,
+                indTScale(input.getSize1(), input.getSize2()), confidence,
+                lowerGuess, upperGuess);
+    }
+
+    /**
+     * Return Cohen's d for an independent t test from t, each non-centrality
+     * search starting from a guess.
+     *
+     * @param tValue t
+     * @param size1 group 1 size
+     * @param size2 group 2 size
+     * @param confidence confidence level
+     * @param lowerGuess lower non-centrality guess or NaN
+     * @param upperGuess upper non-centrality guess or NaN
+     * @return d and its interval
+     */
+    static NcInterval cohenDIndT(final double tValue, final double size1,
+            final double size2, final double confidence,
+            final double lowerGuess, final double upperGuess) {
+        return solveT(tValue, size1 + size2 - 2,
+                CohenDIndT.calcDFromT(tValue, size1, size2),
+                indTScale(size1, size2), confidence, lowerGuess, upperGuess);
+    }
+
+    /**
+     * Return Cohen's d for a dependent t test using the standard deviation
+     * of the differences, each non-centrality search starting from a guess.
+     *
+     * @param input difference summary
+     * @param confidence confidence level
+     * @param lowerGuess lower non-centrality guess or NaN
+     * @param upperGuess upper non-centrality guess or NaN
+     * @return d and its interval
+     */
+    static NcInterval cohenDDepTDiff(final DifferenceSummary input,
+            final double confidence, final double lowerGuess,
+            final double upperGuess) {
+        final double stdErrDiff = AbstractTest.calcStdErr(input.getSize(),
+                input.getStdDevDiff());
+        return solveT(CohenDDepTDiff.calcT(input.getMeanDiff(), stdErrDiff),
+                input.getDf(), CohenDDepTDiff.calcD(input.getMeanDiff(),
+                        input.getStdDevDiff()), Math.sqrt(input.getSize()),
+                confidence, lowerGuess, upperGuess);
+    }
+
+    /**
+     * Return Cohen's d for a dependent t test from t, each non-centrality
+     * search starting from a guess.
+     *
+     * @param tValue t
+     * @param size number of pairs
+     * @param confidence confidence level
+     * @param lowerGuess lower non-centrality guess or NaN
+     * @param upperGuess upper non-centrality guess or NaN
+     * @return d and its interval
+     */
+    static NcInterval cohenDDepTDiff(final double tValue, final double size,
+            final double confidence, final double lowerGuess,
+            final double upperGuess) {
+        return solveT(tValue, size - 1, tValue / Math.sqrt(size),
+                Math.sqrt(size), confidence, lowerGuess, upperGuess);
+    }
+
+    /**
+     * Return eta squared for an omnibus F test, each non-centrality search
+     * starting from a guess.
+     *
+     * @param input sums of squares
+     * @param confidence confidence level
+     * @param lowerGuess lower non-centrality guess or NaN
+     * @param upperGuess upper non-centrality guess or NaN
+     * @return eta squared and its interval
+     */
+    static NcInterval eta2FOmni(final AnovaSummary input,
+            final double confidence, final double lowerGuess,
+            final double upperGuess) {
+        return solveF(input.getFValue(), input.getDfEffect(),
+                input.getDfError(), Eta2FOmni.calcEtaSquared(
+                        input.getSsEffect(), input.getSsTotal()), confidence,
+                lowerGuess, upperGuess);
+    }
+
+    /**
+     * Return eta squared for an omnibus F test from F, each non-centrality
+     * search starting from a guess.
+     *
+     * @param fValue F
+     * @param dfEffect effect degrees of freedom
+     * @param dfError error degrees of freedom
+     * @param confidence confidence level
+     * @param lowerGuess lower non-centrality guess or NaN
+     * @param upperGuess upper non-centrality guess or NaN
+     * @return eta squared and its interval
+     */
+    static NcInterval eta2FOmni(final double fValue, final double dfEffect,
+            final double dfError, final double confidence,
+            final double lowerGuess, final double upperGuess) {
+        return solveF(fValue, dfEffect, dfError, (dfEffect * fValue)
+                / ((dfEffect * fValue) + dfError), confidence, lowerGuess,
+                upperGuess);
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return Cohen's d for an independent t test.
+     *
+     * @param input group summaries
+     * @param confidence confidence level
+     * @return d and its interval
+     */
+    public static NcInterval cohenDIndT(final TwoGroupSummary input,
+            final double confidence) {
+        return cohenDIndT(input, confidence, Double.NaN, Double.NaN);
+    }
+
+    /**
+     * Return Cohen's d for an independent t test from t.
+     *
+     * @param tValue t
+     * @param size1 group 1 size
+     * @param size2 group 2 size
+     * @param confidence confidence level
+     * @return d and its interval
+     */
+    public static NcInterval cohenDIndT(final double tValue,
+            final double size1, final double size2, final double confidence) {
+        return cohenDIndT(tValue, size1, size2, confidence, Double.NaN,
+                Double.NaN);
+    }
+
+    /**
+     * Return Hedges' g for an independent t test. As in the calculator, the
+     * small-sample correction applies to g but not to its limits.
+     *
+     * @param input group summaries
+     * @param confidence confidence level
+     * @return g and its interval
+     */
+    public static NcInterval hedgesGIndT(final TwoGroupSummary input,
+            final double confidence) {
+        final double correction = HedgesGIndT.calcCorrection(input.getSize1(),
+                input.getSize2());
+        final double measure = correction * CohenDIndT.calcD(input.getMean1(),
+                input.getMean2(), input.getStdDevPooled());
+        return solveT(input.getTValue(), input.getDf(), measure,
+                indTScale(input.getSize1(), input.getSize2()), confidence);
+    }
+
+    /**
+     * Return Hedges' g for an independent t test from t.
+     *
+     * @param tValue t
+     * @param size1 group 1 size
+     * @param size2 group 2 size
+     * @param confidence confidence level
+     * @return g and its interval
+     */
+    public static NcInterval hedgesGIndT(final double tValue,
+            final double size1, final double size2, final double confidence) {
+        final double correction = HedgesGIndT.calcCorrection(size1, size2);
+        return solveT(tValue, size1 + size2 - 2,
+                correction * CohenDIndT.calcDFromT(tValue, size1, size2),
+                indTScale(size1, size2), confidence);
+    }
+
+    /**
+     * Return Glass's delta for an independent t test, standardized by the
+     * group 2 standard deviation.
+     *
+     * @param input group summaries
+     * @param confidence confidence level
+     * @return delta and its interval
+     */
+    public static NcInterval glassDIndT(final TwoGroupSummary input,
+            final double confidence) {
+        final double measure = CohenDIndT.calcD(input.getMean1(),
+                input.getMean2(), input.getStdDev2());
+        return solveT(input.getTValue(), input.getDf(), measure,
+                indTScale(input.getSize1(), input.getSize2()), confidence);
+    }
+
+    /**
+     * Return every standardized mean difference of an independent t test
+     * with the point-biserial correlation. The non-central t bounds are
+     * solved once and shared by all four intervals, which agree with the
+     * single-measure methods for the same input.
+     *
+     * @param input group summaries
+     * @param confidence confidence level
+     * @return d, g, Glass's delta and the point-biserial correlation
+     */
+    public static TFamilyReport tFamily(final TwoGroupSummary input,
+            final double confidence) {
+        final double tValue = input.getTValue();
+        final double df = input.getDf();
+        final double scale = indTScale(input.getSize1(), input.getSize2());
+        final double[] bounds = findTBounds(tValue, df, confidence);
+        final double cohenD = CohenDIndT.calcD(input.getMean1(),
+                input.getMean2(), input.getStdDevPooled());
+        final double correction = HedgesGIndT.calcCorrection(input.getSize1(),
+                input.getSize2());
+        final double glassDelta = CohenDIndT.calcD(input.getMean1(),
+                input.getMean2(), input.getStdDev2());
+        return new TFamilyReport(mapT(tValue, df, cohenD, scale, bounds),
+                mapT(tValue, df, correction * cohenD, scale, bounds),
+                mapT(tValue, df, glassDelta, scale, bounds),
+                mapR(tValue, df, bounds));
+    }
+
+    /**
+     * Return every standardized mean difference of an independent t test
+     * from t with the point-biserial correlation. Glass's delta needs the
+     * group standard deviations and is null in the result.
+     *
+     * @param tValue t
+     * @param size1 group 1 size
+     * @param size2 group 2 size
+     * @param confidence confidence level
+     * @return d, g and the point-biserial correlation
+     */
+    public static TFamilyReport tFamily(final double tValue,
+            final double size1, final double size2, final double confidence) {
+        final double df = size1 + size2 - 2;
+        final double scale = indTScale(size1, size2);
+        final double[] bounds = findTBounds(tValue, df, confidence);
+        final double cohenD = CohenDIndT.calcDFromT(tValue, size1, size2);
+        final double correction = HedgesGIndT.calcCorrection(size1, size2);
+        return new TFamilyReport(mapT(tValue, df, cohenD, scale, bounds),
+                mapT(tValue, df, correction * cohenD, scale, bounds), null,
+                mapR(tValue, df, bounds));
+    }
+
+    /**
+     * Return Cohen's d for a dependent t test using the average standard
+     * deviation.
+     *
+     * @param input paired summary
+     * @param confidence confidence level
+     * @return d and its interval
+     */
+    public static NcInterval cohenDDepTAvgs(final PairedSummary input,
+            final double confidence) {
+        final double size = input.getSize();
+        final double tValue = CohenDDepTAvgs.calcT(input.getMeanDiff(),
+                AbstractTest.calcStdErr(size, input.getStdDev1()),
+                AbstractTest.calcStdErr(size, input.getStdDev2()));
+        return solveT(tValue, input.getDf(), CohenDDepTAvgs.calcD(
+                input.getMeanDiff(), input.getStdDev1(), input.getStdDev2()),
+                Math.sqrt(size), confidence);
+    }
+
+    /**
+     * Return Cohen's d for a dependent t test using the standard deviation
+     * of the differences.
+     *
+     * @param input difference summary
+     * @param confidence confidence level
+     * @return d and its interval
+     */
+    public static NcInterval cohenDDepTDiff(final DifferenceSummary input,
+            final double confidence) {
+        return cohenDDepTDiff(input, confidence, Double.NaN, Double.NaN);
+    }
+
+    /**
+     * Return Cohen's d for a dependent t test from t.
+     *
+     * @param tValue t
+     * @param size number of pairs
+     * @param confidence confidence level
+     * @return d and its interval
+     */
+    public static NcInterval cohenDDepTDiff(final double tValue,
+            final double size, final double confidence) {
+        return cohenDDepTDiff(tValue, size, confidence, Double.NaN,
+                Double.NaN);
+    }
+
+    /**
+     * Return Cohen's d for a single-sample t test.
+     *
+     * @param input sample summary with the sample standard deviation
+     * @param confidence confidence level
+     * @return d and its interval
+     */
+    public static NcInterval cohenDSst(final OneSampleSummary input,
+            final double confidence) {
+        return solveT(CohenDSst.calcT(input.getSampleMean(),
+                input.getPopulationMean(), input.getStdErr()),
+                input.getSize() - 1, CohenDSst.calcD(input.getSampleMean(),
+                        input.getPopulationMean(), input.getStdDev()),
+                Math.sqrt(input.getSize()), confidence);
+    }
+
+    /**
+     * Return Cohen's d for a single-sample t test from t.
+     *
+     * @param tValue t
+     * @param size sample size
+     * @param confidence confidence level
+     * @return d and its interval
+     */
+    public static NcInterval cohenDSst(final double tValue, final double size,
+            final double confidence) {
+        return solveT(tValue, size - 1, tValue / Math.sqrt(size),
+                Math.sqrt(size), confidence);
+    }
+
+    /**
+     * Return Cohen's d from a correlation.
+     *
+     * @param rValue correlation
+     * @param size sample size
+     * @param confidence confidence level
+     * @return d and its interval
+     */
+    public static NcInterval cohenDR(final double rValue, final double size,
+            final double confidence) {
+        final double df = size - 2;
+        return solveT(CohenDR.calcT(rValue, size), df, CohenDR.calcD(rValue),
+                Math.sqrt(df) * 0.5, confidence);
+    }
+
+    /**
+     * Return Cohen's d for a z test.
+     *
+     * @param input sample summary with the population standard deviation
+     * @param confidence confidence level
+     * @return d and its interval
+     */
+    public static NormalInterval cohenDZ(final OneSampleSummary input,
+            final double confidence) {
+        return normal(CohenDZ.calcZ(input.getSampleMean(),
+                input.getPopulationMean(), input.getStdErr()),
+                CohenDZ.calcD(input.getSampleMean(), input.getPopulationMean(),
+                        input.getStdDev()), input.getStdDev(), confidence);
+    }
+
+    /**
+     * Return Cohen's d for a z test from z.
+     *
+     * @param zValue z
+     * @param stdDev population standard deviation
+     * @param size sample size
+     * @param confidence confidence level
+     * @return d and its interval
+     */
+    public static NormalInterval cohenDZ(final double zValue,
+            final double stdDev, final double size, final double confidence) {
+        return normal(zValue, zValue / Math.sqrt(size), stdDev, confidence);
+    }
+
+    /**
+     * Return the odds ratio, with an interval from the normal approximation
+     * to its logarithm.
+     *
+     * @param input table counts
+     * @param confidence confidence level
+     * @return odds ratio and its interval
+     */
+    public static NormalInterval oddsRatio(final TwoByTwoTable input,
+            final double confidence) {
+        final double measure = OddsRisk.calcOmega(input.getValue11(),
+                input.getValue12(), input.getValue21(), input.getValue22());
+        final double deviations = ConfIntNormal.findX(
+                1 - (alpha(confidence) * 0.5));
+        final double stdErr = Math.sqrt(1 / input.getValue11()
+                + 1 / input.getValue12() + 1 / input.getValue21()
+                + 1 / input.getValue22());
+        return new NormalInterval(Double.NaN, measure, deviations,
+                Math.exp(Math.log(measure) - deviations * stdErr),
+                Math.exp(Math.log(measure) + deviations * stdErr));
+    }
+
+    /**
+     * Return the exact conditional odds ratio of a 2 x 2 table: the
+     * conditional maximum likelihood estimate and the Cornfield interval
+     * from Fisher's non-central hypergeometric distribution. Unlike the Woolf
+     * interval of oddsRatio, it is defined for tables with empty cells.
+     *
+     * @param input cell counts
+     * @param confidence confidence level
+     * @return estimate and interval
+     * @exception IllegalArgumentException if a count is negative or not a
+     * whole number
+     */
+    public static ExactOddsRatio oddsRatioExact(final TwoByTwoTable input,
+            final double confidence) {
+        final double alpha = alpha(confidence);
+        final int value11 = count(input.getValue11());
+        final int value12 = count(input.getValue12());
+        final int value21 = count(input.getValue21());
+        final int value22 = count(input.getValue22());
+        final NoncentralHypergeometric dist = new NoncentralHypergeometric(
+                value11 + value12, value21 + value22, value11 + value21);
+        // Start each search from the sample log odds ratio, with 1/2 added
+        // to every cell so that it is finite
+        final double guess = Math.log(((value11 + 0.5) * (value22 + 0.5))
+                / ((value12 + 0.5) * (value21 + 0.5)));
+        return new ExactOddsRatio(
+                ConfIntNchg.findConditionalMle(dist, value11, guess),
+                ConfIntNchg.findLowerLimit(dist, value11, alpha * 0.5, guess),
+                ConfIntNchg.findUpperLimit(dist, value11, alpha * 0.5, guess));
+    }
+
+    /**
+     * Return Cramer's V of a contingency table, which is phi for a table with
+     * two rows or two columns, with an interval from the non-central
+     * chi-square distribution. Both are mapped from a non-centrality, the
+     * estimate from max(0, chi-square - df).
+     *
+     * @param input cell counts
+     * @param confidence confidence level
+     * @return Cramer's V and its interval
+     */
+    public static NcInterval cramersV(final ContingencyTable input,
+            final double confidence) {
+        return solveChiSquare(input.getChiSquare(), input.getSize(),
+                input.getRows(), input.getColumns(), confidence);
+    }
+
+    /**
+     * Return Cramer's V from Pearson's chi-square.
+     *
+     * @param chiSquare chi-square
+     * @param size total count
+     * @param rows number of rows
+     * @param columns number of columns
+     * @param confidence confidence level
+     * @return Cramer's V and its interval
+     */
+    public static NcInterval cramersV(final double chiSquare,
+            final double size, final int rows, final int columns,
+            final double confidence) {
+        return solveChiSquare(chiSquare, size, rows, columns, confidence);
+    }
+
+    /**
+     * Return R squared of a multiple regression with the interval of its
+     * omnibus F test, F = (R^2 / k) / ((1 - R^2) / (N - k - 1)), mapped with
+     * rho^2 = lambda / (lambda + N).
+     *
+     * @param rSquared R squared
+     * @param size sample size
+     * @param predictors number of predictors
+     * @param confidence confidence level
+     * @return R squared and its interval
+     */
+    public static NcInterval r2FOmni(final double rSquared, final double size,
+            final double predictors, final double confidence) {
+        checkRegression(rSquared, size, predictors);
+        return solveRegression(R2FOmni.calcF(rSquared, size, predictors),
+                predictors, size - predictors - 1, rSquared, 1, confidence);
+    }
+
+    /**
+     * Return the R squared change of a set of predictors added to a
+     * regression with the interval of its F change test,
+     * F = (delta R^2 / q) / ((1 - R^2 full) / (N - k - 1)). The limits of the
+     * partial rho^2 = lambda / (lambda + q + N - k) are scaled by
+     * 1 - R^2 reduced, the variance left to the added set.
+     *
+     * @param rSquaredFull R squared of the full model
+     * @param rSquaredReduced R squared of the reduced model
+     * @param size sample size
+     * @param predictors number of predictors of the full model, k
+     * @param added number of predictors added to the reduced model, q
+     * @param confidence confidence level
+     * @return R squared change and its interval
+     */
+    public static NcInterval deltaR2FChange(final double rSquaredFull,
+            final double rSquaredReduced, final double size,
+            final double predictors, final double added,
+            final double confidence) {
+        checkRegression(rSquaredFull, size, predictors);
+        if (!(rSquaredReduced >= 0 && rSquaredReduced <= rSquaredFull)) {
+            throw new IllegalArgumentException("reduced R squared not in "
+                    + "[0, full R squared]");
+        }
+        if (!(added >= 1 && added <= predictors)) {
+            throw new IllegalArgumentException("added predictors not in "
+                    + "[1, predictors]");
+        }
+        return solveRegression(DeltaR2FChange.calcF(rSquaredFull,
+                rSquaredReduced, size, predictors, added), added,
+                size - predictors - 1, rSquaredFull - rSquaredReduced,
+                1 - rSquaredReduced, confidence);
+    }
+
+    /**
+     * Return the exact interval of the population squared multiple
+     * correlation with random regressors, from the sampling distribution of
+     * R squared. Each limit costs several times the F interval of r2FOmni,
+     * which treats the regressors as fixed.
+     *
+     * @param rSquared R squared
+     * @param size sample size
+     * @param predictors number of predictors
+     * @param confidence confidence level
+     * @return R squared and its interval
+     */
+    public static ExactRSquared r2Exact(final double rSquared,
+            final double size, final double predictors,
+            final double confidence) {
+        final double alpha = alpha(confidence);
+        checkRegression(rSquared, size, predictors);
+        // Start the lower search from the adjusted R squared
+        final double adjusted = 1 - (1 - rSquared) * (size - 1)
+                / (size - predictors - 1);
+        final double lower = ConfIntR2.findRhoSquared(rSquared, predictors,
+                size, 1 - (alpha * 0.5), adjusted);
+        final double upper = ConfIntR2.findRhoSquared(rSquared, predictors,
+                size, alpha * 0.5, Math.max(lower, rSquared));
+        return new ExactRSquared(rSquared, lower, upper);
+    }
+
+    /**
+     * Return eta squared for an omnibus F test.
+     *
+     * @param input sums of squares
+     * @param confidence confidence level
+     * @return eta squared and its interval
+     */
+    public static NcInterval eta2FOmni(final AnovaSummary input,
+            final double confidence) {
+        return eta2FOmni(input, confidence, Double.NaN, Double.NaN);
+    }
+
+    /**
+     * Return eta squared for an omnibus F test from F.
+     *
+     * @param fValue F
+     * @param dfEffect effect degrees of freedom
+     * @param dfError error degrees of freedom
+     * @param confidence confidence level
+     * @return eta squared and its interval
+     */
+    public static NcInterval eta2FOmni(final double fValue,
+            final double dfEffect, final double dfError,
+            final double confidence) {
+        return eta2FOmni(fValue, dfEffect, dfError, confidence, Double.NaN,
+                Double.NaN);
+    }
+
+    /**
+     * Return omega squared for an omnibus F test.
+     *
+     * @param input sums of squares
+     * @param confidence confidence level
+     * @return omega squared and its interval
+     */
+    public static NcInterval omega2FOmni(final AnovaSummary input,
+            final double confidence) {
+        return solveF(input.getFValue(), input.getDfEffect(),
+                input.getDfError(), omegaSquared(input), confidence);
+    }
+
+    /**
+     * Return omega squared for an omnibus F test from F.
+     *
+     * @param fValue F
+     * @param dfEffect effect degrees of freedom
+     * @param dfError error degrees of freedom
+     * @param confidence confidence level
+     * @return omega squared and its interval
+     */
+    public static NcInterval omega2FOmni(final double fValue,
+            final double dfEffect, final double dfError,
+            final double confidence) {
+        final double top = dfEffect * (fValue - 1);
+        return solveF(fValue, dfEffect, dfError,
+                top / (top + dfEffect + dfError + 1), confidence);
+    }
+
+    /**
+     * Return partial eta squared for an effect F test.
+     *
+     * @param input sums of squares
+     * @param confidence confidence level
+     * @return partial eta squared and its interval
+     */
+    public static NcInterval pEta2FEff(final AnovaSummary input,
+            final double confidence) {
+        return eta2FOmni(input, confidence);
+    }
+
+    /**
+     * Return partial eta squared for an effect F test from F.
+     *
+     * @param fValue F
+     * @param dfEffect effect degrees of freedom
+     * @param dfError error degrees of freedom
+     * @param confidence confidence level
+     * @return partial eta squared and its interval
+     */
+    public static NcInterval pEta2FEff(final double fValue,
+            final double dfEffect, final double dfError,
+            final double confidence) {
+        return eta2FOmni(fValue, dfEffect, dfError, confidence);
+    }
+
+    /**
+     * Return partial omega squared for an effect F test.
+     *
+     * @param input sums of squares
+     * @param confidence confidence level
+     * @return partial omega squared and its interval
+     */
+    public static NcInterval pOmega2FEff(final AnovaSummary input,
+            final double confidence) {
+        return omega2FOmni(input, confidence);
+    }
+
+    /**
+     * Return partial omega squared for an effect F test from F.
+     *
+     * @param fValue F
+     * @param dfEffect effect degrees of freedom
+     * @param dfError error degrees of freedom
+     * @param confidence confidence level
+     * @return partial omega squared and its interval
+     */
+    public static NcInterval pOmega2FEff(final double fValue,
+            final double dfEffect, final double dfError,
+            final double confidence) {
+        final double top = dfEffect * (fValue - 1);
+        return solveF(fValue, dfEffect, dfError,
+                top / (top + dfEffect + dfError), confidence);
+    }
+
+    /**
+     * Return the intraclass correlation for an F test.
+     *
+     * @param input sums of squares
+     * @param confidence confidence level
+     * @return intraclass correlation and its interval
+     */
+    public static NcInterval rIntraCorrF(final AnovaSummary input,
+            final double confidence) {
+        return solveF(input.getFValue(), input.getDfEffect(),
+                input.getDfError(), intraCorr(input), confidence);
+    }
+
+    /**
+     * Return every F-based measure of one effect. The non-central F bounds
+     * are solved once and shared by all five intervals, which agree with the
+     * single-measure methods for the same input.
+     *
+     * @param input sums of squares
+     * @param confidence confidence level
+     * @return eta squared, partial eta squared, omega squared, partial omega
+     * squared and the intraclass correlation
+     */
+    public static FFamilyReport fFamily(final AnovaSummary input,
+            final double confidence) {
+        final double fValue = input.getFValue();
+        final double dfEffect = input.getDfEffect();
+        final double dfError = input.getDfError();
+        final double[] bounds = findFBounds(fValue, dfEffect, dfError,
+                confidence);
+        final double etaSquared = Eta2FOmni.calcEtaSquared(
+                input.getSsEffect(), input.getSsTotal());
+        final double omegaSquared = omegaSquared(input);
+        return new FFamilyReport(
+                mapF(fValue, dfEffect, dfError, etaSquared, bounds),
+                mapF(fValue, dfEffect, dfError, etaSquared, bounds),
+                mapF(fValue, dfEffect, dfError, omegaSquared, bounds),
+                mapF(fValue, dfEffect, dfError, omegaSquared, bounds),
+                mapF(fValue, dfEffect, dfError, intraCorr(input), bounds));
+    }
+
+    /**
+     * Return every F-based measure of one effect from F. The non-central F
+     * bounds are solved once and shared by all five intervals, which agree
+     * with the single-measure methods for the same F.
+     *
+     * @param fValue F
+     * @param dfEffect effect degrees of freedom
+     * @param dfError error degrees of freedom
+     * @param confidence confidence level
+     * @return eta squared, partial eta squared, omega squared, partial omega
+     * squared and the intraclass correlation
+     */
+    public static FFamilyReport fFamily(final double fValue,
+            final double dfEffect, final double dfError,
+            final double confidence) {
+        final double[] bounds = findFBounds(fValue, dfEffect, dfError,
+                confidence);
+        final double etaSquared = (dfEffect * fValue)
+                / ((dfEffect * fValue) + dfError);
+        final double top = dfEffect * (fValue - 1);
+        return new FFamilyReport(
+                mapF(fValue, dfEffect, dfError, etaSquared, bounds),
+                mapF(fValue, dfEffect, dfError, etaSquared, bounds),
+                mapF(fValue, dfEffect, dfError,
+                        top / (top + dfEffect + dfError + 1), bounds),
+                mapF(fValue, dfEffect, dfError,
+                        top / (top + dfEffect + dfError), bounds),
+                mapF(fValue, dfEffect, dfError,
+                        (fValue - 1) / (fValue + dfEffect), bounds));
+    }
+}
@@ -0,0 +1,65 @@
+package edu.missouristate.mote.effectsizes;
+
+/**
+ * Immutable result of the exact conditional analysis of a 2 x 2 table: the
+ * conditional maximum likelihood estimate of the odds ratio and its exact
+ * (Cornfield) confidence interval.
+ */
+public final class ExactOddsRatio {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final double conditionalMle;
+    private final double lower;
+    private final double upper;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of an ExactOddsRatio.
+     *
+     * @param conditionalMle conditional maximum likelihood estimate
+     * @param lower lower confidence limit
+     * @param upper upper confidence limit
+     */
+    ExactOddsRatio(final double conditionalMle, final double lower,
+            final double upper) {
+        this.conditionalMle = conditionalMle;
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the conditional maximum likelihood estimate of the odds ratio.
+     *
+     * @return estimate; zero or infinity if a cell makes it so
+     */
+    public double getConditionalMle() {
+        return conditionalMle;
+    }
+
+    /**
+     * Return the lower confidence limit of the odds ratio.
+     *
+     * @return lower limit; zero if the top-left count is the smallest
+     * possible
+     */
+    public double getLower() {
+        return lower;
+    }
+
+    /**
+     * Return the upper confidence limit of the odds ratio.
+     *
+     * @return upper limit; infinity if the top-left count is the largest
+     * possible
+     */
+    public double getUpper() {
+        return upper;
+    }
+}
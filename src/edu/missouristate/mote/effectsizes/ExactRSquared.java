@@ -0,0 +1,63 @@
+package edu.missouristate.mote.effectsizes;
+
+/**
+ * Immutable result of the exact interval of the population squared multiple
+ * correlation with random regressors.
+ */
+public final class ExactRSquared {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final double rSquared;
+    private final double lower;
+    private final double upper;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of an ExactRSquared.
+     *
+     * @param rSquared sample R squared
+     * @param lower lower confidence limit
+     * @param upper upper confidence limit
+     */
+    ExactRSquared(final double rSquared, final double lower,
+            final double upper) {
+        this.rSquared = rSquared;
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the sample R squared.
+     *
+     * @return R squared
+     */
+    public double getRSquared() {
+        return rSquared;
+    }
+
+    /**
+     * Return the lower confidence limit of rho squared.
+     *
+     * @return lower limit; zero if R squared is below the lower critical
+     * value
+     */
+    public double getLower() {
+        return lower;
+    }
+
+    /**
+     * Return the upper confidence limit of rho squared.
+     *
+     * @return upper limit
+     */
+    public double getUpper() {
+        return upper;
+    }
+}
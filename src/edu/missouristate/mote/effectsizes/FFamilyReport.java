@@ -0,0 +1,106 @@
+package edu.missouristate.mote.effectsizes;
+
+/**
+ * Immutable set of the F-based measures of one effect. Every interval comes
+ * from the same pair of non-central F bounds, so a report costs two root
+ * searches where the five single-measure calculations cost ten.
+ */
+public final class FFamilyReport {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final NcInterval etaSquared;
+    private final NcInterval partialEtaSquared;
+    private final NcInterval omegaSquared;
+    private final NcInterval partialOmegaSquared;
+    private final NcInterval intraCorr;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a FFamilyReport.
+     *
+     * @param etaSquared eta squared
+     * @param partialEtaSquared partial eta squared
+     * @param omegaSquared omega squared
+     * @param partialOmegaSquared partial omega squared
+     * @param intraCorr intraclass correlation
+     */
+    FFamilyReport(final NcInterval etaSquared,
+            final NcInterval partialEtaSquared, final NcInterval omegaSquared,
+            final NcInterval partialOmegaSquared, final NcInterval intraCorr) {
+        this.etaSquared = etaSquared;
+        this.partialEtaSquared = partialEtaSquared;
+        this.omegaSquared = omegaSquared;
+        this.partialOmegaSquared = partialOmegaSquared;
+        this.intraCorr = intraCorr;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return eta squared and its interval.
+     *
+     * @return eta squared
+     */
+    public NcInterval getEtaSquared() {
+        return etaSquared;
+    }
+
+    /**
+     * Return partial eta squared and its interval.
+     *
+     * @return partial eta squared
+     */
+    public NcInterval getPartialEtaSquared() {
+        return partialEtaSquared;
+    }
+
+    /**
+     * Return omega squared and its interval.
+     *
+     * @return omega squared
+     */
+    public NcInterval getOmegaSquared() {
+        return omegaSquared;
+    }
+
+    /**
+     * Return partial omega squared and its interval.
+     *
+     * @return partial omega squared
+     */
+    public NcInterval getPartialOmegaSquared() {
+        return partialOmegaSquared;
+    }
+
+    /**
+     * Return the intraclass correlation and its interval.
+     *
+     * @return intraclass correlation
+     */
+    public NcInterval getIntraCorr() {
+        return intraCorr;
+    }
+
+    /**
+     * Return the lower non-centrality parameter shared by every interval.
+     *
+     * @return lower non-centrality parameter
+     */
+    public double getLowerNc() {
+        return etaSquared.getLowerNc();
+    }
+
+    /**
+     * Return the upper non-centrality parameter shared by every interval.
+     *
+     * @return upper non-centrality parameter
+     */
+    public double getUpperNc() {
+        return etaSquared.getUpperNc();
+    }
+}
@@ -5,11 +5,13 @@ import edu.missouristate.mote.propertygrid.CategoryAnnotation;
 import edu.missouristate.mote.propertygrid.DescriptionAnnotation;
 import edu.missouristate.mote.propertygrid.IndexAnnotation;
 import edu.missouristate.mote.propertygrid.NameAnnotation;
+import edu.missouristate.mote.propertygrid.StepAnnotation;
 
 /**
  * Glass's delta, independent t test.
  */
-public final class GlassDIndT extends AbstractNonCentralTest {
+public final class GlassDIndT extends AbstractNonCentralTest
+        implements TwoGroupInputs {
 
     // *************************************************************************
     // INPUT FIELDS
@@ -45,10 +47,27 @@ public final class GlassDIndT extends AbstractNonCentralTest {
     private transient double measure;
     private transient double lowerMeasure;
     private transient double lowerNc;
-    private transient double[][] lowerPdf;
+    private transient NcInterval interval;
     private transient double upperMeasure;
     private transient double upperNc;
-    private transient double[][] upperPdf;
+
+    // *************************************************************************
+    // CACHED RESULTS
+    // *************************************************************************
+    // Interval, solved again only when its inputs change
+    private final transient ResultCache.Entry<NcInterval> intervalEntry =
+            new ResultCache.Entry<NcInterval>(getResultCache()) {
+                @Override
+                protected double[] getKey() {
+                    return new double[]{mean1, mean2, stdDev1, stdDev2, size1,
+                            size2, confidence};
+                }
+
+                @Override
+                protected NcInterval compute() {
+                    return solveInterval();
+                }
+            };
 
     // *************************************************************************
     // CONSTRUCTORS
@@ -84,26 +103,6 @@ public final class GlassDIndT extends AbstractNonCentralTest {
         stdErrPooled = calcSEPooled(stdDevPooled, size1, size2);
     }
 
-    /**
-     * Return the value for d.
-     *
-     * @param mean1 group 1 mean
-     * @param mean2 group 2 mean
-     * @param stdDev2 control group standard deviation
-     *
-     * @return d value
-     */
-    private static double calcD(final double mean1, final double mean2,
-            final double stdDev2) {
-        double result;
-        if (stdDev2 != 0) {
-            result = (mean1 - mean2) / stdDev2;
-        } else {
-            result = 0.0;
-        }
-        return result;
-    }
-
     /**
      * Return the pooled standard deviation.
      *
@@ -145,58 +144,65 @@ public final class GlassDIndT extends AbstractNonCentralTest {
         return result;
     }
 
-    /**
-     * Return the value for t.
-     *
-     * @param mean1 group 1 mean
-     * @param mean2 group 2 mean
-     * @param stdErrPooled pooled standard error
-     *
-     * @return t value
-     */
-    private static double calcT(final double mean1, final double mean2,
-            final double stdErrPooled) {
-        double result;
-        if (stdErrPooled != 0) {
-            result = (mean1 - mean2) / stdErrPooled;
-        } else {
-            result = 0.0;
-        }
-        return result;
-    }
-
     /**
      * Calculate the effect size.
      */
     private void calculate() {
+        if (isResetting()) {
+            return;
+        }
         if (df <= 0) {
             setErrorMessage("degrees of freedom <= 0");
             return;
         }
         setErrorMessage("");
-        testStatistic = calcT(mean1, mean2, stdErrPooled);
-        measure = calcD(mean1, mean2, stdDev2);
-        // Lower, upper non-centrality parameters
-        final double alpha = 1 - confidence;
+        testStatistic = CohenDIndT.calcT(mean1, mean2, stdErrPooled);
+        measure = CohenDIndT.calcD(mean1, mean2, stdDev2);
         try {
-            lowerNc = ConfIntNct.findNonCentrality(testStatistic, df,
-                    1 - (alpha * 0.5));
-            upperNc = ConfIntNct.findNonCentrality(testStatistic, df, alpha * 0.5);
-        } catch (ArithmeticException ex) {
+            interval = intervalEntry.get();
+        } catch (ArithmeticException | IllegalArgumentException ex) {
             setErrorMessage(ex.getLocalizedMessage());
+            interval = null;
+            lowerNc = Double.NaN;
+            upperNc = Double.NaN;
+            lowerMeasure = Double.NaN;
+            upperMeasure = Double.NaN;
             doStateChanged();
             return;
         }
-        // Lower, upper Cohen's d
-        final double bottom = Math.sqrt((size1 * size2) / size);
-        lowerMeasure = lowerNc / bottom;
-        upperMeasure = upperNc / bottom;
-        // PDF curves
-        lowerPdf = ConfIntNct.createPdf(testStatistic, df, lowerNc, lowerNc, upperNc);
-        upperPdf = ConfIntNct.createPdf(testStatistic, df, upperNc, lowerNc, upperNc);
+        lowerNc = interval.getLowerNc();
+        upperNc = interval.getUpperNc();
+        lowerMeasure = interval.getLowerMeasure();
+        upperMeasure = interval.getUpperMeasure();
         doStateChanged();
     }
 
+    /**
+     * Solve the confidence interval from the inputs.
+     *
+     * @return interval
+     */
+    private NcInterval solveInterval() {
+        return EffectSizes.glassDIndT(new TwoGroupSummary(mean1,
+                mean2, stdDev1, stdDev2, size1, size2), confidence);
+    }
+
+    // *************************************************************************
+    // PROTECTED METHODS
+    // *************************************************************************
+    @Override
+    protected void setDefaults() {
+        fixedSD1 = true;
+        fixedSD2 = true;
+        setSize1(0);
+        setSize2(0);
+        setMean1(0);
+        setMean2(0);
+        setStdDev1(0);
+        setStdDev2(0);
+        setConfidence(0.95);
+    }
+
     // *************************************************************************
     // PUBLIC METHODS
     // *************************************************************************
@@ -222,15 +228,15 @@ public final class GlassDIndT extends AbstractNonCentralTest {
 
     @Override
     public void reset() {
-        fixedSD1 = true;
-        fixedSD2 = true;
-        setSize1(0);
-        setSize2(0);
-        setMean1(0);
-        setMean2(0);
-        setStdDev1(0);
-        setStdDev2(0);
-        setConfidence(0.95);
+        beginUpdate();
+        try {
+            setResetting(true);
+            setDefaults();
+            setResetting(false);
+            calculate();
+        } finally {
+            endUpdate();
+        }
     }
 
     // *************************************************************************
@@ -348,6 +354,7 @@ public final class GlassDIndT extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Group 1 Size (n1)")
     @IndexAnnotation(value = 7)
+    @StepAnnotation(value = 1)
     @DescriptionAnnotation(value = "Size of the sample in group 1.")
     public double getSize1() {
         return size1;
@@ -364,6 +371,7 @@ public final class GlassDIndT extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Group 2 Size (n2)")
     @IndexAnnotation(value = 8)
+    @StepAnnotation(value = 1)
     @DescriptionAnnotation(value = "Size of the sample in group 2.")
     public double getSize2() {
         return size2;
@@ -380,6 +388,7 @@ public final class GlassDIndT extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Confidence (1 - " + Constants.ALPHA_LOWER + ")")
     @IndexAnnotation(value = 9)
+    @StepAnnotation(value = 0.001)
     @DescriptionAnnotation(value = "Confidence interval expressed as a "
             + "percentage in the range 0...1.")
     @Override
@@ -491,9 +500,14 @@ public final class GlassDIndT extends AbstractNonCentralTest {
         return lowerNc;
     }
 
+    @Override
+    public NcInterval getInterval() {
+        return interval;
+    }
+
     @Override
     public double[][] getLowerPdf() {
-        return lowerPdf;
+        return interval == null ? null : interval.getLowerPdf();
     }
 
     @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
@@ -509,6 +523,6 @@ public final class GlassDIndT extends AbstractNonCentralTest {
 
     @Override
     public double[][] getUpperPdf() {
-        return upperPdf;
+        return interval == null ? null : interval.getUpperPdf();
     }
 }
\ No newline at end of file
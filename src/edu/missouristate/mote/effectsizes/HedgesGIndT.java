@@ -5,11 +5,13 @@ import edu.missouristate.mote.propertygrid.CategoryAnnotation;
 import edu.missouristate.mote.propertygrid.DescriptionAnnotation;
 import edu.missouristate.mote.propertygrid.IndexAnnotation;
 import edu.missouristate.mote.propertygrid.NameAnnotation;
+import edu.missouristate.mote.propertygrid.StepAnnotation;
 
 /**
  * Hedges's g, independent t test.
  */
-public final class HedgesGIndT extends AbstractNonCentralTest {
+public final class HedgesGIndT extends AbstractNonCentralTest
+        implements TwoGroupInputs {
 
     // *************************************************************************
     // INPUT FIELDS
@@ -46,15 +48,36 @@ public final class HedgesGIndT extends AbstractNonCentralTest {
     private transient boolean fixedSD2;
     private transient double lowerMeasure;
     private transient double lowerNc;
-    private transient double[][] lowerPdf;
+    private transient NcInterval interval;
     private transient double upperMeasure;
     private transient double upperNc;
-    private transient double[][] upperPdf;
     /**
      * True if d should be calculated from inputs; false if from t
      */
     private transient boolean useInputs;
 
+    // *************************************************************************
+    // CACHED RESULTS
+    // *************************************************************************
+    // Interval, solved again only when its inputs change
+    private final transient ResultCache.Entry<NcInterval> intervalEntry =
+            new ResultCache.Entry<NcInterval>(getResultCache()) {
+                @Override
+                protected double[] getKey() {
+                    if (useInputs) {
+                        return new double[]{1, mean1, mean2, stdDev1, stdDev2,
+                                size1, size2, confidence};
+                    }
+                    return new double[]{0, testStatistic, size1, size2,
+                            confidence};
+                }
+
+                @Override
+                protected NcInterval compute() {
+                    return solveInterval();
+                }
+            };
+
     // *************************************************************************
     // CONSTRUCTORS
     // *************************************************************************
@@ -96,7 +119,7 @@ public final class HedgesGIndT extends AbstractNonCentralTest {
      * @param size2 group 2 size
      * @return correction factor
      */
-    private static double calcCorrection(final double size1,
+    static double calcCorrection(final double size1,
             final double size2) {
         double result;
         if (size1 + size2 > 2.25) {
@@ -107,26 +130,6 @@ public final class HedgesGIndT extends AbstractNonCentralTest {
         return result;
     }
 
-    /**
-     * Return the value for g.
-     *
-     * @param mean1 group 1 mean
-     * @param mean2 group 2 mean
-     * @param stdDevPooled pooled standard deviation
-     * @param correction correction factor
-     * @return g value
-     */
-    private static double calcG(final double mean1, final double mean2,
-            final double stdDevPooled, final double correction) {
-        double result;
-        if (stdDevPooled != 0) {
-            result = correction * (mean1 - mean2) / stdDevPooled;
-        } else {
-            result = 0.0;
-        }
-        return result;
-    }
-
     /**
      * Return the pooled standard deviation.
      *
@@ -168,62 +171,75 @@ public final class HedgesGIndT extends AbstractNonCentralTest {
         return result;
     }
 
-    /**
-     * Return the value for t.
-     *
-     * @param mean1 group 1 mean
-     * @param mean2 group 2 mean
-     * @param stdErrPooled pooled standard error
-     * @return t value
-     */
-    private static double calcT(final double mean1, final double mean2,
-            final double stdErrPooled) {
-        double result;
-        if (stdErrPooled != 0) {
-            result = (mean1 - mean2) / stdErrPooled;
-        } else {
-            result = 0.0;
-        }
-        return result;
-    }
-
     /**
      * Calculate the effect size.
      */
     private void calculate() {
+        if (isResetting()) {
+            return;
+        }
         if (df <= 0) {
             setErrorMessage("degrees of freedom <= 0");
             return;
         }
         setErrorMessage("");
         if (useInputs) {
-            testStatistic = calcT(mean1, mean2, stdErrPooled);
-            measure = calcG(mean1, mean2, stdDevPooled, correction);
+            testStatistic = CohenDIndT.calcT(mean1, mean2, stdErrPooled);
+            measure = correction * CohenDIndT.calcD(mean1, mean2,
+                    stdDevPooled);
         } else {
-            measure = correction * testStatistic * Math.sqrt(size
-                    / (size1 * size2) * size / df);
+            measure = correction * CohenDIndT.calcDFromT(testStatistic, size1,
+                    size2);
         }
-        // Lower, upper non-centrality parameters
-        final double alpha = 1 - confidence;
         try {
-            lowerNc = ConfIntNct.findNonCentrality(testStatistic, df,
-                    1 - (alpha * 0.5));
-            upperNc = ConfIntNct.findNonCentrality(testStatistic, df, alpha * 0.5);
-        } catch (ArithmeticException ex) {
+            interval = intervalEntry.get();
+        } catch (ArithmeticException | IllegalArgumentException ex) {
             setErrorMessage(ex.getLocalizedMessage());
+            interval = null;
+            lowerNc = Double.NaN;
+            upperNc = Double.NaN;
+            lowerMeasure = Double.NaN;
+            upperMeasure = Double.NaN;
             doStateChanged();
             return;
         }
-        // Lower, upper Hedge's g
-        final double bottom = Math.sqrt((size1 * size2) / size);
-        lowerMeasure = lowerNc / bottom;
-        upperMeasure = upperNc / bottom;
-        // PDF curves
-        lowerPdf = ConfIntNct.createPdf(testStatistic, df, lowerNc, lowerNc, upperNc);
-        upperPdf = ConfIntNct.createPdf(testStatistic, df, upperNc, lowerNc, upperNc);
+        lowerNc = interval.getLowerNc();
+        upperNc = interval.getUpperNc();
+        lowerMeasure = interval.getLowerMeasure();
+        upperMeasure = interval.getUpperMeasure();
         doStateChanged();
     }
 
+    /**
+     * Solve the confidence interval from the inputs.
+     *
+     * @return interval
+     */
+    private NcInterval solveInterval() {
+        return useInputs
+                ? EffectSizes.hedgesGIndT(new TwoGroupSummary(mean1, mean2,
+                        stdDev1, stdDev2, size1, size2), confidence)
+                : EffectSizes.hedgesGIndT(testStatistic, size1, size2,
+                        confidence);
+    }
+
+    // *************************************************************************
+    // PROTECTED METHODS
+    // *************************************************************************
+    @Override
+    protected void setDefaults() {
+        fixedSD1 = true;
+        fixedSD2 = true;
+        useInputs = true;
+        setSize1(0);
+        setSize2(0);
+        setMean1(0);
+        setMean2(0);
+        setStdDev1(0);
+        setStdDev2(0);
+        setConfidence(0.95);
+    }
+
     // *************************************************************************
     // PUBLIC METHODS
     // *************************************************************************
@@ -249,16 +265,15 @@ public final class HedgesGIndT extends AbstractNonCentralTest {
 
     @Override
     public void reset() {
-        fixedSD1 = true;
-        fixedSD2 = true;
-        useInputs = true;
-        setSize1(0);
-        setSize2(0);
-        setMean1(0);
-        setMean2(0);
-        setStdDev1(0);
-        setStdDev2(0);
-        setConfidence(0.95);
+        beginUpdate();
+        try {
+            setResetting(true);
+            setDefaults();
+            setResetting(false);
+            calculate();
+        } finally {
+            endUpdate();
+        }
     }
 
     // *************************************************************************
@@ -379,6 +394,7 @@ public final class HedgesGIndT extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Group 1 Size (n1)")
     @IndexAnnotation(value = 7)
+    @StepAnnotation(value = 1)
     @DescriptionAnnotation(value = "Size of the sample in group 1.")
     public double getSize1() {
         return size1;
@@ -398,6 +414,7 @@ public final class HedgesGIndT extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Group 2 Size (n2)")
     @IndexAnnotation(value = 8)
+    @StepAnnotation(value = 1)
     @DescriptionAnnotation(value = "Size of the sample in group 2.")
     public double getSize2() {
         return size2;
@@ -441,6 +458,7 @@ public final class HedgesGIndT extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Confidence (1 - " + Constants.ALPHA_LOWER + ")")
     @IndexAnnotation(value = 10)
+    @StepAnnotation(value = 0.001)
     @DescriptionAnnotation(value = "Confidence interval expressed as a "
             + "percentage in the range 0...1.")
     @Override
@@ -553,9 +571,14 @@ public final class HedgesGIndT extends AbstractNonCentralTest {
         return lowerNc;
     }
 
+    @Override
+    public NcInterval getInterval() {
+        return interval;
+    }
+
     @Override
     public double[][] getLowerPdf() {
-        return lowerPdf;
+        return interval == null ? null : interval.getLowerPdf();
     }
 
     @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
@@ -571,6 +594,6 @@ public final class HedgesGIndT extends AbstractNonCentralTest {
 
     @Override
     public double[][] getUpperPdf() {
-        return upperPdf;
+        return interval == null ? null : interval.getUpperPdf();
     }
 }
\ No newline at end of file
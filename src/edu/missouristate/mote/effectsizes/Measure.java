@@ -0,0 +1,190 @@
+package edu.missouristate.mote.effectsizes;
+
+import edu.missouristate.mote.Constants;
+
+/**
+ * Registry of the tests offered by the Measures menu. Each entry holds the
+ * names a test reports and the class to create, so the menu can be built
+ * without creating a test; creating one runs its reset and every solve it
+ * chains.
+ */
+public enum Measure {
+
+    /** Cohen's d, Z test. */
+    COHEN_D_Z(Family.T, CohenDZ.class, "Cohen's d", "Z Test"),
+    /** Cohen's d, single sample t test. */
+    COHEN_D_SST(Family.T, CohenDSst.class, "Cohen's d",
+            "Single Sample t Test"),
+    /** Cohen's d, dependent t test of averages. */
+    COHEN_D_DEP_T_AVGS(Family.T, CohenDDepTAvgs.class, "Cohen's d",
+            "Dependent t (Averages) Test"),
+    /** Cohen's d, dependent t test of differences. */
+    COHEN_D_DEP_T_DIFF(Family.T, CohenDDepTDiff.class, "Cohen's d",
+            "Dependent t (SD Diff) Test"),
+    /** Cohen's d, independent t test. */
+    COHEN_D_IND_T(Family.T, CohenDIndT.class, "Cohen's d",
+            "Independent t Test"),
+    /** Cohen's d from a correlation. */
+    COHEN_D_R(Family.T, CohenDR.class, "Cohen's d", "R"),
+    /** Hedges's g, independent t test. */
+    HEDGES_G_IND_T(Family.T, HedgesGIndT.class, "Hedges's g",
+            "Independent t Test"),
+    /** Glass's delta, independent t test. */
+    GLASS_D_IND_T(Family.T, GlassDIndT.class,
+            "Glass's " + Constants.DELTA_UPPER, "Independent t Test"),
+    /** R squared, F test omnibus. */
+    R2_F_OMNI(Family.F, R2FOmni.class, "R" + Constants.SUPERSCRIPT2,
+            "F Test Omnibus"),
+    /** R squared change, F test change. */
+    DELTA_R2_F_CHANGE(Family.F, DeltaR2FChange.class,
+            Constants.DELTA_UPPER + "R" + Constants.SUPERSCRIPT2,
+            "F Test Change"),
+    /** Eta squared, F test omnibus. */
+    ETA2_F_OMNI(Family.F, Eta2FOmni.class,
+            Constants.ETA_LOWER + Constants.SUPERSCRIPT2, "F Test Omnibus"),
+    /** Partial eta squared, F test effects. */
+    P_ETA2_F_EFF(Family.F, PEta2FEff.class,
+            "Partial " + Constants.ETA_LOWER + Constants.SUPERSCRIPT2,
+            "F Test Effects"),
+    /** Omega squared, F test omnibus. */
+    OMEGA2_F_OMNI(Family.F, Omega2FOmni.class,
+            Constants.OMEGA_LOWER + Constants.SUPERSCRIPT2,
+            "F Test Omnibus Unbiased"),
+    /** Partial omega squared, F test effects. */
+    P_OMEGA2_F_EFF(Family.F, POmega2FEff.class,
+            "Partial " + Constants.OMEGA_LOWER + Constants.SUPERSCRIPT2,
+            "F Test Effects Unbiased"),
+    /** Intraclass correlation, F test. */
+    R_INTRA_CORR_F(Family.F, RIntraCorrF.class, "r",
+            "Intraclass Correlation"),
+    /** Cramer's V, chi-square test. */
+    CRAMERS_PHI_CHI2(Family.CHI_SQUARE, CramersPhiChi2.class,
+            "Cram" + Constants.E_ACCENT_LOWER + "r's " + Constants.PHI_UPPER,
+            Constants.CHI_LOWER + Constants.SUPERSCRIPT2),
+    /** Odds ratio. */
+    ODDS_RISK(Family.ODDS_RISK, OddsRisk.class, "Odd's Ratio",
+            Constants.OMEGA_UPPER);
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final Family family;
+    private final Class<? extends AbstractTest> testClass;
+    private final String measureName;
+    private final String testName;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a Measure.
+     *
+     * @param family distribution of the test statistic
+     * @param testClass class of the test
+     * @param measureName name the test returns from getMeasureName
+     * @param testName name the test returns from getTestName
+     */
+    Measure(final Family family, final Class<? extends AbstractTest> testClass,
+            final String measureName, final String testName) {
+        this.family = family;
+        this.testClass = testClass;
+        this.measureName = measureName;
+        this.testName = testName;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Create a new instance of the test.
+     *
+     * @return test, already reset
+     * @exception IllegalStateException if the test cannot be created
+     */
+    public AbstractTest createTest() {
+        try {
+            return testClass.newInstance();
+        } catch (InstantiationException | IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Return the measure of a test class.
+     *
+     * @param testClass class of the test
+     * @return measure
+     * @exception IllegalArgumentException if the class is not registered
+     */
+    public static Measure forClass(final Class<?> testClass) {
+        for (Measure measure : values()) {
+            if (measure.testClass == testClass) {
+                return measure;
+            }
+        }
+        throw new IllegalArgumentException("no measure for " + testClass);
+    }
+
+    /**
+     * Return the distribution of the test statistic, which groups the menu.
+     *
+     * @return family
+     */
+    public Family getFamily() {
+        return family;
+    }
+
+    /**
+     * Return the menu label, the measure name and the test name.
+     *
+     * @return label
+     */
+    public String getLabel() {
+        return measureName + " - " + testName;
+    }
+
+    /**
+     * Return the name the test returns from getMeasureName.
+     *
+     * @return measure name
+     */
+    public String getMeasureName() {
+        return measureName;
+    }
+
+    /**
+     * Return the class of the test.
+     *
+     * @return test class
+     */
+    public Class<? extends AbstractTest> getTestClass() {
+        return testClass;
+    }
+
+    /**
+     * Return the name the test returns from getTestName.
+     *
+     * @return test name
+     */
+    public String getTestName() {
+        return testName;
+    }
+
+    // *************************************************************************
+    // INNER CLASSES
+    // *************************************************************************
+    /**
+     * Distribution of a test statistic.
+     */
+    public enum Family {
+
+        /** Non-central t or normal. */
+        T,
+        /** Non-central F. */
+        F,
+        /** Non-central chi-square. */
+        CHI_SQUARE,
+        /** Odds and risk of a 2 x 2 table. */
+        ODDS_RISK
+    }
+}
@@ -0,0 +1,357 @@
+package edu.missouristate.mote.effectsizes;
+
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.WorkerPool;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Immutable result of a measure whose confidence interval comes from a
+ * non-central t, F or chi-square distribution. The PDF curves for graphing are built on
+ * first use, at full resolution or as coarse curves of at most
+ * COARSE_PDF_POINTS points to show while the full curves are built;
+ * instances are safe to share between threads.
+ */
+public final class NcInterval {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final Family family;
+    private final double testStatistic;
+    // Degrees of freedom; dfError is NaN for a t or chi-square result
+    private final double dfEffect;
+    private final double dfError;
+    private final double measure;
+    private final double lowerNc;
+    private final double upperNc;
+    private final double lowerMeasure;
+    private final double upperMeasure;
+    private volatile double[][] lowerPdf;
+    private volatile double[][] upperPdf;
+    private volatile double[][] coarseLowerPdf;
+    private volatile double[][] coarseUpperPdf;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a NcInterval.
+     *
+     * @param family distribution of the test statistic
+     * @param testStatistic t, F or chi-square
+     * @param dfEffect degrees of freedom of t or chi-square, or numerator df
+     * of F
+     * @param dfError NaN for t or chi-square, or denominator df of F
+     * @param measure value of the measure
+     * @param lowerNc lower non-centrality parameter
+     * @param upperNc upper non-centrality parameter
+     * @param lowerMeasure lower confidence limit of the measure
+     * @param upperMeasure upper confidence limit of the measure
+     */
+    private NcInterval(final Family family, final double testStatistic,
+            final double dfEffect, final double dfError, final double measure,
+            final double lowerNc, final double upperNc,
+            final double lowerMeasure, final double upperMeasure) {
+        this.family = family;
+        this.testStatistic = testStatistic;
+        this.dfEffect = dfEffect;
+        this.dfError = dfError;
+        this.measure = measure;
+        this.lowerNc = lowerNc;
+        this.upperNc = upperNc;
+        this.lowerMeasure = lowerMeasure;
+        this.upperMeasure = upperMeasure;
+    }
+
+    // *************************************************************************
+    // PACKAGE METHODS
+    // *************************************************************************
+    /**
+     * Return a result based on the non-central t distribution.
+     *
+     * @param tValue t
+     * @param df degrees of freedom
+     * @param measure value of the measure
+     * @param lowerNc lower non-centrality parameter
+     * @param upperNc upper non-centrality parameter
+     * @param lowerMeasure lower confidence limit of the measure
+     * @param upperMeasure upper confidence limit of the measure
+     * @return result
+     */
+    static NcInterval forT(final double tValue, final double df,
+            final double measure, final double lowerNc, final double upperNc,
+            final double lowerMeasure, final double upperMeasure) {
+        return new NcInterval(Family.T, tValue, df, Double.NaN, measure,
+                lowerNc, upperNc, lowerMeasure, upperMeasure);
+    }
+
+    /**
+     * Return a result based on the non-central F distribution.
+     *
+     * @param fValue F
+     * @param dfEffect numerator degrees of freedom
+     * @param dfError denominator degrees of freedom
+     * @param measure value of the measure
+     * @param lowerNc lower non-centrality parameter
+     * @param upperNc upper non-centrality parameter
+     * @param lowerMeasure lower confidence limit of the measure
+     * @param upperMeasure upper confidence limit of the measure
+     * @return result
+     */
+    static NcInterval forF(final double fValue, final double dfEffect,
+            final double dfError, final double measure, final double lowerNc,
+            final double upperNc, final double lowerMeasure,
+            final double upperMeasure) {
+        return new NcInterval(Family.F, fValue, dfEffect, dfError, measure,
+                lowerNc, upperNc, lowerMeasure, upperMeasure);
+    }
+
+    /**
+     * Return a result based on the non-central chi-square distribution.
+     *
+     * @param chiSquare chi-square
+     * @param df degrees of freedom
+     * @param measure value of the measure
+     * @param lowerNc lower non-centrality parameter
+     * @param upperNc upper non-centrality parameter
+     * @param lowerMeasure lower confidence limit of the measure
+     * @param upperMeasure upper confidence limit of the measure
+     * @return result
+     */
+    static NcInterval forChiSquare(final double chiSquare, final double df,
+            final double measure, final double lowerNc, final double upperNc,
+            final double lowerMeasure, final double upperMeasure) {
+        return new NcInterval(Family.CHI_SQUARE, chiSquare, df, Double.NaN,
+                measure, lowerNc, upperNc, lowerMeasure, upperMeasure);
+    }
+
+    /**
+     * Return the PDF curve for a non-centrality parameter.
+     *
+     * @param nc non-centrality parameter
+     * @param maxPoints maximum number of points
+     * @return PDF curve
+     */
+    private double[][] createPdf(final double nc, final int maxPoints) {
+        switch (family) {
+            case T:
+                return ConfIntNct.createPdf(testStatistic, dfEffect, nc,
+                        lowerNc, upperNc, maxPoints);
+            case F:
+                return ConfIntNcf.createPdf(testStatistic, dfEffect, dfError,
+                        nc, lowerNc, upperNc, maxPoints);
+            default:
+                return ConfIntNcx2.createPdf(testStatistic, dfEffect, nc,
+                        lowerNc, upperNc, maxPoints);
+        }
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the value of the test statistic.
+     *
+     * @return t, F or chi-square
+     */
+    public double getTestStatistic() {
+        return testStatistic;
+    }
+
+    /**
+     * Return whether the interval comes from the non-central F distribution.
+     *
+     * @return true for F, false for t or chi-square
+     */
+    public boolean isF() {
+        return family == Family.F;
+    }
+
+    /**
+     * Return whether the interval comes from the non-central chi-square
+     * distribution.
+     *
+     * @return true for chi-square, false for t or F
+     */
+    public boolean isChiSquare() {
+        return family == Family.CHI_SQUARE;
+    }
+
+    /**
+     * Return the value of the measure.
+     *
+     * @return measure
+     */
+    public double getMeasure() {
+        return measure;
+    }
+
+    /**
+     * Return the non-centrality parameter at the lower confidence limit.
+     *
+     * @return lower non-centrality parameter
+     */
+    public double getLowerNc() {
+        return lowerNc;
+    }
+
+    /**
+     * Return the non-centrality parameter at the upper confidence limit.
+     *
+     * @return upper non-centrality parameter
+     */
+    public double getUpperNc() {
+        return upperNc;
+    }
+
+    /**
+     * Return the lower confidence limit of the measure.
+     *
+     * @return lower measure
+     */
+    public double getLowerMeasure() {
+        return lowerMeasure;
+    }
+
+    /**
+     * Return the upper confidence limit of the measure.
+     *
+     * @return upper measure
+     */
+    public double getUpperMeasure() {
+        return upperMeasure;
+    }
+
+    /**
+     * Return the PDF curve at the lower non-centrality parameter, building
+     * it on first use. The x values are in array[0][0..n] and the y values in
+     * array[1][0..n]; callers must not modify it.
+     *
+     * @return lower PDF curve
+     */
+    public double[][] getLowerPdf() {
+        double[][] result = lowerPdf;
+        if (result == null) {
+            result = createPdf(lowerNc, Integer.MAX_VALUE);
+            lowerPdf = result;
+        }
+        return result;
+    }
+
+    /**
+     * Return the PDF curve at the lower non-centrality parameter with at most
+     * COARSE_PDF_POINTS points, building it on first use. This is the full
+     * curve if it is built or has no more points; callers must not modify
+     * it.
+     *
+     * @return coarse lower PDF curve
+     */
+    public double[][] getCoarseLowerPdf() {
+        double[][] result = lowerPdf;
+        if (result == null) {
+            result = coarseLowerPdf;
+        }
+        if (result == null) {
+            result = createPdf(lowerNc, Constants.COARSE_PDF_POINTS);
+            if (result[0].length < Constants.COARSE_PDF_POINTS) {
+                lowerPdf = result;
+            }
+            coarseLowerPdf = result;
+        }
+        return result;
+    }
+
+    /**
+     * Return the coarse lower and upper PDF curves of getCoarseLowerPdf() and
+     * getCoarseUpperPdf(), building both at the same time when neither is
+     * built and the worker pool splits calculations.
+     *
+     * @return coarse lower and upper PDF curves
+     */
+    public double[][][] getCoarsePdfs() {
+        if (lowerPdf != null || coarseLowerPdf != null
+                || upperPdf != null || coarseUpperPdf != null) {
+            return new double[][][]{getCoarseLowerPdf(), getCoarseUpperPdf()};
+        }
+        final List<double[][]> result = WorkerPool.fork(Arrays.asList(
+                new Callable<double[][]>() {
+                    @Override
+                    public double[][] call() {
+                        return getCoarseLowerPdf();
+                    }
+                }, new Callable<double[][]>() {
+                    @Override
+                    public double[][] call() {
+                        return getCoarseUpperPdf();
+                    }
+                }));
+        return new double[][][]{result.get(0), result.get(1)};
+    }
+
+    /**
+     * Return the PDF curve at the upper non-centrality parameter, building
+     * it on first use. The x values are in array[0][0..n] and the y values in
+     * array[1][0..n]; callers must not modify it.
+     *
+     * @return upper PDF curve
+     */
+    public double[][] getUpperPdf() {
+        double[][] result = upperPdf;
+        if (result == null) {
+            result = createPdf(upperNc, Integer.MAX_VALUE);
+            upperPdf = result;
+        }
+        return result;
+    }
+
+    /**
+     * Return the PDF curve at the upper non-centrality parameter with at most
+     * COARSE_PDF_POINTS points, building it on first use. This is the full
+     * curve if it is built or has no more points; callers must not modify
+     * it.
+     *
+     * @return coarse upper PDF curve
+     */
+    public double[][] getCoarseUpperPdf() {
+        double[][] result = upperPdf;
+        if (result == null) {
+            result = coarseUpperPdf;
+        }
+        if (result == null) {
+            result = createPdf(upperNc, Constants.COARSE_PDF_POINTS);
+            if (result[0].length < Constants.COARSE_PDF_POINTS) {
+                upperPdf = result;
+            }
+            coarseUpperPdf = result;
+        }
+        return result;
+    }
+
+    /**
+     * Return whether both full-resolution PDF curves are built.
+     *
+     * @return true if getLowerPdf() and getUpperPdf() return without
+     * building a curve
+     */
+    public boolean isRefined() {
+        return lowerPdf != null && upperPdf != null;
+    }
+
+    // *************************************************************************
+    // INNER CLASSES
+    // *************************************************************************
+    /**
+     * Distribution of the test statistic.
+     */
+    private enum Family {
+
+        /** Non-central t. */
+        T,
+        /** Non-central F. */
+        F,
+        /** Non-central chi-square. */
+        CHI_SQUARE
+    }
+}
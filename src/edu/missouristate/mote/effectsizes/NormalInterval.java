@@ -0,0 +1,99 @@
+package edu.missouristate.mote.effectsizes;
+
+/**
+ * Immutable result of a measure whose confidence interval comes from the
+ * normal distribution. Instances are safe to share between threads.
+ */
+public final class NormalInterval {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final double testStatistic;
+    private final double measure;
+    private final double deviations;
+    private final double lowerMeasure;
+    private final double upperMeasure;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a NormalInterval.
+     *
+     * @param testStatistic test statistic; NaN if the test has none
+     * @param measure value of the measure
+     * @param deviations standard deviations on either side of the interval
+     * @param lowerMeasure lower confidence limit of the measure
+     * @param upperMeasure upper confidence limit of the measure
+     */
+    NormalInterval(final double testStatistic, final double measure,
+            final double deviations, final double lowerMeasure,
+            final double upperMeasure) {
+        this.testStatistic = testStatistic;
+        this.measure = measure;
+        this.deviations = deviations;
+        this.lowerMeasure = lowerMeasure;
+        this.upperMeasure = upperMeasure;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the value of the test statistic.
+     *
+     * @return test statistic; NaN if the test has none
+     */
+    public double getTestStatistic() {
+        return testStatistic;
+    }
+
+    /**
+     * Return the value of the measure.
+     *
+     * @return measure
+     */
+    public double getMeasure() {
+        return measure;
+    }
+
+    /**
+     * Return the number of standard deviations on either side of the measure
+     * that make up the confidence interval.
+     *
+     * @return number of standard deviations
+     */
+    public double getDeviations() {
+        return deviations;
+    }
+
+    /**
+     * Return the lower confidence limit of the measure.
+     *
+     * @return lower measure
+     */
+    public double getLowerMeasure() {
+        return lowerMeasure;
+    }
+
+    /**
+     * Return the upper confidence limit of the measure.
+     *
+     * @return upper measure
+     */
+    public double getUpperMeasure() {
+        return upperMeasure;
+    }
+
+    /**
+     * Return the standard normal PDF curve for graphing. The x values are in
+     * array[0][0..n] and the y values in array[1][0..n]; callers must not
+     * modify it.
+     *
+     * @return PDF curve
+     */
+    public double[][] getPdf() {
+        return ConfIntNormal.getPdf();
+    }
+}
@@ -5,6 +5,7 @@ import edu.missouristate.mote.propertygrid.CategoryAnnotation;
 import edu.missouristate.mote.propertygrid.DescriptionAnnotation;
 import edu.missouristate.mote.propertygrid.IndexAnnotation;
 import edu.missouristate.mote.propertygrid.NameAnnotation;
+import edu.missouristate.mote.propertygrid.StepAnnotation;
 
 /**
  * Odds ratio and relative risk.
@@ -25,8 +26,44 @@ public final class OddsRisk extends AbstractNormalTest {
     private transient double deviations;
     private transient double measure;
     private transient double lowerMeasure;
-    private transient double[][] pdf;
+    private transient NormalInterval interval;
     private transient double upperMeasure;
+    private transient double exactMle;
+    private transient double exactLower;
+    private transient double exactUpper;
+
+    // *************************************************************************
+    // CACHED RESULTS
+    // *************************************************************************
+    // Exact interval, solved again only when its inputs change
+    private final transient ResultCache.Entry<ExactOddsRatio> exactEntry =
+            new ResultCache.Entry<ExactOddsRatio>(getResultCache()) {
+                @Override
+                protected double[] getKey() {
+                    return new double[]{value11, value12, value21, value22,
+                            confidence};
+                }
+
+                @Override
+                protected ExactOddsRatio compute() {
+                    return solveExact();
+                }
+            };
+
+    // Interval, solved again only when its inputs change
+    private final transient ResultCache.Entry<NormalInterval> intervalEntry =
+            new ResultCache.Entry<NormalInterval>(getResultCache()) {
+                @Override
+                protected double[] getKey() {
+                    return new double[]{value11, value12, value21, value22,
+                            confidence};
+                }
+
+                @Override
+                protected NormalInterval compute() {
+                    return solveInterval();
+                }
+            };
 
     // *************************************************************************
     // CONSTRUCTORS
@@ -50,7 +87,7 @@ public final class OddsRisk extends AbstractNormalTest {
      * @param populationStdDev population standard deviation
      * @return d value
      */
-    private static double calcOmega(final double value11, final double value12,
+    static double calcOmega(final double value11, final double value12,
             final double value21, final double value22) {
         if (value12 == 0 || value21 == 0 || value22 == 0) {
             return 0;
@@ -63,20 +100,76 @@ public final class OddsRisk extends AbstractNormalTest {
      * Calculate the effect size.
      */
     private void calculate() {
+        if (isResetting()) {
+            return;
+        }
+        setErrorMessage("");
+        try {
+            final ExactOddsRatio exact = exactEntry.get();
+            exactMle = exact.getConditionalMle();
+            exactLower = exact.getLower();
+            exactUpper = exact.getUpper();
+        } catch (ArithmeticException | IllegalArgumentException ex) {
+            // An empty table is the default, not an error
+            if (value11 != 0 || value12 != 0 || value21 != 0
+                    || value22 != 0) {
+                setErrorMessage(ex.getLocalizedMessage());
+            }
+            exactMle = Double.NaN;
+            exactLower = Double.NaN;
+            exactUpper = Double.NaN;
+        }
         measure = calcOmega(value11, value12, value21, value22);
-        // Standard deviations
-        final double alpha = 1 - confidence;
-        deviations = ConfIntNormal.findX(1 - (alpha * 0.5));
-        // Lower, upper measure
-        final double se = Math.sqrt(1 / value11 + 1 / value12 + 1 / value21
-                + 1 / value22);
-        lowerMeasure = Math.exp(Math.log(measure) - deviations * se);
-        upperMeasure = Math.exp(Math.log(measure) + deviations * se);
-        // PDF
-        pdf = ConfIntNormal.createPdf();
+        try {
+            interval = intervalEntry.get();
+        } catch (IllegalArgumentException ex) {
+            setErrorMessage(ex.getLocalizedMessage());
+            interval = null;
+            deviations = Double.NaN;
+            lowerMeasure = Double.NaN;
+            upperMeasure = Double.NaN;
+            doStateChanged();
+            return;
+        }
+        deviations = interval.getDeviations();
+        lowerMeasure = interval.getLowerMeasure();
+        upperMeasure = interval.getUpperMeasure();
         doStateChanged();
     }
 
+    /**
+     * Solve the confidence interval from the inputs.
+     *
+     * @return interval
+     */
+    private NormalInterval solveInterval() {
+        return EffectSizes.oddsRatio(new TwoByTwoTable(value11, value12,
+                value21, value22), confidence);
+    }
+
+    /**
+     * Solve the exact confidence interval from the inputs.
+     *
+     * @return interval
+     */
+    private ExactOddsRatio solveExact() {
+        return EffectSizes.oddsRatioExact(
+                new TwoByTwoTable(value11, value12, value21, value22),
+                confidence);
+    }
+
+    // *************************************************************************
+    // PROTECTED METHODS
+    // *************************************************************************
+    @Override
+    protected void setDefaults() {
+        setValue11(0);
+        setValue12(0);
+        setValue21(0);
+        setValue22(0);
+        setConfidence(0.95);
+    }
+
     // *************************************************************************
     // PUBLIC METHODS
     // *************************************************************************
@@ -102,11 +195,15 @@ public final class OddsRisk extends AbstractNormalTest {
 
     @Override
     public void reset() {
-        setValue11(0);
-        setValue12(0);
-        setValue21(0);
-        setValue22(0);
-        setConfidence(0.95);
+        beginUpdate();
+        try {
+            setResetting(true);
+            setDefaults();
+            setResetting(false);
+            calculate();
+        } finally {
+            endUpdate();
+        }
     }
 
     // *************************************************************************
@@ -115,6 +212,7 @@ public final class OddsRisk extends AbstractNormalTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Value[1][1]")
     @IndexAnnotation(value = 1)
+    @StepAnnotation(value = 1)
     @DescriptionAnnotation(value = "Row 1, column 1.")
     public double getValue11() {
         return value11;
@@ -128,6 +226,7 @@ public final class OddsRisk extends AbstractNormalTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Value[1][2]")
     @IndexAnnotation(value = 2)
+    @StepAnnotation(value = 1)
     @DescriptionAnnotation(value = "Row 1, column 2.")
     public double getValue12() {
         return value12;
@@ -141,6 +240,7 @@ public final class OddsRisk extends AbstractNormalTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Value[2][1]")
     @IndexAnnotation(value = 3)
+    @StepAnnotation(value = 1)
     @DescriptionAnnotation(value = "Row 2, column 1.")
     public double getValue21() {
         return value21;
@@ -154,6 +254,7 @@ public final class OddsRisk extends AbstractNormalTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Value[2][2]")
     @IndexAnnotation(value = 4)
+    @StepAnnotation(value = 1)
     @DescriptionAnnotation(value = "Row 2, column 2.")
     public double getValue22() {
         return value22;
@@ -167,6 +268,7 @@ public final class OddsRisk extends AbstractNormalTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Confidence (1 - " + Constants.ALPHA_LOWER + ")")
     @IndexAnnotation(value = 5)
+    @StepAnnotation(value = 0.001)
     @DescriptionAnnotation(value = "Confidence interval expressed as a "
             + "percentage in the range 0...1.")
     @Override
@@ -217,6 +319,33 @@ public final class OddsRisk extends AbstractNormalTest {
         return upperMeasure;
     }
 
+    @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
+    @NameAnnotation(value = "Exact Lower OR")
+    @IndexAnnotation(value = 9)
+    @DescriptionAnnotation(value = "Minimum value of the exact conditional "
+            + "(Cornfield) confidence interval of the odds ratio.")
+    public double getExactLowerMeasure() {
+        return exactLower;
+    }
+
+    @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
+    @NameAnnotation(value = "Conditional MLE OR")
+    @IndexAnnotation(value = 10)
+    @DescriptionAnnotation(value = "Conditional maximum likelihood estimate "
+            + "of the odds ratio, defined even when a cell is empty.")
+    public double getExactMeasure() {
+        return exactMle;
+    }
+
+    @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
+    @NameAnnotation(value = "Exact Upper OR")
+    @IndexAnnotation(value = 11)
+    @DescriptionAnnotation(value = "Maximum value of the exact conditional "
+            + "(Cornfield) confidence interval of the odds ratio.")
+    public double getExactUpperMeasure() {
+        return exactUpper;
+    }
+
     @Override
     public double getDeviations() {
         return deviations;
@@ -229,6 +358,6 @@ public final class OddsRisk extends AbstractNormalTest {
 
     @Override
     public double[][] getPdf() {
-        return pdf;
+        return interval == null ? null : interval.getPdf();
     }
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package edu.missouristate.mote.effectsizes;
+
+/**
+ * Immutable summary of one sample compared with a population mean: the input
+ * of Cohen's d for the single-sample t test and the z test. For the t test
+ * the standard deviation is the sample's; for the z test it is the
+ * population's.
+ */
+public final class OneSampleSummary {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final double sampleMean;
+    private final double populationMean;
+    private final double stdDev;
+    private final double size;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a OneSampleSummary.
+     *
+     * @param sampleMean sample mean
+     * @param populationMean population mean
+     * @param stdDev standard deviation
+     * @param size sample size
+     */
+    public OneSampleSummary(final double sampleMean,
+            final double populationMean, final double stdDev,
+            final double size) {
+        this.sampleMean = sampleMean;
+        this.populationMean = populationMean;
+        this.stdDev = stdDev;
+        this.size = size;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the sample mean.
+     *
+     * @return sample mean
+     */
+    public double getSampleMean() {
+        return sampleMean;
+    }
+
+    /**
+     * Return the population mean.
+     *
+     * @return population mean
+     */
+    public double getPopulationMean() {
+        return populationMean;
+    }
+
+    /**
+     * Return the standard deviation.
+     *
+     * @return standard deviation
+     */
+    public double getStdDev() {
+        return stdDev;
+    }
+
+    /**
+     * Return the sample size.
+     *
+     * @return sample size
+     */
+    public double getSize() {
+        return size;
+    }
+
+    /**
+     * Return the standard error of the mean.
+     *
+     * @return standard error; zero for an empty sample
+     */
+    public double getStdErr() {
+        return size <= 0 ? 0 : stdDev / Math.sqrt(size);
+    }
+}
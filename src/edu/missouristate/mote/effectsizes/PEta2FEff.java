@@ -5,11 +5,13 @@ import edu.missouristate.mote.propertygrid.CategoryAnnotation;
 import edu.missouristate.mote.propertygrid.DescriptionAnnotation;
 import edu.missouristate.mote.propertygrid.IndexAnnotation;
 import edu.missouristate.mote.propertygrid.NameAnnotation;
+import edu.missouristate.mote.propertygrid.StepAnnotation;
 
 /**
  * Partial eta-squared, F test omnibus.
  */
-public final class PEta2FEff extends AbstractNonCentralTest {
+public final class PEta2FEff extends AbstractNonCentralTest
+        implements SumOfSquaresInputs {
 
     // *************************************************************************
     // INPUT FIELDS
@@ -26,15 +28,36 @@ public final class PEta2FEff extends AbstractNonCentralTest {
     private transient double measure;
     private transient double lowerMeasure;
     private transient double lowerNc;
-    private transient double[][] lowerPdf;
+    private transient NcInterval interval;
     private transient double upperMeasure;
     private transient double upperNc;
-    private transient double[][] upperPdf;
     /**
      * True if the measure should be calculated from inputs; false if from F
      */
     private transient boolean useInputs;
 
+    // *************************************************************************
+    // CACHED RESULTS
+    // *************************************************************************
+    // Interval, solved again only when its inputs change
+    private final transient ResultCache.Entry<NcInterval> intervalEntry =
+            new ResultCache.Entry<NcInterval>(getResultCache()) {
+                @Override
+                protected double[] getKey() {
+                    if (useInputs) {
+                        return new double[]{1, ssEffect, ssTotal, dfEffect,
+                                dfError, confidence};
+                    }
+                    return new double[]{0, testStatistic, dfEffect, dfError,
+                            confidence};
+                }
+
+                @Override
+                protected NcInterval compute() {
+                    return solveInterval();
+                }
+            };
+
     // *************************************************************************
     // CONSTRUCTORS
     // *************************************************************************
@@ -49,77 +72,66 @@ public final class PEta2FEff extends AbstractNonCentralTest {
     // *************************************************************************
     // PRIVATE METHODS
     // *************************************************************************
-    /**
-     * Return the value for eta-squared.
-     *
-     * @param ssEffect sum of squares of the effect
-     * @param ssTotal sum of squares total
-     * @return d value
-     */
-    private static double calcEtaSquared(final double ssEffect,
-            final double ssTotal) {
-        if (ssTotal != 0) {
-            return ssEffect / ssTotal;
-        } else {
-            return 0;
-        }
-    }
-
-    /**
-     * Return the value for F.
-     *
-     * @param ms mean of the squares
-     * @param mse mean squared error
-     * @return F value
-     */
-    private static double calcF(final double ms, final double mse) {
-        if (mse == 0) {
-            return 0;
-        } else {
-            return ms / mse;
-        }
-    }
-
     /**
      * Calculate the effect size.
      */
     private void calculate() {
+        if (isResetting()) {
+            return;
+        }
         setErrorMessage("");
         if (useInputs) {
-            testStatistic = calcF(getMs(), getMse());
-            measure = calcEtaSquared(ssEffect, ssTotal);
+            testStatistic = Eta2FOmni.calcF(getMs(), getMse());
+            measure = Eta2FOmni.calcEtaSquared(ssEffect, ssTotal);
         } else {
             measure = (dfEffect * testStatistic)
                     / ((dfEffect * testStatistic) + dfError);
         }
-        if (testStatistic <= 0 || Double.isNaN(testStatistic)) {
-            setErrorMessage("F is zero");
-            doStateChanged();
-            return;
-        }
-        // Lower, upper non-centrality parameters
-        final double alpha = 1 - confidence;
         try {
-            lowerNc = ConfIntNcf.findNonCentrality(testStatistic, dfEffect,
-                    dfError, 1 - (alpha * 0.5));
-            upperNc = ConfIntNcf.findNonCentrality(testStatistic, dfEffect,
-                    dfError, alpha * 0.5);
-        } catch (ArithmeticException ex) {
+            interval = intervalEntry.get();
+        } catch (ArithmeticException | IllegalArgumentException ex) {
             setErrorMessage(ex.getLocalizedMessage());
+            interval = null;
+            lowerNc = Double.NaN;
+            upperNc = Double.NaN;
+            lowerMeasure = Double.NaN;
+            upperMeasure = Double.NaN;
             doStateChanged();
             return;
         }
-        // Lower, upper measure
-        lowerMeasure = lowerNc / (lowerNc + dfEffect + dfError + 1);
-        upperMeasure = upperNc / (upperNc + dfEffect + dfError + 1);
-        // PDF curves
-        lowerPdf = ConfIntNcf.createPdf(testStatistic, dfEffect, dfError,
-                lowerNc, lowerNc, upperNc);
-        upperPdf = ConfIntNcf.createPdf(testStatistic, dfEffect, dfError,
-                upperNc, lowerNc, upperNc);
+        lowerNc = interval.getLowerNc();
+        upperNc = interval.getUpperNc();
+        lowerMeasure = interval.getLowerMeasure();
+        upperMeasure = interval.getUpperMeasure();
         doStateChanged();
     }
 
+    /**
+     * Solve the confidence interval from the inputs.
+     *
+     * @return interval
+     */
+    private NcInterval solveInterval() {
+        return useInputs
+                ? EffectSizes.pEta2FEff(new AnovaSummary(ssEffect, ssTotal,
+                        dfEffect, dfError), confidence)
+                : EffectSizes.pEta2FEff(testStatistic, dfEffect, dfError,
+                        confidence);
+    }
+
+    // *************************************************************************
+    // PROTECTED METHODS
+    // *************************************************************************
+    @Override
+    protected void setDefaults() {
+        useInputs = true;
+        setSsEffect(10);
+        setSsTotal(27.4885);
+        setDfEffect(5);
+        setDfError(39);
+        setConfidence(0.95);
+    }
+
     // *************************************************************************
     // PUBLIC METHODS
     // *************************************************************************
@@ -145,12 +157,15 @@ public final class PEta2FEff extends AbstractNonCentralTest {
 
     @Override
     public void reset() {
-        useInputs = true;
-        setSsEffect(10);
-        setSsTotal(27.4885);
-        setDfEffect(5);
-        setDfError(39);
-        setConfidence(0.95);
+        beginUpdate();
+        try {
+            setResetting(true);
+            setDefaults();
+            setResetting(false);
+            calculate();
+        } finally {
+            endUpdate();
+        }
     }
 
     // *************************************************************************
@@ -187,6 +202,7 @@ public final class PEta2FEff extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Effect Deg Free")
     @IndexAnnotation(value = 3)
+    @StepAnnotation(value = 1)
     @DescriptionAnnotation(value = "Degrees of freedom of the effect.")
     public double getDfEffect() {
         return dfEffect;
@@ -201,6 +217,7 @@ public final class PEta2FEff extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Error Deg Free")
     @IndexAnnotation(value = 4)
+    @StepAnnotation(value = 1)
     @DescriptionAnnotation(value = "Degrees of freedom of the error.")
     public double getDfError() {
         return dfError;
@@ -235,6 +252,7 @@ public final class PEta2FEff extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Confidence (1 - " + Constants.ALPHA_LOWER + ")")
     @IndexAnnotation(value = 6)
+    @StepAnnotation(value = 0.001)
     @DescriptionAnnotation(value = "Confidence interval expressed as a "
             + "percentage in the range 0...1.")
     @Override
@@ -326,9 +344,14 @@ public final class PEta2FEff extends AbstractNonCentralTest {
         return lowerNc;
     }
 
+    @Override
+    public NcInterval getInterval() {
+        return interval;
+    }
+
     @Override
     public double[][] getLowerPdf() {
-        return lowerPdf;
+        return interval == null ? null : interval.getLowerPdf();
     }
 
     @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
@@ -344,6 +367,6 @@ public final class PEta2FEff extends AbstractNonCentralTest {
 
     @Override
     public double[][] getUpperPdf() {
-        return upperPdf;
+        return interval == null ? null : interval.getUpperPdf();
     }
 }
\ No newline at end of file
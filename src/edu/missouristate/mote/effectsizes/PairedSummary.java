@@ -0,0 +1,84 @@
+package edu.missouristate.mote.effectsizes;
+
+/**
+ * Immutable summary of paired observations given as the mean difference and
+ * the standard deviation of each measurement: the input of Cohen's d for a
+ * dependent t test using the average standard deviation.
+ */
+public final class PairedSummary {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final double meanDiff;
+    private final double stdDev1;
+    private final double stdDev2;
+    private final double size;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a PairedSummary.
+     *
+     * @param meanDiff mean difference
+     * @param stdDev1 standard deviation of the first measurement
+     * @param stdDev2 standard deviation of the second measurement
+     * @param size number of pairs
+     */
+    public PairedSummary(final double meanDiff, final double stdDev1,
+            final double stdDev2, final double size) {
+        this.meanDiff = meanDiff;
+        this.stdDev1 = stdDev1;
+        this.stdDev2 = stdDev2;
+        this.size = size;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the mean difference.
+     *
+     * @return mean difference
+     */
+    public double getMeanDiff() {
+        return meanDiff;
+    }
+
+    /**
+     * Return the standard deviation of the first measurement.
+     *
+     * @return first standard deviation
+     */
+    public double getStdDev1() {
+        return stdDev1;
+    }
+
+    /**
+     * Return the standard deviation of the second measurement.
+     *
+     * @return second standard deviation
+     */
+    public double getStdDev2() {
+        return stdDev2;
+    }
+
+    /**
+     * Return the number of pairs.
+     *
+     * @return number of pairs
+     */
+    public double getSize() {
+        return size;
+    }
+
+    /**
+     * Return the degrees of freedom, n - 1.
+     *
+     * @return degrees of freedom
+     */
+    public double getDf() {
+        return size - 1;
+    }
+}
@@ -0,0 +1,384 @@
+package edu.missouristate.mote.effectsizes;
+
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.propertygrid.CategoryAnnotation;
+import edu.missouristate.mote.propertygrid.DescriptionAnnotation;
+import edu.missouristate.mote.propertygrid.IndexAnnotation;
+import edu.missouristate.mote.propertygrid.NameAnnotation;
+import edu.missouristate.mote.propertygrid.StepAnnotation;
+
+/**
+ * R-squared, F test omnibus of a multiple regression.
+ */
+public final class R2FOmni extends AbstractNonCentralTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Largest R squared accepted as input
+    private static final double MAX_R_SQUARED = 0.999;
+
+    // *************************************************************************
+    // INPUT FIELDS
+    // *************************************************************************
+    private double confidence;
+    private double rSquared;
+    private double size;
+    private double predictors;
+    // *************************************************************************
+    // RESULT FIELDS
+    // *************************************************************************
+    private transient double testStatistic;
+    private transient double measure;
+    private transient double lowerMeasure;
+    private transient double lowerNc;
+    private transient NcInterval interval;
+    private transient double upperMeasure;
+    private transient double upperNc;
+    private transient double exactLower;
+    private transient double exactUpper;
+
+    // *************************************************************************
+    // CACHED RESULTS
+    // *************************************************************************
+    // Exact interval, solved again only when its inputs change
+    private final transient ResultCache.Entry<ExactRSquared> exactEntry =
+            new ResultCache.Entry<ExactRSquared>(getResultCache()) {
+                @Override
+                protected double[] getKey() {
+                    return new double[]{rSquared, size, predictors, confidence};
+                }
+
+                @Override
+                protected ExactRSquared compute() {
+                    return solveExact();
+                }
+            };
+
+    // Interval, solved again only when its inputs change
+    private final transient ResultCache.Entry<NcInterval> intervalEntry =
+            new ResultCache.Entry<NcInterval>(getResultCache()) {
+                @Override
+                protected double[] getKey() {
+                    return new double[]{rSquared, size, predictors, confidence};
+                }
+
+                @Override
+                protected NcInterval compute() {
+                    return solveInterval();
+                }
+            };
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of an R2FOmni.
+     */
+    public R2FOmni() {
+        super();
+        reset();
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return the value for F of the omnibus test.
+     *
+     * @param rSquared R squared
+     * @param size sample size
+     * @param predictors number of predictors
+     * @return F
+     */
+    static double calcF(final double rSquared, final double size,
+            final double predictors) {
+        return (rSquared / predictors)
+                / ((1 - rSquared) / (size - predictors - 1));
+    }
+
+    /**
+     * Calculate the effect size.
+     */
+    private void calculate() {
+        if (isResetting()) {
+            return;
+        }
+        setErrorMessage("");
+        try {
+            final ExactRSquared exact = exactEntry.get();
+            exactLower = exact.getLower();
+            exactUpper = exact.getUpper();
+        } catch (ArithmeticException | IllegalArgumentException ex) {
+            exactLower = Double.NaN;
+            exactUpper = Double.NaN;
+        }
+        testStatistic = calcF(rSquared, size, predictors);
+        measure = rSquared;
+        try {
+            interval = intervalEntry.get();
+        } catch (ArithmeticException | IllegalArgumentException ex) {
+            setErrorMessage(ex.getLocalizedMessage());
+            interval = null;
+            lowerNc = Double.NaN;
+            upperNc = Double.NaN;
+            lowerMeasure = Double.NaN;
+            upperMeasure = Double.NaN;
+            doStateChanged();
+            return;
+        }
+        lowerNc = interval.getLowerNc();
+        upperNc = interval.getUpperNc();
+        lowerMeasure = interval.getLowerMeasure();
+        upperMeasure = interval.getUpperMeasure();
+        doStateChanged();
+    }
+
+    /**
+     * Solve the confidence interval from the inputs.
+     *
+     * @return interval
+     */
+    private NcInterval solveInterval() {
+        return EffectSizes.r2FOmni(rSquared, size, predictors, confidence);
+    }
+
+    /**
+     * Solve the exact confidence interval from the inputs.
+     *
+     * @return interval
+     */
+    private ExactRSquared solveExact() {
+        return EffectSizes.r2Exact(rSquared, size, predictors, confidence);
+    }
+
+    // *************************************************************************
+    // PROTECTED METHODS
+    // *************************************************************************
+    @Override
+    protected void setDefaults() {
+        setRSquared(0);
+        setSize(0);
+        setPredictors(1);
+        setConfidence(0.95);
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    @Override
+    public String getMeasureName() {
+        return "R" + Constants.SUPERSCRIPT2;
+    }
+
+    @Override
+    public String getMeasureSymbol() {
+        return "R" + Constants.SUPERSCRIPT2;
+    }
+
+    @Override
+    public String getTestName() {
+        return "F Test Omnibus";
+    }
+
+    @Override
+    public String getTestStatisticSymbol() {
+        return "F";
+    }
+
+    @Override
+    public void reset() {
+        beginUpdate();
+        try {
+            setResetting(true);
+            setDefaults();
+            setResetting(false);
+            calculate();
+        } finally {
+            endUpdate();
+        }
+    }
+
+    // *************************************************************************
+    // INPUT GETTER/SETTERS
+    // *************************************************************************
+    @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
+    @NameAnnotation(value = "R" + Constants.SUPERSCRIPT2)
+    @IndexAnnotation(value = 1)
+    @DescriptionAnnotation(value = "Squared multiple correlation of the "
+            + "regression.")
+    public double getRSquared() {
+        return rSquared;
+    }
+
+    public void setRSquared(final double value) {
+        rSquared = Math.min(MAX_R_SQUARED, Math.max(0, value));
+        calculate();
+    }
+
+    @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
+    @NameAnnotation(value = "Sample Size")
+    @IndexAnnotation(value = 2)
+    @StepAnnotation(value = 1)
+    @DescriptionAnnotation(value = "Number of cases.")
+    public double getSize() {
+        return size;
+    }
+
+    public void setSize(final double value) {
+        size = Math.max(Constants.MIN_SS, value);
+        calculate();
+    }
+
+    @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
+    @NameAnnotation(value = "Predictors")
+    @IndexAnnotation(value = 3)
+    @StepAnnotation(value = 1)
+    @DescriptionAnnotation(value = "Number of predictors of the regression.")
+    public double getPredictors() {
+        return predictors;
+    }
+
+    public void setPredictors(final double value) {
+        predictors = Math.max(1, Math.rint(value));
+        calculate();
+    }
+
+    @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
+    @NameAnnotation(value = "Confidence (1 - " + Constants.ALPHA_LOWER + ")")
+    @IndexAnnotation(value = 4)
+    @StepAnnotation(value = 0.001)
+    @DescriptionAnnotation(value = "Confidence interval expressed as a "
+            + "percentage in the range 0...1.")
+    @Override
+    public double getConfidence() {
+        return confidence;
+    }
+
+    public void setConfidence(final double value) {
+        confidence = Math.min(Constants.MAX_CONFIDENCE,
+                Math.max(Constants.MIN_CONFIDENCE, value));
+        calculate();
+    }
+
+    // *************************************************************************
+    // DERIVED GETTERS
+    // *************************************************************************
+    @CategoryAnnotation(value = Constants.DERIVED_CATEGORY)
+    @NameAnnotation(value = "Deg Free Error")
+    @IndexAnnotation(value = 5)
+    @DescriptionAnnotation(value = "Error degrees of freedom, N - predictors "
+            + "- 1.")
+    public double getDfError() {
+        return size - predictors - 1;
+    }
+
+    @CategoryAnnotation(value = Constants.DERIVED_CATEGORY)
+    @NameAnnotation(value = "F")
+    @IndexAnnotation(value = 6)
+    @DescriptionAnnotation(value = "F test of the regression, (R"
+            + Constants.SUPERSCRIPT2 + " / predictors) / ((1 - R"
+            + Constants.SUPERSCRIPT2 + ") / deg free error).")
+    @Override
+    public double getTestStatistic() {
+        return testStatistic;
+    }
+
+    // *************************************************************************
+    // RESULT GETTERS
+    // *************************************************************************
+    @Override
+    public double getAlpha() {
+        return 1 - confidence;
+    }
+
+    @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
+    @NameAnnotation(value = "Lower R" + Constants.SUPERSCRIPT2)
+    @IndexAnnotation(value = 7)
+    @DescriptionAnnotation(value = "Minimum value of R" + Constants.SUPERSCRIPT2
+            + " on the confidence interval.")
+    @Override
+    public double getLowerMeasure() {
+        return lowerMeasure;
+    }
+
+    @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
+    @NameAnnotation(value = "R" + Constants.SUPERSCRIPT2)
+    @IndexAnnotation(value = 8)
+    @DescriptionAnnotation(value = "Squared multiple correlation.")
+    @Override
+    public double getMeasure() {
+        return measure;
+    }
+
+    @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
+    @NameAnnotation(value = "Upper R" + Constants.SUPERSCRIPT2)
+    @IndexAnnotation(value = 9)
+    @DescriptionAnnotation(value = "Maximum value of R" + Constants.SUPERSCRIPT2
+            + " on the confidence interval.")
+    @Override
+    public double getUpperMeasure() {
+        return upperMeasure;
+    }
+
+    @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
+    @NameAnnotation(value = "Lower NC (" + Constants.LAMBDA_LOWER + "min)")
+    @IndexAnnotation(value = 10)
+    @DescriptionAnnotation(value = "Non-centrality parameter ("
+            + Constants.LAMBDA_LOWER + ") corresponding to the minimum value of "
+            + "the measure on the confidence interval.")
+    @Override
+    public double getLowerNc() {
+        return lowerNc;
+    }
+
+    @Override
+    public NcInterval getInterval() {
+        return interval;
+    }
+
+    @Override
+    public double[][] getLowerPdf() {
+        return interval == null ? null : interval.getLowerPdf();
+    }
+
+    @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
+    @NameAnnotation(value = "Upper NC (" + Constants.LAMBDA_LOWER + "max)")
+    @IndexAnnotation(value = 11)
+    @DescriptionAnnotation(value = "Non-centrality parameter ("
+            + Constants.LAMBDA_LOWER + ") corresponding to the maximum value of "
+            + "the measure on the confidence interval.")
+    @Override
+    public double getUpperNc() {
+        return upperNc;
+    }
+
+    @Override
+    public double[][] getUpperPdf() {
+        return interval == null ? null : interval.getUpperPdf();
+    }
+
+    @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
+    @NameAnnotation(value = "Exact Lower " + Constants.RHO_LOWER
+            + Constants.SUPERSCRIPT2)
+    @IndexAnnotation(value = 12)
+    @DescriptionAnnotation(value = "Minimum value of the exact confidence "
+            + "interval of " + Constants.RHO_LOWER + Constants.SUPERSCRIPT2
+            + " with random regressors, from the sampling distribution of R"
+            + Constants.SUPERSCRIPT2 + ".")
+    public double getExactLowerMeasure() {
+        return exactLower;
+    }
+
+    @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
+    @NameAnnotation(value = "Exact Upper " + Constants.RHO_LOWER
+            + Constants.SUPERSCRIPT2)
+    @IndexAnnotation(value = 13)
+    @DescriptionAnnotation(value = "Maximum value of the exact confidence "
+            + "interval of " + Constants.RHO_LOWER + Constants.SUPERSCRIPT2
+            + " with random regressors, from the sampling distribution of R"
+            + Constants.SUPERSCRIPT2 + ".")
+    public double getExactUpperMeasure() {
+        return exactUpper;
+    }
+}
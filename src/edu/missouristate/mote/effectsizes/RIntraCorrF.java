@@ -5,11 +5,13 @@ import edu.missouristate.mote.propertygrid.CategoryAnnotation;
 import edu.missouristate.mote.propertygrid.DescriptionAnnotation;
 import edu.missouristate.mote.propertygrid.IndexAnnotation;
 import edu.missouristate.mote.propertygrid.NameAnnotation;
+import edu.missouristate.mote.propertygrid.StepAnnotation;
 
 /**
  * R, interclass correlation.
  */
-public final class RIntraCorrF extends AbstractNonCentralTest {
+public final class RIntraCorrF extends AbstractNonCentralTest
+        implements SumOfSquaresInputs {
 
     // *************************************************************************
     // INPUT FIELDS
@@ -26,10 +28,27 @@ public final class RIntraCorrF extends AbstractNonCentralTest {
     private transient double measure;
     private transient double lowerMeasure;
     private transient double lowerNc;
-    private transient double[][] lowerPdf;
+    private transient NcInterval interval;
     private transient double upperMeasure;
     private transient double upperNc;
-    private transient double[][] upperPdf;
+
+    // *************************************************************************
+    // CACHED RESULTS
+    // *************************************************************************
+    // Interval, solved again only when its inputs change
+    private final transient ResultCache.Entry<NcInterval> intervalEntry =
+            new ResultCache.Entry<NcInterval>(getResultCache()) {
+                @Override
+                protected double[] getKey() {
+                    return new double[]{ssEffect, ssTotal, dfEffect, dfError,
+                            confidence};
+                }
+
+                @Override
+                protected NcInterval compute() {
+                    return solveInterval();
+                }
+            };
 
     // *************************************************************************
     // CONSTRUCTORS
@@ -46,69 +65,71 @@ public final class RIntraCorrF extends AbstractNonCentralTest {
     // PRIVATE METHODS
     // *************************************************************************
     /**
-     * Return the value for eta-squared.
+     * Return the value for the intraclass correlation.
      *
-     * @param ssEffect sum of squares of the effect
-     * @param ssTotal sum of squares total
-     * @return d value
+     * @param msEffect effect mean square
+     * @param msError error mean square
+     * @param dfEffect effect degrees of freedom
+     * @return intraclass correlation; zero if undefined
      */
-    private static double calcR(final double msEffect, final double msError,            
+    static double calcR(final double msEffect, final double msError,
             final double dfEffect) {
         final double top = msEffect - msError;
         final double bottom = msEffect + msError * dfEffect;
         return bottom == 0 ? 0 : top / bottom;
     }
 
-    /**
-     * Return the value for F.
-     *
-     * @param ms mean of the squares
-     * @param mse mean squared error
-     * @return F value
-     */
-    private static double calcF(final double ms, final double mse) {
-        if (mse == 0) {
-            return 0;
-        } else {
-            return ms / mse;
-        }
-    }
-
     /**
      * Calculate the effect size.
      */
     private void calculate() {
-        setErrorMessage("");
-            testStatistic = calcF(getMs(), getMse());
-            measure = calcR(getMs(), getMse(), dfEffect);
-        if (testStatistic <= 0 || Double.isNaN(testStatistic)) {
-            setErrorMessage("F is zero");
-            doStateChanged();
+        if (isResetting()) {
             return;
         }
-        // Lower, upper non-centrality parameters
-        final double alpha = 1 - confidence;
+        setErrorMessage("");
+        testStatistic = Eta2FOmni.calcF(getMs(), getMse());
+        measure = calcR(getMs(), getMse(), dfEffect);
         try {
-            lowerNc = ConfIntNcf.findNonCentrality(testStatistic, dfEffect,
-                    dfError, 1 - (alpha * 0.5));
-            upperNc = ConfIntNcf.findNonCentrality(testStatistic, dfEffect,
-                    dfError, alpha * 0.5);
-        } catch (ArithmeticException ex) {
+            interval = intervalEntry.get();
+        } catch (ArithmeticException | IllegalArgumentException ex) {
             setErrorMessage(ex.getLocalizedMessage());
+            interval = null;
+            lowerNc = Double.NaN;
+            upperNc = Double.NaN;
+            lowerMeasure = Double.NaN;
+            upperMeasure = Double.NaN;
             doStateChanged();
             return;
         }
-        // Lower, upper measure
-        lowerMeasure = lowerNc / (lowerNc + dfEffect + dfError + 1);
-        upperMeasure = upperNc / (upperNc + dfEffect + dfError + 1);
-        // PDF curves
-        lowerPdf = ConfIntNcf.createPdf(testStatistic, dfEffect, dfError,
-                lowerNc, lowerNc, upperNc);
-        upperPdf = ConfIntNcf.createPdf(testStatistic, dfEffect, dfError,
-                upperNc, lowerNc, upperNc);
+        lowerNc = interval.getLowerNc();
+        upperNc = interval.getUpperNc();
+        lowerMeasure = interval.getLowerMeasure();
+        upperMeasure = interval.getUpperMeasure();
         doStateChanged();
     }
 
+    /**
+     * Solve the confidence interval from the inputs.
+     *
+     * @return interval
+     */
+    private NcInterval solveInterval() {
+        return EffectSizes.rIntraCorrF(new AnovaSummary(ssEffect,
+                ssTotal, dfEffect, dfError), confidence);
+    }
+
+    // *************************************************************************
+    // PROTECTED METHODS
+    // *************************************************************************
+    @Override
+    protected void setDefaults() {
+        setSsEffect(10);
+        setSsTotal(27.4885);
+        setDfEffect(5);
+        setDfError(39);
+        setConfidence(0.95);
+    }
+
     // *************************************************************************
     // PUBLIC METHODS
     // *************************************************************************
@@ -134,11 +155,15 @@ public final class RIntraCorrF extends AbstractNonCentralTest {
 
     @Override
     public void reset() {
-        setSsEffect(10);
-        setSsTotal(27.4885);
-        setDfEffect(5);
-        setDfError(39);
-        setConfidence(0.95);
+        beginUpdate();
+        try {
+            setResetting(true);
+            setDefaults();
+            setResetting(false);
+            calculate();
+        } finally {
+            endUpdate();
+        }
     }
 
     // *************************************************************************
@@ -173,6 +198,7 @@ public final class RIntraCorrF extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Effect Deg Free")
     @IndexAnnotation(value = 3)
+    @StepAnnotation(value = 1)
     @DescriptionAnnotation(value = "Degrees of freedom of the effect.")
     public double getDfEffect() {
         return dfEffect;
@@ -186,6 +212,7 @@ public final class RIntraCorrF extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Error Deg Free")
     @IndexAnnotation(value = 4)
+    @StepAnnotation(value = 1)
     @DescriptionAnnotation(value = "Degrees of freedom of the error.")
     public double getDfError() {
         return dfError;
@@ -199,6 +226,7 @@ public final class RIntraCorrF extends AbstractNonCentralTest {
     @CategoryAnnotation(value = Constants.INPUT_CATEGORY)
     @NameAnnotation(value = "Confidence (1 - " + Constants.ALPHA_LOWER + ")")
     @IndexAnnotation(value = 5)
+    @StepAnnotation(value = 0.001)
     @DescriptionAnnotation(value = "Confidence interval expressed as a "
             + "percentage in the range 0...1.")
     @Override
@@ -305,9 +333,14 @@ public final class RIntraCorrF extends AbstractNonCentralTest {
         return lowerNc;
     }
 
+    @Override
+    public NcInterval getInterval() {
+        return interval;
+    }
+
     @Override
     public double[][] getLowerPdf() {
-        return lowerPdf;
+        return interval == null ? null : interval.getLowerPdf();
     }
 
     @CategoryAnnotation(value = Constants.OUTPUT_CATEGORY)
@@ -323,6 +356,6 @@ public final class RIntraCorrF extends AbstractNonCentralTest {
 
     @Override
     public double[][] getUpperPdf() {
-        return upperPdf;
+        return interval == null ? null : interval.getUpperPdf();
     }
 }
\ No newline at end of file
@@ -0,0 +1,123 @@
+package edu.missouristate.mote.effectsizes;
+
+import java.util.Arrays;
+
+/**
+ * Cache of the expensive results of a test, such as its solved intervals.
+ * Each entry declares the values its result is computed from as a key, and
+ * is recomputed only when the key differs from the key of its last
+ * computation; otherwise the last result, or the last failure, is returned
+ * again. Entries are independent of each other. The cache counts the
+ * entries computed and reused.
+ */
+final class ResultCache {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private long computeCount;
+    private long skipCount;
+
+    // *************************************************************************
+    // PACKAGE METHODS
+    // *************************************************************************
+    /**
+     * Return the number of entry lookups that computed a result.
+     *
+     * @return count
+     */
+    long getComputeCount() {
+        return computeCount;
+    }
+
+    /**
+     * Return the number of entry lookups that reused the last result.
+     *
+     * @return count
+     */
+    long getSkipCount() {
+        return skipCount;
+    }
+
+    // *************************************************************************
+    // INNER CLASSES
+    // *************************************************************************
+    /**
+     * Cached result of a test.
+     *
+     * @param <T> type of the result
+     */
+    abstract static class Entry<T> {
+
+        // *********************************************************************
+        // FIELDS
+        // *********************************************************************
+        private final ResultCache cache;
+        // Key of the last computation; null before the first
+        private double[] lastKey;
+        private T result;
+        private RuntimeException failure;
+
+        // *********************************************************************
+        // CONSTRUCTORS
+        // *********************************************************************
+        /**
+         * Initialize a new instance of an Entry.
+         *
+         * @param cache cache counting the work of this entry
+         */
+        Entry(final ResultCache cache) {
+            this.cache = cache;
+        }
+
+        // *********************************************************************
+        // PROTECTED METHODS
+        // *********************************************************************
+        /**
+         * Return the values the result is computed from. Values are compared
+         * as by Arrays.equals, so NaN matches NaN.
+         *
+         * @return key
+         */
+        protected abstract double[] getKey();
+
+        /**
+         * Compute the result of this entry.
+         *
+         * @return result
+         */
+        protected abstract T compute();
+
+        // *********************************************************************
+        // PACKAGE METHODS
+        // *********************************************************************
+        /**
+         * Return the result of this entry, computing it only if its key
+         * changed.
+         *
+         * @return result
+         * @exception RuntimeException the exception thrown by compute() for
+         * the current key
+         */
+        final T get() {
+            final double[] key = getKey();
+            if (lastKey != null && Arrays.equals(key, lastKey)) {
+                cache.skipCount++;
+            } else {
+                cache.computeCount++;
+                lastKey = key;
+                try {
+                    result = compute();
+                    failure = null;
+                } catch (RuntimeException ex) {
+                    result = null;
+                    failure = ex;
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return result;
+        }
+    }
+}
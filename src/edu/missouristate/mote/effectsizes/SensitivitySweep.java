@@ -0,0 +1,573 @@
+package edu.missouristate.mote.effectsizes;
+
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.WorkerPool;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Recalculate an effect size over a grid of one or two varying inputs. The
+ * remaining inputs are taken from a template test, and every grid point gives
+ * the same measure and interval the template would report if the varying
+ * inputs were entered through its setters, from the same EffectSizes
+ * calculator. Only the measures and the non-centrality bounds are calculated
+ * (no PDF curves), each non-centrality search is warm-started from the
+ * previous point along a row, and rows are calculated in parallel.
+ */
+public final class SensitivitySweep {
+
+    /**
+     * Inputs that may be varied by a sweep. Not every parameter applies to
+     * every test.
+     */
+    public enum Parameter {
+        /** Group 1 size (independent t). */
+        SIZE1,
+        /** Group 2 size (independent t). */
+        SIZE2,
+        /** Sample size (dependent t). */
+        SIZE,
+        /** Degrees of freedom (dependent t). */
+        DF,
+        /** Effect degrees of freedom (F). */
+        DF_EFFECT,
+        /** Error degrees of freedom (F). */
+        DF_ERROR,
+        /** Confidence (1 - alpha). */
+        CONFIDENCE,
+        /** Test statistic (t or F). */
+        TEST_STATISTIC
+    }
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    /** Snapshot of the template inputs. */
+    private final Model template;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a SensitivitySweep for Cohen's d,
+     * independent t test.
+     *
+     * @param test template test; its current inputs are copied
+     */
+    public SensitivitySweep(final CohenDIndT test) {
+        template = new IndTModel(test);
+    }
+
+    /**
+     * Initialize a new instance of a SensitivitySweep for Cohen's d,
+     * dependent t test (SD difference).
+     *
+     * @param test template test; its current inputs are copied
+     */
+    public SensitivitySweep(final CohenDDepTDiff test) {
+        template = new DepTModel(test);
+    }
+
+    /**
+     * Initialize a new instance of a SensitivitySweep for eta-squared, F test
+     * omnibus.
+     *
+     * @param test template test; its current inputs are copied
+     */
+    public SensitivitySweep(final Eta2FOmni test) {
+        template = new FOmniModel(test);
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Calculate columns [from, to) of one row of the result, warm-starting each
+     * non-centrality search from the previous column.
+     *
+     * @param result result to fill
+     * @param row row index
+     * @param from first column index
+     * @param to column index one past the last
+     */
+    private void computeRow(final SweepResult result, final int row,
+            final int from, final int to) {
+        final Model model = template.copy();
+        double lowerGuess = Double.NaN;
+        double upperGuess = Double.NaN;
+        for (int col = from; col < to; col++) {
+            if (result.getRowParameter() != null) {
+                model.set(result.getRowParameter(),
+                        result.getRowValues()[row]);
+            }
+            model.set(result.getColumnParameter(),
+                    result.getColumnValues()[col]);
+            NcInterval interval;
+            try {
+                interval = model.solve(lowerGuess, upperGuess);
+            } catch (ArithmeticException | IllegalArgumentException ex) {
+                interval = null;
+            }
+            if (interval == null) {
+                lowerGuess = Double.NaN;
+                upperGuess = Double.NaN;
+                result.getMeasure()[row][col] = Double.NaN;
+                result.getLowerMeasure()[row][col] = Double.NaN;
+                result.getUpperMeasure()[row][col] = Double.NaN;
+                result.getLowerNc()[row][col] = Double.NaN;
+                result.getUpperNc()[row][col] = Double.NaN;
+                continue;
+            }
+            lowerGuess = interval.getLowerNc();
+            upperGuess = interval.getUpperNc();
+            result.getMeasure()[row][col] = interval.getMeasure();
+            result.getLowerMeasure()[row][col] = interval.getLowerMeasure();
+            result.getUpperMeasure()[row][col] = interval.getUpperMeasure();
+            result.getLowerNc()[row][col] = lowerGuess;
+            result.getUpperNc()[row][col] = upperGuess;
+        }
+    }
+
+    /**
+     * Fill the result, calculating rows (or, for a single row, column
+     * segments) in parallel.
+     *
+     * @param result result to fill
+     * @return filled result
+     */
+    private SweepResult run(final SweepResult result) {
+        template.check(result.getColumnParameter());
+        if (result.getRowParameter() != null) {
+            template.check(result.getRowParameter());
+        }
+        final int rows = result.getRowValues().length;
+        final int cols = result.getColumnValues().length;
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        if (rows == 1) {
+            // A single row is cut into segments, each with its own cold start
+            final int segments = Math.max(1, Math.min(WorkerPool.getThreads(),
+                    cols / Constants.SWEEP_MIN_SEGMENT));
+            for (int index = 0; index < segments; index++) {
+                final int from = (int) ((long) cols * index / segments);
+                final int to = (int) ((long) cols * (index + 1) / segments);
+                tasks.add(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        computeRow(result, 0, from, to);
+                        return null;
+                    }
+                });
+            }
+        } else {
+            for (int row = 0; row < rows; row++) {
+                final int current = row;
+                tasks.add(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        computeRow(result, current, 0, cols);
+                        return null;
+                    }
+                });
+            }
+        }
+        WorkerPool.invokeAll(tasks);
+        return result;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the results of varying a single input. The result has a single
+     * row and a null row parameter.
+     *
+     * @param parameter input to vary
+     * @param values values of the input
+     * @return sweep results
+     * @exception IllegalArgumentException if the parameter does not apply to
+     * the template test
+     */
+    public SweepResult sweep(final Parameter parameter, final double[] values) {
+        return run(new SweepResult(null, new double[1], parameter,
+                values.clone()));
+    }
+
+    /**
+     * Return the results of varying two inputs over a grid. When the two
+     * inputs interact (for example, entering the test statistic clears the
+     * means), the row input is applied before the column input.
+     *
+     * @param rowParameter input varied across rows
+     * @param rowValues values of the row input
+     * @param columnParameter input varied across columns
+     * @param columnValues values of the column input
+     * @return sweep results
+     * @exception IllegalArgumentException if either parameter does not apply
+     * to the template test
+     */
+    public SweepResult sweep(final Parameter rowParameter,
+            final double[] rowValues, final Parameter columnParameter,
+            final double[] columnValues) {
+        return run(new SweepResult(rowParameter, rowValues.clone(),
+                columnParameter, columnValues.clone()));
+    }
+
+    // *************************************************************************
+    // INNER CLASSES
+    // *************************************************************************
+    /**
+     * Mutable copy of the inputs of one test, mirroring its setters. The
+     * interval is solved by the EffectSizes method the test itself uses.
+     */
+    private abstract static class Model {
+
+        /**
+         * Return the confidence clamped to the range the tests accept.
+         *
+         * @param confidence confidence probability
+         * @return clamped confidence probability
+         */
+        static double clampConfidence(final double confidence) {
+            return Math.min(Constants.MAX_CONFIDENCE,
+                    Math.max(Constants.MIN_CONFIDENCE, confidence));
+        }
+
+        /**
+         * Throw IllegalArgumentException if the parameter does not apply.
+         *
+         * @param parameter parameter
+         */
+        abstract void check(Parameter parameter);
+
+        /**
+         * Return an independent copy of this model.
+         *
+         * @return copy
+         */
+        abstract Model copy();
+
+        /**
+         * Set an input as the corresponding setter of the test would.
+         *
+         * @param parameter input to set
+         * @param value new value
+         */
+        abstract void set(Parameter parameter, double value);
+
+        /**
+         * Return the measure and its interval.
+         *
+         * @param lowerGuess lower non-centrality guess or NaN
+         * @param upperGuess upper non-centrality guess or NaN
+         * @return measure and interval
+         * @exception IllegalArgumentException if the inputs have no interval
+         * @exception ArithmeticException if a search does not converge
+         */
+        abstract NcInterval solve(double lowerGuess, double upperGuess);
+    }
+
+    /**
+     * Cohen's d, independent t test.
+     */
+    private static final class IndTModel extends Model {
+
+        private double confidence;
+        private double mean1;
+        private double mean2;
+        private double size1;
+        private double size2;
+        private double stdDev1;
+        private double stdDev2;
+        private double stdErr1;
+        private double stdErr2;
+        private double testStatistic;
+        private boolean fixedSD1;
+        private boolean fixedSD2;
+        private boolean useInputs;
+
+        IndTModel(final CohenDIndT test) {
+            confidence = test.getConfidence();
+            mean1 = test.getMean1();
+            mean2 = test.getMean2();
+            size1 = test.getSize1();
+            size2 = test.getSize2();
+            stdDev1 = test.getStdDev1();
+            stdDev2 = test.getStdDev2();
+            stdErr1 = test.getStdErr1();
+            stdErr2 = test.getStdErr2();
+            testStatistic = test.getTestStatistic();
+            fixedSD1 = test.isFixedSD1();
+            fixedSD2 = test.isFixedSD2();
+            useInputs = test.isUseInputs();
+        }
+
+        IndTModel(final IndTModel other) {
+            confidence = other.confidence;
+            mean1 = other.mean1;
+            mean2 = other.mean2;
+            size1 = other.size1;
+            size2 = other.size2;
+            stdDev1 = other.stdDev1;
+            stdDev2 = other.stdDev2;
+            stdErr1 = other.stdErr1;
+            stdErr2 = other.stdErr2;
+            testStatistic = other.testStatistic;
+            fixedSD1 = other.fixedSD1;
+            fixedSD2 = other.fixedSD2;
+            useInputs = other.useInputs;
+        }
+
+        @Override
+        void check(final Parameter parameter) {
+            switch (parameter) {
+                case SIZE1:
+                case SIZE2:
+                case CONFIDENCE:
+                case TEST_STATISTIC:
+                    break;
+                default:
+                    throw new IllegalArgumentException(parameter
+                            + " does not apply to the independent t test");
+            }
+        }
+
+        @Override
+        Model copy() {
+            return new IndTModel(this);
+        }
+
+        @Override
+        void set(final Parameter parameter, final double value) {
+            switch (parameter) {
+                case SIZE1:
+                    size1 = Math.max(Constants.MIN_SS, value);
+                    break;
+                case SIZE2:
+                    size2 = Math.max(Constants.MIN_SS, value);
+                    break;
+                case CONFIDENCE:
+                    confidence = clampConfidence(value);
+                    return;
+                case TEST_STATISTIC:
+                    testStatistic = value;
+                    mean1 = 0;
+                    mean2 = 0;
+                    stdDev1 = 0;
+                    stdDev2 = 0;
+                    stdErr1 = 0;
+                    stdErr2 = 0;
+                    useInputs = false;
+                    return;
+                default:
+                    check(parameter);
+            }
+            // Sizes changed
+            if (fixedSD1) {
+                stdErr1 = AbstractTest.calcStdErr(size1, stdDev1);
+            } else {
+                stdDev1 = AbstractTest.calcStdDev(size1, stdErr1);
+            }
+            if (fixedSD2) {
+                stdErr2 = AbstractTest.calcStdErr(size2, stdDev2);
+            } else {
+                stdDev2 = AbstractTest.calcStdDev(size2, stdErr2);
+            }
+        }
+
+        @Override
+        NcInterval solve(final double lowerGuess, final double upperGuess) {
+            return useInputs
+                    ? EffectSizes.cohenDIndT(new TwoGroupSummary(mean1, mean2,
+                            stdDev1, stdDev2, size1, size2), confidence,
+                            lowerGuess, upperGuess)
+                    : EffectSizes.cohenDIndT(testStatistic, size1, size2,
+                            confidence, lowerGuess, upperGuess);
+        }
+    }
+
+    /**
+     * Cohen's d, dependent t test (SD difference).
+     */
+    private static final class DepTModel extends Model {
+
+        private double confidence;
+        private double meanDiff;
+        private double size;
+        private double stdDevDiff;
+        private double stdErrDiff;
+        private double testStatistic;
+        private boolean fixedSD;
+        private boolean useInputs;
+
+        DepTModel(final CohenDDepTDiff test) {
+            confidence = test.getConfidence();
+            meanDiff = test.getMeanDiff();
+            size = test.getSize();
+            stdDevDiff = test.getStdDevDiff();
+            stdErrDiff = test.getStdErrDiff();
+            testStatistic = test.getTestStatistic();
+            fixedSD = test.isFixedSD();
+            useInputs = test.isUseInputs();
+        }
+
+        DepTModel(final DepTModel other) {
+            confidence = other.confidence;
+            meanDiff = other.meanDiff;
+            size = other.size;
+            stdDevDiff = other.stdDevDiff;
+            stdErrDiff = other.stdErrDiff;
+            testStatistic = other.testStatistic;
+            fixedSD = other.fixedSD;
+            useInputs = other.useInputs;
+        }
+
+        @Override
+        void check(final Parameter parameter) {
+            switch (parameter) {
+                case SIZE:
+                case DF:
+                case CONFIDENCE:
+                case TEST_STATISTIC:
+                    break;
+                default:
+                    throw new IllegalArgumentException(parameter
+                            + " does not apply to the dependent t test");
+            }
+        }
+
+        @Override
+        Model copy() {
+            return new DepTModel(this);
+        }
+
+        @Override
+        void set(final Parameter parameter, final double value) {
+            switch (parameter) {
+                case SIZE:
+                    size = Math.max(Constants.MIN_SS, value);
+                    break;
+                case DF:
+                    size = AbstractTest.calcSize(
+                            Math.max(Constants.MIN_DF, value));
+                    break;
+                case CONFIDENCE:
+                    confidence = clampConfidence(value);
+                    return;
+                case TEST_STATISTIC:
+                    testStatistic = value;
+                    meanDiff = 0;
+                    stdDevDiff = 0;
+                    stdErrDiff = 0;
+                    useInputs = false;
+                    return;
+                default:
+                    check(parameter);
+            }
+            // Size changed
+            if (fixedSD) {
+                stdErrDiff = AbstractTest.calcStdErr(size, stdDevDiff);
+            } else {
+                stdDevDiff = AbstractTest.calcStdDev(size, stdErrDiff);
+            }
+        }
+
+        @Override
+        NcInterval solve(final double lowerGuess, final double upperGuess) {
+            return useInputs
+                    ? EffectSizes.cohenDDepTDiff(new DifferenceSummary(
+                            meanDiff, stdDevDiff, size), confidence,
+                            lowerGuess, upperGuess)
+                    : EffectSizes.cohenDDepTDiff(testStatistic, size,
+                            confidence, lowerGuess, upperGuess);
+        }
+    }
+
+    /**
+     * Eta-squared, F test omnibus.
+     */
+    private static final class FOmniModel extends Model {
+
+        private double confidence;
+        private double ssEffect;
+        private double ssTotal;
+        private double dfEffect;
+        private double dfError;
+        private double testStatistic;
+        private boolean useInputs;
+
+        FOmniModel(final Eta2FOmni test) {
+            confidence = test.getConfidence();
+            ssEffect = test.getSsEffect();
+            ssTotal = test.getSsTotal();
+            dfEffect = test.getDfEffect();
+            dfError = test.getDfError();
+            testStatistic = test.getTestStatistic();
+            useInputs = test.isUseInputs();
+        }
+
+        FOmniModel(final FOmniModel other) {
+            confidence = other.confidence;
+            ssEffect = other.ssEffect;
+            ssTotal = other.ssTotal;
+            dfEffect = other.dfEffect;
+            dfError = other.dfError;
+            testStatistic = other.testStatistic;
+            useInputs = other.useInputs;
+        }
+
+        @Override
+        void check(final Parameter parameter) {
+            switch (parameter) {
+                case DF_EFFECT:
+                case DF_ERROR:
+                case CONFIDENCE:
+                case TEST_STATISTIC:
+                    break;
+                default:
+                    throw new IllegalArgumentException(parameter
+                            + " does not apply to the F test");
+            }
+        }
+
+        @Override
+        Model copy() {
+            return new FOmniModel(this);
+        }
+
+        @Override
+        void set(final Parameter parameter, final double value) {
+            switch (parameter) {
+                case DF_EFFECT:
+                    dfEffect = Math.max(Constants.MIN_DF, value);
+                    useInputs = true;
+                    break;
+                case DF_ERROR:
+                    dfError = Math.max(Constants.MIN_DF, value);
+                    useInputs = true;
+                    break;
+                case CONFIDENCE:
+                    confidence = clampConfidence(value);
+                    break;
+                case TEST_STATISTIC:
+                    testStatistic = value;
+                    useInputs = false;
+                    ssEffect = 0;
+                    ssTotal = 0;
+                    break;
+                default:
+                    check(parameter);
+            }
+        }
+
+        @Override
+        NcInterval solve(final double lowerGuess, final double upperGuess) {
+            return useInputs
+                    ? EffectSizes.eta2FOmni(new AnovaSummary(ssEffect, ssTotal,
+                            dfEffect, dfError), confidence, lowerGuess,
+                            upperGuess)
+                    : EffectSizes.eta2FOmni(testStatistic, dfEffect, dfError,
+                            confidence, lowerGuess, upperGuess);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package edu.missouristate.mote.effectsizes;
+
+/**
+ * Setters shared by the F tests whose inputs are sums of squares and degrees
+ * of freedom.
+ */
+public interface SumOfSquaresInputs {
+
+    /**
+     * Set the sum of squares of the effect.
+     *
+     * @param value sum of squares
+     */
+    void setSsEffect(final double value);
+
+    /**
+     * Set the total sum of squares.
+     *
+     * @param value sum of squares
+     */
+    void setSsTotal(final double value);
+
+    /**
+     * Set the degrees of freedom of the effect.
+     *
+     * @param value degrees of freedom
+     */
+    void setDfEffect(final double value);
+
+    /**
+     * Set the degrees of freedom of the error.
+     *
+     * @param value degrees of freedom
+     */
+    void setDfError(final double value);
+}
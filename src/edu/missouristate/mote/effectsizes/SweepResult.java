@@ -0,0 +1,133 @@
+package edu.missouristate.mote.effectsizes;
+
+/**
+ * Dense result matrix of a SensitivitySweep. Element [row][col] holds the
+ * value for the row parameter set to rowValues[row] and the column parameter
+ * set to columnValues[col]. Grid points that could not be calculated hold NaN.
+ */
+public final class SweepResult {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final SensitivitySweep.Parameter rowParameter;
+    private final double[] rowValues;
+    private final SensitivitySweep.Parameter columnParameter;
+    private final double[] columnValues;
+    private final double[][] measure;
+    private final double[][] lowerMeasure;
+    private final double[][] upperMeasure;
+    private final double[][] lowerNc;
+    private final double[][] upperNc;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a SweepResult.
+     *
+     * @param rowParameter parameter varied across rows (may be null)
+     * @param rowValues row parameter values
+     * @param columnParameter parameter varied across columns
+     * @param columnValues column parameter values
+     */
+    SweepResult(final SensitivitySweep.Parameter rowParameter,
+            final double[] rowValues,
+            final SensitivitySweep.Parameter columnParameter,
+            final double[] columnValues) {
+        this.rowParameter = rowParameter;
+        this.rowValues = rowValues;
+        this.columnParameter = columnParameter;
+        this.columnValues = columnValues;
+        measure = new double[rowValues.length][columnValues.length];
+        lowerMeasure = new double[rowValues.length][columnValues.length];
+        upperMeasure = new double[rowValues.length][columnValues.length];
+        lowerNc = new double[rowValues.length][columnValues.length];
+        upperNc = new double[rowValues.length][columnValues.length];
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the parameter varied across rows, or null for a one-dimensional
+     * sweep.
+     *
+     * @return row parameter
+     */
+    public SensitivitySweep.Parameter getRowParameter() {
+        return rowParameter;
+    }
+
+    /**
+     * Return the row parameter values.
+     *
+     * @return row parameter values
+     */
+    public double[] getRowValues() {
+        return rowValues;
+    }
+
+    /**
+     * Return the parameter varied across columns.
+     *
+     * @return column parameter
+     */
+    public SensitivitySweep.Parameter getColumnParameter() {
+        return columnParameter;
+    }
+
+    /**
+     * Return the column parameter values.
+     *
+     * @return column parameter values
+     */
+    public double[] getColumnValues() {
+        return columnValues;
+    }
+
+    /**
+     * Return the measure at each grid point.
+     *
+     * @return measure matrix
+     */
+    public double[][] getMeasure() {
+        return measure;
+    }
+
+    /**
+     * Return the lower confidence interval measure at each grid point.
+     *
+     * @return lower measure matrix
+     */
+    public double[][] getLowerMeasure() {
+        return lowerMeasure;
+    }
+
+    /**
+     * Return the upper confidence interval measure at each grid point.
+     *
+     * @return upper measure matrix
+     */
+    public double[][] getUpperMeasure() {
+        return upperMeasure;
+    }
+
+    /**
+     * Return the lower non-centrality parameter at each grid point.
+     *
+     * @return lower non-centrality matrix
+     */
+    public double[][] getLowerNc() {
+        return lowerNc;
+    }
+
+    /**
+     * Return the upper non-centrality parameter at each grid point.
+     *
+     * @return upper non-centrality matrix
+     */
+    public double[][] getUpperNc() {
+        return upperNc;
+    }
+}
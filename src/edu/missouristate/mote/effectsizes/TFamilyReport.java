@@ -0,0 +1,95 @@
+package edu.missouristate.mote.effectsizes;
+
+/**
+ * Immutable set of the measures of an independent t test. Every interval
+ * comes from the same pair of non-central t bounds: d, g and Glass's delta
+ * scale them and the point-biserial correlation maps them by
+ * r = t / sqrt(t^2 + df), so a report costs two root searches where the four
+ * single-measure calculations cost eight.
+ */
+public final class TFamilyReport {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final NcInterval cohenD;
+    private final NcInterval hedgesG;
+    private final NcInterval glassDelta;
+    private final NcInterval pointBiserialR;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a TFamilyReport.
+     *
+     * @param cohenD Cohen's d
+     * @param hedgesG Hedges' g
+     * @param glassDelta Glass's delta, or null if unknown
+     * @param pointBiserialR point-biserial correlation
+     */
+    TFamilyReport(final NcInterval cohenD, final NcInterval hedgesG,
+            final NcInterval glassDelta, final NcInterval pointBiserialR) {
+        this.cohenD = cohenD;
+        this.hedgesG = hedgesG;
+        this.glassDelta = glassDelta;
+        this.pointBiserialR = pointBiserialR;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return Cohen's d and its interval.
+     *
+     * @return d
+     */
+    public NcInterval getCohenD() {
+        return cohenD;
+    }
+
+    /**
+     * Return Hedges' g and its interval.
+     *
+     * @return g
+     */
+    public NcInterval getHedgesG() {
+        return hedgesG;
+    }
+
+    /**
+     * Return Glass's delta and its interval.
+     *
+     * @return delta, or null if the report was made from t alone
+     */
+    public NcInterval getGlassDelta() {
+        return glassDelta;
+    }
+
+    /**
+     * Return the point-biserial correlation and its interval.
+     *
+     * @return r
+     */
+    public NcInterval getPointBiserialR() {
+        return pointBiserialR;
+    }
+
+    /**
+     * Return the lower non-centrality parameter shared by every interval.
+     *
+     * @return lower non-centrality parameter
+     */
+    public double getLowerNc() {
+        return cohenD.getLowerNc();
+    }
+
+    /**
+     * Return the upper non-centrality parameter shared by every interval.
+     *
+     * @return upper non-centrality parameter
+     */
+    public double getUpperNc() {
+        return cohenD.getUpperNc();
+    }
+}
@@ -0,0 +1,74 @@
+package edu.missouristate.mote.effectsizes;
+
+/**
+ * Immutable counts of a two by two contingency table: the input of the odds
+ * ratio.
+ */
+public final class TwoByTwoTable {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final double value11;
+    private final double value12;
+    private final double value21;
+    private final double value22;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a TwoByTwoTable.
+     *
+     * @param value11 row 1, column 1 count
+     * @param value12 row 1, column 2 count
+     * @param value21 row 2, column 1 count
+     * @param value22 row 2, column 2 count
+     */
+    public TwoByTwoTable(final double value11, final double value12,
+            final double value21, final double value22) {
+        this.value11 = value11;
+        this.value12 = value12;
+        this.value21 = value21;
+        this.value22 = value22;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the row 1, column 1 count.
+     *
+     * @return count
+     */
+    public double getValue11() {
+        return value11;
+    }
+
+    /**
+     * Return the row 1, column 2 count.
+     *
+     * @return count
+     */
+    public double getValue12() {
+        return value12;
+    }
+
+    /**
+     * Return the row 2, column 1 count.
+     *
+     * @return count
+     */
+    public double getValue21() {
+        return value21;
+    }
+
+    /**
+     * Return the row 2, column 2 count.
+     *
+     * @return count
+     */
+    public double getValue22() {
+        return value22;
+    }
+}
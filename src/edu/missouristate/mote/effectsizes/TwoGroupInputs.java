@@ -0,0 +1,50 @@
+package edu.missouristate.mote.effectsizes;
+
+/**
+ * Setters shared by the tests whose inputs are the summary statistics of two
+ * independent groups.
+ */
+public interface TwoGroupInputs {
+
+    /**
+     * Set the mean of group 1.
+     *
+     * @param value mean
+     */
+    void setMean1(final double value);
+
+    /**
+     * Set the mean of group 2.
+     *
+     * @param value mean
+     */
+    void setMean2(final double value);
+
+    /**
+     * Set the standard deviation of group 1.
+     *
+     * @param value standard deviation
+     */
+    void setStdDev1(final double value);
+
+    /**
+     * Set the standard deviation of group 2.
+     *
+     * @param value standard deviation
+     */
+    void setStdDev2(final double value);
+
+    /**
+     * Set the size of group 1.
+     *
+     * @param value sample size
+     */
+    void setSize1(final double value);
+
+    /**
+     * Set the size of group 2.
+     *
+     * @param value sample size
+     */
+    void setSize2(final double value);
+}
@@ -0,0 +1,135 @@
+package edu.missouristate.mote.effectsizes;
+
+/**
+ * Immutable summary of two independent groups: the input of Cohen's d,
+ * Hedges' g and Glass's delta.
+ */
+public final class TwoGroupSummary {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final double mean1;
+    private final double mean2;
+    private final double stdDev1;
+    private final double stdDev2;
+    private final double size1;
+    private final double size2;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a TwoGroupSummary.
+     *
+     * @param mean1 group 1 mean
+     * @param mean2 group 2 mean
+     * @param stdDev1 group 1 standard deviation
+     * @param stdDev2 group 2 standard deviation
+     * @param size1 group 1 size
+     * @param size2 group 2 size
+     */
+    public TwoGroupSummary(final double mean1, final double mean2,
+            final double stdDev1, final double stdDev2, final double size1,
+            final double size2) {
+        this.mean1 = mean1;
+        this.mean2 = mean2;
+        this.stdDev1 = stdDev1;
+        this.stdDev2 = stdDev2;
+        this.size1 = size1;
+        this.size2 = size2;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the group 1 mean.
+     *
+     * @return group 1 mean
+     */
+    public double getMean1() {
+        return mean1;
+    }
+
+    /**
+     * Return the group 2 mean.
+     *
+     * @return group 2 mean
+     */
+    public double getMean2() {
+        return mean2;
+    }
+
+    /**
+     * Return the group 1 standard deviation.
+     *
+     * @return group 1 standard deviation
+     */
+    public double getStdDev1() {
+        return stdDev1;
+    }
+
+    /**
+     * Return the group 2 standard deviation.
+     *
+     * @return group 2 standard deviation
+     */
+    public double getStdDev2() {
+        return stdDev2;
+    }
+
+    /**
+     * Return the group 1 size.
+     *
+     * @return group 1 size
+     */
+    public double getSize1() {
+        return size1;
+    }
+
+    /**
+     * Return the group 2 size.
+     *
+     * @return group 2 size
+     */
+    public double getSize2() {
+        return size2;
+    }
+
+    /**
+     * Return the degrees of freedom, n1 + n2 - 2.
+     *
+     * @return degrees of freedom
+     */
+    public double getDf() {
+        return size1 + size2 - 2;
+    }
+
+    /**
+     * Return the pooled standard deviation.
+     *
+     * @return pooled standard deviation; zero for fewer than three values
+     */
+    public double getStdDevPooled() {
+        return CohenDIndT.calcSDPooled(stdDev1, stdDev2, size1, size2);
+    }
+
+    /**
+     * Return the pooled standard error of the mean difference.
+     *
+     * @return pooled standard error
+     */
+    public double getStdErrPooled() {
+        return CohenDIndT.calcSEPooled(getStdDevPooled(), size1, size2);
+    }
+
+    /**
+     * Return the t statistic of the mean difference.
+     *
+     * @return t; zero if the standard error is zero
+     */
+    public double getTValue() {
+        return CohenDIndT.calcT(mean1, mean2, getStdErrPooled());
+    }
+}
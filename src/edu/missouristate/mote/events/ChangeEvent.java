@@ -0,0 +1,105 @@
+package edu.missouristate.mote.events;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Immutable description of one change of state: the kinds of state that
+ * changed and the names of the changed properties (the getter names without
+ * the "get" prefix). A burst of changes is reported as one event holding
+ * their union.
+ */
+public final class ChangeEvent {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final Object source;
+    private final Set<ChangeKind> kinds;
+    private final Set<String> properties;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a ChangeEvent.
+     *
+     * @param source object whose state changed
+     * @param kinds kinds of state that changed; copied
+     * @param properties names of the changed properties; not copied
+     */
+    public ChangeEvent(final Object source, final Set<ChangeKind> kinds,
+            final Set<String> properties) {
+        this.source = source;
+        this.kinds = kinds.isEmpty() ? EnumSet.noneOf(ChangeKind.class)
+                : EnumSet.copyOf(kinds);
+        this.properties = Collections.unmodifiableSet(properties);
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return an event holding the changes of this event followed by those
+     * of a later event of the same source.
+     *
+     * @param later later event
+     * @return merged event
+     */
+    public ChangeEvent merge(final ChangeEvent later) {
+        final Set<ChangeKind> mergedKinds = EnumSet.copyOf(later.kinds);
+        mergedKinds.addAll(kinds);
+        final Set<String> mergedProperties = new HashSet<>(properties);
+        mergedProperties.addAll(later.properties);
+        return new ChangeEvent(later.source, mergedKinds, mergedProperties);
+    }
+
+    /**
+     * Return the names of the changed properties.
+     *
+     * @return unmodifiable set of property names
+     */
+    public Set<String> getProperties() {
+        return properties;
+    }
+
+    /**
+     * Return the object whose state changed.
+     *
+     * @return source
+     */
+    public Object getSource() {
+        return source;
+    }
+
+    /**
+     * Return true if state of the specified kind changed.
+     *
+     * @param kind kind of state
+     * @return true if changed; false, otherwise
+     */
+    public boolean isChanged(final ChangeKind kind) {
+        return kinds.contains(kind);
+    }
+
+    /**
+     * Return true if the specified property changed.
+     *
+     * @param property property name, without the "get" prefix
+     * @return true if changed; false, otherwise
+     */
+    public boolean isChanged(final String property) {
+        return properties.contains(property);
+    }
+
+    /**
+     * Return true if nothing changed.
+     *
+     * @return true if empty; false, otherwise
+     */
+    public boolean isEmpty() {
+        return kinds.isEmpty();
+    }
+}
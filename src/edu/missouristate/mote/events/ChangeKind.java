@@ -0,0 +1,18 @@
+package edu.missouristate.mote.events;
+
+/**
+ * Kind of state carried by a ChangeEvent.
+ */
+public enum ChangeKind {
+
+    /** A value entered by the user. */
+    INPUT,
+    /** A value derived from the inputs before any interval is solved. */
+    DERIVED,
+    /** A measure, a confidence limit or a non-centrality parameter. */
+    RESULT,
+    /** A distribution curve drawn by the graph. */
+    CURVE,
+    /** The error message. */
+    MESSAGE
+}
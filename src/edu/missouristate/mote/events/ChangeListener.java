@@ -7,6 +7,8 @@ public interface ChangeListener {
 
     /**
      * Indicate that the state of an object has changed.
+     *
+     * @param event what changed
      */
-    void stateChanged();
+    void stateChanged(final ChangeEvent event);
 }
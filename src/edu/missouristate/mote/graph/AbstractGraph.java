@@ -1,20 +1,29 @@
 package edu.missouristate.mote.graph;
 
 import java.awt.Color;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import javax.swing.Timer;
 import org.jfree.chart.ChartFactory;
 import org.jfree.chart.ChartPanel;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.annotations.AbstractXYAnnotation;
+import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.title.TextTitle;
-import org.jfree.data.xy.DefaultXYDataset;
 import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.events.ChangeEvent;
 import edu.missouristate.mote.events.ChangeListener;
 import edu.missouristate.mote.effectsizes.AbstractTest;
 
 /**
- * Base class for implementing charts for statistical tests.
+ * Base class for implementing charts for statistical tests. A refresh is one
+ * batched update: chart notification is suspended while the curves are
+ * replaced in a reused dataset and the annotations are diffed, so the chart
+ * panel is repainted once. Change events of the test are redrawn at most once
+ * per frame; events arriving sooner are merged and drawn together.
  */
 public abstract class AbstractGraph {
 
@@ -26,7 +35,7 @@ public abstract class AbstractGraph {
      * Annotation references. We must keep these in order to remove them from
      * the chart.
      */
-    private final transient List<AbstractXYAnnotation> annotations;
+    private transient List<AbstractXYAnnotation> annotations;
 
     /** The chart. */
     private final transient JFreeChart chart;
@@ -34,6 +43,24 @@ public abstract class AbstractGraph {
     /** Panel holding the chart. */
     private final transient ChartPanel chartPanel;
 
+    /** Curves shown by the chart. */
+    private final transient CurveDataset dataset;
+
+    /** Statistical test shown by the chart. */
+    private final transient AbstractTest test;
+
+    /** Listener on the test's changes. */
+    private final transient ChangeListener changeListener;
+
+    /** Timer drawing the pending changes at the end of a frame. */
+    private final transient Timer frameTimer;
+
+    /** Changes not drawn yet; null if none. */
+    private transient ChangeEvent pending;
+
+    /** System.nanoTime() of the last draw of a change event. */
+    private transient long lastDraw;
+
     // *************************************************************************
     // CONSTRUCTORS
     // *************************************************************************
@@ -45,9 +72,11 @@ public abstract class AbstractGraph {
      */
     public AbstractGraph(final AbstractTest test) {
         annotations = new ArrayList<>();
+        this.test = test;
         // Create a default empty chart
+        dataset = new CurveDataset();
         chart = ChartFactory.createXYLineChart("Title", "x axis", "y axis",
-                new DefaultXYDataset());
+                dataset);
         chartPanel = new ChartPanel(chart);
         // Some settings
         chart.setBackgroundPaint(Color.white);
@@ -58,19 +87,112 @@ public abstract class AbstractGraph {
         chart.getXYPlot().getDomainAxis().setLabelFont(Constants.CHART_FONT);
         chart.getXYPlot().getRangeAxis().setLabelFont(Constants.CHART_FONT);
         chart.removeLegend();
+        // Draw pending changes at the end of a frame
+        frameTimer = new Timer(Constants.GRAPH_FRAME_MILLIS,
+                new ActionListener() {
+                    @Override
+                    public void actionPerformed(final ActionEvent evt) {
+                        drawPending();
+                    }
+                });
+        frameTimer.setRepeats(false);
+        lastDraw = System.nanoTime() - frameNanos();
         // Listen to change events on the underlying object
-        test.addChangeListener(new ChangeListener() {
+        changeListener = new ChangeListener() {
             @Override
-            public void stateChanged() {
-                refresh();
+            public void stateChanged(final ChangeEvent event) {
+                schedule(event);
             }
-        });
+        };
+        test.addChangeListener(changeListener);
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+
+    /**
+     * Return the shortest time between two draws of change events.
+     *
+     * @return time in nanoseconds
+     */
+    private static long frameNanos() {
+        return Constants.GRAPH_FRAME_MILLIS * 1000000L;
+    }
+
+    /**
+     * Update the chart once with notification suspended.
+     *
+     * @param event changes to show; null to update everything
+     */
+    private void draw(final ChangeEvent event) {
+        chart.setNotify(false);
+        try {
+            update(event);
+        } finally {
+            chart.setNotify(true);
+        }
+    }
+
+    /**
+     * Draw the pending changes, if any.
+     */
+    private void drawPending() {
+        final ChangeEvent event = pending;
+        pending = null;
+        if (event != null) {
+            lastDraw = System.nanoTime();
+            draw(event);
+        }
+    }
+
+    /**
+     * Draw a change event now, or merge it into the pending changes if the
+     * last draw was less than a frame ago.
+     *
+     * @param event change event of the test
+     */
+    private void schedule(final ChangeEvent event) {
+        pending = pending == null ? event : pending.merge(event);
+        final long wait = lastDraw + frameNanos() - System.nanoTime();
+        if (wait <= 0) {
+            frameTimer.stop();
+            drawPending();
+        } else if (!frameTimer.isRunning()) {
+            frameTimer.setInitialDelay((int) (wait / 1000000L) + 1);
+            frameTimer.restart();
+        }
     }
 
     // *************************************************************************
     // PROTECTED STATIC METHODS
     // *************************************************************************
 
+    /**
+     * Return the title of a graph of the specified statistical test: the
+     * confidence, the interval of the measure and any warning, one per line.
+     *
+     * @param test statistical test
+     * @return title
+     */
+    static String createTitle(final AbstractTest test) {
+        // Title line 1
+        final int confidence = (int) (test.getConfidence() * 100);
+        final String title1 = confidence + "% confidence";
+        // Title line 2
+        final String measure1 = String.format("%.4f", test.getLowerMeasure());
+        final String measure2 = String.format("%.4f", test.getMeasure());
+        final String measure3 = String.format("%.4f", test.getUpperMeasure());
+        final String title2 = measure1 + " < " + test.getMeasureSymbol() + "="
+                + measure2 + " < " + measure3;
+        // Title line 3 (optional)
+        if (test.getErrorMessage().isEmpty()) {
+            return title1 + "\n" + title2;
+        }
+        return title1 + "\n" + title2 + "\n(Warning: "
+                + test.getErrorMessage() + ")";
+    }
+
     /**
      * Return the closest discrete Y value in the dataset for the specified X
      * value.
@@ -88,16 +210,10 @@ public abstract class AbstractGraph {
         } else if (xValue > xydata[0][xydata[0].length - 1]) {
             return xydata[1][xydata[0].length - 1];
         }
-        // Somewhere in between
-        for (int index = 1; index < xydata[0].length; index++) {
-            final double lower = xydata[0][index - 1];
-            final double upper = xydata[0][index];
-            if (lower <= xValue && xValue <= upper) {
-                return xydata[1][index];
-            }
-        }
-        // Something went wrong
-        return 0.0;
+        // Somewhere in between: the first point at or after xValue, past the
+        // first point
+        final int found = Arrays.binarySearch(xydata[0], xValue);
+        return xydata[1][found >= 0 ? Math.max(1, found) : -found - 1];
     }
 
     /**
@@ -120,32 +236,39 @@ public abstract class AbstractGraph {
     // PROTECTED METHODS
     // *************************************************************************
     /**
-     * Add an annotation to the chart.
+     * Replace the annotations of the chart. Annotations equal to one already
+     * shown are kept; only the others are removed or added.
      *
-     * @param annotation annotation to add
+     * @param updated annotations to show
      */
-    protected final void addAnnotation(final AbstractXYAnnotation annotation) {
-        annotations.add(annotation);
-        chart.getXYPlot().addAnnotation(annotation);
-    }
-
-    /**
-     * Remove all annotations from the chart.
-     */
-    protected final void removeAnnotations() {
-        for (AbstractXYAnnotation ann : annotations) {
-            chart.getXYPlot().removeAnnotation(ann);
+    protected final void setAnnotations(
+            final List<AbstractXYAnnotation> updated) {
+        final XYPlot plot = chart.getXYPlot();
+        final List<AbstractXYAnnotation> stale = new ArrayList<>(annotations);
+        final List<AbstractXYAnnotation> shown = new ArrayList<>();
+        for (AbstractXYAnnotation ann : updated) {
+            final int index = stale.indexOf(ann);
+            if (index >= 0) {
+                shown.add(stale.remove(index));
+            } else {
+                plot.addAnnotation(ann, false);
+                shown.add(ann);
+            }
+        }
+        for (AbstractXYAnnotation ann : stale) {
+            plot.removeAnnotation(ann, false);
         }
-        annotations.clear();
+        annotations = shown;
     }
 
     /**
-     * Set the chart's dataset to the specified dataset.
+     * Replace the curves of the chart.
      *
-     * @param dataset dataset
+     * @param curves curves, each with ascending x values in [0] and the y
+     * values in [1]
      */
-    protected final void setDataset(final DefaultXYDataset dataset) {
-        chart.getXYPlot().setDataset(dataset);
+    protected final void setCurves(final double[][]... curves) {
+        dataset.setCurves(curves);
     }
 
     /**
@@ -154,25 +277,10 @@ public abstract class AbstractGraph {
      * @param test statistical test
      */
     protected final void setTitle(final AbstractTest test) {
-        // Title line 1
-        final int confidence = (int) (test.getConfidence() * 100);
-        final String title1 = confidence + "% confidence";
-        // Title line 2
-        final String measure1 = String.format("%.4f", test.getLowerMeasure());
-        final String measure2 = String.format("%.4f", test.getMeasure());
-        final String measure3 = String.format("%.4f", test.getUpperMeasure());
-        final String title2 = measure1 + " < " + test.getMeasureSymbol() + "="
-                + measure2 + " < " + measure3;
-        // Title line 3 (optional)
-        String title;
-        if (test.getErrorMessage().isEmpty()) {
-            title = title1 + "\n" + title2;
-        } else {
-            title = title1 + "\n" + title2 + "\n(Warning: "
-                    + test.getErrorMessage() + ")";
+        final String title = createTitle(test);
+        if (!title.equals(chart.getTitle().getText())) {
+            chart.setTitle(new TextTitle(title, Constants.CHART_FONT));
         }
-        // Update
-        chart.setTitle(new TextTitle(title, Constants.CHART_FONT));
     }
 
     /**
@@ -193,10 +301,26 @@ public abstract class AbstractGraph {
         chart.getXYPlot().getRangeAxis().setLabel(label);
     }
 
+    /**
+     * Update the chart. Called with chart notification suspended.
+     *
+     * @param event changes to show; null to update everything
+     */
+    protected abstract void update(final ChangeEvent event);
+
     // *************************************************************************
     // PUBLIC METHODS
     // *************************************************************************
 
+    /**
+     * Stop listening to the test, dropping any changes not drawn yet.
+     */
+    public void dispose() {
+        test.removeChangeListener(changeListener);
+        frameTimer.stop();
+        pending = null;
+    }
+
     /**
      * Return the underlying chart object.
      *
@@ -218,5 +342,17 @@ public abstract class AbstractGraph {
     /**
      * Refresh this AbstractGraph.
      */
-    public abstract void refresh();
+    public final void refresh() {
+        draw(null);
+    }
+
+    /**
+     * Refresh the parts of this AbstractGraph affected by a change event,
+     * without waiting for the end of a frame.
+     *
+     * @param event change event of the underlying test
+     */
+    public final void refresh(final ChangeEvent event) {
+        draw(event);
+    }
 }
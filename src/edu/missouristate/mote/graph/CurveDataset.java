@@ -0,0 +1,91 @@
+package edu.missouristate.mote.graph;
+
+import org.jfree.data.DomainOrder;
+import org.jfree.data.xy.AbstractXYDataset;
+
+/**
+ * Dataset of a graph's curves, read directly from the x/y arrays of each
+ * curve. The arrays are shared, not copied, and the same dataset stays on the
+ * plot while its curves are replaced.
+ */
+final class CurveDataset extends AbstractXYDataset {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    private static final long serialVersionUID = 1L;
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    // Curves, each with the x values in [0] and the y values in [1]
+    private transient double[][][] curves;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a CurveDataset with no curves.
+     */
+    CurveDataset() {
+        super();
+        curves = new double[0][][];
+    }
+
+    // *************************************************************************
+    // PACKAGE METHODS
+    // *************************************************************************
+    /**
+     * Replace the curves and notify the listeners once.
+     *
+     * @param values curves, each with ascending x values in [0] and the y
+     * values in [1]; callers must not modify them afterwards
+     */
+    void setCurves(final double[][]... values) {
+        curves = values.clone();
+        fireDatasetChanged();
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    @Override
+    public int getItemCount(final int series) {
+        return curves[series][0].length;
+    }
+
+    @Override
+    public int getSeriesCount() {
+        return curves.length;
+    }
+
+    @Override
+    public Integer getSeriesKey(final int series) {
+        return series;
+    }
+
+    @Override
+    public Number getX(final int series, final int item) {
+        return curves[series][0][item];
+    }
+
+    @Override
+    public double getXValue(final int series, final int item) {
+        return curves[series][0][item];
+    }
+
+    @Override
+    public Number getY(final int series, final int item) {
+        return curves[series][1][item];
+    }
+
+    @Override
+    public double getYValue(final int series, final int item) {
+        return curves[series][1][item];
+    }
+}
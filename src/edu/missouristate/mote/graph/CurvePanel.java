@@ -0,0 +1,196 @@
+package edu.missouristate.mote.graph;
+
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import javax.swing.JComponent;
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.effectsizes.AbstractNonCentralTest;
+import edu.missouristate.mote.effectsizes.AbstractNormalTest;
+import edu.missouristate.mote.effectsizes.AbstractTest;
+import edu.missouristate.mote.events.ChangeEvent;
+import edu.missouristate.mote.events.ChangeKind;
+import edu.missouristate.mote.events.ChangeListener;
+
+/**
+ * Component showing the picture of a statistical test with a CurveRenderer,
+ * a light alternative to the chart graphs for presentation and export. It
+ * follows the changes of its test and repaints; Swing merges repaints that
+ * arrive before the next paint. New non-central curves are painted coarse at
+ * once and repainted at full resolution when they are built.
+ */
+public final class CurvePanel extends JComponent {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+
+    /** Renderer of the picture. */
+    private final transient CurveRenderer renderer;
+
+    /** Listener on the test's changes. */
+    private final transient ChangeListener changeListener;
+
+    /** Supplier of the non-central curves, coarse first. */
+    private final transient CurveRefiner refiner;
+
+    /** Statistical test shown; null if none. */
+    private transient AbstractTest currentTest;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+
+    /**
+     * Initialize a new instance of a CurvePanel showing nothing.
+     */
+    public CurvePanel() {
+        super();
+        renderer = new CurveRenderer();
+        changeListener = new ChangeListener() {
+            @Override
+            public void stateChanged(final ChangeEvent event) {
+                update(event.isChanged(ChangeKind.CURVE));
+                repaint();
+            }
+        };
+        refiner = new CurveRefiner(new Runnable() {
+            @Override
+            public void run() {
+                update(true);
+                repaint();
+            }
+        });
+        setOpaque(true);
+        setPreferredSize(new Dimension(Constants.GRAPH_WIDTH,
+                Constants.GRAPH_HEIGHT));
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+
+    /**
+     * Return a label of a measure value.
+     *
+     * @param value value
+     * @return label
+     */
+    private String label(final double value) {
+        return String.format(currentTest.getMeasureSymbol() + "=%.4f", value);
+    }
+
+    /**
+     * Follow a new test.
+     *
+     * @param test statistical test
+     */
+    private void setCurrentTest(final AbstractTest test) {
+        refiner.cancel();
+        if (currentTest != null) {
+            currentTest.removeChangeListener(changeListener);
+        }
+        currentTest = test;
+        currentTest.addChangeListener(changeListener);
+        renderer.setXAxisLabel(test.getTestStatisticSymbol());
+        update(true);
+        repaint();
+    }
+
+    /**
+     * Update the renderer from the test.
+     *
+     * @param curves true to replace the curves as well
+     */
+    private void update(final boolean curves) {
+        renderer.setTitle(AbstractGraph.createTitle(currentTest));
+        final int confidence = (int) (currentTest.getConfidence() * 100);
+        final String caption = confidence + "% confidence";
+        if (currentTest instanceof AbstractNonCentralTest) {
+            final AbstractNonCentralTest test =
+                    (AbstractNonCentralTest) currentTest;
+            if (test.getInterval() == null) {
+                return;
+            }
+            if (curves) {
+                renderer.setCurves(refiner.getCurves(test.getInterval()));
+            }
+            renderer.setInterval(test.getLowerNc(), test.getTestStatistic(),
+                    test.getUpperNc(), renderer.getMaxY());
+            renderer.setLabels(label(test.getLowerMeasure()),
+                    label(test.getMeasure()), label(test.getUpperMeasure()),
+                    caption);
+        } else {
+            final AbstractNormalTest test = (AbstractNormalTest) currentTest;
+            if (test.getPdf() == null) {
+                return;
+            }
+            if (curves) {
+                renderer.setCurves(test.getPdf());
+            }
+            final double xLeft = -test.getDeviations();
+            final double yTop = Math.max(AbstractGraph.findApproxYValue(xLeft,
+                    test.getPdf()), renderer.getMaxY() * 0.5);
+            renderer.setInterval(xLeft, Double.NaN, test.getDeviations(),
+                    yTop);
+            renderer.setLabels(label(test.getLowerMeasure()), "",
+                    label(test.getUpperMeasure()), caption);
+        }
+    }
+
+    // *************************************************************************
+    // PROTECTED METHODS
+    // *************************************************************************
+
+    /**
+     * Paint the picture.
+     *
+     * @param g graphics
+     */
+    @Override
+    protected void paintComponent(final Graphics g) {
+        renderer.paint((Graphics2D) g, getWidth(), getHeight());
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+
+    /**
+     * Stop following the test and cancel the building of full curves.
+     */
+    public void dispose() {
+        refiner.cancel();
+        if (currentTest != null) {
+            currentTest.removeChangeListener(changeListener);
+            currentTest = null;
+        }
+    }
+
+    /**
+     * Return the renderer of the picture, for export.
+     *
+     * @return renderer
+     */
+    public CurveRenderer getRenderer() {
+        return renderer;
+    }
+
+    /**
+     * Show the specified statistical test.
+     *
+     * @param test statistical test
+     */
+    public void setTest(final AbstractNonCentralTest test) {
+        setCurrentTest(test);
+    }
+
+    /**
+     * Show the specified statistical test.
+     *
+     * @param test statistical test
+     */
+    public void setTest(final AbstractNormalTest test) {
+        setCurrentTest(test);
+    }
+}
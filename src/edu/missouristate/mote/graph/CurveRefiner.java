@@ -0,0 +1,147 @@
+package edu.missouristate.mote.graph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import javax.swing.SwingUtilities;
+import edu.missouristate.mote.WorkerPool;
+import edu.missouristate.mote.effectsizes.NcInterval;
+
+/**
+ * Two-phase supplier of the curves of a non-central interval. The curves are
+ * first given coarse, which takes a few milliseconds on the calling thread,
+ * while the full-resolution curves are built on the worker pool, the lower
+ * and upper curves at the same time when the pool splits calculations; when
+ * they are done, the listener is called on the event dispatch thread to show
+ * them. Asking for the curves of another interval cancels the refinement of
+ * the previous one. Used on the event dispatch thread only.
+ */
+final class CurveRefiner {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    // Called on the event dispatch thread when the full curves are built
+    private final Runnable listener;
+    // Interval being refined; null if none. Read by the worker to stop early
+    private volatile NcInterval target;
+    // Tasks building the curves of the target
+    private final List<Future<?>> tasks;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a CurveRefiner.
+     *
+     * @param listener called on the event dispatch thread when the full
+     * curves of the last interval asked for are built
+     */
+    CurveRefiner(final Runnable listener) {
+        this.listener = listener;
+        tasks = new ArrayList<>();
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Start building the full curves of an interval in the background.
+     *
+     * @param interval interval
+     */
+    private void refine(final NcInterval interval) {
+        target = interval;
+        if (WorkerPool.isSplitting()) {
+            tasks.add(submit(interval, true, false));
+            tasks.add(submit(interval, false, true));
+        } else {
+            tasks.add(submit(interval, true, true));
+        }
+    }
+
+    /**
+     * Start building full curves of an interval on the worker pool. The
+     * task that finishes the last curve calls the listener.
+     *
+     * @param interval interval
+     * @param lower true to build the lower curve
+     * @param upper true to build the upper curve
+     * @return task
+     */
+    private Future<?> submit(final NcInterval interval, final boolean lower,
+            final boolean upper) {
+        return WorkerPool.submit(new Callable<Void>() {
+            @Override
+            public Void call() {
+                if (lower) {
+                    interval.getLowerPdf();
+                }
+                if (upper && target == interval) {
+                    interval.getUpperPdf();
+                }
+                if (!interval.isRefined()) {
+                    return null;
+                }
+                SwingUtilities.invokeLater(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (target == interval) {
+                            target = null;
+                            tasks.clear();
+                            listener.run();
+                        }
+                    }
+                });
+                return null;
+            }
+        });
+    }
+
+    // *************************************************************************
+    // PACKAGE METHODS
+    // *************************************************************************
+    /**
+     * Cancel the refinement in progress, if any.
+     */
+    void cancel() {
+        for (Future<?> task : tasks) {
+            task.cancel(false);
+        }
+        target = null;
+        tasks.clear();
+    }
+
+    /**
+     * Return the curves to show for an interval: the full curves if they are
+     * built, otherwise the coarse curves while the full curves are built.
+     *
+     * @param interval interval
+     * @return lower and upper PDF curves
+     */
+    double[][][] getCurves(final NcInterval interval) {
+        if (interval.isRefined()) {
+            cancel();
+            return new double[][][]{interval.getLowerPdf(),
+                interval.getUpperPdf()};
+        }
+        final double[][][] result = interval.getCoarsePdfs();
+        if (interval.isRefined()) {
+            cancel();
+        } else if (interval != target) {
+            cancel();
+            refine(interval);
+        }
+        return result;
+    }
+
+    /**
+     * Return whether full curves are being built.
+     *
+     * @return true while a refinement is in progress
+     */
+    boolean isRefining() {
+        return target != null;
+    }
+}
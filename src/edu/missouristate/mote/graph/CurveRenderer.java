@@ -0,0 +1,477 @@
+package edu.missouristate.mote.graph;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Stroke;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.text.DecimalFormat;
+import edu.missouristate.mote.Constants;
+
+/**
+ * Java2D renderer of a confidence interval picture: the density curves, the
+ * limits and bar of the interval, and their labels, drawn directly from the
+ * x/y arrays of the curves without a chart model. Each curve is reduced to
+ * the first, lowest, highest and last point of every pixel column, so a curve
+ * of any length costs at most four points per column, and the reduced paths
+ * are kept until the curves or the drawing area change.
+ */
+public final class CurveRenderer {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+
+    /** Colors of the curves, as in the chart graphs. */
+    private static final Color[] CURVE_COLORS = {
+        new Color(0xFF, 0x55, 0x55), new Color(0x55, 0x55, 0xFF)};
+
+    /** Stroke of the curves. */
+    private static final Stroke CURVE_STROKE = new BasicStroke(1.0f);
+
+    /** Space around the plot, in pixels. */
+    private static final int GAP = 8;
+
+    /** Length of an arrow head, in pixels. */
+    private static final double ARROW = 6.0;
+
+    /** Number of x axis ticks aimed for. */
+    private static final int TICKS = 6;
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+
+    /** Curves, each with ascending x values in [0] and y values in [1]. */
+    private double[][][] curves;
+
+    /** Bounds of the curves. */
+    private double xMin, xMax, yMax;
+
+    /** Interval limits, statistic and height; NaN if not shown. */
+    private double lower, middle, upper, top;
+
+    /** Labels of the lower limit, statistic, upper limit and bar. */
+    private String lowerText, middleText, upperText, caption;
+
+    /** Title lines, separated by newlines. */
+    private String title;
+
+    /** Label of the x axis. */
+    private String xAxisLabel;
+
+    /** Reduced curves for pathArea; null if not built. */
+    private Path2D[] paths;
+
+    /** Plot area the paths were built for. */
+    private Rectangle2D pathArea;
+
+    /** Format of the tick labels. */
+    private final DecimalFormat tickFormat;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+
+    /**
+     * Initialize a new instance of a CurveRenderer with nothing to draw.
+     */
+    public CurveRenderer() {
+        curves = new double[0][][];
+        xMin = 0;
+        xMax = 1;
+        yMax = 1;
+        lower = Double.NaN;
+        middle = Double.NaN;
+        upper = Double.NaN;
+        top = Double.NaN;
+        lowerText = "";
+        middleText = "";
+        upperText = "";
+        caption = "";
+        title = "";
+        xAxisLabel = "";
+        tickFormat = new DecimalFormat("#,##0.####");
+    }
+
+    // *************************************************************************
+    // PRIVATE STATIC METHODS
+    // *************************************************************************
+
+    /**
+     * Return the distance between x axis ticks: 1, 2 or 5 times a power of
+     * ten.
+     *
+     * @param range width of the axis
+     * @return tick distance
+     */
+    private static double tickStep(final double range) {
+        final double raw = range / TICKS;
+        final double power = Math.pow(10, Math.floor(Math.log10(raw)));
+        final double fraction = raw / power;
+        if (fraction < 1.5) {
+            return power;
+        } else if (fraction < 3) {
+            return 2 * power;
+        } else if (fraction < 7) {
+            return 5 * power;
+        }
+        return 10 * power;
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+
+    /**
+     * Draw the plot frame, the x axis ticks and the x axis label.
+     *
+     * @param g2 graphics
+     * @param area plot area
+     * @param metrics font metrics
+     */
+    private void drawAxis(final Graphics2D g2, final Rectangle2D area,
+            final FontMetrics metrics) {
+        g2.setColor(Constants.GRAPH_GRID_COLOR == null ? Color.LIGHT_GRAY
+                : Constants.GRAPH_GRID_COLOR);
+        g2.draw(area);
+        g2.setColor(Color.BLACK);
+        final double step = tickStep(xMax - xMin);
+        final double baseline = area.getMaxY() + metrics.getAscent() + 2;
+        for (double tick = Math.ceil(xMin / step) * step; tick <= xMax;
+                tick += step) {
+            final double pixel = toX(tick, area);
+            g2.draw(new Line2D.Double(pixel, area.getMaxY(), pixel,
+                    area.getMaxY() + 2));
+            final String label = tickFormat.format(Math.abs(tick) < step
+                    * 1e-9 ? 0 : tick);
+            g2.drawString(label, (float) (pixel
+                    - metrics.stringWidth(label) * 0.5), (float) baseline);
+        }
+        g2.drawString(xAxisLabel, (float) (area.getCenterX()
+                - metrics.stringWidth(xAxisLabel) * 0.5),
+                (float) (baseline + metrics.getHeight()));
+    }
+
+    /**
+     * Draw the interval: its limits, the statistic, the bar between the
+     * limits and the labels.
+     *
+     * @param g2 graphics
+     * @param area plot area
+     */
+    private void drawInterval(final Graphics2D g2, final Rectangle2D area) {
+        final double base = area.getMaxY();
+        final double left = toX(lower, area);
+        final double right = toX(upper, area);
+        final double yTop = toY(top, area);
+        final double yBar = toY(top * 0.8, area);
+        final double yMetric = toY(top * 0.2, area);
+        g2.setColor(Color.BLACK);
+        g2.draw(new Line2D.Double(left, base, left, yTop));
+        g2.draw(new Line2D.Double(right, base, right, yTop));
+        g2.draw(new Line2D.Double(left, yBar, right, yBar));
+        final double half = ARROW * 0.5;
+        g2.draw(new Line2D.Double(left, yBar, left + ARROW, yBar - half));
+        g2.draw(new Line2D.Double(left, yBar, left + ARROW, yBar + half));
+        g2.draw(new Line2D.Double(right, yBar, right - ARROW, yBar - half));
+        g2.draw(new Line2D.Double(right, yBar, right - ARROW, yBar + half));
+        g2.drawString(lowerText, (float) left + 2, (float) yTop - 2);
+        g2.drawString(upperText, (float) right + 2, (float) yTop - 2);
+        if (!Double.isNaN(middle)) {
+            final double center = toX(middle, area);
+            g2.draw(new Line2D.Double(center, base, center, yMetric));
+            g2.drawString(middleText, (float) center + 2, (float) yMetric - 2);
+        }
+        final FontMetrics metrics = g2.getFontMetrics();
+        g2.drawString(caption, (float) ((left + right) * 0.5
+                - metrics.stringWidth(caption) * 0.5), (float) yBar - 2);
+    }
+
+    /**
+     * Return the pixel column of an x value.
+     *
+     * @param xValue x value
+     * @param area plot area
+     * @return pixel x
+     */
+    private double toX(final double xValue, final Rectangle2D area) {
+        return area.getX() + (xValue - xMin) / (xMax - xMin) * area.getWidth();
+    }
+
+    /**
+     * Return the pixel row of a y value.
+     *
+     * @param yValue y value
+     * @param area plot area
+     * @return pixel y
+     */
+    private double toY(final double yValue, final Rectangle2D area) {
+        return area.getMaxY() - yValue / yMax * area.getHeight();
+    }
+
+    // *************************************************************************
+    // PACKAGE METHODS
+    // *************************************************************************
+
+    /**
+     * Return the path of a curve in pixels, reduced to the first, lowest,
+     * highest and last point of each pixel column. Points with a y value that
+     * is not finite are skipped.
+     *
+     * @param curve ascending x values in [0] and y values in [1]
+     * @param area plot area
+     * @param xLow x value at the left of the area
+     * @param xHigh x value at the right of the area
+     * @param yHigh y value at the top of the area
+     * @return path
+     */
+    static Path2D createPath(final double[][] curve, final Rectangle2D area,
+            final double xLow, final double xHigh, final double yHigh) {
+        final double[] xValues = curve[0];
+        final double[] yValues = curve[1];
+        final Path2D path = new Path2D.Float(Path2D.WIND_NON_ZERO,
+                Math.min(xValues.length, 4 * ((int) area.getWidth() + 2)));
+        final double xScale = area.getWidth() / (xHigh - xLow);
+        final double yScale = area.getHeight() / yHigh;
+        boolean open = false, started = false;
+        int column = 0, count = 0;
+        double firstX = 0, firstY = 0, lastX = 0, lastY = 0;
+        double lowY = 0, highY = 0;
+        for (int index = 0; index <= xValues.length; index++) {
+            double pixelX = 0, pixelY = 0;
+            int pixelColumn = column;
+            final boolean end = index == xValues.length;
+            if (!end) {
+                if (Double.isNaN(yValues[index])
+                        || Double.isInfinite(yValues[index])) {
+                    continue;
+                }
+                pixelX = area.getX() + (xValues[index] - xLow) * xScale;
+                pixelY = area.getMaxY() - yValues[index] * yScale;
+                pixelColumn = (int) Math.floor(pixelX);
+                if (open && pixelColumn == column) {
+                    lowY = Math.min(lowY, pixelY);
+                    highY = Math.max(highY, pixelY);
+                    lastX = pixelX;
+                    lastY = pixelY;
+                    count++;
+                    continue;
+                }
+            }
+            // Close the column
+            if (open) {
+                if (started) {
+                    path.lineTo(firstX, firstY);
+                } else {
+                    path.moveTo(firstX, firstY);
+                    started = true;
+                }
+                if (count > 1) {
+                    path.lineTo(firstX, lowY);
+                    path.lineTo(firstX, highY);
+                    path.lineTo(lastX, lastY);
+                }
+            }
+            // Open the next column
+            if (!end) {
+                open = true;
+                column = pixelColumn;
+                count = 1;
+                firstX = pixelX;
+                firstY = pixelY;
+                lastX = pixelX;
+                lastY = pixelY;
+                lowY = pixelY;
+                highY = pixelY;
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Return the reduced curves for a plot area, building them only if the
+     * curves or the area changed.
+     *
+     * @param area plot area
+     * @return paths, one per curve
+     */
+    Path2D[] getPaths(final Rectangle2D area) {
+        if (paths == null || !area.equals(pathArea)) {
+            final Path2D[] result = new Path2D[curves.length];
+            for (int index = 0; index < curves.length; index++) {
+                result[index] = createPath(curves[index], area, xMin, xMax,
+                        yMax);
+            }
+            paths = result;
+            pathArea = (Rectangle2D) area.clone();
+        }
+        return paths;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+
+    /**
+     * Return an image of the picture, for export.
+     *
+     * @param width width in pixels
+     * @param height height in pixels
+     * @return image
+     */
+    public BufferedImage createImage(final int width, final int height) {
+        final BufferedImage image = new BufferedImage(width, height,
+                BufferedImage.TYPE_INT_RGB);
+        final Graphics2D g2 = image.createGraphics();
+        try {
+            paint(g2, width, height);
+        } finally {
+            g2.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * Return the highest y value of the curves.
+     *
+     * @return highest y value
+     */
+    public double getMaxY() {
+        return yMax;
+    }
+
+    /**
+     * Draw the picture.
+     *
+     * @param g graphics
+     * @param width width in pixels
+     * @param height height in pixels
+     */
+    public void paint(final Graphics2D g, final int width, final int height) {
+        final Graphics2D g2 = (Graphics2D) g.create();
+        try {
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                    RenderingHints.VALUE_ANTIALIAS_ON);
+            g2.setFont(Constants.CHART_FONT);
+            g2.setColor(Color.WHITE);
+            g2.fillRect(0, 0, width, height);
+            final FontMetrics metrics = g2.getFontMetrics();
+            final int line = metrics.getHeight();
+            final String[] lines = title.isEmpty() ? new String[0]
+                    : title.split("\n");
+            // Title
+            g2.setColor(Color.BLACK);
+            for (int index = 0; index < lines.length; index++) {
+                g2.drawString(lines[index], (width
+                        - metrics.stringWidth(lines[index])) * 0.5f,
+                        GAP + index * line + metrics.getAscent());
+            }
+            // Plot
+            final int plotTop = GAP + lines.length * line + GAP;
+            final Rectangle2D area = new Rectangle2D.Double(GAP, plotTop,
+                    width - 2 * GAP, height - plotTop - 2 * line - GAP);
+            if (area.getWidth() <= 0 || area.getHeight() <= 0) {
+                return;
+            }
+            drawAxis(g2, area, metrics);
+            final Path2D[] shown = getPaths(area);
+            g2.setStroke(CURVE_STROKE);
+            for (int index = 0; index < shown.length; index++) {
+                g2.setColor(CURVE_COLORS[index % CURVE_COLORS.length]);
+                g2.draw(shown[index]);
+            }
+            if (!Double.isNaN(lower) && !Double.isNaN(upper)
+                    && !Double.isNaN(top)) {
+                drawInterval(g2, area);
+            }
+        } finally {
+            g2.dispose();
+        }
+    }
+
+    /**
+     * Replace the curves.
+     *
+     * @param values curves, each with ascending x values in [0] and the y
+     * values in [1]; callers must not modify them afterwards
+     */
+    public void setCurves(final double[][]... values) {
+        curves = values.clone();
+        double low = Double.POSITIVE_INFINITY;
+        double high = Double.NEGATIVE_INFINITY;
+        double peak = 0;
+        for (double[][] curve : curves) {
+            if (curve[0].length == 0) {
+                continue;
+            }
+            low = Math.min(low, curve[0][0]);
+            high = Math.max(high, curve[0][curve[0].length - 1]);
+            for (double yValue : curve[1]) {
+                if (yValue > peak && !Double.isInfinite(yValue)) {
+                    peak = yValue;
+                }
+            }
+        }
+        xMin = low < high ? low : 0;
+        xMax = low < high ? high : 1;
+        yMax = peak > 0 ? peak : 1;
+        paths = null;
+    }
+
+    /**
+     * Set the interval to draw.
+     *
+     * @param lowerValue x value of the lower limit
+     * @param statistic x value of the statistic; NaN to draw none
+     * @param upperValue x value of the upper limit
+     * @param height y value of the top of the limits; the bar is drawn at
+     * 80% of it and the statistic up to 20%
+     */
+    public void setInterval(final double lowerValue, final double statistic,
+            final double upperValue, final double height) {
+        lower = lowerValue;
+        middle = statistic;
+        upper = upperValue;
+        top = height;
+    }
+
+    /**
+     * Set the labels of the interval.
+     *
+     * @param lowerLabel label of the lower limit
+     * @param statisticLabel label of the statistic
+     * @param upperLabel label of the upper limit
+     * @param barLabel label of the bar
+     */
+    public void setLabels(final String lowerLabel, final String statisticLabel,
+            final String upperLabel, final String barLabel) {
+        lowerText = lowerLabel;
+        middleText = statisticLabel;
+        upperText = upperLabel;
+        caption = barLabel;
+    }
+
+    /**
+     * Set the title.
+     *
+     * @param text title lines, separated by newlines
+     */
+    public void setTitle(final String text) {
+        title = text;
+    }
+
+    /**
+     * Set the label of the x axis.
+     *
+     * @param text label
+     */
+    public void setXAxisLabel(final String text) {
+        xAxisLabel = text;
+    }
+}
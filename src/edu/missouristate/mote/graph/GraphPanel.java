@@ -2,6 +2,7 @@ package edu.missouristate.mote.graph;
 
 import java.awt.BorderLayout;
 import javax.swing.JPanel;
+import edu.missouristate.mote.bootstrap.BootstrapInterval;
 import edu.missouristate.mote.effectsizes.AbstractNonCentralTest;
 import edu.missouristate.mote.effectsizes.AbstractNormalTest;
 
@@ -17,6 +18,27 @@ public final class GraphPanel extends JPanel {
     /** Graph object. */
     private transient AbstractGraph currentGraph;
 
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+
+    /**
+     * Show a new graph in place of the current one, which stops listening to
+     * its test.
+     *
+     * @param graph graph to show
+     */
+    private void setGraph(final AbstractGraph graph) {
+        if (currentGraph != null) {
+            currentGraph.dispose();
+        }
+        currentGraph = graph;
+        this.removeAll();
+        this.setLayout(new BorderLayout());
+        this.add(currentGraph.getChartPanel(), BorderLayout.CENTER);
+        this.validate();
+    }
+
     // *************************************************************************
     // PUBLIC METHODS
     // *************************************************************************
@@ -28,17 +50,25 @@ public final class GraphPanel extends JPanel {
         currentGraph.refresh();
     }
 
+    /**
+     * Show bootstrap intervals for comparison on a non-central graph. Other
+     * graphs ignore them.
+     *
+     * @param interval bootstrap intervals, or null to remove them
+     */
+    public void setBootstrapInterval(final BootstrapInterval interval) {
+        if (currentGraph instanceof NonCentralGraph) {
+            ((NonCentralGraph) currentGraph).setBootstrapInterval(interval);
+        }
+    }
+
     /**
      * Update the underlying graph to show the specified statistical test.
      *
      * @param test statistical test
      */
     public void update(final AbstractNonCentralTest test) {
-        currentGraph = new NonCentralGraph(test);
-        this.removeAll();
-        this.setLayout(new BorderLayout());
-        this.add(currentGraph.getChartPanel(), BorderLayout.CENTER);
-        this.validate();
+        setGraph(new NonCentralGraph(test));
     }
 
     /**
@@ -47,10 +77,6 @@ public final class GraphPanel extends JPanel {
      * @param test statistical test
      */
     public void update(final AbstractNormalTest test) {
-        currentGraph = new NormalGraph(test);
-        this.removeAll();
-        this.setLayout(new BorderLayout());
-        this.add(currentGraph.getChartPanel(), BorderLayout.CENTER);
-        this.validate();
+        setGraph(new NormalGraph(test));
     }
 }
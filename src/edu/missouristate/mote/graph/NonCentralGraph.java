@@ -1,14 +1,23 @@
 package edu.missouristate.mote.graph;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import org.jfree.chart.annotations.AbstractXYAnnotation;
 import org.jfree.chart.annotations.XYLineAnnotation;
 import org.jfree.chart.annotations.XYPointerAnnotation;
 import org.jfree.chart.annotations.XYTextAnnotation;
-import org.jfree.data.xy.DefaultXYDataset;
 import org.jfree.ui.TextAnchor;
+import edu.missouristate.mote.bootstrap.BootstrapInterval;
+import edu.missouristate.mote.events.ChangeEvent;
+import edu.missouristate.mote.events.ChangeKind;
 import edu.missouristate.mote.effectsizes.AbstractNonCentralTest;
 
 /**
- * Graphing support for tests based on a non-central distribution.
+ * Graphing support for tests based on a non-central distribution. New curves
+ * are drawn coarse at once and redrawn at full resolution when they are
+ * built in the background.
  */
 public class NonCentralGraph extends AbstractGraph {
 
@@ -19,6 +28,15 @@ public class NonCentralGraph extends AbstractGraph {
     /** Statistical test represented by this graph. */
     private final transient AbstractNonCentralTest currentTest;
 
+    /** Bootstrap intervals shown for comparison, or null for none. */
+    private transient BootstrapInterval bootstrap;
+
+    /** Highest point of the curves shown. */
+    private transient double yMax;
+
+    /** Supplier of the curves, coarse first. */
+    private final transient CurveRefiner refiner;
+
     // *************************************************************************
     // CONSTRUCTORS
     // *************************************************************************
@@ -31,6 +49,14 @@ public class NonCentralGraph extends AbstractGraph {
     public NonCentralGraph(final AbstractNonCentralTest test) {
         super(test);
         currentTest = test;
+        refiner = new CurveRefiner(new Runnable() {
+            @Override
+            public void run() {
+                refresh(new ChangeEvent(currentTest,
+                        EnumSet.of(ChangeKind.CURVE),
+                        Collections.<String>emptySet()));
+            }
+        });
         setXAxisLabel(test.getTestStatisticSymbol());
         setYAxisLabel("density");
         refresh();
@@ -41,79 +67,143 @@ public class NonCentralGraph extends AbstractGraph {
     // *************************************************************************
 
     /**
-     * Update the chart based on the current statistical test.
+     * Update the curves based on the current statistical test.
      */
-    private void updateChart() {
+    private void updateDataset() {
         // Lower and upper PDF curves
-        final DefaultXYDataset dataset = new DefaultXYDataset();
-        dataset.addSeries(0, currentTest.getLowerPdf());
-        dataset.addSeries(1, currentTest.getUpperPdf());
-        setDataset(dataset);
+        final double[][][] curves = refiner.getCurves(
+                currentTest.getInterval());
+        setCurves(curves);
+        yMax = Math.max(findMaxYValue(curves[0]), findMaxYValue(curves[1]));
+    }
+
+    /**
+     * Update the interval annotations based on the current statistical test.
+     */
+    private void updateAnnotations() {
+        final List<AbstractXYAnnotation> shown = new ArrayList<>();
         // Confidence interval x/y values
         final double xLeft = currentTest.getLowerNc();
         final double xMiddle = currentTest.getTestStatistic();
         final double xRight = currentTest.getUpperNc();
-        final double yTop = Math.max(findMaxYValue(currentTest.getLowerPdf()),
-                findMaxYValue(currentTest.getUpperPdf()));
+        final double yTop = yMax;
         final double yBar = yTop * 0.8;
         final double yMetric = yTop * 0.2;
         // Confidence interval vertical line annotations
-        removeAnnotations();
-        addAnnotation(new XYLineAnnotation(xLeft, 0.0, xLeft, yTop));
-        addAnnotation(new XYLineAnnotation(xMiddle, 0.0, xMiddle, yMetric));
-        addAnnotation(new XYLineAnnotation(xRight, 0.0, xRight, yTop));
+        shown.add(new XYLineAnnotation(xLeft, 0.0, xLeft, yTop));
+        shown.add(new XYLineAnnotation(xMiddle, 0.0, xMiddle, yMetric));
+        shown.add(new XYLineAnnotation(xRight, 0.0, xRight, yTop));
         // Confidence interval horizontal line annotation
-        addAnnotation(new XYLineAnnotation(xLeft, yBar, xRight, yBar));
+        shown.add(new XYLineAnnotation(xLeft, yBar, xRight, yBar));
         final XYPointerAnnotation leftArrow = new XYPointerAnnotation("", xLeft,
                 yBar, 0.0);
         leftArrow.setTipRadius(0.0);
-        addAnnotation(leftArrow);
+        shown.add(leftArrow);
         final XYPointerAnnotation rightArrow = new XYPointerAnnotation("",
                 xRight, yBar, Math.PI);
         rightArrow.setTipRadius(0.0);
-        addAnnotation(rightArrow);
+        shown.add(rightArrow);
         // Left metric text annotation
         final String leftMetric = String.format(currentTest.getMeasureSymbol()
                 + "=%.4f", currentTest.getLowerMeasure());
         final XYTextAnnotation leftMetricAnn = new XYTextAnnotation(leftMetric,
                 xLeft, yTop);
         leftMetricAnn.setTextAnchor(TextAnchor.BOTTOM_LEFT);
-        addAnnotation(leftMetricAnn);
+        shown.add(leftMetricAnn);
         // Actual metric text annotation
         final String actMetric = String.format(currentTest.getMeasureSymbol()
                 + "=%.4f", currentTest.getMeasure());
         final XYTextAnnotation actMetricAnn = new XYTextAnnotation(actMetric,
                 xMiddle, yMetric);
         actMetricAnn.setTextAnchor(TextAnchor.BOTTOM_LEFT);
-        addAnnotation(actMetricAnn);
+        shown.add(actMetricAnn);
         // Right metric text annotation
         final String rightMetric = String.format(currentTest.getMeasureSymbol()
                 + "=%.4f", currentTest.getUpperMeasure());
         final XYTextAnnotation rightMetricAnn = new XYTextAnnotation(
                 rightMetric, xRight, yTop);
         rightMetricAnn.setTextAnchor(TextAnchor.BOTTOM_LEFT);
-        addAnnotation(rightMetricAnn);
+        shown.add(rightMetricAnn);
         // CI text annotation
         final int confidence = (int) (currentTest.getConfidence() * 100);
         final String confStr = confidence + "% confidence";
         final XYTextAnnotation confAnn = new XYTextAnnotation(confStr,
                 (xLeft + xRight) * 0.5, yBar);
         confAnn.setTextAnchor(TextAnchor.BOTTOM_CENTER);
-        addAnnotation(confAnn);
+        shown.add(confAnn);
+        // Bootstrap comparison text annotation
+        if (bootstrap != null) {
+            final String bootStr = String.format("bootstrap %s: "
+                    + "percentile [%.4f, %.4f], BCa [%.4f, %.4f]",
+                    bootstrap.getMeasure().getSymbol(),
+                    bootstrap.getPercentileLower(),
+                    bootstrap.getPercentileUpper(), bootstrap.getBcaLower(),
+                    bootstrap.getBcaUpper());
+            final XYTextAnnotation bootAnn = new XYTextAnnotation(bootStr,
+                    (xLeft + xRight) * 0.5, yBar);
+            bootAnn.setTextAnchor(TextAnchor.TOP_CENTER);
+            shown.add(bootAnn);
+        }
+        setAnnotations(shown);
     }
 
     // *************************************************************************
-    // PUBLIC METHODS
+    // PROTECTED METHODS
     // *************************************************************************
 
     /**
-     * Refresh this NonCentralGraph.
+     * Update the chart. The curves are replaced only if they changed, and
+     * the annotations only if a value they show changed.
+     *
+     * @param event changes to show; null to update everything
      */
     @Override
-    public final void refresh() {
+    protected final void update(final ChangeEvent event) {
         setTitle(currentTest);
-        if (currentTest.getLowerPdf() != null) {
-            updateChart();
+        if (currentTest.getInterval() == null) {
+            return;
+        }
+        if (event == null || event.isChanged(ChangeKind.CURVE)) {
+            updateDataset();
+        }
+        if (event == null || event.isChanged(ChangeKind.INPUT)
+                || event.isChanged(ChangeKind.DERIVED)
+                || event.isChanged(ChangeKind.RESULT)
+                || event.isChanged(ChangeKind.CURVE)) {
+            updateAnnotations();
         }
     }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+
+    /**
+     * Stop listening to the test and cancel the building of full curves.
+     */
+    @Override
+    public final void dispose() {
+        super.dispose();
+        refiner.cancel();
+    }
+
+    /**
+     * Return whether full-resolution curves are being built to replace the
+     * coarse curves shown.
+     *
+     * @return true while the curves are refined
+     */
+    public final boolean isRefining() {
+        return refiner.isRefining();
+    }
+
+    /**
+     * Show bootstrap intervals under the analytic interval for comparison.
+     *
+     * @param interval bootstrap intervals, or null to remove them
+     */
+    public final void setBootstrapInterval(final BootstrapInterval interval) {
+        bootstrap = interval;
+        refresh();
+    }
 }
@@ -1,10 +1,14 @@
 package edu.missouristate.mote.graph;
 
+import java.util.ArrayList;
+import java.util.List;
+import org.jfree.chart.annotations.AbstractXYAnnotation;
 import org.jfree.chart.annotations.XYLineAnnotation;
 import org.jfree.chart.annotations.XYPointerAnnotation;
 import org.jfree.chart.annotations.XYTextAnnotation;
-import org.jfree.data.xy.DefaultXYDataset;
 import org.jfree.ui.TextAnchor;
+import edu.missouristate.mote.events.ChangeEvent;
+import edu.missouristate.mote.events.ChangeKind;
 import edu.missouristate.mote.effectsizes.AbstractNormalTest;
 
 /**
@@ -26,6 +30,9 @@ public class NormalGraph extends AbstractGraph {
     /** Statistical test represented by this graph. */
     private final transient AbstractNormalTest currentTest;
 
+    /** Highest point of the curve shown. */
+    private transient double yMax;
+
     // *************************************************************************
     // CONSTRUCTORS
     // *************************************************************************
@@ -48,41 +55,46 @@ public class NormalGraph extends AbstractGraph {
     // *************************************************************************
 
     /**
-     * Update the chart based on the current statistical test.
+     * Update the curves based on the current statistical test.
+     */
+    private void updateDataset() {
+        // PDF curve
+        setCurves(currentTest.getPdf());
+        yMax = findMaxYValue(currentTest.getPdf());
+    }
+
+    /**
+     * Update the interval annotations based on the current statistical test.
      */
-    private void updateChart() {
-        // Lower and upper PDF curves
-        final DefaultXYDataset dataset = new DefaultXYDataset();
-        dataset.addSeries(0, currentTest.getPdf());
-        setDataset(dataset);
+    private void updateAnnotations() {
+        final List<AbstractXYAnnotation> shown = new ArrayList<>();
         // Confidence interval x/y values
         final double xLeft = -currentTest.getDeviations();
         final double xRight = currentTest.getDeviations();
-        final double pdfHeight = findMaxYValue(currentTest.getPdf());
+        final double pdfHeight = yMax;
         final double pdfCurrent = findApproxYValue(xLeft, currentTest.getPdf());
         final double yTop = Math.max(pdfCurrent, pdfHeight * 0.5);
         final double yBar = yTop * 0.8;
         // Confidence interval vertical line annotations
-        removeAnnotations();
-        addAnnotation(new XYLineAnnotation(xLeft, 0.0, xLeft, yTop));
-        addAnnotation(new XYLineAnnotation(xRight, 0.0, xRight, yTop));
+        shown.add(new XYLineAnnotation(xLeft, 0.0, xLeft, yTop));
+        shown.add(new XYLineAnnotation(xRight, 0.0, xRight, yTop));
         // Confidence interval horizontal line annotation
-        addAnnotation(new XYLineAnnotation(xLeft, yBar, xRight, yBar));
+        shown.add(new XYLineAnnotation(xLeft, yBar, xRight, yBar));
         final XYPointerAnnotation leftArrow = new XYPointerAnnotation("", xLeft,
                 yBar, 0.0);
         leftArrow.setTipRadius(0.0);
-        addAnnotation(leftArrow);
+        shown.add(leftArrow);
         final XYPointerAnnotation rightArrow = new XYPointerAnnotation("",
                 xRight, yBar, Math.PI);
         rightArrow.setTipRadius(0.0);
-        addAnnotation(rightArrow);
+        shown.add(rightArrow);
         // Left metric text annotation
         final String leftMetric = String.format(currentTest.getMeasureSymbol()
                 + "=%.4f", currentTest.getLowerMeasure());
         final XYTextAnnotation leftMetricAnn = new XYTextAnnotation(leftMetric,
                 xLeft, yTop);
         leftMetricAnn.setTextAnchor(TextAnchor.BOTTOM_LEFT);
-        addAnnotation(leftMetricAnn);
+        shown.add(leftMetricAnn);
         // Right metric text annotation
         final String rightMetric = String.format(currentTest.getMeasureSymbol()
                 + "=%.4f", currentTest.getUpperMeasure());
@@ -93,28 +105,41 @@ public class NormalGraph extends AbstractGraph {
         } else {
             rightMetricAnn.setTextAnchor(TextAnchor.BOTTOM_LEFT);
         }
-        addAnnotation(rightMetricAnn);
+        shown.add(rightMetricAnn);
         // CI text annotation
         final int confidence = (int) ((1 - currentTest.getAlpha()) * 100);
         final String confStr = confidence + "% confidence";
         final XYTextAnnotation confAnn = new XYTextAnnotation(confStr,
                 (xLeft + xRight) * 0.5, yBar);
         confAnn.setTextAnchor(TextAnchor.BOTTOM_CENTER);
-        addAnnotation(confAnn);
+        shown.add(confAnn);
+        setAnnotations(shown);
     }
 
     // *************************************************************************
-    // PUBLIC METHODS
+    // PROTECTED METHODS
     // *************************************************************************
 
     /**
-     * Refresh this NormalGraph.
+     * Update the chart. The curves are replaced only if they changed, and
+     * the annotations only if a value they show changed.
+     *
+     * @param event changes to show; null to update everything
      */
     @Override
-    public final void refresh() {
+    protected final void update(final ChangeEvent event) {
         setTitle(currentTest);
-        if (currentTest.getPdf() != null) {
-            updateChart();
+        if (currentTest.getPdf() == null) {
+            return;
+        }
+        if (event == null || event.isChanged(ChangeKind.CURVE)) {
+            updateDataset();
+        }
+        if (event == null || event.isChanged(ChangeKind.INPUT)
+                || event.isChanged(ChangeKind.DERIVED)
+                || event.isChanged(ChangeKind.RESULT)
+                || event.isChanged(ChangeKind.CURVE)) {
+            updateAnnotations();
         }
     }
 }
@@ -0,0 +1,367 @@
+package edu.missouristate.mote.meta;
+
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.WorkerPool;
+import edu.missouristate.mote.planning.CriticalValues;
+import edu.missouristate.mote.statistics.NormalDist;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Fixed- and random-effects pooling of a set of studies. The fixed-effect
+ * sums come from the StudyAccumulator, so the fixed-effect and
+ * DerSimonian-Laird estimates of tau squared need no further pass over the
+ * studies; each random-effects estimate takes one pass, and each REML
+ * iteration (Fisher scoring) one more, over primitive arrays.
+ *
+ * Cumulative and leave-one-out analyses update the fixed-effect sums one
+ * study at a time instead of summing again, and start each REML search from
+ * the tau squared of the neighbouring analysis. Their analyses run in blocks
+ * of Constants.META_BLOCK on the shared worker pool.
+ *
+ * Instances are immutable and safe to share between threads.
+ */
+public final class MetaAnalysis {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final double[] estimates;
+    private final double[] variances;
+    private final int studies;
+    private final double sumWeights;
+    private final double sumWeights2;
+    private final double mean;
+    private final double qValue;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a MetaAnalysis of the studies collected so
+     * far; studies added to the accumulator later are not included.
+     *
+     * @param accumulator collected studies
+     * @exception IllegalArgumentException if there are no studies
+     */
+    public MetaAnalysis(final StudyAccumulator accumulator) {
+        studies = accumulator.getCount();
+        if (studies < 1) {
+            throw new IllegalArgumentException("no studies");
+        }
+        estimates = Arrays.copyOf(accumulator.getEstimates(), studies);
+        variances = Arrays.copyOf(accumulator.getVariances(), studies);
+        sumWeights = accumulator.getSumWeights();
+        sumWeights2 = accumulator.getSumWeights2();
+        mean = accumulator.getMean();
+        qValue = accumulator.getQ();
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return the alpha level of a confidence level.
+     *
+     * @param confidence confidence level
+     * @return alpha
+     * @exception IllegalArgumentException if the confidence is not in the
+     * range (0, 1)
+     */
+    private static double alpha(final double confidence) {
+        if (!(confidence > 0 && confidence < 1)) {
+            throw new IllegalArgumentException("confidence not in (0, 1)");
+        }
+        return 1 - confidence;
+    }
+
+    /**
+     * Return the DerSimonian-Laird estimate of tau squared.
+     *
+     * @param count number of studies
+     * @param sumW sum of the fixed-effect weights
+     * @param sumW2 sum of the squared fixed-effect weights
+     * @param qSum Cochran's Q
+     * @return tau squared
+     */
+    private static double tauSquaredDl(final int count, final double sumW,
+            final double sumW2, final double qSum) {
+        if (count < 2) {
+            return 0;
+        }
+        return Math.max(0, (qSum - (count - 1)) / (sumW - sumW2 / sumW));
+    }
+
+    /**
+     * Return the REML estimate of tau squared by Fisher scoring. The
+     * estimates are centered on a nearby value to keep the sums of squares
+     * accurate.
+     *
+     * @param end number of leading studies to use
+     * @param skip study to leave out, or -1 for none
+     * @param center value to center the estimates on
+     * @param start starting value of tau squared
+     * @return tau squared
+     * @exception ArithmeticException if the search does not converge
+     */
+    private double tauSquaredReml(final int end, final int skip,
+            final double center, final double start) {
+        double tauSquared = start;
+        for (int iter = 0; iter < Constants.META_MAX_ITER; iter++) {
+            double sumW = 0;
+            double sumWY = 0;
+            double sumW2 = 0;
+            double sumW2Y = 0;
+            double sumW2Y2 = 0;
+            double sumW3 = 0;
+            for (int study = 0; study < end; study++) {
+                if (study == skip) {
+                    continue;
+                }
+                final double weight = 1 / (variances[study] + tauSquared);
+                final double weight2 = weight * weight;
+                final double value = estimates[study] - center;
+                sumW += weight;
+                sumWY += weight * value;
+                sumW2 += weight2;
+                sumW2Y += weight2 * value;
+                sumW2Y2 += weight2 * value * value;
+                sumW3 += weight2 * weight;
+            }
+            final double pooled = sumWY / sumW;
+            final double ratio = sumW2 / sumW;
+            // Score and expected information, both without the factor 1/2
+            final double score = sumW2Y2 - 2 * pooled * sumW2Y
+                    + pooled * pooled * sumW2 - sumW + ratio;
+            final double information = sumW2 - 2 * sumW3 / sumW
+                    + ratio * ratio;
+            final double next = Math.max(0, tauSquared + score / information);
+            if (Math.abs(next - tauSquared)
+                    <= Constants.META_TOLERANCE * (1 + tauSquared)) {
+                return next;
+            }
+            tauSquared = next;
+        }
+        throw new ArithmeticException("REML estimate did not converge");
+    }
+
+    /**
+     * Pool a subset of the studies.
+     *
+     * @param method pooling method
+     * @param confidence confidence level
+     * @param end number of leading studies to use
+     * @param skip study to leave out, or -1 for none
+     * @param count number of studies used
+     * @param sumW sum of the fixed-effect weights
+     * @param sumW2 sum of the squared fixed-effect weights
+     * @param fixedMean fixed-effect weighted mean
+     * @param qSum Cochran's Q
+     * @param tauStart starting value of a REML search, or NaN to start from
+     * the DerSimonian-Laird estimate
+     * @return result
+     */
+    private MetaResult pool(final PoolingMethod method,
+            final double confidence, final int end, final int skip,
+            final int count, final double sumW, final double sumW2,
+            final double fixedMean, final double qSum,
+            final double tauStart) {
+        final double alpha = alpha(confidence);
+        final double zValue = NormalDist.quantile(1 - alpha * 0.5);
+        if (!method.isRandom()) {
+            final double stdErr = Math.sqrt(1 / sumW);
+            return new MetaResult(method, count, fixedMean, stdErr,
+                    fixedMean - zValue * stdErr, fixedMean + zValue * stdErr,
+                    0, qSum, confidence);
+        }
+        double tauSquared = tauSquaredDl(count, sumW, sumW2, qSum);
+        if (method != PoolingMethod.DERSIMONIAN_LAIRD && count > 1) {
+            tauSquared = tauSquaredReml(end, skip, fixedMean,
+                    Double.isNaN(tauStart) ? tauSquared : tauStart);
+        }
+        // One weighted Welford pass gives the mean and the residual sum
+        double sumRandom = 0;
+        double pooled = 0;
+        double residual = 0;
+        for (int study = 0; study < end; study++) {
+            if (study == skip) {
+                continue;
+            }
+            final double weight = 1 / (variances[study] + tauSquared);
+            sumRandom += weight;
+            final double delta = estimates[study] - pooled;
+            pooled += delta * weight / sumRandom;
+            residual += weight * delta * (estimates[study] - pooled);
+        }
+        double stdErr = Math.sqrt(1 / sumRandom);
+        double critical = zValue;
+        if (method == PoolingMethod.HARTUNG_KNAPP) {
+            stdErr = Math.sqrt(residual / ((count - 1) * sumRandom));
+            critical = CriticalValues.t(alpha, count - 1);
+        }
+        return new MetaResult(method, count, pooled, stdErr,
+                pooled - critical * stdErr, pooled + critical * stdErr,
+                tauSquared, qSum, confidence);
+    }
+
+    /**
+     * Run analyses in blocks of Constants.META_BLOCK on the worker pool.
+     *
+     * @param analyses number of analyses
+     * @param block analysis of a block
+     * @return results
+     */
+    private static MetaResult[] runBlocks(final int analyses,
+            final Block block) {
+        final MetaResult[] result = new MetaResult[analyses];
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        for (int first = 0; first < analyses; first += Constants.META_BLOCK) {
+            final int start = first;
+            final int end = Math.min(analyses, first + Constants.META_BLOCK);
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    block.run(start, end, result);
+                    return null;
+                }
+            });
+        }
+        WorkerPool.invokeAll(tasks);
+        return result;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the number of studies.
+     *
+     * @return k
+     */
+    public int getStudies() {
+        return studies;
+    }
+
+    /**
+     * Pool every study.
+     *
+     * @param method pooling method
+     * @param confidence confidence level
+     * @return result
+     * @exception IllegalArgumentException if the confidence is not in the
+     * range (0, 1)
+     * @exception ArithmeticException if a REML search does not converge
+     */
+    public MetaResult pool(final PoolingMethod method,
+            final double confidence) {
+        return pool(method, confidence, studies, -1, studies, sumWeights,
+                sumWeights2, mean, qValue, Double.NaN);
+    }
+
+    /**
+     * Pool the first study, then the first two, and so on, in the order the
+     * studies were added.
+     *
+     * @param method pooling method
+     * @param confidence confidence level
+     * @return result of each cumulative analysis
+     * @exception IllegalArgumentException if the confidence is not in the
+     * range (0, 1)
+     * @exception ArithmeticException if a REML search does not converge
+     */
+    public MetaResult[] cumulative(final PoolingMethod method,
+            final double confidence) {
+        alpha(confidence);
+        // Running fixed-effect sums after each study
+        final double[] prefixW = new double[studies];
+        final double[] prefixW2 = new double[studies];
+        final double[] prefixMean = new double[studies];
+        final double[] prefixQ = new double[studies];
+        double sumW = 0;
+        double sumW2 = 0;
+        double runningMean = 0;
+        double runningQ = 0;
+        for (int study = 0; study < studies; study++) {
+            final double weight = 1 / variances[study];
+            sumW += weight;
+            sumW2 += weight * weight;
+            final double delta = estimates[study] - runningMean;
+            runningMean += delta * weight / sumW;
+            runningQ += weight * delta * (estimates[study] - runningMean);
+            prefixW[study] = sumW;
+            prefixW2[study] = sumW2;
+            prefixMean[study] = runningMean;
+            prefixQ[study] = runningQ;
+        }
+        return runBlocks(studies, new Block() {
+            @Override
+            public void run(final int start, final int end,
+                    final MetaResult[] result) {
+                double tauStart = Double.NaN;
+                for (int last = start; last < end; last++) {
+                    result[last] = pool(method, confidence, last + 1, -1,
+                            last + 1, prefixW[last], prefixW2[last],
+                            prefixMean[last], prefixQ[last], tauStart);
+                    tauStart = result[last].getTauSquared();
+                }
+            }
+        });
+    }
+
+    /**
+     * Pool every study but one, for each study in turn.
+     *
+     * @param method pooling method
+     * @param confidence confidence level
+     * @return result without each study
+     * @exception IllegalArgumentException if there are fewer than two studies
+     * or the confidence is not in the range (0, 1)
+     * @exception ArithmeticException if a REML search does not converge
+     */
+    public MetaResult[] leaveOneOut(final PoolingMethod method,
+            final double confidence) {
+        if (studies < 2) {
+            throw new IllegalArgumentException("studies < 2");
+        }
+        final double tauFull = pool(method, confidence).getTauSquared();
+        return runBlocks(studies, new Block() {
+            @Override
+            public void run(final int start, final int end,
+                    final MetaResult[] result) {
+                for (int skip = start; skip < end; skip++) {
+                    // Take the study back out of the fixed-effect sums
+                    final double weight = 1 / variances[skip];
+                    final double sumW = sumWeights - weight;
+                    final double value = estimates[skip];
+                    final double otherMean = (sumWeights * mean
+                            - weight * value) / sumW;
+                    final double otherQ = Math.max(0, qValue
+                            - weight * (value - otherMean) * (value - mean));
+                    result[skip] = pool(method, confidence, studies, skip,
+                            studies - 1, sumW, sumWeights2 - weight * weight,
+                            otherMean, otherQ, tauFull);
+                }
+            }
+        });
+    }
+
+    // *************************************************************************
+    // INNER CLASSES
+    // *************************************************************************
+    /**
+     * Block of analyses run as one task.
+     */
+    private interface Block {
+
+        /**
+         * Run the analyses of a block.
+         *
+         * @param start first analysis
+         * @param end analysis after the last
+         * @param result array receiving the results
+         */
+        void run(int start, int end, MetaResult[] result);
+    }
+}
@@ -0,0 +1,153 @@
+package edu.missouristate.mote.meta;
+
+/**
+ * Immutable result of pooling a set of studies.
+ */
+public final class MetaResult {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final PoolingMethod method;
+    private final int studies;
+    private final double estimate;
+    private final double stdErr;
+    private final double lower;
+    private final double upper;
+    private final double tauSquared;
+    private final double qValue;
+    private final double confidence;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a MetaResult.
+     *
+     * @param method pooling method
+     * @param studies number of studies
+     * @param estimate pooled estimate
+     * @param stdErr standard error of the pooled estimate
+     * @param lower lower confidence limit
+     * @param upper upper confidence limit
+     * @param tauSquared between-study variance
+     * @param qValue Cochran's Q
+     * @param confidence confidence level
+     */
+    MetaResult(final PoolingMethod method, final int studies,
+            final double estimate, final double stdErr, final double lower,
+            final double upper, final double tauSquared, final double qValue,
+            final double confidence) {
+        this.method = method;
+        this.studies = studies;
+        this.estimate = estimate;
+        this.stdErr = stdErr;
+        this.lower = lower;
+        this.upper = upper;
+        this.tauSquared = tauSquared;
+        this.qValue = qValue;
+        this.confidence = confidence;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the pooling method.
+     *
+     * @return method
+     */
+    public PoolingMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * Return the number of studies pooled.
+     *
+     * @return k
+     */
+    public int getStudies() {
+        return studies;
+    }
+
+    /**
+     * Return the pooled estimate.
+     *
+     * @return estimate
+     */
+    public double getEstimate() {
+        return estimate;
+    }
+
+    /**
+     * Return the standard error of the pooled estimate.
+     *
+     * @return standard error
+     */
+    public double getStdErr() {
+        return stdErr;
+    }
+
+    /**
+     * Return the lower confidence limit.
+     *
+     * @return lower limit; NaN for a Hartung-Knapp interval of one study
+     */
+    public double getLower() {
+        return lower;
+    }
+
+    /**
+     * Return the upper confidence limit.
+     *
+     * @return upper limit; NaN for a Hartung-Knapp interval of one study
+     */
+    public double getUpper() {
+        return upper;
+    }
+
+    /**
+     * Return the between-study variance.
+     *
+     * @return tau squared; zero for a fixed effect
+     */
+    public double getTauSquared() {
+        return tauSquared;
+    }
+
+    /**
+     * Return Cochran's Q test of heterogeneity.
+     *
+     * @return Q
+     */
+    public double getQ() {
+        return qValue;
+    }
+
+    /**
+     * Return the proportion of the variation due to heterogeneity,
+     * max(0, (Q - df) / Q).
+     *
+     * @return I squared
+     */
+    public double getISquared() {
+        return qValue > 0 ? Math.max(0, (qValue - (studies - 1)) / qValue) : 0;
+    }
+
+    /**
+     * Return the confidence level of the interval.
+     *
+     * @return confidence level
+     */
+    public double getConfidence() {
+        return confidence;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %.4f, %d%% [%.4f, %.4f], tau2 %.4f, "
+                + "Q %.2f, I2 %.1f%%, k %d", method.getLabel(), estimate,
+                Math.round(confidence * 100), lower, upper, tauSquared,
+                qValue, getISquared() * 100, studies);
+    }
+}
@@ -0,0 +1,67 @@
+package edu.missouristate.mote.meta;
+
+/**
+ * Ways of pooling study effect sizes.
+ */
+public enum PoolingMethod {
+
+    /** Inverse-variance fixed effect, with a normal interval. */
+    FIXED("Fixed effect"),
+
+    /**
+     * Random effects with the DerSimonian-Laird moment estimate of tau
+     * squared, with a normal interval.
+     */
+    DERSIMONIAN_LAIRD("DerSimonian-Laird"),
+
+    /**
+     * Random effects with the restricted maximum likelihood estimate of tau
+     * squared, with a normal interval.
+     */
+    REML("REML"),
+
+    /**
+     * Random effects with the REML estimate of tau squared and the
+     * Hartung-Knapp interval, which scales the standard error by the
+     * weighted residual variance and uses t with k - 1 degrees of freedom.
+     */
+    HARTUNG_KNAPP("REML, Hartung-Knapp");
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final String label;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a PoolingMethod.
+     *
+     * @param label name for display
+     */
+    PoolingMethod(final String label) {
+        this.label = label;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the name of the method for display.
+     *
+     * @return label
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Return true if the method estimates between-study variance.
+     *
+     * @return true for the random effects methods
+     */
+    public boolean isRandom() {
+        return this != FIXED;
+    }
+}
@@ -0,0 +1,199 @@
+package edu.missouristate.mote.meta;
+
+import edu.missouristate.mote.effectsizes.NcInterval;
+import edu.missouristate.mote.statistics.NormalDist;
+import java.util.Arrays;
+
+/**
+ * Running collection of study effect sizes and their sampling variances,
+ * with the inverse-variance sums of the fixed-effect model updated as each
+ * study arrives: the total and squared total weight, the weighted mean and
+ * Cochran's Q, the latter two by the weighted form of Welford's method.
+ * Partial collections from separate chunks of input are combined with
+ * merge, which appends the other studies after this one's.
+ */
+public final class StudyAccumulator {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Initial capacity of the study arrays
+    private static final int INITIAL_CAPACITY = 16;
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private double[] estimates = new double[INITIAL_CAPACITY];
+    private double[] variances = new double[INITIAL_CAPACITY];
+    private int count;
+    private double sumWeights;
+    private double sumWeights2;
+    private double mean;
+    private double qValue;
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Make room for more studies.
+     *
+     * @param capacity number of studies required
+     */
+    private void ensureCapacity(final int capacity) {
+        if (capacity > estimates.length) {
+            final int size = Math.max(capacity, estimates.length * 2);
+            estimates = Arrays.copyOf(estimates, size);
+            variances = Arrays.copyOf(variances, size);
+        }
+    }
+
+    // *************************************************************************
+    // PACKAGE METHODS
+    // *************************************************************************
+    /**
+     * Return the estimates; only the first getCount() entries are used.
+     *
+     * @return estimates
+     */
+    double[] getEstimates() {
+        return estimates;
+    }
+
+    /**
+     * Return the variances; only the first getCount() entries are used.
+     *
+     * @return variances
+     */
+    double[] getVariances() {
+        return variances;
+    }
+
+    /**
+     * Return the sum of the fixed-effect weights.
+     *
+     * @return sum of weights
+     */
+    double getSumWeights() {
+        return sumWeights;
+    }
+
+    /**
+     * Return the sum of the squared fixed-effect weights.
+     *
+     * @return sum of squared weights
+     */
+    double getSumWeights2() {
+        return sumWeights2;
+    }
+
+    /**
+     * Return the fixed-effect weighted mean.
+     *
+     * @return weighted mean
+     */
+    double getMean() {
+        return mean;
+    }
+
+    /**
+     * Return Cochran's Q about the fixed-effect mean.
+     *
+     * @return Q
+     */
+    double getQ() {
+        return qValue;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Add a study.
+     *
+     * @param estimate effect size
+     * @param variance sampling variance of the effect size
+     * @exception IllegalArgumentException if the variance is not a positive
+     * number
+     */
+    public void add(final double estimate, final double variance) {
+        if (!(variance > 0) || Double.isInfinite(variance)) {
+            throw new IllegalArgumentException("variance must be positive");
+        }
+        ensureCapacity(count + 1);
+        estimates[count] = estimate;
+        variances[count] = variance;
+        count++;
+        final double weight = 1 / variance;
+        sumWeights += weight;
+        sumWeights2 += weight * weight;
+        final double delta = estimate - mean;
+        mean += delta * weight / sumWeights;
+        qValue += weight * delta * (estimate - mean);
+    }
+
+    /**
+     * Add a study from its confidence interval. The standard error is taken
+     * as the interval width over twice the normal critical value.
+     *
+     * @param estimate effect size
+     * @param lower lower confidence limit
+     * @param upper upper confidence limit
+     * @param confidence confidence level of the interval
+     * @exception IllegalArgumentException if the interval is empty or the
+     * confidence is not in the range (0, 1)
+     */
+    public void add(final double estimate, final double lower,
+            final double upper, final double confidence) {
+        if (!(confidence > 0 && confidence < 1)) {
+            throw new IllegalArgumentException("confidence not in (0, 1)");
+        }
+        final double stdErr = (upper - lower)
+                / (2 * NormalDist.quantile(1 - (1 - confidence) * 0.5));
+        add(estimate, stdErr * stdErr);
+    }
+
+    /**
+     * Add a study from the result of an effect-size calculator.
+     *
+     * @param interval effect size and its interval
+     * @param confidence confidence level of the interval
+     * @exception IllegalArgumentException if the interval is empty or the
+     * confidence is not in the range (0, 1)
+     */
+    public void add(final NcInterval interval, final double confidence) {
+        add(interval.getMeasure(), interval.getLowerMeasure(),
+                interval.getUpperMeasure(), confidence);
+    }
+
+    /**
+     * Append the studies collected by another instance to this one, using
+     * the weighted pairwise update of Chan, Golub and LeVeque.
+     *
+     * @param other studies to merge
+     */
+    public void merge(final StudyAccumulator other) {
+        if (other.count == 0) {
+            return;
+        }
+        ensureCapacity(count + other.count);
+        System.arraycopy(other.estimates, 0, estimates, count, other.count);
+        System.arraycopy(other.variances, 0, variances, count, other.count);
+        count += other.count;
+        final double total = sumWeights + other.sumWeights;
+        final double delta = other.mean - mean;
+        qValue += other.qValue
+                + delta * delta * sumWeights * other.sumWeights / total;
+        mean += delta * other.sumWeights / total;
+        sumWeights = total;
+        sumWeights2 += other.sumWeights2;
+    }
+
+    /**
+     * Return the number of studies.
+     *
+     * @return count
+     */
+    public int getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,387 @@
+package edu.missouristate.mote.planning;
+
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.WorkerPool;
+import edu.missouristate.mote.effectsizes.ConfIntNct;
+import edu.missouristate.mote.effectsizes.ConfIntNormal;
+import edu.missouristate.mote.statistics.NctKernel;
+import edu.missouristate.mote.statistics.TDist;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Accuracy in parameter estimation (AIPE) planning: the smallest sample size
+ * whose confidence interval for d is no wider than a target. Widths are
+ * those of the non-central t intervals used by CohenDIndT (equal groups) and
+ * CohenDDepTDiff (d(z) for paired scores).
+ *
+ * The expected width plugs the population effect into the interval; the
+ * assurance width uses the assurance quantile of the sampling distribution of
+ * t instead, so that at least that proportion of studies achieve the target.
+ * Both searches rely on the width shrinking as the sample grows.
+ */
+public final class AipePlanner {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final Design design;
+    private final double confidence;
+    private final double lowerTarget;
+    private final double upperTarget;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of an AipePlanner.
+     *
+     * @param design study design (independent or dependent t)
+     * @param confidence confidence level of the interval
+     * @exception IllegalArgumentException if the design is not a t design or
+     * the confidence is not in the range (0, 1)
+     */
+    public AipePlanner(final Design design, final double confidence) {
+        if (design == Design.ONE_WAY_F) {
+            throw new IllegalArgumentException("design must be a t design");
+        }
+        if (!(confidence > 0 && confidence < 1)) {
+            throw new IllegalArgumentException("confidence must be in (0, 1)");
+        }
+        this.design = design;
+        this.confidence = confidence;
+        final double alpha = 1 - confidence;
+        lowerTarget = 1 - (alpha * 0.5);
+        upperTarget = alpha * 0.5;
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return the factor that converts a non-centrality parameter to d.
+     *
+     * @param size sample size per group (or number of pairs)
+     * @return sqrt(n / 2) for independent groups, sqrt(n) for pairs
+     */
+    private double getScale(final int size) {
+        return design == Design.INDEPENDENT_T ? Math.sqrt(size * 0.5)
+                : Math.sqrt(size);
+    }
+
+    /**
+     * Return the large-sample width of the interval for d, used where the
+     * non-central t series does not converge.
+     *
+     * @param measure observed d
+     * @param size sample size per group (or number of pairs)
+     * @return approximate width
+     */
+    private double normalWidth(final double measure, final int size) {
+        final double scale = getScale(size);
+        return 2 * ConfIntNormal.findX(lowerTarget) * Math.sqrt(
+                1 / (scale * scale) + measure * measure / (2 * getDf(size)));
+    }
+
+    /**
+     * Return the t value at the assurance quantile of the sampling
+     * distribution of t.
+     *
+     * @param effect population effect size
+     * @param size sample size per group (or number of pairs)
+     * @param assurance tolerance probability
+     * @return t value
+     */
+    private double assuranceT(final double effect, final int size,
+            final double assurance) {
+        final double delta = Math.abs(effect) * getScale(size);
+        try {
+            return TDist.quantile(assurance, getDf(size), delta);
+        } catch (ArithmeticException ex) {
+            return delta + ConfIntNormal.findX(assurance) * Math.sqrt(
+                    1 + delta * delta / (2 * getDf(size)));
+        }
+    }
+
+    /**
+     * Return whether each sample size meets the target width at the
+     * assurance level. Sizes are evaluated in parallel.
+     *
+     * @param effect population effect size
+     * @param targetWidth target width
+     * @param assurance tolerance probability
+     * @param sizes sample sizes to evaluate
+     * @return true where the width is no greater than the target
+     */
+    private boolean[] meetsTarget(final double effect,
+            final double targetWidth, final double assurance,
+            final int[] sizes) {
+        final List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (final int size : sizes) {
+            tasks.add(new Callable<Boolean>() {
+                @Override
+                public Boolean call() {
+                    return assuranceWidth(effect, size, assurance)
+                            <= targetWidth;
+                }
+            });
+        }
+        final List<Boolean> results = WorkerPool.invokeAll(tasks);
+        final boolean[] result = new boolean[sizes.length];
+        for (int index = 0; index < result.length; index++) {
+            result[index] = results.get(index);
+        }
+        return result;
+    }
+
+    /**
+     * Return up to count sample sizes spread evenly and strictly between
+     * lower and upper.
+     *
+     * @param lower exclusive lower limit
+     * @param upper exclusive upper limit
+     * @param count maximum number of sizes
+     * @return sample sizes in ascending order
+     */
+    private static int[] between(final int lower, final int upper,
+            final int count) {
+        final int length = Math.min(count, upper - lower - 1);
+        final int[] result = new int[length];
+        for (int index = 0; index < length; index++) {
+            result[index] = lower + (int) ((long) (upper - lower)
+                    * (index + 1) / (length + 1));
+        }
+        return result;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the confidence level.
+     *
+     * @return confidence level
+     */
+    public double getConfidence() {
+        return confidence;
+    }
+
+    /**
+     * Return the study design.
+     *
+     * @return design
+     */
+    public Design getDesign() {
+        return design;
+    }
+
+    /**
+     * Return the degrees of freedom for a sample size.
+     *
+     * @param size sample size per group (or number of pairs)
+     * @return degrees of freedom
+     */
+    public double getDf(final int size) {
+        return design == Design.INDEPENDENT_T ? 2.0 * size - 2 : size - 1.0;
+    }
+
+    /**
+     * Return the width of the confidence interval for d given the observed
+     * t value.
+     *
+     * @param tValue observed t value
+     * @param size sample size per group (or number of pairs)
+     * @return width of the interval
+     */
+    public double width(final double tValue, final int size) {
+        return new Solver().width(tValue, size);
+    }
+
+    /**
+     * Return the width of the confidence interval when the observed d equals
+     * the population effect.
+     *
+     * @param effect population effect size
+     * @param size sample size per group (or number of pairs)
+     * @return expected width
+     */
+    public double expectedWidth(final double effect, final int size) {
+        return width(effect * getScale(size), size);
+    }
+
+    /**
+     * Return the width that the interval does not exceed with probability
+     * assurance.
+     *
+     * @param effect population effect size
+     * @param size sample size per group (or number of pairs)
+     * @param assurance tolerance probability in the range (0, 1)
+     * @return width at the assurance level
+     */
+    public double assuranceWidth(final double effect, final int size,
+            final double assurance) {
+        return width(assuranceT(effect, size, assurance), size);
+    }
+
+    /**
+     * Return the smallest sample size whose expected interval width is no
+     * greater than the target. The search gallops upward from the smallest
+     * sample size and then bisects on the integers; each interval is solved
+     * starting from the limits found for the previous size.
+     *
+     * @param effect population effect size
+     * @param targetWidth target width
+     * @return sample size per group (or number of pairs)
+     * @exception ArithmeticException if the target cannot be reached with
+     * Constants.MAX_PLANNING_SIZE observations per group
+     */
+    public int sampleSize(final double effect, final double targetWidth) {
+        final Solver solver = new Solver();
+        int lower = (int) Constants.MIN_SS;
+        if (solver.width(effect * getScale(lower), lower) <= targetWidth) {
+            return lower;
+        }
+        int upper = lower;
+        do {
+            if (upper >= Constants.MAX_PLANNING_SIZE) {
+                throw new ArithmeticException("target width not reached");
+            }
+            lower = upper;
+            upper = (int) Math.min(Constants.MAX_PLANNING_SIZE, 2L * upper);
+        } while (solver.width(effect * getScale(upper), upper) > targetWidth);
+        // width(lower) > targetWidth >= width(upper)
+        while (upper - lower > 1) {
+            final int middle = (lower + upper) >>> 1;
+            if (solver.width(effect * getScale(middle), middle)
+                    <= targetWidth) {
+                upper = middle;
+            } else {
+                lower = middle;
+            }
+        }
+        return upper;
+    }
+
+    /**
+     * Return the smallest sample size for which the interval width is no
+     * greater than the target with probability assurance. Each step of the
+     * search evaluates one candidate size per worker thread in parallel:
+     * galloping over successive doublings, then splitting the bracket into
+     * as many parts as there are workers.
+     *
+     * @param effect population effect size
+     * @param targetWidth target width
+     * @param assurance tolerance probability in the range (0, 1)
+     * @return sample size per group (or number of pairs)
+     * @exception IllegalArgumentException if assurance is not in (0, 1)
+     * @exception ArithmeticException if the target cannot be reached with
+     * Constants.MAX_PLANNING_SIZE observations per group
+     */
+    public int sampleSize(final double effect, final double targetWidth,
+            final double assurance) {
+        if (!(assurance > 0 && assurance < 1)) {
+            throw new IllegalArgumentException("assurance must be in (0, 1)");
+        }
+        final int threads = Math.max(2, WorkerPool.getThreads());
+        int lower = (int) Constants.MIN_SS;
+        if (meetsTarget(effect, targetWidth, assurance,
+                new int[]{lower})[0]) {
+            return lower;
+        }
+        // Gallop until a candidate meets the target
+        int upper = -1;
+        while (upper < 0) {
+            if (lower >= Constants.MAX_PLANNING_SIZE) {
+                throw new ArithmeticException("target width not reached");
+            }
+            final List<Integer> candidates = new ArrayList<>();
+            long candidate = lower;
+            while (candidates.size() < threads
+                    && candidate < Constants.MAX_PLANNING_SIZE) {
+                candidate = Math.min(Constants.MAX_PLANNING_SIZE,
+                        2 * candidate);
+                candidates.add((int) candidate);
+            }
+            final int[] sizes = new int[candidates.size()];
+            for (int index = 0; index < sizes.length; index++) {
+                sizes[index] = candidates.get(index);
+            }
+            final boolean[] meets = meetsTarget(effect, targetWidth,
+                    assurance, sizes);
+            for (int index = 0; index < sizes.length && upper < 0; index++) {
+                if (meets[index]) {
+                    upper = sizes[index];
+                } else {
+                    lower = sizes[index];
+                }
+            }
+        }
+        // Narrow the bracket; width(lower) > targetWidth >= width(upper)
+        while (upper - lower > 1) {
+            final int[] sizes = between(lower, upper, threads);
+            final boolean[] meets = meetsTarget(effect, targetWidth,
+                    assurance, sizes);
+            for (int index = sizes.length - 1; index >= 0; index--) {
+                if (meets[index]) {
+                    upper = sizes[index];
+                } else {
+                    lower = sizes[index];
+                    break;
+                }
+            }
+        }
+        return upper;
+    }
+
+    // *************************************************************************
+    // INNER CLASSES
+    // *************************************************************************
+    /**
+     * Interval solver that warm-starts each search from the limits found for
+     * the previous t value. Not thread-safe.
+     */
+    private final class Solver {
+
+        private double lastT = Double.NaN;
+        private double lastLowerNc = Double.NaN;
+        private double lastUpperNc = Double.NaN;
+
+        /**
+         * Return the width of the confidence interval for d.
+         *
+         * @param tValue observed t value
+         * @param size sample size per group (or number of pairs)
+         * @return width of the interval
+         */
+        double width(final double tValue, final int size) {
+            final double df = getDf(size);
+            double lowerNc;
+            double upperNc;
+            try {
+                // One kernel serves both limits
+                final NctKernel kernel = new NctKernel(tValue, df);
+                if (lastT != 0 && !Double.isNaN(lastT)) {
+                    final double ratio = tValue / lastT;
+                    lowerNc = ConfIntNct.findNonCentrality(kernel,
+                            lowerTarget, lastLowerNc * ratio);
+                    upperNc = ConfIntNct.findNonCentrality(kernel,
+                            upperTarget, lastUpperNc * ratio);
+                } else {
+                    lowerNc = ConfIntNct.findNonCentrality(kernel,
+                            lowerTarget);
+                    // The limits are roughly symmetric about t
+                    upperNc = ConfIntNct.findNonCentrality(kernel,
+                            upperTarget, 2 * tValue - lowerNc);
+                }
+            } catch (ArithmeticException ex) {
+                lastT = Double.NaN;
+                return normalWidth(tValue / getScale(size), size);
+            }
+            lastT = tValue;
+            lastLowerNc = lowerNc;
+            lastUpperNc = upperNc;
+            return (upperNc - lowerNc) / getScale(size);
+        }
+    }
+}
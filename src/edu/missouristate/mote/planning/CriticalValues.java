@@ -0,0 +1,108 @@
+package edu.missouristate.mote.planning;
+
+import edu.missouristate.mote.statistics.FDist;
+import edu.missouristate.mote.statistics.TDist;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache of critical values of the central t and F distributions. Finding a
+ * quantile takes dozens of CDF evaluations, and planning calculations ask for
+ * the same few (alpha, df) pairs over and over.
+ */
+public final class CriticalValues {
+
+    // *************************************************************************
+    // PRIVATE CONSTANTS
+    // *************************************************************************
+
+    /** Cached critical values. */
+    private static final ConcurrentMap<Key, Double> CACHE =
+            new ConcurrentHashMap<>();
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a CriticalValues.
+     */
+    private CriticalValues() {
+    }
+
+    // *************************************************************************
+    // PUBLIC STATIC METHODS
+    // *************************************************************************
+    /**
+     * Return the upper critical value of a two-sided t test.
+     *
+     * @param alpha significance level
+     * @param df degrees of freedom
+     * @return critical t
+     */
+    public static double t(final double alpha, final double df) {
+        final Key key = new Key(alpha, df, Double.NaN);
+        Double result = CACHE.get(key);
+        if (result == null) {
+            result = TDist.quantile(1 - alpha * 0.5, df);
+            CACHE.putIfAbsent(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Return the critical value of an F test.
+     *
+     * @param alpha significance level
+     * @param df1 numerator degrees of freedom
+     * @param df2 denominator degrees of freedom
+     * @return critical F
+     */
+    public static double f(final double alpha, final double df1,
+            final double df2) {
+        final Key key = new Key(alpha, df1, df2);
+        Double result = CACHE.get(key);
+        if (result == null) {
+            result = FDist.quantile(1 - alpha, df1, df2);
+            CACHE.putIfAbsent(key, result);
+        }
+        return result;
+    }
+
+    // *************************************************************************
+    // INNER CLASSES
+    // *************************************************************************
+    /**
+     * Cache key; the second degrees of freedom is NaN for t.
+     */
+    private static final class Key {
+
+        private final double alpha;
+        private final double df1;
+        private final double df2;
+
+        Key(final double alpha, final double df1, final double df2) {
+            this.alpha = alpha;
+            this.df1 = df1;
+            this.df2 = df2;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) other;
+            return Double.compare(alpha, key.alpha) == 0
+                    && Double.compare(df1, key.df1) == 0
+                    && Double.compare(df2, key.df2) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            long bits = Double.doubleToLongBits(alpha);
+            bits = bits * 31 + Double.doubleToLongBits(df1);
+            bits = bits * 31 + Double.doubleToLongBits(df2);
+            return (int) (bits ^ (bits >>> 32));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package edu.missouristate.mote.planning;
+
+/**
+ * Study designs supported by the planning calculators. Sample sizes are
+ * always per group (or the number of pairs for the dependent design).
+ */
+public enum Design {
+
+    /** Two independent groups of equal size; effect size is Cohen's d. */
+    INDEPENDENT_T,
+
+    /** Paired observations; effect size is Cohen's d(z). */
+    DEPENDENT_T,
+
+    /** One-way ANOVA with equal group sizes; effect size is Cohen's f. */
+    ONE_WAY_F
+}
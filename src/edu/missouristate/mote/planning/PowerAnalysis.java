@@ -0,0 +1,291 @@
+package edu.missouristate.mote.planning;
+
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.WorkerPool;
+import edu.missouristate.mote.statistics.FDist;
+import edu.missouristate.mote.statistics.NormalDist;
+import edu.missouristate.mote.statistics.TDist;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Statistical power and sample-size planning for a study design. Power is the
+ * probability that the non-central t or F statistic falls beyond the central
+ * critical value; t tests are two-sided.
+ */
+public final class PowerAnalysis {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final Design design;
+    private final int groups;
+    private final double alpha;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a PowerAnalysis for a two-group design.
+     *
+     * @param design study design
+     * @param alpha significance level
+     */
+    public PowerAnalysis(final Design design, final double alpha) {
+        this(design, 2, alpha);
+    }
+
+    /**
+     * Initialize a new instance of a PowerAnalysis.
+     *
+     * @param design study design
+     * @param groups number of groups (only used by the one-way F design)
+     * @param alpha significance level
+     * @exception IllegalArgumentException if groups is less than 2 or alpha is
+     * not in the range (0, 1)
+     */
+    public PowerAnalysis(final Design design, final int groups,
+            final double alpha) {
+        if (groups < 2) {
+            throw new IllegalArgumentException("groups < 2");
+        }
+        if (!(alpha > 0 && alpha < 1)) {
+            throw new IllegalArgumentException("alpha must be in (0, 1)");
+        }
+        this.design = design;
+        this.groups = design == Design.ONE_WAY_F ? groups : 2;
+        this.alpha = alpha;
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return the critical value of the test for each sample size.
+     *
+     * @param sizes sample sizes
+     * @return critical values
+     */
+    private double[] criticalValues(final int[] sizes) {
+        final double[] result = new double[sizes.length];
+        for (int index = 0; index < sizes.length; index++) {
+            result[index] = criticalValue(sizes[index]);
+        }
+        return result;
+    }
+
+    /**
+     * Return the power given the critical value.
+     *
+     * @param effect effect size
+     * @param size sample size
+     * @param critical critical value
+     * @return power
+     */
+    private double power(final double effect, final int size,
+            final double critical) {
+        final double nc = getNonCentrality(effect, size);
+        if (design == Design.ONE_WAY_F) {
+            return 1 - FDist.cdf(critical, groups - 1, getDfError(size), nc);
+        }
+        final double df = getDfError(size);
+        try {
+            return 1 - TDist.cdf(critical, df, nc)
+                    + TDist.cdf(-critical, df, nc);
+        } catch (ArithmeticException ex) {
+            // Far into the tail; the normal approximation is ample
+            return 1 - NormalDist.cdf(critical - nc)
+                    + NormalDist.cdf(-critical - nc);
+        }
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the significance level.
+     *
+     * @return alpha
+     */
+    public double getAlpha() {
+        return alpha;
+    }
+
+    /**
+     * Return the study design.
+     *
+     * @return design
+     */
+    public Design getDesign() {
+        return design;
+    }
+
+    /**
+     * Return the number of groups.
+     *
+     * @return number of groups
+     */
+    public int getGroups() {
+        return groups;
+    }
+
+    /**
+     * Return the critical value of the test statistic for a sample size.
+     *
+     * @param size sample size per group
+     * @return critical t (two-sided) or F
+     */
+    public double criticalValue(final int size) {
+        if (design == Design.ONE_WAY_F) {
+            return CriticalValues.f(alpha, groups - 1, getDfError(size));
+        }
+        return CriticalValues.t(alpha, getDfError(size));
+    }
+
+    /**
+     * Return the error degrees of freedom for a sample size.
+     *
+     * @param size sample size per group
+     * @return degrees of freedom
+     */
+    public double getDfError(final int size) {
+        switch (design) {
+            case INDEPENDENT_T:
+                return 2.0 * size - 2;
+            case DEPENDENT_T:
+                return size - 1.0;
+            default:
+                return (double) groups * (size - 1);
+        }
+    }
+
+    /**
+     * Return the non-centrality parameter for an effect size and sample size.
+     *
+     * @param effect effect size (d, d(z) or f)
+     * @param size sample size per group
+     * @return non-centrality parameter (delta or lambda)
+     */
+    public double getNonCentrality(final double effect, final int size) {
+        switch (design) {
+            case INDEPENDENT_T:
+                return effect * Math.sqrt(size * 0.5);
+            case DEPENDENT_T:
+                return effect * Math.sqrt(size);
+            default:
+                return effect * effect * groups * size;
+        }
+    }
+
+    /**
+     * Return the power to detect an effect.
+     *
+     * @param effect effect size (d, d(z) or f)
+     * @param size sample size per group
+     * @return power
+     */
+    public double power(final double effect, final int size) {
+        return power(effect, size, criticalValue(size));
+    }
+
+    /**
+     * Calculate the power for each sample size into a caller-supplied array.
+     *
+     * @param effect effect size (d, d(z) or f)
+     * @param sizes sample sizes per group
+     * @param result array receiving the power for each sample size
+     */
+    public void powerCurve(final double effect, final int[] sizes,
+            final double[] result) {
+        for (int index = 0; index < sizes.length; index++) {
+            result[index] = power(effect, sizes[index]);
+        }
+    }
+
+    /**
+     * Return the power for every sample size from minSize to maxSize.
+     *
+     * @param effect effect size (d, d(z) or f)
+     * @param minSize smallest sample size per group
+     * @param maxSize largest sample size per group
+     * @return power for each sample size
+     */
+    public double[] powerCurve(final double effect, final int minSize,
+            final int maxSize) {
+        final int[] sizes = new int[Math.max(0, maxSize - minSize + 1)];
+        for (int index = 0; index < sizes.length; index++) {
+            sizes[index] = minSize + index;
+        }
+        final double[] result = new double[sizes.length];
+        powerCurve(effect, sizes, result);
+        return result;
+    }
+
+    /**
+     * Return a table of power values with one row per effect size and one
+     * column per sample size. Rows are calculated in parallel.
+     *
+     * @param effects effect sizes
+     * @param sizes sample sizes per group
+     * @return power table
+     */
+    public double[][] powerTable(final double[] effects, final int[] sizes) {
+        final double[] critical = criticalValues(sizes);
+        final double[][] result = new double[effects.length][sizes.length];
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        for (int row = 0; row < effects.length; row++) {
+            final int current = row;
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    for (int col = 0; col < sizes.length; col++) {
+                        result[current][col] = power(effects[current],
+                                sizes[col], critical[col]);
+                    }
+                    return null;
+                }
+            });
+        }
+        if (!tasks.isEmpty()) {
+            WorkerPool.invokeAll(tasks);
+        }
+        return result;
+    }
+
+    /**
+     * Return the smallest sample size per group whose power reaches the
+     * target. The search gallops upward from the smallest sample size and
+     * then bisects on the integers, relying on power increasing with size.
+     *
+     * @param effect effect size (d, d(z) or f)
+     * @param targetPower target power
+     * @return sample size per group
+     * @exception ArithmeticException if the target cannot be reached with
+     * Constants.MAX_PLANNING_SIZE observations per group
+     */
+    public int sampleSize(final double effect, final double targetPower) {
+        int lower = (int) Constants.MIN_SS;
+        if (power(effect, lower) >= targetPower) {
+            return lower;
+        }
+        int upper = lower;
+        do {
+            if (upper >= Constants.MAX_PLANNING_SIZE) {
+                throw new ArithmeticException("target power not reached");
+            }
+            lower = upper;
+            upper = (int) Math.min(Constants.MAX_PLANNING_SIZE, 2L * upper);
+        } while (power(effect, upper) < targetPower);
+        // power(lower) < targetPower <= power(upper)
+        while (upper - lower > 1) {
+            final int middle = (lower + upper) >>> 1;
+            if (power(effect, middle) >= targetPower) {
+                upper = middle;
+            } else {
+                lower = middle;
+            }
+        }
+        return upper;
+    }
+}
@@ -3,16 +3,34 @@ package edu.missouristate.mote.propertygrid;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.TreeMap;
 import java.util.Map;
 
 /**
  * Provide a method for loading an object into a collection of PropertyGridRow
- * objects.
+ * objects. The rows of a class are built once, on first use, and shared by
+ * every object of that class; their accessors are compiled method handles,
+ * so switching between objects needs no further reflection.
  */
 public final class ObjectLoader {
 
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Rows of each class, built on first use
+    private static final ClassValue<List<PropertyTableRow>> ROWS =
+            new ClassValue<List<PropertyTableRow>>() {
+                @Override
+                protected List<PropertyTableRow> computeValue(
+                        final Class<?> type) {
+                    return Collections.unmodifiableList(
+                            createRows(type.getMethods()));
+                }
+            };
+
     // *************************************************************************
     // CONSTRUCTOR
     // *************************************************************************
@@ -31,13 +49,12 @@ public final class ObjectLoader {
      * Return a mapping of {base name: category name} for all getters with
      * category annotations.
      *
-     * @param object object to examine
+     * @param methods public methods of the class
      * @return mapping of base name to category names
      */
-    private static Map<String, String> getCategories(final Object object) {
+    private static Map<String, String> getCategories(final Method[] methods) {
 
         final HashMap<String, String> result = new HashMap<>();
-        final Method[] methods = object.getClass().getMethods();
         for (Method method : methods) {
             final String key = method.getName().substring(3);
             // Only the annotations on the get methods are used
@@ -55,14 +72,13 @@ public final class ObjectLoader {
      * Return a list of base method names (name excluding the get/set prefix) in
      * an order specified by the index annotation of the get methods.
      *
-     * @param object object to examine
+     * @param methods public methods of the class
      * @return list of base method names in order
      */
-    private static ArrayList<String> getMethodOrder(final Object object) {
+    private static ArrayList<String> getMethodOrder(final Method[] methods) {
         // Use a tree to order since we do not know how many methods we will be
         // retrieving via reflection or what order they will be retrieved in
         final TreeMap<Integer, String> ordered = new TreeMap<>();
-        final Method[] methods = object.getClass().getMethods();
         for (Method method : methods) {
             final String key = method.getName().substring(3);
             // Only the annotations on the get methods are used
@@ -85,13 +101,12 @@ public final class ObjectLoader {
      * value is a two-element array with the getter at index 0 and the setter at
      * index 1 (or null if there is no setter).
      *
-     * @param object object to examine
+     * @param methods public methods of the class
      * @return mapping of base name to getter/setter methods
      */
     private static HashMap<String, Method[]> getMethodPairs(
-            final Object object) {
+            final Method[] methods) {
         final HashMap<String, Method[]> result = new HashMap<>();
-        final Method[] methods = object.getClass().getMethods();
         for (Method method : methods) {
             final String key = method.getName().substring(3);
             if (!result.containsKey(key)) {
@@ -124,7 +139,8 @@ public final class ObjectLoader {
     }
 
     /**
-     * Return true if the specified method is a setter; false, otherwise.
+     * Return true if the specified method is a setter of a double; false,
+     * otherwise.
      *
      * @param method method to check
      * @return True if the method is a setter; false, otherwise.
@@ -134,25 +150,26 @@ public final class ObjectLoader {
             return false;
         } else if (method.getParameterTypes().length != 1) {
             return false;
+        } else if (!double.class.equals(method.getParameterTypes()[0])) {
+            return false;
         }
         return true;
     }
 
-    // *************************************************************************
-    // PUBLIC METHODS
-    // *************************************************************************
     /**
-     * Return a list of PropertyGridRow objects for the specified object.
+     * Return a list of PropertyGridRow objects for the public methods of a
+     * class.
      *
-     * @param object object to examine
+     * @param methods public methods of the class
      * @return List of PropertyGridRow objects
      */
-    public static ArrayList<PropertyTableRow> getRows(final Object object) {
+    private static ArrayList<PropertyTableRow> createRows(
+            final Method[] methods) {
 
         final ArrayList<PropertyTableRow> result = new ArrayList<>();
-        final Map<String, String> categories = getCategories(object);
-        final ArrayList<String> methodOrder = getMethodOrder(object);
-        final HashMap<String, Method[]> pairs = getMethodPairs(object);
+        final Map<String, String> categories = getCategories(methods);
+        final ArrayList<String> methodOrder = getMethodOrder(methods);
+        final HashMap<String, Method[]> pairs = getMethodPairs(methods);
         String currentCategory = "";
         for (String key : methodOrder) {
             PropertyTableRow row = new PropertyTableRow();
@@ -169,9 +186,9 @@ public final class ObjectLoader {
                 row = new PropertyTableRow();
             }
             // Getter and setter
-            row.setGetter(pairs.get(key)[0]);
-            row.setSetter(pairs.get(key)[1]);
+            row.setKey(key);
             final Method getter = pairs.get(key)[0];
+            row.setAccessor(new PropertyAccessor(getter, pairs.get(key)[1]));
             // Category
             row.setCategory(currentCategory);
             // Name
@@ -184,10 +201,30 @@ public final class ObjectLoader {
             if (ann instanceof DescriptionAnnotation) {
                 row.setDescription(((DescriptionAnnotation) ann).value());
             }
+            // Scrubbing step
+            ann = getter.getAnnotation(StepAnnotation.class);
+            if (ann instanceof StepAnnotation) {
+                row.setStep(((StepAnnotation) ann).value());
+            }
             // Read-only
             row.setReadonly(pairs.get(key)[1] == null);
             result.add(row);
         }
         return result;
     }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return a list of PropertyGridRow objects for the specified object. The
+     * rows are shared by every object of the same class and must not be
+     * changed.
+     *
+     * @param object object to examine
+     * @return List of PropertyGridRow objects
+     */
+    public static ArrayList<PropertyTableRow> getRows(final Object object) {
+        return new ArrayList<>(ROWS.get(object.getClass()));
+    }
 }
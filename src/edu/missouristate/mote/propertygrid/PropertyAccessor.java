@@ -0,0 +1,116 @@
+package edu.missouristate.mote.propertygrid;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Method;
+
+/**
+ * Compiled getter and optional setter of one numeric property. The method
+ * handles are adapted once to (Object)double and (Object, double)void, so
+ * reads and writes are primitive and need no reflection or boxing.
+ */
+public final class PropertyAccessor {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Shape of every getter
+    private static final MethodType GETTER_TYPE = MethodType.methodType(
+            double.class, Object.class);
+    // Shape of every setter
+    private static final MethodType SETTER_TYPE = MethodType.methodType(
+            void.class, Object.class, double.class);
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a PropertyAccessor.
+     *
+     * @param getter public getter returning a number
+     * @param setter public setter taking a double; null if read-only
+     * @exception IllegalArgumentException if a method is not accessible or
+     * does not have a numeric shape
+     */
+    public PropertyAccessor(final Method getter, final Method setter) {
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        try {
+            this.getter = lookup.unreflect(getter).asType(GETTER_TYPE);
+            this.setter = setter == null ? null
+                    : lookup.unreflect(setter).asType(SETTER_TYPE);
+        } catch (IllegalAccessException | WrongMethodTypeException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return a throwable from a method handle as an unchecked exception.
+     *
+     * @param ex throwable
+     * @return exception to throw
+     */
+    private static RuntimeException unchecked(final Throwable ex) {
+        if (ex instanceof Error) {
+            throw (Error) ex;
+        }
+        if (ex instanceof RuntimeException) {
+            return (RuntimeException) ex;
+        }
+        return new IllegalStateException(ex);
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the value of the property.
+     *
+     * @param object object holding the property
+     * @return value
+     */
+    public double get(final Object object) {
+        try {
+            return (double) getter.invokeExact(object);
+        } catch (Throwable ex) {
+            throw unchecked(ex);
+        }
+    }
+
+    /**
+     * Return true if the property has a setter.
+     *
+     * @return true if the property can be set; false, otherwise
+     */
+    public boolean hasSetter() {
+        return setter != null;
+    }
+
+    /**
+     * Set the value of the property.
+     *
+     * @param object object holding the property
+     * @param value new value
+     * @exception UnsupportedOperationException if the property is read-only
+     */
+    public void set(final Object object, final double value) {
+        if (setter == null) {
+            throw new UnsupportedOperationException("read-only property");
+        }
+        try {
+            setter.invokeExact(object, value);
+        } catch (Throwable ex) {
+            throw unchecked(ex);
+        }
+    }
+}
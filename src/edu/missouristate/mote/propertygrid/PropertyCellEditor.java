@@ -3,8 +3,6 @@ package edu.missouristate.mote.propertygrid;
 import java.awt.Component;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.List;
 import javax.swing.AbstractCellEditor;
 import javax.swing.JFormattedTextField;
@@ -85,25 +83,22 @@ public final class PropertyCellEditor extends AbstractCellEditor
      *
      * @param oldValue original value in the field
      * @param newValue new value for the field
-     * @param getter underlying object's getter method
-     * @param setter underlying object's setter method
+     * @param accessor underlying object's getter and setter
      */
     private void updateValue(final double oldValue, final double newValue,
-            final Method getter, final Method setter) {
+            final PropertyAccessor accessor) {
         // Numbers are the same, don't update
         if (Math.abs(newValue - oldValue) < Constants.PRECISION) {
             return;
         }
         try {
             // Update the underlying object
-            setter.invoke(selectedObject, newValue);
+            accessor.set(selectedObject, newValue);
             // It's possible the object has some restrictions on values and
             // rejected our change (or altered it); retrieve the current value
             // from the underlying object
-            final Double value = (Double) getter.invoke(selectedObject);
-            textField.setText(value.toString());
-        } catch (IllegalAccessException | IllegalArgumentException
-                | InvocationTargetException ex) {
+            textField.setText(Double.toString(accessor.get(selectedObject)));
+        } catch (RuntimeException ex) {
             Logger.getLogger(PropertyCellEditor.class.getName()).log(Level.INFO,
                     null, ex);
         }
@@ -159,17 +154,16 @@ public final class PropertyCellEditor extends AbstractCellEditor
     @Override
     public boolean stopCellEditing() {
         // Make sure we have a getter and a setter
-        final Method getter = tableRows.get(currentRow).getGetter();
-        final Method setter = tableRows.get(currentRow).getSetter();
-        if (getter == null || setter == null) {
+        final PropertyAccessor accessor = tableRows.get(currentRow)
+                .getAccessor();
+        if (accessor == null || !accessor.hasSetter()) {
             return super.stopCellEditing();
         }
         // Get the current (pre-editing) value from the object
-        final Double oldValue;
+        final double oldValue;
         try {
-            oldValue = (Double) getter.invoke(selectedObject);
-        } catch (IllegalAccessException | IllegalArgumentException
-                | InvocationTargetException ex) {
+            oldValue = accessor.get(selectedObject);
+        } catch (RuntimeException ex) {
             Logger.getLogger(PropertyCellEditor.class.getName()).log(Level.INFO,
                     null, ex);
             return super.stopCellEditing();
@@ -185,9 +179,9 @@ public final class PropertyCellEditor extends AbstractCellEditor
         }
         // Update
         if (useOldValue) {
-            textField.setText(oldValue.toString());
+            textField.setText(Double.toString(oldValue));
         } else {
-            updateValue(oldValue, newValue, getter, setter);
+            updateValue(oldValue, newValue, accessor);
         }
         return super.stopCellEditing();
     }
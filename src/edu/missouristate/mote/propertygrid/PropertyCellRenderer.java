@@ -19,6 +19,9 @@ public final class PropertyCellRenderer extends DefaultTableCellRenderer {
     // FIELDS
     // *************************************************************************
 
+    /** Format of the values. */
+    private final transient DecimalFormat format;
+
     /** Table row data. */
     private final transient List<PropertyTableRow> tableRows;
 
@@ -36,6 +39,7 @@ public final class PropertyCellRenderer extends DefaultTableCellRenderer {
      */
     public PropertyCellRenderer(final List<PropertyTableRow> rows) {
         super();
+        format = new DecimalFormat(Constants.DECIMAL_FORMAT);
         tableRows = rows;
         textField = new JFormattedTextField();
         textField.setBorder(new EmptyBorder(Constants.CELL_INSETS));
@@ -60,11 +64,11 @@ public final class PropertyCellRenderer extends DefaultTableCellRenderer {
             result = "";
         } else if (isCategory || column != 1) {
             result = value.toString();
+        } else if (value instanceof Double) {
+            result = format.format(((Double) value).doubleValue());
         } else {
             try {
                 final double newDouble = Double.parseDouble(value.toString());
-                final DecimalFormat format = new DecimalFormat(
-                        Constants.DECIMAL_FORMAT);
                 result = format.format(newDouble);
             } catch (ClassCastException | NumberFormatException e) {
                 result = value.toString();
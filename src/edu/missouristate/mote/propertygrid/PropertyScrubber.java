@@ -0,0 +1,243 @@
+package edu.missouristate.mote.propertygrid;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.swing.Timer;
+import edu.missouristate.mote.Constants;
+
+/**
+ * Drag-to-scrub control of the numeric inputs of a PropertyTable. Dragging
+ * sideways from the name of an editable property changes its value by the
+ * property's step per pixel, or a tenth of it with Shift held; values of a
+ * property with a step annotation stay multiples of the step. Drag events
+ * arrive faster than the screen is redrawn, so at most one value is set per
+ * frame: a value still waiting when the next one arrives is dropped in its
+ * favor, and the last value is always set when the drag ends.
+ */
+final class PropertyScrubber {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Step as a fraction of the order of magnitude of an unannotated value
+    private static final double RELATIVE_STEP = 0.01;
+    // Step divisor with Shift held
+    private static final double FINE_DIVISOR = 10;
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    // Timer setting the waiting value at the end of a frame
+    private final Timer frameTimer;
+    // Object being scrubbed; null if none
+    private Object object;
+    // Accessor of the property being scrubbed
+    private PropertyAccessor accessor;
+    // Value and mouse position at the start of the drag
+    private double startValue;
+    private int startX;
+    // Change of the value per pixel
+    private double step;
+    // Step annotation of the property; 0 if none
+    private double grain;
+    // Value waiting to be set; NaN if none
+    private double pendingValue;
+    // System.nanoTime() of the last value set
+    private long lastApply;
+    // Number of values set and dropped
+    private long applyCount;
+    private long dropCount;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a PropertyScrubber.
+     */
+    PropertyScrubber() {
+        frameTimer = new Timer(Constants.GRAPH_FRAME_MILLIS,
+                new ActionListener() {
+                    @Override
+                    public void actionPerformed(final ActionEvent evt) {
+                        applyPending();
+                    }
+                });
+        frameTimer.setRepeats(false);
+        pendingValue = Double.NaN;
+        lastApply = System.nanoTime() - frameNanos();
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return the shortest time between two values set.
+     *
+     * @return time in nanoseconds
+     */
+    private static long frameNanos() {
+        return Constants.GRAPH_FRAME_MILLIS * 1000000L;
+    }
+
+    /**
+     * Set the waiting value, if any.
+     */
+    private void applyPending() {
+        final double value = pendingValue;
+        pendingValue = Double.NaN;
+        if (Double.isNaN(value) || object == null) {
+            return;
+        }
+        lastApply = System.nanoTime();
+        applyCount++;
+        try {
+            accessor.set(object, value);
+        } catch (RuntimeException ex) {
+            Logger.getLogger(PropertyScrubber.class.getName()).log(Level.INFO,
+                    null, ex);
+        }
+    }
+
+    // *************************************************************************
+    // PACKAGE METHODS
+    // *************************************************************************
+    /**
+     * Return true if a row can be scrubbed.
+     *
+     * @param row table row
+     * @return true for an editable property; false, otherwise
+     */
+    static boolean canScrub(final PropertyTableRow row) {
+        return !row.isCategory() && !row.isReadonly()
+                && row.getAccessor() != null && row.getAccessor().hasSetter();
+    }
+
+    /**
+     * Move the drag to a new mouse position.
+     *
+     * @param xPos horizontal mouse position
+     * @param fine true to move by a tenth of the step
+     */
+    void drag(final int xPos, final boolean fine) {
+        if (object == null) {
+            return;
+        }
+        final double unit = fine ? step / FINE_DIVISOR : step;
+        final double value = round(startValue + (xPos - startX) * unit,
+                grain > 0 ? grain : unit);
+        if (!Double.isNaN(pendingValue)) {
+            dropCount++;
+        }
+        pendingValue = value;
+        final long wait = lastApply + frameNanos() - System.nanoTime();
+        if (wait <= 0) {
+            frameTimer.stop();
+            applyPending();
+        } else if (!frameTimer.isRunning()) {
+            frameTimer.setInitialDelay((int) (wait / 1000000L) + 1);
+            frameTimer.restart();
+        }
+    }
+
+    /**
+     * Return the number of values set by drags.
+     *
+     * @return count
+     */
+    long getApplyCount() {
+        return applyCount;
+    }
+
+    /**
+     * Return the number of values dropped because a later value arrived
+     * within the same frame.
+     *
+     * @return count
+     */
+    long getDropCount() {
+        return dropCount;
+    }
+
+    /**
+     * Return the change per pixel of a row starting from a value: the step
+     * annotation of the property, or else a hundredth of the order of
+     * magnitude of the value, and at least 0.01.
+     *
+     * @param row table row
+     * @param value value at the start of the drag
+     * @return step
+     */
+    static double getStep(final PropertyTableRow row, final double value) {
+        if (row.getStep() > 0) {
+            return row.getStep();
+        }
+        final double magnitude = Math.max(1, Math.abs(value));
+        return Math.pow(10, Math.floor(Math.log10(magnitude)))
+                * RELATIVE_STEP;
+    }
+
+    /**
+     * Return true while a drag is in progress.
+     *
+     * @return true while scrubbing
+     */
+    boolean isScrubbing() {
+        return object != null;
+    }
+
+    /**
+     * Return a value rounded to a multiple of a step. Steps below one are
+     * applied as a division, so a step of 0.001 gives 0.951 rather than
+     * 0.9510000000000001.
+     *
+     * @param value value
+     * @param unit step
+     * @return rounded value
+     */
+    static double round(final double value, final double unit) {
+        if (unit < 1) {
+            final double scale = Math.rint(1 / unit);
+            return Math.rint(value * scale) / scale;
+        }
+        return Math.rint(value / unit) * unit;
+    }
+
+    /**
+     * Start a drag on a row.
+     *
+     * @param target object holding the property
+     * @param row table row of the property
+     * @param xPos horizontal mouse position
+     * @return true if the row is scrubbed; false if it cannot be
+     */
+    boolean start(final Object target, final PropertyTableRow row,
+            final int xPos) {
+        if (!canScrub(row)) {
+            return false;
+        }
+        try {
+            startValue = row.getAccessor().get(target);
+        } catch (RuntimeException ex) {
+            return false;
+        }
+        object = target;
+        accessor = row.getAccessor();
+        startX = xPos;
+        step = getStep(row, startValue);
+        grain = row.getStep();
+        pendingValue = Double.NaN;
+        return true;
+    }
+
+    /**
+     * End the drag, setting the last value if it is still waiting.
+     */
+    void stop() {
+        frameTimer.stop();
+        applyPending();
+        object = null;
+        accessor = null;
+    }
+}
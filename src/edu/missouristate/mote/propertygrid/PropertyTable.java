@@ -1,20 +1,21 @@
 package edu.missouristate.mote.propertygrid;
 
+import java.awt.Cursor;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 import javax.swing.JTable;
 import javax.swing.ListSelectionModel;
 import javax.swing.table.DefaultTableModel;
+import edu.missouristate.mote.events.ChangeEvent;
 import edu.missouristate.mote.events.ChangeListener;
 import edu.missouristate.mote.events.ChangeNotifier;
 import edu.missouristate.mote.Constants;
 
 /**
- * Table component of the property grid.
+ * Table component of the property grid. Besides typing a value, an editable
+ * property can be scrubbed by dragging sideways from its name.
  */
 public final class PropertyTable extends JTable {
 
@@ -25,9 +26,18 @@ public final class PropertyTable extends JTable {
     /** Selected object backing the model. */
     private ChangeNotifier selectedObject;
 
+    /** Listener on the selected object's changes. */
+    private final transient ChangeListener changeListener;
+
     /** Data for each row in the table. */
     private final transient List<PropertyTableRow> tableRows;
 
+    /** Value shown in each row; null if the row shows no value. */
+    private transient Double[] shownValues;
+
+    /** Drag-to-scrub control of the property names. */
+    private final transient PropertyScrubber scrubber;
+
     // *************************************************************************
     // CONSTRUCTORS
     // *************************************************************************
@@ -38,6 +48,14 @@ public final class PropertyTable extends JTable {
     public PropertyTable() {
         super();
         tableRows = new ArrayList<>();
+        shownValues = new Double[0];
+        scrubber = new PropertyScrubber();
+        changeListener = new ChangeListener() {
+            @Override
+            public void stateChanged(final ChangeEvent event) {
+                refresh(event);
+            }
+        };
         // Setup an empty model
         final Object[][] data = new Object[][]{{null, null}};
         this.setModel(new DefaultTableModel(data, Constants.GRID_COL_NAMES));
@@ -90,6 +108,57 @@ public final class PropertyTable extends JTable {
         this.getColumnModel().getColumn(0).setPreferredWidth(nameWidth);
     }
 
+    /**
+     * Return true if the property of a row can be scrubbed.
+     *
+     * @param row row number
+     * @return true for an editable property; false, otherwise
+     */
+    private boolean isScrubbable(final int row) {
+        return row >= 0 && row < tableRows.size()
+                && PropertyScrubber.canScrub(tableRows.get(row));
+    }
+
+    /**
+     * Start scrubbing a row. A value being typed is committed first, and the
+     * row's value cell is selected so that its description is shown.
+     *
+     * @param row row number
+     * @param xPos horizontal mouse position
+     */
+    private void startScrubbing(final int row, final int xPos) {
+        if (this.isEditing()) {
+            this.getCellEditor().stopCellEditing();
+        }
+        this.changeSelection(row, 1, false, false);
+        scrubber.start(selectedObject, tableRows.get(row), xPos);
+    }
+
+    /**
+     * Refresh one cell from the underlying object if its value changed.
+     *
+     * @param row row number
+     */
+    private void refreshRow(final int row) {
+        final PropertyTableRow tableRow = tableRows.get(row);
+        if (tableRow.getAccessor() == null) {
+            return;
+        }
+        final Double shown = shownValues[row];
+        try {
+            final double value = tableRow.getAccessor().get(selectedObject);
+            if (shown == null || Double.compare(shown, value) != 0) {
+                shownValues[row] = value;
+                this.setValueAt(shownValues[row], row, 1);
+            }
+        } catch (RuntimeException ex) {
+            if (shown != null) {
+                shownValues[row] = null;
+                this.setValueAt("", row, 1);
+            }
+        }
+    }
+
     // *************************************************************************
     // PROTECTED METHODS
     // *************************************************************************
@@ -137,6 +206,17 @@ public final class PropertyTable extends JTable {
     protected void processMouseEvent(final MouseEvent e) {
         final int row = this.rowAtPoint(e.getPoint());
         final int col = this.columnAtPoint(e.getPoint());
+        if (e.getID() == MouseEvent.MOUSE_PRESSED && col == 0
+                && isScrubbable(row)) {
+            startScrubbing(row, e.getX());
+            e.consume();
+            return;
+        } else if (e.getID() == MouseEvent.MOUSE_RELEASED
+                && scrubber.isScrubbing()) {
+            scrubber.stop();
+            e.consume();
+            return;
+        }
         boolean ignore = false;
         if (e.getClickCount() == 0) {
             // Only care about clicks
@@ -155,6 +235,30 @@ public final class PropertyTable extends JTable {
         }
     }
 
+    /**
+     * Scrub the value of a property while the mouse is dragged from its name,
+     * and show a resize cursor over the names that can be scrubbed.
+     *
+     * @param e event arguments
+     */
+    @Override
+    protected void processMouseMotionEvent(final MouseEvent e) {
+        if (scrubber.isScrubbing()) {
+            if (e.getID() == MouseEvent.MOUSE_DRAGGED) {
+                scrubber.drag(e.getX(), e.isShiftDown());
+            }
+            e.consume();
+            return;
+        }
+        if (e.getID() == MouseEvent.MOUSE_MOVED) {
+            final boolean scrubbable = this.columnAtPoint(e.getPoint()) == 0
+                    && isScrubbable(this.rowAtPoint(e.getPoint()));
+            this.setCursor(Cursor.getPredefinedCursor(scrubbable
+                    ? Cursor.E_RESIZE_CURSOR : Cursor.DEFAULT_CURSOR));
+        }
+        super.processMouseMotionEvent(e);
+    }
+
     // *************************************************************************
     // PUBLIC METHODS
     // *************************************************************************
@@ -211,18 +315,24 @@ public final class PropertyTable extends JTable {
     }
 
     /**
-     * Refresh the model from the underlying object.
+     * Refresh the model from the underlying object. Only the cells whose
+     * value changed are updated.
      */
     public void refresh() {
         for (int row = 0; row < tableRows.size(); row++) {
-            final Method getter = tableRows.get(row).getGetter();
-            try {
-                if (getter != null) {
-                    final Double value = (Double) getter.invoke(selectedObject);
-                    this.setValueAt(value.toString(), row, 1);
-                }
-            } catch (IllegalAccessException | InvocationTargetException ex) {
-                this.setValueAt("", row, 1);
+            refreshRow(row);
+        }
+    }
+
+    /**
+     * Refresh the rows of the properties named by a change event.
+     *
+     * @param event change event of the underlying object
+     */
+    public void refresh(final ChangeEvent event) {
+        for (int row = 0; row < tableRows.size(); row++) {
+            if (event.isChanged(tableRows.get(row).getKey())) {
+                refreshRow(row);
             }
         }
     }
@@ -234,19 +344,25 @@ public final class PropertyTable extends JTable {
      */
     public void setSelectedObject(final ChangeNotifier object) {
         // Set object and rows
+        scrubber.stop();
+        if (selectedObject != null) {
+            selectedObject.removeChangeListener(changeListener);
+        }
         selectedObject = object;
         tableRows.clear();
         tableRows.addAll(ObjectLoader.getRows(object));
         // Create a new model
         final Object[][] data = new Object[tableRows.size()][2];
+        shownValues = new Double[tableRows.size()];
         for (int index = 0; index < tableRows.size(); index++) {
-            data[index][0] = tableRows.get(index).getName();
+            final PropertyTableRow tableRow = tableRows.get(index);
+            data[index][0] = tableRow.getName();
             try {
-                final Method getter = tableRows.get(index).getGetter();
-                if (getter != null) {
-                    data[index][1] = getter.invoke(object);
+                if (tableRow.getAccessor() != null) {
+                    shownValues[index] = tableRow.getAccessor().get(object);
+                    data[index][1] = shownValues[index];
                 }
-            } catch (IllegalAccessException | InvocationTargetException ex) {
+            } catch (RuntimeException ex) {
                 data[index][1] = "";
             }
         }
@@ -265,11 +381,6 @@ public final class PropertyTable extends JTable {
         final int row = getNextRow(true);
         this.changeSelection(row, 1, false, false);
         // Listen to change events on the underlying object
-        selectedObject.addChangeListener(new ChangeListener() {
-            @Override
-            public void stateChanged() {
-                refresh();
-            }
-        });
+        selectedObject.addChangeListener(changeListener);
     }
 }
\ No newline at end of file
@@ -1,7 +1,5 @@
 package edu.missouristate.mote.propertygrid;
 
-import java.lang.reflect.Method;
-
 /**
  * Encapsulate a row in a PropertyGrid/PropertyTable and contains the references
  * to the underlying object holding the values for the row.
@@ -12,14 +10,17 @@ public final class PropertyTableRow {
     // FIELDS
     // *************************************************************************
 
+    /** Compiled getter and setter for the property value. */
+    private PropertyAccessor accessor;
+
     /** Category name. */
     private String category;
 
     /** Description of the property as it will appear in the help area. */
     private String description;
 
-    /** Getter method for the property value. */
-    private Method getter;
+    /** Getter name without the "get" prefix; empty for a category row. */
+    private String key;
 
     /** Name of the property as it will appear in column 0 of the grid. */
     private String name;
@@ -27,8 +28,8 @@ public final class PropertyTableRow {
     /** True if the property is read-only; false, otherwise. */
     private boolean readonly;
 
-    /** Setter method for the property value. */
-    private Method setter;
+    /** Change of the value per pixel scrubbed; 0 if not annotated. */
+    private double step;
 
     // *************************************************************************
     // CONSTRUCTORS
@@ -40,6 +41,7 @@ public final class PropertyTableRow {
     public PropertyTableRow() {
         category = "(no category)";
         description = "";
+        key = "";
         name = "";
         readonly = false;
     }
@@ -48,6 +50,24 @@ public final class PropertyTableRow {
     // PUBLIC METHODS
     // *************************************************************************
 
+    /**
+     * Return the compiled getter and setter for the property value.
+     *
+     * @return accessor; null for a category row
+     */
+    public PropertyAccessor getAccessor() {
+        return accessor;
+    }
+
+    /**
+     * Set the compiled getter and setter for the property value.
+     *
+     * @param value accessor
+     */
+    public void setAccessor(final PropertyAccessor value) {
+        accessor = value;
+    }
+
     /**
      * Return the category name.
      *
@@ -86,21 +106,22 @@ public final class PropertyTableRow {
     }
 
     /**
-     * Return the getter method for the property value.
+     * Return the getter name without the "get" prefix, the name used by
+     * change events.
      *
-     * @return method
+     * @return key; empty for a category row
      */
-    public Method getGetter() {
-        return getter;
+    public String getKey() {
+        return key;
     }
 
     /**
-     * Set the getter method for the property value.
+     * Set the getter name without the "get" prefix.
      *
-     * @param value method
+     * @param value key
      */
-    public void setGetter(final Method value) {
-        getter = value;
+    public void setKey(final String value) {
+        key = value;
     }
 
     /**
@@ -141,21 +162,21 @@ public final class PropertyTableRow {
     }
 
     /**
-     * Return the setter method for the property value.
+     * Return the change of the value per pixel scrubbed.
      *
-     * @return method
+     * @return step; 0 if the property has no step annotation
      */
-    public Method getSetter() {
-        return setter;
+    public double getStep() {
+        return step;
     }
 
     /**
-     * Set the setter method for the property value.
+     * Set the change of the value per pixel scrubbed.
      *
-     * @param value method
+     * @param value step; 0 for none
      */
-    public void setSetter(final Method value) {
-        setter = value;
+    public void setStep(final double value) {
+        step = value;
     }
 
     /**
@@ -0,0 +1,22 @@
+package edu.missouristate.mote.propertygrid;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Method annotation that provides the change of the property associated with
+ * the method per pixel dragged when scrubbing it. Scrubbed values are
+ * rounded to a multiple of the step, so a step of 1 keeps whole numbers. For
+ * use with the PropertyGrid/PropertyTable controls.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface StepAnnotation {
+    /**
+     * Get the value of the annotation.
+     * @return annotation value
+     */
+    double value();
+}
@@ -0,0 +1,51 @@
+package edu.missouristate.mote.sheet;
+
+/**
+ * Results of one study of a StudySheet: the value of each result property of
+ * the measure, and the error message of the calculation. The values of a
+ * study that could not be calculated are NaN.
+ */
+public final class StudyResult {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final double[] values;
+    private final String message;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a StudyResult.
+     *
+     * @param values value of each result property; not copied
+     * @param message error message; empty if none
+     */
+    StudyResult(final double[] values, final String message) {
+        this.values = values;
+        this.message = message;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the error message of the calculation.
+     *
+     * @return error message; empty if none
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Return the value of a result property.
+     *
+     * @param index index into StudySheet.getResults()
+     * @return value; NaN if the study could not be calculated
+     */
+    public double getValue(final int index) {
+        return values[index];
+    }
+}
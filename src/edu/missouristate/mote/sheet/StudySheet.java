@@ -0,0 +1,471 @@
+package edu.missouristate.mote.sheet;
+
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.effectsizes.AbstractTest;
+import edu.missouristate.mote.effectsizes.Measure;
+import edu.missouristate.mote.propertygrid.ObjectLoader;
+import edu.missouristate.mote.propertygrid.PropertyTableRow;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Table of studies of one measure: each study holds its own values of the
+ * measure's inputs and, once calculated, its results. A blank input (NaN)
+ * keeps the test's default, so a study is calculated exactly as if its
+ * entered inputs were typed into the property grid of a fresh test, in grid
+ * order. Results are calculated on demand and kept until an input of the
+ * study changes.
+ * <p>
+ * The table itself is used on the event dispatch thread only; calculate may
+ * be called from any thread, each thread calculating with its own test.
+ */
+public final class StudySheet {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final Measure measure;
+    // Editable input properties, in grid order
+    private final List<PropertyTableRow> inputs;
+    // Result properties, in grid order
+    private final List<PropertyTableRow> results;
+    // Studies, in table order
+    private final ArrayList<Study> studies;
+    // Test of each calculating thread
+    private final ThreadLocal<AbstractTest> tests;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a StudySheet with no studies.
+     *
+     * @param measure measure of every study
+     * @exception IllegalStateException if the test cannot be created
+     */
+    public StudySheet(final Measure measure) {
+        this.measure = measure;
+        final List<PropertyTableRow> inputList = new ArrayList<>();
+        final List<PropertyTableRow> resultList = new ArrayList<>();
+        for (PropertyTableRow row : ObjectLoader.getRows(measure.createTest())) {
+            if (row.isCategory() || row.getAccessor() == null) {
+                continue;
+            }
+            if (Constants.INPUT_CATEGORY.equals(row.getCategory())
+                    && row.getAccessor().hasSetter()) {
+                inputList.add(row);
+            } else if (Constants.OUTPUT_CATEGORY.equals(row.getCategory())) {
+                resultList.add(row);
+            }
+        }
+        inputs = Collections.unmodifiableList(inputList);
+        results = Collections.unmodifiableList(resultList);
+        studies = new ArrayList<>();
+        tests = new ThreadLocal<AbstractTest>() {
+            @Override
+            protected AbstractTest initialValue() {
+                return StudySheet.this.measure.createTest();
+            }
+        };
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return true if a character separates fields.
+     *
+     * @param value character
+     * @return true for a tab, comma or semicolon
+     */
+    private static boolean isSeparator(final char value) {
+        return value == '\t' || value == ',' || value == ';';
+    }
+
+    /**
+     * Return the fields of a line, trimmed and without surrounding quotes.
+     *
+     * @param line line
+     * @return fields
+     */
+    private static List<String> split(final String line) {
+        final List<String> result = new ArrayList<>();
+        int start = 0;
+        for (int index = 0; index <= line.length(); index++) {
+            if (index == line.length() || isSeparator(line.charAt(index))) {
+                String field = line.substring(start, index).trim();
+                if (field.length() >= 2 && field.charAt(0) == '"'
+                        && field.charAt(field.length() - 1) == '"') {
+                    field = field.substring(1, field.length() - 1).trim();
+                }
+                result.add(field);
+                start = index + 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Return true if every field of a line is blank or a number.
+     *
+     * @param fields fields
+     * @return true for a data line; false for a header
+     */
+    private static boolean isNumeric(final List<String> fields) {
+        for (String field : fields) {
+            if (!field.isEmpty()) {
+                try {
+                    Double.parseDouble(field);
+                } catch (NumberFormatException ex) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return the study at an index.
+     *
+     * @param study study index
+     * @return study
+     */
+    private Study getStudy(final int study) {
+        return studies.get(study);
+    }
+
+    /**
+     * Read delimited lines into the studies. If the first line is a header,
+     * its fields are matched to the inputs by key or name and unmatched
+     * columns are ignored; otherwise the fields are given to the inputs in
+     * order, starting at an input. Studies are added as needed.
+     *
+     * @param reader source of the lines
+     * @param firstStudy study receiving the first data line
+     * @param firstInput input receiving the first field without a header
+     * @return number of data lines read
+     * @throws IOException if the lines cannot be read
+     * @exception IllegalArgumentException if a field is not a number
+     */
+    private int read(final Reader reader, final int firstStudy,
+            final int firstInput) throws IOException {
+        final BufferedReader lines = new BufferedReader(reader);
+        // Input of each column of the header; null without a header
+        int[] columns = null;
+        int study = firstStudy;
+        int lineNumber = 0;
+        boolean first = true;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            final List<String> fields = split(line);
+            final boolean header = first && !isNumeric(fields);
+            first = false;
+            if (header) {
+                columns = new int[fields.size()];
+                for (int index = 0; index < columns.length; index++) {
+                    columns[index] = findInput(fields.get(index));
+                }
+                continue;
+            }
+            if (study >= studies.size()) {
+                addStudies(study - studies.size() + 1);
+            }
+            for (int index = 0; index < fields.size(); index++) {
+                int input = firstInput + index;
+                if (columns != null) {
+                    input = index < columns.length ? columns[index] : -1;
+                }
+                if (input < 0 || input >= inputs.size()) {
+                    continue;
+                }
+                final String field = fields.get(index);
+                double value = Double.NaN;
+                if (!field.isEmpty()) {
+                    try {
+                        value = Double.parseDouble(field);
+                    } catch (NumberFormatException ex) {
+                        throw new IllegalArgumentException("line " + lineNumber
+                                + ": '" + field + "' is not a number", ex);
+                    }
+                }
+                setInput(study, input, value);
+            }
+            study++;
+        }
+        return study - firstStudy;
+    }
+
+    // *************************************************************************
+    // PACKAGE METHODS
+    // *************************************************************************
+    /**
+     * Return a copy of the inputs of a study.
+     *
+     * @param study study index
+     * @return value of each input; NaN if blank
+     */
+    double[] getInputs(final int study) {
+        return getStudy(study).inputs.clone();
+    }
+
+    /**
+     * Return the version of a study, increased each time an input changes.
+     *
+     * @param study study index
+     * @return version
+     */
+    int getVersion(final int study) {
+        return getStudy(study).version;
+    }
+
+    /**
+     * Keep the results of a study calculated from a version of its inputs.
+     *
+     * @param study study index
+     * @param version version of the inputs the results are calculated from
+     * @param result results
+     * @return true if kept; false if the inputs have changed since
+     */
+    boolean setResult(final int study, final int version,
+            final StudyResult result) {
+        if (study >= studies.size() || getStudy(study).version != version) {
+            return false;
+        }
+        getStudy(study).result = result;
+        return true;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Add blank studies at the end.
+     *
+     * @param count number of studies to add
+     */
+    public void addStudies(final int count) {
+        studies.ensureCapacity(studies.size() + count);
+        for (int index = 0; index < count; index++) {
+            studies.add(new Study(inputs.size()));
+        }
+    }
+
+    /**
+     * Return the results of a set of inputs. Safe to call from any thread.
+     *
+     * @param values value of each input; NaN to keep the default
+     * @return results; blank if every input is blank
+     */
+    public StudyResult calculate(final double[] values) {
+        final double[] resultValues = new double[results.size()];
+        Arrays.fill(resultValues, Double.NaN);
+        boolean blank = true;
+        for (double value : values) {
+            blank &= Double.isNaN(value);
+        }
+        if (blank) {
+            return new StudyResult(resultValues, "");
+        }
+        final AbstractTest test = tests.get();
+        String message;
+        try {
+            test.resetTo(inputs, values);
+            message = test.getErrorMessage();
+        } catch (RuntimeException ex) {
+            message = String.valueOf(ex.getLocalizedMessage());
+        }
+        if (message.isEmpty()) {
+            for (int index = 0; index < resultValues.length; index++) {
+                try {
+                    resultValues[index] =
+                            results.get(index).getAccessor().get(test);
+                } catch (RuntimeException ex) {
+                    resultValues[index] = Double.NaN;
+                }
+            }
+        }
+        return new StudyResult(resultValues, message);
+    }
+
+    /**
+     * Remove every study.
+     */
+    public void clear() {
+        studies.clear();
+    }
+
+    /**
+     * Return the results of a study, calculating them if needed.
+     *
+     * @param study study index
+     * @return results
+     */
+    public StudyResult compute(final int study) {
+        final Study item = getStudy(study);
+        if (item.result == null) {
+            item.result = calculate(item.inputs);
+        }
+        return item.result;
+    }
+
+    /**
+     * Return the input with a key or name, ignoring case.
+     *
+     * @param text key or name
+     * @return index into getInputs(); -1 if none
+     */
+    public int findInput(final String text) {
+        for (int index = 0; index < inputs.size(); index++) {
+            final PropertyTableRow row = inputs.get(index);
+            if (row.getKey().equalsIgnoreCase(text)
+                    || row.getName().equalsIgnoreCase(text)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Return the value of an input of a study.
+     *
+     * @param study study index
+     * @param input index into getInputs()
+     * @return value; NaN if blank
+     */
+    public double getInput(final int study, final int input) {
+        return getStudy(study).inputs[input];
+    }
+
+    /**
+     * Return the editable input properties of the measure, in grid order.
+     *
+     * @return input properties
+     */
+    public List<PropertyTableRow> getInputs() {
+        return inputs;
+    }
+
+    /**
+     * Return the measure of the studies.
+     *
+     * @return measure
+     */
+    public Measure getMeasure() {
+        return measure;
+    }
+
+    /**
+     * Return the results of a study if they have been calculated.
+     *
+     * @param study study index
+     * @return results; null if not calculated since the last input change
+     */
+    public StudyResult getResult(final int study) {
+        return getStudy(study).result;
+    }
+
+    /**
+     * Return the result properties of the measure, in grid order.
+     *
+     * @return result properties
+     */
+    public List<PropertyTableRow> getResults() {
+        return results;
+    }
+
+    /**
+     * Return the number of studies.
+     *
+     * @return number of studies
+     */
+    public int getStudyCount() {
+        return studies.size();
+    }
+
+    /**
+     * Read studies from comma, semicolon or tab separated text and add them at
+     * the end. A header line names the inputs of its columns, by property key
+     * (such as Size1) or by grid name; without one, the columns are the inputs
+     * in grid order. Blank fields keep the default.
+     *
+     * @param reader source of the text
+     * @return number of studies added
+     * @throws IOException if the text cannot be read
+     * @exception IllegalArgumentException if a field is not a number
+     */
+    public int importCsv(final Reader reader) throws IOException {
+        return read(reader, studies.size(), 0);
+    }
+
+    /**
+     * Paste text copied from a spreadsheet, one study per line with tab
+     * separated fields, starting at a study and an input. A header line is
+     * matched as in importCsv. Studies are added as needed.
+     *
+     * @param study study receiving the first line
+     * @param input input receiving the first field of each line
+     * @param text text to paste
+     * @return number of studies pasted
+     * @exception IllegalArgumentException if a field is not a number
+     */
+    public int paste(final int study, final int input, final String text) {
+        try {
+            return read(new StringReader(text), study, input);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Set an input of a study, discarding its results.
+     *
+     * @param study study index
+     * @param input index into getInputs()
+     * @param value value; NaN to blank the input
+     */
+    public void setInput(final int study, final int input,
+            final double value) {
+        final Study item = getStudy(study);
+        if (Double.compare(item.inputs[input], value) != 0) {
+            item.inputs[input] = value;
+            item.result = null;
+            item.version++;
+        }
+    }
+
+    // *************************************************************************
+    // INNER CLASSES
+    // *************************************************************************
+    /**
+     * Inputs and cached results of one study.
+     */
+    private static final class Study {
+
+        // Value of each input; NaN if blank
+        private final double[] inputs;
+        // Results; null if not calculated since the last input change
+        private StudyResult result;
+        // Increased each time an input changes
+        private int version;
+
+        /**
+         * Initialize a new instance of a blank Study.
+         *
+         * @param size number of inputs
+         */
+        Study(final int size) {
+            inputs = new double[size];
+            Arrays.fill(inputs, Double.NaN);
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package edu.missouristate.mote.sheet;
+
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.effectsizes.Measure;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.Toolkit;
+import java.awt.datatransfer.DataFlavor;
+import java.awt.datatransfer.UnsupportedFlavorException;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.DecimalFormat;
+import javax.swing.AbstractAction;
+import javax.swing.JFileChooser;
+import javax.swing.JFrame;
+import javax.swing.JMenu;
+import javax.swing.JMenuBar;
+import javax.swing.JMenuItem;
+import javax.swing.JOptionPane;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.KeyStroke;
+import javax.swing.SwingConstants;
+import javax.swing.WindowConstants;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+import javax.swing.table.DefaultTableCellRenderer;
+
+/**
+ * Window showing a StudySheet as a table, one study per row, for entering
+ * many studies of one measure at once. Studies can be typed in, pasted from
+ * a spreadsheet or imported from a CSV file; only the studies scrolled into
+ * view are calculated, in the background.
+ */
+public final class StudySheetFrame extends JFrame {
+
+    // *************************************************************************
+    // PRIVATE CONSTANTS
+    // *************************************************************************
+
+    /** Number of blank studies added at a time. */
+    private static final int BLANK_STUDIES = 100;
+
+    /** Width of a value column. */
+    private static final int COLUMN_WIDTH = 110;
+
+    /** Width of the message column. */
+    private static final int MESSAGE_WIDTH = 240;
+
+    /** Initial size of the table. */
+    private static final Dimension TABLE_SIZE = new Dimension(900, 500);
+
+    // *************************************************************************
+    // PRIVATE FIELDS
+    // *************************************************************************
+
+    /** Model of the studies. */
+    private final transient StudyTableModel model;
+
+    /** Table of the studies. */
+    private final transient JTable table;
+
+    /** Scroll pane of the table. */
+    private final transient JScrollPane scrollPane;
+
+    // *************************************************************************
+    // PUBLIC CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a StudySheetFrame with blank studies.
+     *
+     * @param measure measure of the studies
+     * @exception IllegalStateException if the test cannot be created
+     */
+    public StudySheetFrame(final Measure measure) {
+        super();
+        model = new StudyTableModel(new StudySheet(measure));
+        model.addStudies(BLANK_STUDIES);
+        table = new JTable(model);
+        scrollPane = new JScrollPane(table);
+        setupTable();
+        setupMenu();
+        setTitle("Mote Studies: " + measure.getLabel());
+        setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
+        getContentPane().add(scrollPane);
+        pack();
+    }
+
+    // *************************************************************************
+    // PRIVATE STATIC METHODS
+    // *************************************************************************
+    /**
+     * Return a menu item with the specified text and associated action.
+     *
+     * @param text menu item text
+     * @param action action to perform when clicked
+     * @param accelerator accelerator key stroke
+     * @return menu item
+     */
+    private static JMenuItem createMenuItem(final String text,
+            final ActionListener action, final KeyStroke accelerator) {
+        final JMenuItem result = new JMenuItem();
+        if (accelerator != null) {
+            result.setAccelerator(accelerator);
+        }
+        result.setText(text);
+        result.addActionListener(action);
+        return result;
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return an instance of an "Edit" menu.
+     *
+     * @return menu
+     */
+    private JMenu createEditMenu() {
+        final JMenu result = new JMenu();
+        result.setText("Edit");
+        result.add(createMenuItem("Paste", new ActionListener() {
+            @Override
+            public void actionPerformed(final ActionEvent evt) {
+                paste();
+            }
+        }, KeyStroke.getKeyStroke(KeyEvent.VK_V, InputEvent.CTRL_MASK)));
+        result.add(createMenuItem("Add Studies", new ActionListener() {
+            @Override
+            public void actionPerformed(final ActionEvent evt) {
+                model.addStudies(BLANK_STUDIES);
+            }
+        }, null));
+        result.add(createMenuItem("Calculate All", new ActionListener() {
+            @Override
+            public void actionPerformed(final ActionEvent evt) {
+                model.calculate(0, model.getRowCount() - 1);
+            }
+        }, null));
+        result.add(createMenuItem("Clear", new ActionListener() {
+            @Override
+            public void actionPerformed(final ActionEvent evt) {
+                model.clear();
+                model.addStudies(BLANK_STUDIES);
+            }
+        }, null));
+        return result;
+    }
+
+    /**
+     * Return an instance of a "File" menu.
+     *
+     * @return menu
+     */
+    private JMenu createFileMenu() {
+        final JMenu result = new JMenu();
+        result.setText("File");
+        result.add(createMenuItem("Import CSV...", new ActionListener() {
+            @Override
+            public void actionPerformed(final ActionEvent evt) {
+                importCsv();
+            }
+        }, KeyStroke.getKeyStroke(KeyEvent.VK_O, InputEvent.CTRL_MASK)));
+        result.add(createMenuItem("Close", new ActionListener() {
+            @Override
+            public void actionPerformed(final ActionEvent evt) {
+                dispose();
+            }
+        }, KeyStroke.getKeyStroke(KeyEvent.VK_W, InputEvent.CTRL_MASK)));
+        return result;
+    }
+
+    /**
+     * Ask for a CSV file and add its studies at the end.
+     */
+    private void importCsv() {
+        final JFileChooser chooser = new JFileChooser();
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        final File file = chooser.getSelectedFile();
+        try (Reader reader = Files.newBufferedReader(file.toPath(),
+                StandardCharsets.UTF_8)) {
+            model.importCsv(reader);
+        } catch (IOException | IllegalArgumentException ex) {
+            showError(file.getName() + ": " + ex.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Paste the clipboard text at the selected cell, or at the first input
+     * of the selected study if the cell is not an input.
+     */
+    private void paste() {
+        final String text;
+        try {
+            text = (String) Toolkit.getDefaultToolkit().getSystemClipboard()
+                    .getData(DataFlavor.stringFlavor);
+        } catch (UnsupportedFlavorException | IOException ex) {
+            return;
+        }
+        final int study = Math.max(0, table.getSelectedRow());
+        final int column = table.getSelectedColumn() < 0 ? -1
+                : table.convertColumnIndexToModel(table.getSelectedColumn());
+        try {
+            model.paste(study, Math.max(0, model.getInput(column)), text);
+        } catch (IllegalArgumentException ex) {
+            showError(ex.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Setup the form's main menu.
+     */
+    private void setupMenu() {
+        final JMenuBar menu = new JMenuBar();
+        menu.add(createFileMenu());
+        menu.add(createEditMenu());
+        setJMenuBar(menu);
+    }
+
+    /**
+     * Setup the table: formats, column widths, pasting and the tracking of
+     * the visible studies.
+     */
+    private void setupTable() {
+        table.setAutoResizeMode(JTable.AUTO_RESIZE_OFF);
+        table.setCellSelectionEnabled(true);
+        table.setFillsViewportHeight(true);
+        table.setDefaultRenderer(Double.class, new NumberRenderer());
+        for (int column = 1; column < model.getColumnCount(); column++) {
+            table.getColumnModel().getColumn(column).setPreferredWidth(
+                    column == model.getColumnCount() - 1 ? MESSAGE_WIDTH
+                    : COLUMN_WIDTH);
+        }
+        table.getActionMap().put("paste", new AbstractAction() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public void actionPerformed(final ActionEvent evt) {
+                paste();
+            }
+        });
+        scrollPane.setPreferredSize(TABLE_SIZE);
+        scrollPane.getViewport().addChangeListener(new ChangeListener() {
+            @Override
+            public void stateChanged(final ChangeEvent evt) {
+                updateVisibleRows();
+            }
+        });
+    }
+
+    /**
+     * Show an error message.
+     *
+     * @param message message
+     */
+    private void showError(final String message) {
+        JOptionPane.showMessageDialog(this, message, getTitle(),
+                JOptionPane.ERROR_MESSAGE);
+    }
+
+    /**
+     * Tell the model which studies are scrolled into view.
+     */
+    private void updateVisibleRows() {
+        final Rectangle view = scrollPane.getViewport().getViewRect();
+        final int first = table.rowAtPoint(new Point(0, view.y));
+        int last = table.rowAtPoint(new Point(0, view.y + view.height - 1));
+        if (last < 0) {
+            last = model.getRowCount() - 1;
+        }
+        model.setVisibleRows(Math.max(0, first), last);
+    }
+
+    // *************************************************************************
+    // INNER CLASSES
+    // *************************************************************************
+    /**
+     * Renderer of the numeric cells, in the property grid's format.
+     */
+    private static final class NumberRenderer
+            extends DefaultTableCellRenderer {
+
+        private static final long serialVersionUID = 1L;
+
+        /** Format of the values. */
+        private final transient DecimalFormat format =
+                new DecimalFormat(Constants.DECIMAL_FORMAT);
+
+        /**
+         * Initialize a new instance of a NumberRenderer.
+         */
+        NumberRenderer() {
+            super();
+            setHorizontalAlignment(SwingConstants.RIGHT);
+        }
+
+        @Override
+        public Component getTableCellRendererComponent(final JTable table,
+                final Object value, final boolean isSelected,
+                final boolean hasFocus, final int row, final int column) {
+            final Object text = value instanceof Double
+                    ? format.format(((Double) value).doubleValue()) : value;
+            return super.getTableCellRendererComponent(table, text,
+                    isSelected, hasFocus, row, column);
+        }
+    }
+}
@@ -0,0 +1,448 @@
+package edu.missouristate.mote.sheet;
+
+import edu.missouristate.mote.WorkerPool;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import javax.swing.SwingUtilities;
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Table model of a StudySheet: a study number column, a column for each
+ * input and result, and a message column. Results are calculated lazily: a
+ * result cell asked for by the table (which only asks for the cells it
+ * paints) queues its study, and the queued studies are calculated in chunks
+ * on the worker pool and shown when their chunk is done. A queued study that
+ * has been scrolled well out of view by the time a worker reaches it is
+ * skipped, and queued again if it is painted later. Used on the event
+ * dispatch thread only.
+ */
+final class StudyTableModel extends AbstractTableModel {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    private static final long serialVersionUID = 1L;
+    // Number of studies calculated by one task
+    private static final int CHUNK = 16;
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final transient StudySheet sheet;
+    // Studies queued or being calculated
+    private final transient BitSet pending;
+    // Studies queued and not yet given to the pool
+    private transient List<Job> queue;
+    // Increased when the studies are removed; older results are dropped
+    private transient int generation;
+    // First and last visible study; read by the workers
+    private transient volatile int firstVisible;
+    private transient volatile int lastVisible;
+    // Number of studies calculated and skipped by the workers
+    private transient long calculateCount;
+    private transient long skipCount;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a StudyTableModel. Every study counts as
+     * visible until setVisibleRows is called.
+     *
+     * @param sheet studies shown
+     */
+    StudyTableModel(final StudySheet sheet) {
+        super();
+        this.sheet = sheet;
+        pending = new BitSet();
+        queue = new ArrayList<>();
+        lastVisible = Integer.MAX_VALUE;
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Show the results of a chunk of studies.
+     *
+     * @param jobGeneration generation the chunk was queued in
+     * @param jobs studies of the chunk
+     * @param results results of the studies; null for a skipped study
+     */
+    private void apply(final int jobGeneration, final List<Job> jobs,
+            final StudyResult[] results) {
+        if (jobGeneration != generation) {
+            return;
+        }
+        int first = Integer.MAX_VALUE;
+        int last = -1;
+        for (int index = 0; index < jobs.size(); index++) {
+            final Job job = jobs.get(index);
+            pending.clear(job.study);
+            if (results[index] == null) {
+                skipCount++;
+                continue;
+            }
+            // A study changed since it was queued is repainted and queued again
+            calculateCount++;
+            sheet.setResult(job.study, job.version, results[index]);
+            first = Math.min(first, job.study);
+            last = Math.max(last, job.study);
+        }
+        if (last >= 0) {
+            fireTableRowsUpdated(first, last);
+        }
+    }
+
+    /**
+     * Return the results of a chunk of studies, skipping the studies that are
+     * no longer wanted. Called on a worker thread.
+     *
+     * @param jobs studies of the chunk
+     * @return results of the studies; null for a skipped study
+     */
+    private StudyResult[] calculate(final List<Job> jobs) {
+        final StudyResult[] result = new StudyResult[jobs.size()];
+        for (int index = 0; index < result.length; index++) {
+            final Job job = jobs.get(index);
+            if (job.forced || isNearVisible(job.study)) {
+                result[index] = sheet.calculate(job.inputs);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Queue a study for calculation, unless it is already queued and may be
+     * skipped.
+     *
+     * @param study study index
+     * @param forced true to calculate it even if it is not visible
+     */
+    private void enqueue(final int study, final boolean forced) {
+        if (pending.get(study) && !forced) {
+            return;
+        }
+        pending.set(study);
+        if (queue.isEmpty()) {
+            SwingUtilities.invokeLater(new Runnable() {
+                @Override
+                public void run() {
+                    flush();
+                }
+            });
+        }
+        queue.add(new Job(study, sheet.getVersion(study),
+                sheet.getInputs(study), forced));
+    }
+
+    /**
+     * Give the queued studies to the worker pool in chunks.
+     */
+    private void flush() {
+        final List<Job> jobs = queue;
+        queue = new ArrayList<>();
+        final int jobGeneration = generation;
+        for (int start = 0; start < jobs.size(); start += CHUNK) {
+            final List<Job> chunk = jobs.subList(start,
+                    Math.min(start + CHUNK, jobs.size()));
+            WorkerPool.submit(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    final StudyResult[] results = calculate(chunk);
+                    SwingUtilities.invokeLater(new Runnable() {
+                        @Override
+                        public void run() {
+                            apply(jobGeneration, chunk, results);
+                        }
+                    });
+                    return null;
+                }
+            });
+        }
+    }
+
+    /**
+     * Return true if a study is visible or within a page of the visible
+     * studies. Called on a worker thread.
+     *
+     * @param study study index
+     * @return true if the study is still wanted
+     */
+    private boolean isNearVisible(final int study) {
+        final int first = firstVisible;
+        final int last = lastVisible;
+        if (last == Integer.MAX_VALUE) {
+            return true;
+        }
+        final int page = last - first + 1;
+        return study >= first - page && study <= last + page;
+    }
+
+    /**
+     * Return the result of a study for a cell, queuing the study if it is
+     * not calculated.
+     *
+     * @param study study index
+     * @return results; null while calculating
+     */
+    private StudyResult request(final int study) {
+        final StudyResult result = sheet.getResult(study);
+        if (result == null) {
+            enqueue(study, false);
+        }
+        return result;
+    }
+
+    // *************************************************************************
+    // PACKAGE METHODS
+    // *************************************************************************
+    /**
+     * Add blank studies at the end.
+     *
+     * @param count number of studies to add
+     */
+    void addStudies(final int count) {
+        final int first = sheet.getStudyCount();
+        sheet.addStudies(count);
+        fireTableRowsInserted(first, first + count - 1);
+    }
+
+    /**
+     * Queue a range of studies for calculation whether they are visible or
+     * not.
+     *
+     * @param first first study
+     * @param last last study
+     */
+    void calculate(final int first, final int last) {
+        for (int study = first; study <= last; study++) {
+            if (sheet.getResult(study) == null) {
+                enqueue(study, true);
+            }
+        }
+    }
+
+    /**
+     * Remove every study, dropping the calculations in progress.
+     */
+    void clear() {
+        sheet.clear();
+        generation++;
+        pending.clear();
+        queue = new ArrayList<>();
+        fireTableDataChanged();
+    }
+
+    /**
+     * Return the number of studies calculated by the workers.
+     *
+     * @return count
+     */
+    long getCalculateCount() {
+        return calculateCount;
+    }
+
+    /**
+     * Return the index into the sheet's inputs of a column.
+     *
+     * @param column column index
+     * @return input index; -1 if the column is not an input
+     */
+    int getInput(final int column) {
+        final int input = column - 1;
+        return input >= 0 && input < sheet.getInputs().size() ? input : -1;
+    }
+
+    /**
+     * Return the number of studies that were queued, and skipped because they
+     * had been scrolled out of view.
+     *
+     * @return count
+     */
+    long getSkipCount() {
+        return skipCount;
+    }
+
+    /**
+     * Return the studies shown.
+     *
+     * @return sheet
+     */
+    StudySheet getSheet() {
+        return sheet;
+    }
+
+    /**
+     * Read studies from separated text and add them at the end.
+     *
+     * @param reader source of the text
+     * @return number of studies added
+     * @throws IOException if the text cannot be read
+     * @exception IllegalArgumentException if a field is not a number; the
+     * studies read before it are kept
+     * @see StudySheet#importCsv
+     */
+    int importCsv(final Reader reader) throws IOException {
+        final int first = sheet.getStudyCount();
+        try {
+            return sheet.importCsv(reader);
+        } finally {
+            if (sheet.getStudyCount() > first) {
+                fireTableRowsInserted(first, sheet.getStudyCount() - 1);
+            }
+        }
+    }
+
+    /**
+     * Paste spreadsheet text starting at a study and an input.
+     *
+     * @param study study receiving the first line
+     * @param input input receiving the first field of each line
+     * @param text text to paste
+     * @return number of studies pasted
+     * @exception IllegalArgumentException if a field is not a number; the
+     * lines before it are kept
+     * @see StudySheet#paste
+     */
+    int paste(final int study, final int input, final String text) {
+        final int count = sheet.getStudyCount();
+        try {
+            return sheet.paste(study, input, text);
+        } finally {
+            if (study < count) {
+                fireTableRowsUpdated(study, count - 1);
+            }
+            if (sheet.getStudyCount() > count) {
+                fireTableRowsInserted(count, sheet.getStudyCount() - 1);
+            }
+        }
+    }
+
+    /**
+     * Set the studies visible in the table. Queued studies more than a page
+     * away from them are skipped.
+     *
+     * @param first first visible study
+     * @param last last visible study
+     */
+    void setVisibleRows(final int first, final int last) {
+        firstVisible = first;
+        lastVisible = last;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    @Override
+    public Class<?> getColumnClass(final int column) {
+        if (column == 0) {
+            return Integer.class;
+        } else if (column == getColumnCount() - 1) {
+            return String.class;
+        }
+        return Double.class;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return sheet.getInputs().size() + sheet.getResults().size() + 2;
+    }
+
+    @Override
+    public String getColumnName(final int column) {
+        final int inputs = sheet.getInputs().size();
+        if (column == 0) {
+            return "Study";
+        } else if (column <= inputs) {
+            return sheet.getInputs().get(column - 1).getName();
+        } else if (column < getColumnCount() - 1) {
+            return sheet.getResults().get(column - 1 - inputs).getName();
+        }
+        return "Message";
+    }
+
+    @Override
+    public int getRowCount() {
+        return sheet.getStudyCount();
+    }
+
+    @Override
+    public Object getValueAt(final int row, final int column) {
+        final int inputs = sheet.getInputs().size();
+        if (column == 0) {
+            return row + 1;
+        } else if (column <= inputs) {
+            final double value = sheet.getInput(row, column - 1);
+            return Double.isNaN(value) ? null : value;
+        }
+        final StudyResult result = request(row);
+        if (result == null) {
+            return null;
+        } else if (column == getColumnCount() - 1) {
+            return result.getMessage();
+        }
+        final double value = result.getValue(column - 1 - inputs);
+        return Double.isNaN(value) ? null : value;
+    }
+
+    @Override
+    public boolean isCellEditable(final int row, final int column) {
+        return getInput(column) >= 0;
+    }
+
+    @Override
+    public void setValueAt(final Object value, final int row,
+            final int column) {
+        final int input = getInput(column);
+        if (input < 0) {
+            return;
+        }
+        double number = Double.NaN;
+        if (value instanceof Number) {
+            number = ((Number) value).doubleValue();
+        } else if (value != null && !value.toString().trim().isEmpty()) {
+            try {
+                number = Double.parseDouble(value.toString().trim());
+            } catch (NumberFormatException ex) {
+                return;
+            }
+        }
+        sheet.setInput(row, input, number);
+        fireTableRowsUpdated(row, row);
+    }
+
+    // *************************************************************************
+    // INNER CLASSES
+    // *************************************************************************
+    /**
+     * Study queued for calculation, with a copy of its inputs.
+     */
+    private static final class Job {
+
+        private final int study;
+        private final int version;
+        private final double[] inputs;
+        private final boolean forced;
+
+        /**
+         * Initialize a new instance of a Job.
+         *
+         * @param study study index
+         * @param version version of the inputs
+         * @param inputs copy of the inputs
+         * @param forced true to calculate even if not visible
+         */
+        Job(final int study, final int version, final double[] inputs,
+                final boolean forced) {
+            this.study = study;
+            this.version = version;
+            this.inputs = inputs;
+            this.forced = forced;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package edu.missouristate.mote.simulation;
+
+/**
+ * Outcome of a coverage simulation: the tally and how long it took.
+ */
+public final class CoverageResult {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final CoverageScenario scenario;
+    private final CoverageTally tally;
+    private final long elapsedNanos;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a CoverageResult.
+     *
+     * @param scenario simulated scenario
+     * @param tally merged tally of all replications
+     * @param elapsedNanos running time
+     */
+    CoverageResult(final CoverageScenario scenario, final CoverageTally tally,
+            final long elapsedNanos) {
+        this.scenario = scenario;
+        this.tally = tally;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the simulated scenario.
+     *
+     * @return scenario
+     */
+    public CoverageScenario getScenario() {
+        return scenario;
+    }
+
+    /**
+     * Return the tally of all replications.
+     *
+     * @return tally
+     */
+    public CoverageTally getTally() {
+        return tally;
+    }
+
+    /**
+     * Return the running time in seconds.
+     *
+     * @return elapsed seconds
+     */
+    public double getElapsedSeconds() {
+        return elapsedNanos * 1.0E-9;
+    }
+
+    /**
+     * Return the number of replications per second.
+     *
+     * @return throughput
+     */
+    public double getThroughput() {
+        return tally.getReplications() / getElapsedSeconds();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("coverage %.4f (se %.4f, nominal %.4f), "
+                + "misses %d below / %d above, mean width %.4f (sd %.4f), "
+                + "%d undefined of %d in %.2f s (%.0f/s)",
+                tally.getCoverage(), tally.getCoverageStdErr(),
+                scenario.getConfidence(), tally.getMissedBelow(),
+                tally.getMissedAbove(), tally.getMeanWidth(),
+                tally.getWidthStdDev(), tally.getUndefined(),
+                tally.getReplications(), getElapsedSeconds(),
+                getThroughput());
+    }
+}
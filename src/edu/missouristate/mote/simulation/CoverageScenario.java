@@ -0,0 +1,65 @@
+package edu.missouristate.mote.simulation;
+
+import edu.missouristate.mote.statistics.SplitRandom;
+
+/**
+ * Design condition for a coverage simulation: a population, a sampling plan
+ * and the interval procedure applied to each synthetic study.
+ */
+public abstract class CoverageScenario {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final double confidence;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a CoverageScenario.
+     *
+     * @param confidence confidence level of the intervals
+     * @exception IllegalArgumentException if the confidence is not in the
+     * range (0, 1)
+     */
+    CoverageScenario(final double confidence) {
+        if (!(confidence > 0 && confidence < 1)) {
+            throw new IllegalArgumentException("confidence must be in (0, 1)");
+        }
+        this.confidence = confidence;
+    }
+
+    // *************************************************************************
+    // PACKAGE METHODS
+    // *************************************************************************
+    /**
+     * Simulate studies, adding each interval to the tally. Implementations
+     * may keep state between the studies of one call (such as the limits of
+     * the previous interval to warm-start the next) but not between calls.
+     *
+     * @param random random stream for these studies
+     * @param count number of studies
+     * @param tally tally receiving the intervals
+     */
+    abstract void replicate(SplitRandom random, int count, CoverageTally tally);
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the confidence level.
+     *
+     * @return confidence level
+     */
+    public double getConfidence() {
+        return confidence;
+    }
+
+    /**
+     * Return the population value the intervals estimate.
+     *
+     * @return parameter
+     */
+    public abstract double getParameter();
+}
@@ -0,0 +1,125 @@
+package edu.missouristate.mote.simulation;
+
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.WorkerPool;
+import edu.missouristate.mote.statistics.SplitRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monte Carlo check of the coverage of a confidence interval procedure.
+ * Replications are divided into blocks of Constants.SIMULATION_BLOCK, each
+ * with its own stream split from the seed in block order, and the blocks run
+ * in parallel on the shared worker pool. Block tallies are merged in block
+ * order, so a seed always reproduces the same result.
+ */
+public final class CoverageSimulation {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final CoverageScenario scenario;
+    private final long replications;
+    private final long seed;
+    private ProgressListener listener;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a CoverageSimulation.
+     *
+     * @param scenario scenario to simulate
+     * @param replications number of synthetic studies
+     * @param seed random seed
+     * @exception IllegalArgumentException if replications is not positive
+     */
+    public CoverageSimulation(final CoverageScenario scenario,
+            final long replications, final long seed) {
+        if (replications < 1) {
+            throw new IllegalArgumentException("replications < 1");
+        }
+        this.scenario = scenario;
+        this.replications = replications;
+        this.seed = seed;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the number of synthetic studies.
+     *
+     * @return number of replications
+     */
+    public long getReplications() {
+        return replications;
+    }
+
+    /**
+     * Return the scenario.
+     *
+     * @return scenario
+     */
+    public CoverageScenario getScenario() {
+        return scenario;
+    }
+
+    /**
+     * Return the random seed.
+     *
+     * @return seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Set the listener that receives progress reports, or null for none.
+     *
+     * @param listener progress listener
+     */
+    public void setProgressListener(final ProgressListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Run the simulation.
+     *
+     * @return coverage result
+     */
+    public CoverageResult run() {
+        final long start = System.nanoTime();
+        final AtomicLong completed = new AtomicLong();
+        final ProgressListener progress = listener;
+        final SplitRandom root = new SplitRandom(seed);
+        final List<Callable<CoverageTally>> tasks = new ArrayList<>();
+        for (long first = 0; first < replications;
+                first += Constants.SIMULATION_BLOCK) {
+            final int count = (int) Math.min(Constants.SIMULATION_BLOCK,
+                    replications - first);
+            final SplitRandom random = root.split();
+            tasks.add(new Callable<CoverageTally>() {
+                @Override
+                public CoverageTally call() {
+                    final CoverageTally tally = new CoverageTally();
+                    scenario.replicate(random, count, tally);
+                    final long done = completed.addAndGet(count);
+                    if (progress != null) {
+                        progress.progress(done, replications,
+                                System.nanoTime() - start);
+                    }
+                    return tally;
+                }
+            });
+        }
+        final CoverageTally result = new CoverageTally();
+        for (CoverageTally tally : WorkerPool.invokeAll(tasks)) {
+            result.merge(tally);
+        }
+        return new CoverageResult(scenario, result,
+                System.nanoTime() - start);
+    }
+}
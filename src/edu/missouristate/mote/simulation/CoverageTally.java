@@ -0,0 +1,173 @@
+package edu.missouristate.mote.simulation;
+
+/**
+ * Streaming tally of confidence interval coverage and width. Tallies hold
+ * only counts and running moments, so any number of replications can be
+ * added, and tallies kept by separate threads can be merged.
+ */
+public final class CoverageTally {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private long replications;
+    private long undefined;
+    private long covered;
+    private long missedBelow;
+    private long missedAbove;
+    private double meanWidth;
+    private double sumSquares;
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Add an interval to the tally.
+     *
+     * @param lower lower limit of the interval
+     * @param upper upper limit of the interval
+     * @param parameter population value the interval should contain
+     */
+    public void add(final double lower, final double upper,
+            final double parameter) {
+        replications++;
+        if (parameter < lower) {
+            missedBelow++;
+        } else if (parameter > upper) {
+            missedAbove++;
+        } else {
+            covered++;
+        }
+        // Welford's update of the width moments
+        final double width = upper - lower;
+        final double delta = width - meanWidth;
+        meanWidth += delta / getDefined();
+        sumSquares += delta * (width - meanWidth);
+    }
+
+    /**
+     * Add a replication whose interval could not be calculated.
+     */
+    public void addUndefined() {
+        replications++;
+        undefined++;
+    }
+
+    /**
+     * Add the contents of another tally to this one.
+     *
+     * @param other tally to merge
+     */
+    public void merge(final CoverageTally other) {
+        final long count = getDefined();
+        final long otherCount = other.getDefined();
+        replications += other.replications;
+        undefined += other.undefined;
+        covered += other.covered;
+        missedBelow += other.missedBelow;
+        missedAbove += other.missedAbove;
+        if (otherCount == 0) {
+            return;
+        }
+        // Chan et al.'s pairwise combination of the width moments
+        final double total = count + otherCount;
+        final double delta = other.meanWidth - meanWidth;
+        meanWidth += delta * otherCount / total;
+        sumSquares += other.sumSquares
+                + delta * delta * count * otherCount / total;
+    }
+
+    /**
+     * Return the number of replications.
+     *
+     * @return number of replications
+     */
+    public long getReplications() {
+        return replications;
+    }
+
+    /**
+     * Return the number of replications whose interval could not be
+     * calculated.
+     *
+     * @return number of undefined intervals
+     */
+    public long getUndefined() {
+        return undefined;
+    }
+
+    /**
+     * Return the number of replications with an interval.
+     *
+     * @return number of defined intervals
+     */
+    public long getDefined() {
+        return replications - undefined;
+    }
+
+    /**
+     * Return the number of intervals that contained the parameter.
+     *
+     * @return number of intervals covering the parameter
+     */
+    public long getCovered() {
+        return covered;
+    }
+
+    /**
+     * Return the number of intervals lying entirely above the parameter.
+     *
+     * @return number of misses below the lower limit
+     */
+    public long getMissedBelow() {
+        return missedBelow;
+    }
+
+    /**
+     * Return the number of intervals lying entirely below the parameter.
+     *
+     * @return number of misses above the upper limit
+     */
+    public long getMissedAbove() {
+        return missedAbove;
+    }
+
+    /**
+     * Return the proportion of defined intervals that contained the
+     * parameter.
+     *
+     * @return coverage
+     */
+    public double getCoverage() {
+        return (double) covered / getDefined();
+    }
+
+    /**
+     * Return the Monte Carlo standard error of the coverage.
+     *
+     * @return standard error of the coverage
+     */
+    public double getCoverageStdErr() {
+        final double coverage = getCoverage();
+        return Math.sqrt(coverage * (1 - coverage) / getDefined());
+    }
+
+    /**
+     * Return the mean width of the defined intervals.
+     *
+     * @return mean width
+     */
+    public double getMeanWidth() {
+        return getDefined() == 0 ? Double.NaN : meanWidth;
+    }
+
+    /**
+     * Return the standard deviation of the width of the defined intervals.
+     *
+     * @return standard deviation of the width
+     */
+    public double getWidthStdDev() {
+        final long count = getDefined();
+        return count < 2 ? Double.NaN : Math.sqrt(sumSquares / (count - 1));
+    }
+}
@@ -0,0 +1,100 @@
+package edu.missouristate.mote.simulation;
+
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.effectsizes.EffectSizes;
+import edu.missouristate.mote.effectsizes.NcInterval;
+import edu.missouristate.mote.effectsizes.TwoGroupSummary;
+import edu.missouristate.mote.statistics.SplitRandom;
+import edu.missouristate.mote.statistics.Variates;
+
+/**
+ * Two independent normal groups with unit variance whose means differ by d.
+ * Each study is drawn as its sufficient statistics (the mean difference and
+ * the pooled sum of squares) and its interval for d is the one
+ * EffectSizes.cohenDIndT gives the calculator.
+ */
+public final class IndependentTScenario extends CoverageScenario {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final double effect;
+    private final int size1;
+    private final int size2;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of an IndependentTScenario.
+     *
+     * @param effect population d
+     * @param size1 size of the first group
+     * @param size2 size of the second group
+     * @param confidence confidence level of the intervals
+     * @exception IllegalArgumentException if a group is smaller than
+     * Constants.MIN_SS or the confidence is not in the range (0, 1)
+     */
+    public IndependentTScenario(final double effect, final int size1,
+            final int size2, final double confidence) {
+        super(confidence);
+        if (size1 < Constants.MIN_SS || size2 < Constants.MIN_SS) {
+            throw new IllegalArgumentException("sample size too small");
+        }
+        this.effect = effect;
+        this.size1 = size1;
+        this.size2 = size2;
+    }
+
+    // *************************************************************************
+    // PACKAGE METHODS
+    // *************************************************************************
+    @Override
+    void replicate(final SplitRandom random, final int count,
+            final CoverageTally tally) {
+        final double df = size1 + size2 - 2.0;
+        final double stdErr = Math.sqrt(1.0 / size1 + 1.0 / size2);
+        for (int rep = 0; rep < count; rep++) {
+            // Sufficient statistics: the mean difference and pooled SS
+            final double difference = effect
+                    + Variates.normal(random) * stdErr;
+            final double stdDevPooled = Math.sqrt(
+                    Variates.chiSquare(random, df) / df);
+            try {
+                final NcInterval interval = EffectSizes.cohenDIndT(
+                        new TwoGroupSummary(difference, 0, stdDevPooled,
+                                stdDevPooled, size1, size2), getConfidence());
+                tally.add(interval.getLowerMeasure(),
+                        interval.getUpperMeasure(), effect);
+            } catch (ArithmeticException | IllegalArgumentException ex) {
+                tally.addUndefined();
+            }
+        }
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    @Override
+    public double getParameter() {
+        return effect;
+    }
+
+    /**
+     * Return the size of the first group.
+     *
+     * @return size of the first group
+     */
+    public int getSize1() {
+        return size1;
+    }
+
+    /**
+     * Return the size of the second group.
+     *
+     * @return size of the second group
+     */
+    public int getSize2() {
+        return size2;
+    }
+}
@@ -0,0 +1,109 @@
+package edu.missouristate.mote.simulation;
+
+import edu.missouristate.mote.effectsizes.EffectSizes;
+import edu.missouristate.mote.effectsizes.NormalInterval;
+import edu.missouristate.mote.effectsizes.TwoByTwoTable;
+import edu.missouristate.mote.statistics.SplitRandom;
+
+/**
+ * Two binomial rows with fixed totals. The interval for the odds ratio of
+ * each study is the normal-theory interval on the log scale that
+ * EffectSizes.oddsRatio gives the calculator. Tables with an empty cell have
+ * no interval.
+ */
+public final class OddsRatioScenario extends CoverageScenario {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final double prob1;
+    private final double prob2;
+    private final int size1;
+    private final int size2;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of an OddsRatioScenario.
+     *
+     * @param prob1 probability of the event in the first row
+     * @param prob2 probability of the event in the second row
+     * @param size1 total of the first row
+     * @param size2 total of the second row
+     * @param confidence confidence level of the intervals
+     * @exception IllegalArgumentException if a probability is not in the
+     * range (0, 1), a row total is not positive or the confidence is not in
+     * the range (0, 1)
+     */
+    public OddsRatioScenario(final double prob1, final double prob2,
+            final int size1, final int size2, final double confidence) {
+        super(confidence);
+        if (!(prob1 > 0 && prob1 < 1 && prob2 > 0 && prob2 < 1)) {
+            throw new IllegalArgumentException(
+                    "probabilities must be in (0, 1)");
+        }
+        if (size1 < 1 || size2 < 1) {
+            throw new IllegalArgumentException("row totals must be positive");
+        }
+        this.prob1 = prob1;
+        this.prob2 = prob2;
+        this.size1 = size1;
+        this.size2 = size2;
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return the number of events in a row.
+     *
+     * @param random random stream
+     * @param prob probability of the event
+     * @param size row total
+     * @return number of events
+     */
+    private static int events(final SplitRandom random, final double prob,
+            final int size) {
+        int result = 0;
+        for (int index = 0; index < size; index++) {
+            if (random.nextDouble() < prob) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    // *************************************************************************
+    // PACKAGE METHODS
+    // *************************************************************************
+    @Override
+    void replicate(final SplitRandom random, final int count,
+            final CoverageTally tally) {
+        final double parameter = getParameter();
+        for (int rep = 0; rep < count; rep++) {
+            final double value11 = events(random, prob1, size1);
+            final double value12 = size1 - value11;
+            final double value21 = events(random, prob2, size2);
+            final double value22 = size2 - value21;
+            if (value11 == 0 || value12 == 0 || value21 == 0
+                    || value22 == 0) {
+                tally.addUndefined();
+                continue;
+            }
+            final NormalInterval interval = EffectSizes.oddsRatio(
+                    new TwoByTwoTable(value11, value12, value21, value22),
+                    getConfidence());
+            tally.add(interval.getLowerMeasure(), interval.getUpperMeasure(),
+                    parameter);
+        }
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    @Override
+    public double getParameter() {
+        return (prob1 / (1 - prob1)) / (prob2 / (1 - prob2));
+    }
+}
@@ -0,0 +1,122 @@
+package edu.missouristate.mote.simulation;
+
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.effectsizes.AnovaSummary;
+import edu.missouristate.mote.effectsizes.EffectSizes;
+import edu.missouristate.mote.effectsizes.NcInterval;
+import edu.missouristate.mote.statistics.SplitRandom;
+import edu.missouristate.mote.statistics.Variates;
+
+/**
+ * Equal-sized normal groups with unit variance and fixed group means. Each
+ * study is drawn as its sufficient statistics (the group means and the
+ * within-group sum of squares) and its interval for eta squared is the one
+ * EffectSizes.eta2FOmni gives the calculator.
+ */
+public final class OneWayFScenario extends CoverageScenario {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final double[] means;
+    private final int size;
+    private final double nonCentrality;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a OneWayFScenario.
+     *
+     * @param means population mean of each group
+     * @param size size of each group
+     * @param confidence confidence level of the intervals
+     * @exception IllegalArgumentException if there are fewer than two groups,
+     * a group is smaller than Constants.MIN_SS or the confidence is not in
+     * the range (0, 1)
+     */
+    public OneWayFScenario(final double[] means, final int size,
+            final double confidence) {
+        super(confidence);
+        if (means.length < 2) {
+            throw new IllegalArgumentException("groups < 2");
+        }
+        if (size < Constants.MIN_SS) {
+            throw new IllegalArgumentException("sample size too small");
+        }
+        this.means = means.clone();
+        this.size = size;
+        double grandMean = 0;
+        for (double mean : means) {
+            grandMean += mean / means.length;
+        }
+        double lambda = 0;
+        for (double mean : means) {
+            lambda += size * (mean - grandMean) * (mean - grandMean);
+        }
+        nonCentrality = lambda;
+    }
+
+    // *************************************************************************
+    // PACKAGE METHODS
+    // *************************************************************************
+    @Override
+    void replicate(final SplitRandom random, final int count,
+            final CoverageTally tally) {
+        final int groups = means.length;
+        final double dfEffect = groups - 1;
+        final double dfError = (double) groups * size - groups;
+        final double stdErr = 1 / Math.sqrt(size);
+        final double[] sampleMeans = new double[groups];
+        for (int rep = 0; rep < count; rep++) {
+            // Sufficient statistics: the group means and within-group SS
+            double grandMean = 0;
+            for (int group = 0; group < groups; group++) {
+                sampleMeans[group] = means[group]
+                        + Variates.normal(random) * stdErr;
+                grandMean += sampleMeans[group] / groups;
+            }
+            final double ssWithin = Variates.chiSquare(random, dfError);
+            double ssEffect = 0;
+            for (double sampleMean : sampleMeans) {
+                ssEffect += size * (sampleMean - grandMean)
+                        * (sampleMean - grandMean);
+            }
+            try {
+                final NcInterval interval = EffectSizes.eta2FOmni(
+                        new AnovaSummary(ssEffect, ssEffect + ssWithin,
+                                dfEffect, dfError), getConfidence());
+                tally.add(interval.getLowerMeasure(),
+                        interval.getUpperMeasure(), getParameter());
+            } catch (ArithmeticException | IllegalArgumentException ex) {
+                tally.addUndefined();
+            }
+        }
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    @Override
+    public double getParameter() {
+        return nonCentrality / (nonCentrality + means.length * size);
+    }
+
+    /**
+     * Return the population non-centrality parameter of the F test.
+     *
+     * @return non-centrality parameter
+     */
+    public double getNonCentrality() {
+        return nonCentrality;
+    }
+
+    /**
+     * Return the size of each group.
+     *
+     * @return size of each group
+     */
+    public int getSize() {
+        return size;
+    }
+}
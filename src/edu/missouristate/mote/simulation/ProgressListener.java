@@ -0,0 +1,17 @@
+package edu.missouristate.mote.simulation;
+
+/**
+ * Interface for receiving progress reports from a running simulation.
+ */
+public interface ProgressListener {
+
+    /**
+     * Report progress. Called from worker threads after each block of
+     * replications; implementations must be thread-safe.
+     *
+     * @param completed number of replications completed
+     * @param total total number of replications
+     * @param elapsedNanos time since the simulation started
+     */
+    void progress(long completed, long total, long elapsedNanos);
+}
@@ -1,10 +1,21 @@
 package edu.missouristate.mote.statistics;
 
+import edu.missouristate.mote.Constants;
+import java.util.Arrays;
+
 /**
- * Binomial coefficient.
+ * Binomial coefficient. Logarithms of binomial coefficients of whole numbers
+ * come from a cached table of log factorials that grows on demand up to
+ * Constants.LOG_FACTORIAL_CACHE entries.
  */
 public final class Binomial {
 
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    // Cached log(n!) for n = 0 ... length - 1
+    private static volatile double[] logFactorials = {0, 0};
+
     // *************************************************************************
     // CONSTRUCTORS
     // *************************************************************************
@@ -14,9 +25,65 @@ public final class Binomial {
     private Binomial() {
     }
 
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Extend the cached log factorials to include n.
+     *
+     * @param nValue largest n required
+     * @return cached log factorials
+     */
+    private static synchronized double[] growLogFactorials(final int nValue) {
+        double[] table = logFactorials;
+        if (nValue < table.length) {
+            return table;
+        }
+        final int size = (int) Math.min(Constants.LOG_FACTORIAL_CACHE,
+                Math.max(nValue + 1L, 2L * table.length));
+        final double[] result = Arrays.copyOf(table, size);
+        for (int index = table.length; index < size; index++) {
+            result[index] = result[index - 1] + Math.log(index);
+        }
+        logFactorials = result;
+        return result;
+    }
+
     // *************************************************************************
     // PUBLIC METHODS
     // *************************************************************************
+    /**
+     * Return the logarithm of n factorial.
+     *
+     * @param nValue n; must not be negative
+     * @return log(n!)
+     */
+    public static double logFactorial(final int nValue) {
+        double[] table = logFactorials;
+        if (nValue >= table.length) {
+            if (nValue >= Constants.LOG_FACTORIAL_CACHE) {
+                return Gamma.evalLog(nValue + 1.0);
+            }
+            table = growLogFactorials(nValue);
+        }
+        return table[nValue];
+    }
+
+    /**
+     * Return the logarithm of the binomial coefficient of whole numbers.
+     *
+     * @param nValue n; must not be negative
+     * @param kValue k
+     * @return log(n choose k); negative infinity if k is outside [0, n]
+     */
+    public static double evalLog(final int nValue, final int kValue) {
+        if (kValue < 0 || kValue > nValue) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        return logFactorial(nValue) - logFactorial(kValue)
+                - logFactorial(nValue - kValue);
+    }
+
     /**
      * Return the binomial coefficient.
      *
@@ -0,0 +1,203 @@
+package edu.missouristate.mote.statistics;
+
+/**
+ * The non-central chi-square distribution. The distribution is a Poisson
+ * (nc / 2) mixture of central chi-square distributions with df + 2j degrees
+ * of freedom; as in FDist.cdf, the mixture is summed outward from its
+ * central Poisson term, with one incomplete Gamma evaluation at the center
+ * and recurrences for every other term. Past NORMAL_NC the number of terms
+ * grows with sqrt(nc) and Sankaran's normal approximation, whose error falls
+ * as the non-centrality grows, is used instead.
+ */
+public final class ChiSquareDist {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Relative size of the neglected tail at which a series stops
+    private static final double EPSILON = 1.0e-15;
+    // Non-centrality above which the normal approximation is used
+    private static final double NORMAL_NC = 1.0e5;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a ChiSquareDist.
+     */
+    private ChiSquareDist() {
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return the probability density of the central chi-square distribution.
+     *
+     * @param xValue chi-square value; must be positive
+     * @param df degrees of freedom
+     * @return density
+     */
+    private static double centralPdf(final double xValue, final double df) {
+        final double half = df * 0.5;
+        final double yValue = xValue * 0.5;
+        return 0.5 * Math.exp((half - 1) * Math.log(yValue) - yValue
+                - Gamma.evalLog(half));
+    }
+
+    /**
+     * Return the standard normal deviate of Sankaran's approximation and its
+     * derivative with respect to x.
+     *
+     * @param xValue chi-square value; must be positive
+     * @param df degrees of freedom
+     * @param nc non-centrality parameter
+     * @return z and dz/dx
+     */
+    private static double[] sankaran(final double xValue, final double df,
+            final double nc) {
+        final double mean = df + nc;
+        final double spread = df + 2 * nc;
+        final double hValue = 1 - 2.0 / 3.0 * mean * (df + 3 * nc)
+                / (spread * spread);
+        final double pValue = spread / (mean * mean);
+        final double mValue = (hValue - 1) * (1 - 3 * hValue);
+        final double scale = Math.sqrt(2 * pValue)
+                * (1 + 0.5 * mValue * pValue);
+        final double ratio = xValue / mean;
+        final double zValue = (Math.pow(ratio, hValue) - 1 - hValue * pValue
+                * (hValue - 1 - 0.5 * (2 - hValue) * mValue * pValue))
+                / (hValue * scale);
+        return new double[]{zValue,
+            Math.pow(ratio, hValue - 1) / (mean * scale)};
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Calculate the cumulative non-central chi-square distribution.
+     *
+     * @param xValue the upper limit of integration
+     * @param df degrees of freedom
+     * @param nc the non-centrality parameter
+     * @return the non-central chi-square CDF
+     */
+    public static double cdf(final double xValue, final double df,
+            final double nc) {
+        if (xValue <= 0) {
+            return 0;
+        }
+        if (nc <= 0) {
+            return GammaInc.eval(df * 0.5, xValue * 0.5);
+        }
+        if (nc > NORMAL_NC) {
+            return NormalDist.cdf(sankaran(xValue, df, nc)[0]);
+        }
+        // Central Poisson term and its incomplete Gamma value
+        final double mu = nc * 0.5;
+        final double yValue = xValue * 0.5;
+        final int icent = (int) mu;
+        final double aCent = df * 0.5 + icent;
+        final double centwt = Math.exp(-mu + icent * Math.log(mu)
+                - Gamma.evalLog(icent + 1.0));
+        final double pCent = GammaInc.eval(aCent, yValue);
+        // d(a) = y^a e^-y / Gamma(a + 1) = P(a, y) - P(a + 1, y)
+        final double dCent = Math.exp(aCent * Math.log(yValue) - yValue
+                - Gamma.evalLog(aCent + 1));
+        double sum = centwt * pCent;
+        // Sum backward; P grows toward one, so the rest of the Poisson mass
+        // bounds what is left
+        double weight = centwt;
+        double prob = pCent;
+        double dValue = dCent;
+        double aValue = aCent;
+        for (int index = icent; index > 0; index--) {
+            weight *= index / mu;
+            dValue *= aValue / yValue;
+            aValue -= 1;
+            prob = Math.min(1, prob + dValue);
+            sum += weight * prob;
+            final double ratio = (index - 1) / mu;
+            if (weight * ratio / (1 - ratio) <= EPSILON * sum) {
+                break;
+            }
+        }
+        // Sum forward; P falls, so its current value bounds what is left
+        weight = centwt;
+        prob = pCent;
+        dValue = dCent;
+        aValue = aCent;
+        for (int index = icent + 1; prob > 0 && weight > 0; index++) {
+            weight *= mu / index;
+            prob = Math.max(0, prob - dValue);
+            aValue += 1;
+            dValue *= yValue / aValue;
+            sum += weight * prob;
+            final double ratio = mu / (index + 1);
+            if (ratio < 1
+                    && weight * prob * ratio / (1 - ratio) <= EPSILON * sum) {
+                break;
+            }
+        }
+        return Math.min(1, sum);
+    }
+
+    /**
+     * Calculate the probability density of the non-central chi-square
+     * distribution. The terms of the mixture are log-concave in j, so the
+     * sum stops once the terms fall and the geometric bound on the rest is
+     * negligible.
+     *
+     * @param xValue chi-square value
+     * @param df degrees of freedom
+     * @param nc the non-centrality parameter
+     * @return the non-central chi-square PDF
+     */
+    public static double pdf(final double xValue, final double df,
+            final double nc) {
+        if (xValue <= 0) {
+            return 0;
+        }
+        if (nc <= 0) {
+            return centralPdf(xValue, df);
+        }
+        if (nc > NORMAL_NC) {
+            final double[] zValue = sankaran(xValue, df, nc);
+            return NormalDist.pdf(zValue[0]) * zValue[1];
+        }
+        final double mu = nc * 0.5;
+        final double yValue = xValue * 0.5;
+        final int icent = (int) mu;
+        final double aCent = df * 0.5 + icent;
+        final double termCent = Math.exp(-mu + icent * Math.log(mu)
+                - Gamma.evalLog(icent + 1.0)) * centralPdf(xValue, df + 2.0
+                * icent);
+        double sum = termCent;
+        // Sum backward
+        double term = termCent;
+        double aValue = aCent;
+        for (int index = icent; index > 0 && term > 0; index--) {
+            aValue -= 1;
+            final double ratio = index / mu * aValue / yValue;
+            term *= ratio;
+            sum += term;
+            if (ratio < 1 && term * ratio / (1 - ratio) <= EPSILON * sum) {
+                break;
+            }
+        }
+        // Sum forward
+        term = termCent;
+        aValue = aCent;
+        for (int index = icent + 1; term > 0; index++) {
+            final double ratio = mu / index * yValue / aValue;
+            aValue += 1;
+            term *= ratio;
+            sum += term;
+            if (ratio < 1 && term * ratio / (1 - ratio) <= EPSILON * sum) {
+                break;
+            }
+        }
+        return sum;
+    }
+}
@@ -6,6 +6,8 @@ package edu.missouristate.mote.statistics;
 public final class FDist {
 
     private static final double EPSILON = 1.0e-4;
+    // Relative width of the bracket at which a quantile search stops
+    private static final double QUANTILE_ERROR = 1.0e-12;
 
     // *************************************************************************
     // CONSTRUCTORS
@@ -166,5 +168,39 @@ public final class FDist {
         Px *= Laguerre.eval(n2/2, n1/2-1, -nc*n1*x/(2.0*(n2+n1*x)));
         Px /= Beta.eval(n1/2,n2/2);
         return Px;
-    }    
-}
\ No newline at end of file
+    }
+
+    /**
+     * Calculate the quantile (inverse cumulative density) of the central F
+     * distribution by bisection on the central CDF.
+     *
+     * @param prob cumulative probability in the range (0, 1)
+     * @param dfNumer number of degrees of freedom for the numerator
+     * @param dfDenom number of degrees of freedom for the denominator
+     * @return F value whose cumulative probability is prob
+     */
+    public static double quantile(final double prob, final double dfNumer,
+            final double dfDenom) {
+        if (dfNumer <= 0 || dfDenom <= 0 || !(prob > 0 && prob < 1)) {
+            return Double.NaN;
+        }
+        // Bracket the quantile
+        double lower = 0;
+        double upper = 1;
+        while (cdf(upper, dfNumer, dfDenom) < prob) {
+            lower = upper;
+            upper *= 2;
+        }
+        // Bisect until the bracket is negligible
+        double result = (lower + upper) * 0.5;
+        while (upper - lower > QUANTILE_ERROR * Math.max(1, result)) {
+            if (cdf(result, dfNumer, dfDenom) < prob) {
+                lower = result;
+            } else {
+                upper = result;
+            }
+            result = (lower + upper) * 0.5;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,149 @@
+package edu.missouristate.mote.statistics;
+
+/**
+ * Regularized incomplete Gamma function.
+ */
+public final class GammaInc {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Relative size of the last term at which a series or fraction stops
+    private static final double EPSILON = 1.0e-16;
+    // Maximum number of terms of a series or continued fraction
+    private static final int MAX_ITER = 100000;
+    // Smallest magnitude allowed in the modified Lentz continued fraction
+    private static final double TINY = 1.0e-300;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a GammaInc.
+     */
+    private GammaInc() {
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return x^a * e^-x / Gamma(a), the common factor of the series and the
+     * continued fraction.
+     *
+     * @param aValue shape
+     * @param xValue upper range for integration
+     * @return prefix
+     */
+    private static double prefix(final double aValue, final double xValue) {
+        return Math.exp(aValue * Math.log(xValue) - xValue
+                - Gamma.evalLog(aValue));
+    }
+
+    /**
+     * Power series for P(a, x); converges quickly for x &lt; a + 1.
+     *
+     * @param aValue shape
+     * @param xValue upper range for integration
+     * @return lower regularized incomplete Gamma function
+     */
+    private static double series(final double aValue, final double xValue) {
+        double denom = aValue;
+        double term = 1 / aValue;
+        double sum = term;
+        for (int count = 0; count < MAX_ITER; count++) {
+            denom += 1;
+            term *= xValue / denom;
+            sum += term;
+            if (term < sum * EPSILON) {
+                break;
+            }
+        }
+        return sum * prefix(aValue, xValue);
+    }
+
+    /**
+     * Continued fraction for Q(a, x) by the modified Lentz method; converges
+     * quickly for x &gt;= a + 1.
+     *
+     * @param aValue shape
+     * @param xValue upper range for integration
+     * @return upper regularized incomplete Gamma function
+     */
+    private static double fraction(final double aValue, final double xValue) {
+        double bValue = xValue + 1 - aValue;
+        double cValue = 1 / TINY;
+        double dValue = 1 / bValue;
+        double result = dValue;
+        for (int count = 1; count < MAX_ITER; count++) {
+            final double an = -count * (count - aValue);
+            bValue += 2;
+            dValue = an * dValue + bValue;
+            if (Math.abs(dValue) < TINY) {
+                dValue = TINY;
+            }
+            cValue = bValue + an / cValue;
+            if (Math.abs(cValue) < TINY) {
+                cValue = TINY;
+            }
+            dValue = 1 / dValue;
+            final double delta = dValue * cValue;
+            result *= delta;
+            if (Math.abs(delta - 1) < EPSILON) {
+                break;
+            }
+        }
+        return result * prefix(aValue, xValue);
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the lower regularized incomplete Gamma function P(a, x).
+     *
+     * @param aValue shape; must be positive
+     * @param xValue upper range for integration
+     * @return P(a, x); NaN if a is not positive
+     */
+    public static double eval(final double aValue, final double xValue) {
+        if (!(aValue > 0)) {
+            return Double.NaN;
+        }
+        if (xValue <= 0) {
+            return 0;
+        }
+        if (Double.isInfinite(xValue)) {
+            return 1;
+        }
+        if (xValue < aValue + 1) {
+            return Math.min(1, series(aValue, xValue));
+        }
+        return Math.max(0, 1 - fraction(aValue, xValue));
+    }
+
+    /**
+     * Return the upper regularized incomplete Gamma function Q(a, x) =
+     * 1 - P(a, x), without the cancellation of the subtraction in its tail.
+     *
+     * @param aValue shape; must be positive
+     * @param xValue lower range for integration
+     * @return Q(a, x); NaN if a is not positive
+     */
+    public static double evalComplement(final double aValue,
+            final double xValue) {
+        if (!(aValue > 0)) {
+            return Double.NaN;
+        }
+        if (xValue <= 0) {
+            return 1;
+        }
+        if (Double.isInfinite(xValue)) {
+            return 0;
+        }
+        if (xValue < aValue + 1) {
+            return Math.max(0, 1 - series(aValue, xValue));
+        }
+        return Math.min(1, fraction(aValue, xValue));
+    }
+}
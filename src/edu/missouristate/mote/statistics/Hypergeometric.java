@@ -1,10 +1,20 @@
 package edu.missouristate.mote.statistics;
 
 /**
- * Confluent Hypergeometric function.
+ * Confluent and Gauss Hypergeometric functions.
  */
 public final class Hypergeometric {
 
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Relative size of the last term at which the 2F1 series stops
+    private static final double EPSILON_2F1 = 1.0e-16;
+    // Maximum number of terms of the 2F1 series
+    private static final int MAX_TERMS_2F1 = 10000000;
+    // Size at which the running sum of the log 2F1 series is scaled down
+    private static final double RESCALE_2F1 = 1.0e200;
+
     // *************************************************************************
     // CONSTRUCTORS
     // *************************************************************************
@@ -217,9 +227,115 @@ public final class Hypergeometric {
         return result;
     }
 
+    /**
+     * Sum the power series of the Gauss hypergeometric function 2F1 for
+     * |z| &lt; 1. Each term comes from the previous one, so nothing is
+     * allocated; the series stops when it terminates or when the geometric
+     * bound on the rest is negligible.
+     *
+     * @param aValue A value
+     * @param bValue B value
+     * @param cValue C value
+     * @param zValue Z value
+     * @return 2F1 evaluated at (a, b; c; z)
+     */
+    private static double getPowerSeries2F1(final double aValue,
+            final double bValue, final double cValue, final double zValue) {
+        double term = 1;
+        double sum = 1;
+        for (int n = 0; n < MAX_TERMS_2F1; n++) {
+            final double ratio = (aValue + n) * (bValue + n)
+                    / ((cValue + n) * (n + 1)) * zValue;
+            term *= ratio;
+            sum += term;
+            // The ratios tend to z, so the larger bounds the rest
+            final double size = Math.max(Math.abs(ratio), Math.abs(zValue));
+            if (term == 0 || size < 1 && Math.abs(term) * size / (1 - size)
+                    <= EPSILON_2F1 * Math.abs(sum)) {
+                break;
+            }
+        }
+        return sum;
+    }
+
     // *************************************************************************
     // PUBLIC METHODS
     // *************************************************************************
+    /**
+     * Calculate the Gauss hypergeometric function 2F1 for z &lt;= 1. Negative
+     * z is mapped into [0, 1) by the Pfaff transformation 2F1(a, b; c; z) =
+     * (1 - z)^-a 2F1(a, c - b; c; z / (z - 1)), and z = 1 uses Gauss's
+     * theorem.
+     *
+     * @param aValue A value
+     * @param bValue B value
+     * @param cValue C value
+     * @param zValue z value
+     * @return 2F1 evaluated at (a, b; c; z); NaN for z &gt; 1
+     */
+    public static double eval2f1(final double aValue, final double bValue,
+            final double cValue, final double zValue) {
+        if (zValue < 0) {
+            return Math.pow(1 - zValue, -aValue) * getPowerSeries2F1(aValue,
+                    cValue - bValue, cValue, zValue / (zValue - 1));
+        }
+        if (zValue < 1) {
+            return getPowerSeries2F1(aValue, bValue, cValue, zValue);
+        }
+        if (zValue == 1) {
+            final double excess = cValue - aValue - bValue;
+            if (excess <= 0) {
+                return Double.POSITIVE_INFINITY;
+            }
+            return Math.exp(Gamma.evalLog(cValue) + Gamma.evalLog(excess)
+                    - Gamma.evalLog(cValue - aValue)
+                    - Gamma.evalLog(cValue - bValue));
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Calculate the logarithm of the Gauss hypergeometric function 2F1 for
+     * positive a, b and c and 0 &lt;= z &lt; 1, where every term of the series
+     * is positive and the function itself may be far beyond the range of a
+     * double (as in the density of the squared multiple correlation). The
+     * running sum is scaled down whenever it grows past RESCALE_2F1, so the
+     * series is still summed without allocating.
+     *
+     * @param aValue A value
+     * @param bValue B value
+     * @param cValue C value
+     * @param zValue z value
+     * @return log(2F1(a, b; c; z)); NaN outside the domain
+     */
+    public static double evalLog2f1(final double aValue, final double bValue,
+            final double cValue, final double zValue) {
+        if (!(aValue > 0 && bValue > 0 && cValue > 0 && zValue >= 0
+                && zValue < 1)) {
+            return Double.NaN;
+        }
+        double term = 1;
+        double sum = 1;
+        double logScale = 0;
+        for (int n = 0; n < MAX_TERMS_2F1; n++) {
+            final double ratio = (aValue + n) * (bValue + n)
+                    / ((cValue + n) * (n + 1)) * zValue;
+            term *= ratio;
+            sum += term;
+            if (sum > RESCALE_2F1) {
+                sum /= RESCALE_2F1;
+                term /= RESCALE_2F1;
+                logScale += Math.log(RESCALE_2F1);
+            }
+            final double size = Math.max(ratio, zValue);
+            if (term == 0 || size < 1
+                    && term * size / (1 - size) <= EPSILON_2F1 * sum) {
+                break;
+            }
+        }
+        return logScale + Math.log(sum);
+    }
+
     /**
      * Calculate the confluent hypergeometric function 1F1.
      *
@@ -0,0 +1,168 @@
+package edu.missouristate.mote.statistics;
+
+/**
+ * The non-central t cumulative density for a fixed t value and degrees of
+ * freedom, as a function of the non-centrality parameter only. In the series
+ * used by TDist.cdf the incomplete beta terms depend only on t and df; this
+ * kernel calculates them once (growing the table as deeper terms are needed)
+ * so that each additional non-centrality costs only the Poisson weights.
+ * Results match TDist.cdf. Instances are not thread-safe.
+ */
+public final class NctKernel {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Sqrt(2/pi)
+    private static final double R2PI = 0.79788456080286535588;
+    // Log(Sqrt(pi))
+    private static final double ALNRPI = 0.57236494292470008707;
+    // Maximum allowable error
+    private static final double MAX_ERROR = 1.0E-10;
+    // Maximum number of iterations
+    private static final int MAX_ITER = 1000;
+    // Initial number of series terms to allocate
+    private static final int INITIAL_TERMS = 32;
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final double tValue;
+    private final double df;
+    private final double x;
+    private final double b;
+    // Series terms; index 0 holds the initial values
+    private double[] xodd;
+    private double[] xeven;
+    private double[] godd;
+    private double[] geven;
+    // Number of terms calculated so far
+    private int terms;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a NctKernel.
+     *
+     * @param tValue Point whose cumulative probability is desired
+     * @param df Number of degrees of freedom
+     */
+    public NctKernel(final double tValue, final double df) {
+        this.tValue = tValue;
+        this.df = df;
+        x = tValue * tValue / (tValue * tValue + df);
+        b = 0.5 * df;
+        if (df <= 0.0) {
+            return;
+        }
+        xodd = new double[INITIAL_TERMS];
+        xeven = new double[INITIAL_TERMS];
+        godd = new double[INITIAL_TERMS];
+        geven = new double[INITIAL_TERMS];
+        final double a = 0.5;
+        final double rxb = Math.pow(1.0 - x, b);
+        final double albeta = ALNRPI + Gamma.evalLog(b)
+                - Gamma.evalLog(a + b);
+        xodd[0] = BetaInc.eval(a, b, x);
+        godd[0] = 2.0 * rxb * Math.exp(a * Math.log(x) - albeta);
+        xeven[0] = 1.0 - rxb;
+        geven[0] = b * x * rxb;
+        terms = 1;
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Make sure the first count series terms have been calculated.
+     *
+     * @param count number of terms required
+     */
+    private void ensureTerms(final int count) {
+        if (count <= terms) {
+            return;
+        }
+        if (count > xodd.length) {
+            final int length = Math.max(count, xodd.length * 2);
+            xodd = java.util.Arrays.copyOf(xodd, length);
+            xeven = java.util.Arrays.copyOf(xeven, length);
+            godd = java.util.Arrays.copyOf(godd, length);
+            geven = java.util.Arrays.copyOf(geven, length);
+        }
+        double a = 0.5 + (terms - 1);
+        for (int index = terms; index < count; index++) {
+            a = a + 1.0;
+            xodd[index] = xodd[index - 1] - godd[index - 1];
+            xeven[index] = xeven[index - 1] - geven[index - 1];
+            godd[index] = godd[index - 1] * x * (a + b - 1.0) / a;
+            geven[index] = geven[index - 1] * x * (a + b - 0.5) / (a + 0.5);
+        }
+        terms = count;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the t value.
+     *
+     * @return t value
+     */
+    public double getTValue() {
+        return tValue;
+    }
+
+    /**
+     * Return the degrees of freedom.
+     *
+     * @return degrees of freedom
+     */
+    public double getDf() {
+        return df;
+    }
+
+    /**
+     * Calculate the cumulative density of the non-central t distribution.
+     *
+     * @param delta Non-centrality parameter
+     * @return Tail of the non-central T distribution
+     * @exception ArithmeticException if failed to converge
+     */
+    public double cdf(final double delta) {
+        if (df <= 0.0) {
+            return Double.NaN;
+        }
+        final double del = tValue < 0.0 ? -delta : delta;
+        final double lambda = del * del;
+        double p = 0.5 * Math.exp(-0.5 * lambda);
+        double q = R2PI * p * del;
+        double s = 0.5 - p;
+        double en = 1.0;
+        double value = p * xodd[0] + q * xeven[0];
+        // Repeat until convergence
+        double errbd = 1.0;
+        for (int iter = 1; iter <= MAX_ITER; iter++) {
+            if (iter >= terms) {
+                ensureTerms(Math.min(MAX_ITER + 1, terms * 2));
+            }
+            p = p * lambda / (2.0 * en);
+            q = q * lambda / (2.0 * en + 1.0);
+            s = s - p;
+            en = en + 1.0;
+            value = value + p * xodd[iter] + q * xeven[iter];
+            errbd = 2.0 * s * (xodd[iter] - godd[iter]);
+            if (errbd <= MAX_ERROR) {
+                break;
+            }
+        }
+        if (errbd > MAX_ERROR) {
+            throw new ArithmeticException("t value may be approximate");
+        }
+        value = value + (1 - NormalDist.cdf(del));
+        if (tValue < 0.0) {
+            value = 1.0 - value;
+        }
+        return value;
+    }
+}
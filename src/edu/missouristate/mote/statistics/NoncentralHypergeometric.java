@@ -0,0 +1,187 @@
+package edu.missouristate.mote.statistics;
+
+/**
+ * Fisher's non-central hypergeometric distribution: the distribution of the
+ * top-left cell of a 2 x 2 table given its margins, with odds ratio psi. The
+ * log weights log(C(m1, x) * C(m2, n - x)) of the support come once from the
+ * cached log-binomial coefficients; each evaluation finds the mode for the
+ * given log odds ratio by bisection on the (decreasing) differences of
+ * adjacent log weights and sums outward from it until the terms no longer
+ * matter, so no intermediate value can overflow and only the terms near the
+ * mode are computed.
+ *
+ * Instances are immutable and safe to share between threads.
+ */
+public final class NoncentralHypergeometric {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Terms smaller than this fraction of the mode are dropped
+    private static final double LOG_CUTOFF = Math.log(1e-18);
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final int lower;
+    private final int upper;
+    // Log weight of each support point relative to the first
+    private final double[] logWeights;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a NoncentralHypergeometric.
+     *
+     * @param size1 first row total, m1
+     * @param size2 second row total, m2
+     * @param column first column total, n
+     * @exception IllegalArgumentException if a total is negative or the
+     * column total exceeds the table total
+     */
+    public NoncentralHypergeometric(final int size1, final int size2,
+            final int column) {
+        if (size1 < 0 || size2 < 0 || column < 0
+                || column > (long) size1 + size2) {
+            throw new IllegalArgumentException("invalid margins");
+        }
+        lower = Math.max(0, column - size2);
+        upper = Math.min(size1, column);
+        logWeights = new double[upper - lower + 1];
+        final double base = Binomial.evalLog(size1, lower)
+                + Binomial.evalLog(size2, column - lower);
+        for (int index = 0; index < logWeights.length; index++) {
+            final int xValue = lower + index;
+            logWeights[index] = Binomial.evalLog(size1, xValue)
+                    + Binomial.evalLog(size2, column - xValue) - base;
+        }
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return the index of the mode for a log odds ratio.
+     *
+     * @param logOdds log odds ratio
+     * @return index into logWeights
+     */
+    private int findMode(final double logOdds) {
+        int low = 0;
+        int high = logWeights.length - 1;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (logWeights[middle + 1] - logWeights[middle] + logOdds > 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return the smallest value of the support.
+     *
+     * @return smallest possible count
+     */
+    public int getLower() {
+        return lower;
+    }
+
+    /**
+     * Return the largest value of the support.
+     *
+     * @return largest possible count
+     */
+    public int getUpper() {
+        return upper;
+    }
+
+    /**
+     * Return the lower tail, upper tail and mean at a count in one pass.
+     *
+     * @param xValue count
+     * @param logOdds log odds ratio
+     * @return P(X &lt;= x), P(X &gt;= x) and E[X]
+     */
+    public double[] evaluate(final int xValue, final double logOdds) {
+        final int mode = findMode(logOdds);
+        final int target = xValue - lower;
+        final double peak = logWeights[mode];
+        double total = 0;
+        double below = 0;
+        double above = 0;
+        double moment = 0;
+        for (int index = mode; index < logWeights.length; index++) {
+            final double exponent = logWeights[index] - peak
+                    + (index - mode) * logOdds;
+            if (exponent < LOG_CUTOFF) {
+                break;
+            }
+            final double term = Math.exp(exponent);
+            total += term;
+            moment += term * (index - mode);
+            if (index <= target) {
+                below += term;
+            }
+            if (index >= target) {
+                above += term;
+            }
+        }
+        for (int index = mode - 1; index >= 0; index--) {
+            final double exponent = logWeights[index] - peak
+                    + (index - mode) * logOdds;
+            if (exponent < LOG_CUTOFF) {
+                break;
+            }
+            final double term = Math.exp(exponent);
+            total += term;
+            moment += term * (index - mode);
+            if (index <= target) {
+                below += term;
+            }
+            if (index >= target) {
+                above += term;
+            }
+        }
+        return new double[]{below / total, above / total,
+            lower + mode + moment / total};
+    }
+
+    /**
+     * Return the cumulative probability P(X &lt;= x).
+     *
+     * @param xValue count
+     * @param logOdds log odds ratio
+     * @return cumulative probability
+     */
+    public double cdf(final int xValue, final double logOdds) {
+        return evaluate(xValue, logOdds)[0];
+    }
+
+    /**
+     * Return the upper tail probability P(X &gt;= x).
+     *
+     * @param xValue count
+     * @param logOdds log odds ratio
+     * @return upper tail probability
+     */
+    public double sf(final int xValue, final double logOdds) {
+        return evaluate(xValue, logOdds)[1];
+    }
+
+    /**
+     * Return the mean.
+     *
+     * @param logOdds log odds ratio
+     * @return mean count
+     */
+    public double mean(final double logOdds) {
+        return evaluate(lower, logOdds)[2];
+    }
+}
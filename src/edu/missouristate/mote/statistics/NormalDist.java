@@ -21,6 +21,36 @@ public final class NormalDist {
     private static final double Q_VALUE = 0.39990348504;
     private static final double R_VALUE = 0.398942280385;
     private static final double UT_ZERO = 18.66;
+    // Wichura's AS 241 coefficients for the central region |q| <= 0.425
+    private static final double[] CENTRAL_TOP = {3.387132872796366608,
+        133.14166789178437745, 1971.5909503065514427, 13731.693765509461125,
+        45921.953931549871457, 67265.770927008700853, 33430.575583588128105,
+        2509.0809287301226727};
+    private static final double[] CENTRAL_BOTTOM = {1.0,
+        42.313330701600911252, 687.1870074920579083, 5394.1960214247511077,
+        21213.794301586595867, 39307.89580009271061, 28729.085735721942674,
+        5226.495278852545925};
+    // Coefficients for the intermediate tail, r <= 5
+    private static final double[] NEAR_TOP = {1.42343711074968357734,
+        4.6303378461565452959, 5.7694972214606914055, 3.64784832476320460504,
+        1.27045825245236838258, 0.24178072517745061177,
+        0.0227238449892691845833, 7.7454501427834140764e-4};
+    private static final double[] NEAR_BOTTOM = {1.0,
+        2.05319162663775882187, 1.6763848301838038494,
+        0.68976733498510000455, 0.14810397642748007459,
+        0.0151986665636164571966, 5.475938084995344946e-4,
+        1.05075007164441684324e-9};
+    // Coefficients for the far tail, r > 5
+    private static final double[] FAR_TOP = {6.6579046435011037772,
+        5.4637849111641143699, 1.7848265399172913358,
+        0.29656057182850489123, 0.026532189526576123093,
+        0.0012426609473880784386, 2.71155556874348757815e-5,
+        2.01033439929228813265e-7};
+    private static final double[] FAR_BOTTOM = {1.0,
+        0.59983220655588793769, 0.13692988092273580531,
+        0.0148753612908506148525, 7.868691311456132591e-4,
+        1.8463183175100546818e-5, 1.4215117583164458887e-7,
+        2.04426310338993978564e-15};
 
     // *************************************************************************
     // CONSTRUCTORS
@@ -31,6 +61,28 @@ public final class NormalDist {
     private NormalDist() {
     }
 
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return the ratio of two polynomials in x.
+     *
+     * @param top numerator coefficients, lowest order first
+     * @param bottom denominator coefficients, lowest order first
+     * @param xValue x value
+     * @return ratio of the polynomials
+     */
+    private static double ratio(final double[] top, final double[] bottom,
+            final double xValue) {
+        double numerator = 0;
+        double denominator = 0;
+        for (int index = top.length - 1; index >= 0; index--) {
+            numerator = numerator * xValue + top[index];
+            denominator = denominator * xValue + bottom[index];
+        }
+        return numerator / denominator;
+    }
+
     // *************************************************************************
     // PUBLIC METHODS
     // *************************************************************************
@@ -97,4 +149,34 @@ public final class NormalDist {
         final double bottom = Math.sqrt(2 * Math.PI);
         return top / bottom;
     }
-}
\ No newline at end of file
+
+    /**
+     * Calculate the quantile (inverse cumulative density) of the standard
+     * normal distribution, using Wichura's algorithm AS 241.
+     *
+     * @param prob cumulative probability
+     * @return x value with the cumulative density prob; negative or positive
+     * infinity at 0 or 1
+     * @exception IllegalArgumentException if prob is not in the range [0, 1]
+     */
+    public static double quantile(final double prob) {
+        if (!(prob >= 0 && prob <= 1)) {
+            throw new IllegalArgumentException("prob not in [0, 1]");
+        }
+        final double qValue = prob - 0.5;
+        if (Math.abs(qValue) <= 0.425) {
+            final double rValue = 0.180625 - qValue * qValue;
+            return qValue * ratio(CENTRAL_TOP, CENTRAL_BOTTOM, rValue);
+        }
+        final double tail = qValue < 0 ? prob : 1 - prob;
+        if (tail == 0) {
+            return qValue < 0 ? Double.NEGATIVE_INFINITY
+                    : Double.POSITIVE_INFINITY;
+        }
+        final double rValue = Math.sqrt(-Math.log(tail));
+        final double result = rValue <= 5
+                ? ratio(NEAR_TOP, NEAR_BOTTOM, rValue - 1.6)
+                : ratio(FAR_TOP, FAR_BOTTOM, rValue - 5);
+        return qValue < 0 ? -result : result;
+    }
+}
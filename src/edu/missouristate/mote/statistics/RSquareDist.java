@@ -0,0 +1,168 @@
+package edu.missouristate.mote.statistics;
+
+/**
+ * The exact sampling distribution of the squared multiple correlation R^2 of
+ * k predictors and N cases drawn from a multivariate normal population with
+ * squared multiple correlation rho^2 (random regressors). With a = k / 2,
+ * b = (N - k - 1) / 2 and m = a + b, the density is
+ *
+ * (1 - rho^2)^m x^(a-1) (1 - x)^(b-1) / B(a, b) 2F1(m, m; a; rho^2 x),
+ *
+ * and integrating the 2F1 series term by term gives the CDF as a negative
+ * binomial (m, rho^2) mixture of Beta(a + j, b) distributions. The mixture is
+ * summed outward from the largest term of the 2F1 series, with one incomplete
+ * Beta evaluation there and recurrences for every other term, as in
+ * FDist.cdf.
+ */
+public final class RSquareDist {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Relative size of the neglected tail at which a series stops
+    private static final double EPSILON = 1.0e-15;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a RSquareDist.
+     */
+    private RSquareDist() {
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return the index of the largest term of the series 2F1(m, m; a; z),
+     * the positive root of (m + j)^2 z = (a + j)(j + 1).
+     *
+     * @param aValue a
+     * @param mValue m
+     * @param zValue rho^2 x
+     * @return index
+     */
+    private static int findPeak(final double aValue, final double mValue,
+            final double zValue) {
+        final double quad = 1 - zValue;
+        final double linear = 2 * mValue * zValue - aValue - 1;
+        final double constant = mValue * mValue * zValue - aValue;
+        final double root = (linear + Math.sqrt(linear * linear
+                + 4 * quad * constant)) / (2 * quad);
+        return root > 0 ? (int) Math.min(Integer.MAX_VALUE / 2, root) : 0;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Calculate the cumulative distribution of R^2.
+     *
+     * @param rSquared the upper limit of integration
+     * @param predictors number of predictors, k
+     * @param size sample size, N
+     * @param rhoSquared population squared multiple correlation
+     * @return P(R^2 &lt;= rSquared)
+     */
+    public static double cdf(final double rSquared, final double predictors,
+            final double size, final double rhoSquared) {
+        if (rSquared <= 0) {
+            return 0;
+        }
+        if (rSquared >= 1) {
+            return 1;
+        }
+        final double aValue = predictors * 0.5;
+        final double bValue = (size - predictors - 1) * 0.5;
+        if (rhoSquared <= 0) {
+            return BetaInc.eval(aValue, bValue, rSquared);
+        }
+        if (rhoSquared >= 1) {
+            return 0;
+        }
+        final double mValue = aValue + bValue;
+        final int peak = findPeak(aValue, mValue, rhoSquared * rSquared);
+        // Negative binomial weight and incomplete Beta at the peak
+        final double alphaCent = aValue + peak;
+        final double weightCent = Math.exp(Gamma.evalLog(mValue + peak)
+                - Gamma.evalLog(mValue) - Gamma.evalLog(peak + 1.0)
+                + peak * Math.log(rhoSquared)
+                + mValue * Math.log1p(-rhoSquared));
+        final double probCent = BetaInc.eval(alphaCent, bValue, rSquared);
+        final double termCent = weightCent * probCent;
+        // d(alpha) = I(alpha) - I(alpha + 1)
+        final double dCent = Math.exp(alphaCent * Math.log(rSquared)
+                + bValue * Math.log1p(-rSquared)
+                + Gamma.evalLog(alphaCent + bValue)
+                - Gamma.evalLog(alphaCent + 1) - Gamma.evalLog(bValue));
+        double sum = termCent;
+        // Sum backward; the weights and Beta values are tracked separately
+        double weight = weightCent;
+        double prob = probCent;
+        double dValue = dCent;
+        double alpha = alphaCent;
+        double term = termCent;
+        for (int index = peak; index > 0 && weight > 0; index--) {
+            weight *= index / ((mValue + index - 1) * rhoSquared);
+            dValue *= alpha / (rSquared * (alpha - 1 + bValue));
+            alpha -= 1;
+            prob = Math.min(1, prob + dValue);
+            final double next = weight * prob;
+            sum += next;
+            final double ratio = next / term;
+            term = next;
+            if (ratio < 1 && term * ratio / (1 - ratio) <= EPSILON * sum) {
+                break;
+            }
+        }
+        // Sum forward
+        weight = weightCent;
+        prob = probCent;
+        dValue = dCent;
+        alpha = alphaCent;
+        term = termCent;
+        for (int index = peak + 1; prob > 0 && weight > 0; index++) {
+            weight *= (mValue + index - 1) / index * rhoSquared;
+            prob = Math.max(0, prob - dValue);
+            dValue *= rSquared * (alpha + bValue) / (alpha + 1);
+            alpha += 1;
+            final double next = weight * prob;
+            sum += next;
+            final double ratio = next / term;
+            term = next;
+            if (ratio < 1 && term * ratio / (1 - ratio) <= EPSILON * sum) {
+                break;
+            }
+        }
+        return Math.min(1, sum);
+    }
+
+    /**
+     * Calculate the probability density of R^2 from the 2F1 series.
+     *
+     * @param rSquared R^2
+     * @param predictors number of predictors, k
+     * @param size sample size, N
+     * @param rhoSquared population squared multiple correlation
+     * @return density
+     */
+    public static double pdf(final double rSquared, final double predictors,
+            final double size, final double rhoSquared) {
+        if (rSquared <= 0 || rSquared >= 1 || rhoSquared >= 1) {
+            return 0;
+        }
+        final double aValue = predictors * 0.5;
+        final double bValue = (size - predictors - 1) * 0.5;
+        final double mValue = aValue + bValue;
+        double logDensity = (aValue - 1) * Math.log(rSquared)
+                + (bValue - 1) * Math.log1p(-rSquared)
+                - Beta.evalLog(aValue, bValue);
+        if (rhoSquared > 0) {
+            logDensity += mValue * Math.log1p(-rhoSquared)
+                    + Hypergeometric.evalLog2f1(mValue, mValue, aValue,
+                            rhoSquared * rSquared);
+        }
+        return Math.exp(logDensity);
+    }
+}
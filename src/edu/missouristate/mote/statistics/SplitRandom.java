@@ -0,0 +1,194 @@
+package edu.missouristate.mote.statistics;
+
+/**
+ * Splittable pseudo-random number generator using the SplitMix64 algorithm,
+ * producing the same sequences as java.util.SplittableRandom. Each call to
+ * split returns a statistically independent generator, so that parallel tasks
+ * can each draw from their own stream while the results depend only on the
+ * original seed. Instances are not thread-safe.
+ */
+public final class SplitRandom {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Odd approximation of 2^64 / golden ratio
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    // Scale of a 53 bit integer to a double in [0, 1)
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private long seed;
+    private final long gamma;
+    private double nextGaussian;
+    private boolean haveNextGaussian;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a SplitRandom.
+     *
+     * @param seed initial seed
+     */
+    public SplitRandom(final long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    /**
+     * Initialize a new instance of a SplitRandom.
+     *
+     * @param seed initial seed
+     * @param gamma odd seed increment
+     */
+    private SplitRandom(final long seed, final long gamma) {
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return the 64 bit mix of a value (variant 13 of Stafford's mixers).
+     *
+     * @param value value to mix
+     * @return mixed value
+     */
+    private static long mix64(final long value) {
+        long result = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        result = (result ^ (result >>> 27)) * 0x94d049bb133111ebL;
+        return result ^ (result >>> 31);
+    }
+
+    /**
+     * Return the 32 bit mix of a value.
+     *
+     * @param value value to mix
+     * @return mixed value
+     */
+    private static int mix32(final long value) {
+        final long result = (value ^ (value >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((result ^ (result >>> 28)) * 0xcb24d0a5c88c35b3L)
+                >>> 32);
+    }
+
+    /**
+     * Return an odd gamma with enough bit transitions to be well mixed.
+     *
+     * @param value value to mix
+     * @return gamma value
+     */
+    private static long mixGamma(final long value) {
+        long result = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        result = (result ^ (result >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        result = (result ^ (result >>> 33)) | 1L;
+        final int transitions = Long.bitCount(result ^ (result >>> 1));
+        return transitions < 24 ? result ^ 0xaaaaaaaaaaaaaaaaL : result;
+    }
+
+    /**
+     * Advance the seed.
+     *
+     * @return new seed
+     */
+    private long nextSeed() {
+        seed += gamma;
+        return seed;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return a new generator whose stream is independent of this one. This
+     * generator advances by two values.
+     *
+     * @return new generator
+     */
+    public SplitRandom split() {
+        return new SplitRandom(nextLong(), mixGamma(nextSeed()));
+    }
+
+    /**
+     * Return a uniformly distributed long value.
+     *
+     * @return pseudo-random long
+     */
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    /**
+     * Return a uniformly distributed int value.
+     *
+     * @return pseudo-random int
+     */
+    public int nextInt() {
+        return mix32(nextSeed());
+    }
+
+    /**
+     * Return a uniformly distributed int value between zero (inclusive) and
+     * bound (exclusive).
+     *
+     * @param bound upper bound; must be positive
+     * @return pseudo-random int in [0, bound)
+     * @exception IllegalArgumentException if bound is not positive
+     */
+    public int nextInt(final int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        int result = mix32(nextSeed());
+        final int mask = bound - 1;
+        if ((bound & mask) == 0) {
+            return result & mask;
+        }
+        // Reject the values that would bias the remainder
+        int value = result >>> 1;
+        result = value % bound;
+        while (value + mask - result < 0) {
+            value = mix32(nextSeed()) >>> 1;
+            result = value % bound;
+        }
+        return result;
+    }
+
+    /**
+     * Return a uniformly distributed double value between zero (inclusive)
+     * and one (exclusive).
+     *
+     * @return pseudo-random double in [0, 1)
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    /**
+     * Return a standard normal value using Marsaglia's polar method; the
+     * second value of each pair is kept for the next call.
+     *
+     * @return pseudo-random standard normal value
+     */
+    public double nextGaussian() {
+        if (haveNextGaussian) {
+            haveNextGaussian = false;
+            return nextGaussian;
+        }
+        double v1;
+        double v2;
+        double s;
+        do {
+            v1 = 2 * nextDouble() - 1;
+            v2 = 2 * nextDouble() - 1;
+            s = v1 * v1 + v2 * v2;
+        } while (s >= 1 || s == 0);
+        final double multiplier = Math.sqrt(-2 * Math.log(s) / s);
+        nextGaussian = v2 * multiplier;
+        haveNextGaussian = true;
+        return v1 * multiplier;
+    }
+}
@@ -16,6 +16,8 @@ public final class TDist {
     private static final double MAX_ERROR = 1.0E-10;
     // Maximum number of iterations
     private static final int MAX_ITER = 1000;
+    // Relative width of the bracket at which a quantile search stops
+    private static final double QUANTILE_ERROR = 1.0E-12;
 
     // *************************************************************************
     // CONSTRUCTORS
@@ -134,4 +136,58 @@ public final class TDist {
         result *= term1 + term2;
         return result;
     }
-}
\ No newline at end of file
+
+    /**
+     * Calculate the quantile (inverse cumulative density) of the central t
+     * distribution by bisection on the central CDF.
+     *
+     * @param prob cumulative probability in the range (0, 1)
+     * @param df Number of degrees of freedom
+     * @return t value whose cumulative probability is prob
+     */
+    public static double quantile(final double prob, final double df) {
+        return quantile(prob, df, 0.0);
+    }
+
+    /**
+     * Calculate the quantile (inverse cumulative density) of the non-central
+     * t distribution by bisection on the CDF.
+     *
+     * @param prob cumulative probability in the range (0, 1)
+     * @param df Number of degrees of freedom
+     * @param delta Non-centrality parameter
+     * @return t value whose cumulative probability is prob
+     * @exception ArithmeticException if the CDF failed to converge
+     */
+    public static double quantile(final double prob, final double df,
+            final double delta) {
+        if (df <= 0.0 || !(prob > 0.0 && prob < 1.0)) {
+            return Double.NaN;
+        }
+        // Bracket the quantile around the non-centrality
+        double step = 1.0;
+        double lower = delta - step;
+        while (cdf(lower, df, delta) > prob) {
+            step *= 2.0;
+            lower = delta - step;
+        }
+        step = 1.0;
+        double upper = delta + step;
+        while (cdf(upper, df, delta) < prob) {
+            step *= 2.0;
+            upper = delta + step;
+        }
+        // Bisect until the bracket is negligible
+        double result = (lower + upper) * 0.5;
+        while (upper - lower > QUANTILE_ERROR * Math.max(1.0,
+                Math.abs(result))) {
+            if (cdf(result, df, delta) < prob) {
+                lower = result;
+            } else {
+                upper = result;
+            }
+            result = (lower + upper) * 0.5;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,296 @@
+package edu.missouristate.mote.statistics;
+
+/**
+ * Provide methods for generating random variates from the normal, gamma,
+ * chi-square and (non-central) t and F distributions. Normal variates use
+ * Doornik's 128-layer ziggurat; gamma variates use the method of Marsaglia
+ * and Tsang, from which the chi-square, t and F variates are built.
+ *
+ * Every method draws from the SplitRandom it is given. For parallel work,
+ * give each task its own stream from SplitRandom.split; the fill methods
+ * write into caller-supplied arrays without allocating.
+ */
+public final class Variates {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Number of ziggurat layers (a power of two)
+    private static final int ZIG_LAYERS = 128;
+    // Start of the right tail
+    private static final double ZIG_R = 3.442619855899;
+    // Area of each layer
+    private static final double ZIG_V = 9.91256303526217e-3;
+    // Scale of a 53 bit integer to a double in [0, 1)
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+    // Right edge of each layer
+    private static final double[] ZIG_X = new double[ZIG_LAYERS + 1];
+    // Ratio of the edges of adjacent layers
+    private static final double[] ZIG_RATIO = new double[ZIG_LAYERS];
+
+    static {
+        double density = Math.exp(-0.5 * ZIG_R * ZIG_R);
+        ZIG_X[0] = ZIG_V / density;
+        ZIG_X[1] = ZIG_R;
+        ZIG_X[ZIG_LAYERS] = 0;
+        for (int index = 2; index < ZIG_LAYERS; index++) {
+            ZIG_X[index] = Math.sqrt(-2 * Math.log(ZIG_V / ZIG_X[index - 1]
+                    + density));
+            density = Math.exp(-0.5 * ZIG_X[index] * ZIG_X[index]);
+        }
+        for (int index = 0; index < ZIG_LAYERS; index++) {
+            ZIG_RATIO[index] = ZIG_X[index + 1] / ZIG_X[index];
+        }
+    }
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a Variates.
+     */
+    private Variates() {
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return a uniform value in (0, 1], safe to take the logarithm of.
+     *
+     * @param random random stream
+     * @return uniform value
+     */
+    private static double positiveUniform(final SplitRandom random) {
+        return 1 - random.nextDouble();
+    }
+
+    /**
+     * Return a normal value from the tail beyond the ziggurat base.
+     *
+     * @param random random stream
+     * @param negative true for the left tail
+     * @return normal value with magnitude greater than ZIG_R
+     */
+    private static double normalTail(final SplitRandom random,
+            final boolean negative) {
+        double xValue;
+        double yValue;
+        do {
+            xValue = Math.log(positiveUniform(random)) / ZIG_R;
+            yValue = Math.log(positiveUniform(random));
+        } while (-2 * yValue < xValue * xValue);
+        return negative ? xValue - ZIG_R : ZIG_R - xValue;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Return a standard normal value.
+     *
+     * @param random random stream
+     * @return normal value
+     */
+    public static double normal(final SplitRandom random) {
+        while (true) {
+            // The layer and the uniform come from disjoint bits of one draw
+            final long bits = random.nextLong();
+            final int layer = (int) bits & (ZIG_LAYERS - 1);
+            final double uniform = 2 * ((bits >>> 11) * DOUBLE_UNIT) - 1;
+            if (Math.abs(uniform) < ZIG_RATIO[layer]) {
+                return uniform * ZIG_X[layer];
+            }
+            if (layer == 0) {
+                return normalTail(random, uniform < 0);
+            }
+            final double xValue = uniform * ZIG_X[layer];
+            final double density0 = Math.exp(-0.5 * (ZIG_X[layer]
+                    * ZIG_X[layer] - xValue * xValue));
+            final double density1 = Math.exp(-0.5 * (ZIG_X[layer + 1]
+                    * ZIG_X[layer + 1] - xValue * xValue));
+            if (density1 + random.nextDouble() * (density0 - density1) < 1) {
+                return xValue;
+            }
+        }
+    }
+
+    /**
+     * Return a gamma value with unit scale.
+     *
+     * @param random random stream
+     * @param shape shape parameter; must be positive
+     * @return gamma value
+     * @exception IllegalArgumentException if the shape is not positive
+     */
+    public static double gamma(final SplitRandom random, final double shape) {
+        if (!(shape > 0)) {
+            throw new IllegalArgumentException("shape must be positive");
+        }
+        if (shape < 1) {
+            // Boost the shape and scale back down
+            return gamma(random, shape + 1)
+                    * Math.pow(positiveUniform(random), 1 / shape);
+        }
+        final double dValue = shape - 1.0 / 3;
+        final double cValue = 1 / Math.sqrt(9 * dValue);
+        while (true) {
+            double xValue;
+            double vValue;
+            do {
+                xValue = normal(random);
+                vValue = 1 + cValue * xValue;
+            } while (vValue <= 0);
+            vValue = vValue * vValue * vValue;
+            final double uniform = positiveUniform(random);
+            final double x2 = xValue * xValue;
+            if (uniform < 1 - 0.0331 * x2 * x2
+                    || Math.log(uniform) < 0.5 * x2
+                    + dValue * (1 - vValue + Math.log(vValue))) {
+                return dValue * vValue;
+            }
+        }
+    }
+
+    /**
+     * Return a chi-square value.
+     *
+     * @param random random stream
+     * @param df degrees of freedom; must be positive
+     * @return chi-square value
+     * @exception IllegalArgumentException if df is not positive
+     */
+    public static double chiSquare(final SplitRandom random, final double df) {
+        return 2 * gamma(random, 0.5 * df);
+    }
+
+    /**
+     * Return a non-central chi-square value.
+     *
+     * @param random random stream
+     * @param df degrees of freedom; must be at least 1
+     * @param lambda non-centrality parameter; must not be negative
+     * @return non-central chi-square value
+     * @exception IllegalArgumentException if df is less than 1 or lambda is
+     * negative
+     */
+    public static double chiSquare(final SplitRandom random, final double df,
+            final double lambda) {
+        if (!(df >= 1)) {
+            throw new IllegalArgumentException("df must be at least 1");
+        }
+        if (!(lambda >= 0)) {
+            throw new IllegalArgumentException("lambda must not be negative");
+        }
+        final double shifted = normal(random) + Math.sqrt(lambda);
+        final double result = shifted * shifted;
+        return df == 1 ? result : result + chiSquare(random, df - 1);
+    }
+
+    /**
+     * Return a non-central t value.
+     *
+     * @param random random stream
+     * @param df degrees of freedom; must be positive
+     * @param delta non-centrality parameter
+     * @return t value
+     * @exception IllegalArgumentException if df is not positive
+     */
+    public static double t(final SplitRandom random, final double df,
+            final double delta) {
+        final double numerator = normal(random) + delta;
+        return numerator / Math.sqrt(chiSquare(random, df) / df);
+    }
+
+    /**
+     * Return a non-central F value.
+     *
+     * @param random random stream
+     * @param df1 numerator degrees of freedom; must be at least 1
+     * @param df2 denominator degrees of freedom; must be positive
+     * @param lambda non-centrality parameter; must not be negative
+     * @return F value
+     * @exception IllegalArgumentException if a parameter is out of range
+     */
+    public static double f(final SplitRandom random, final double df1,
+            final double df2, final double lambda) {
+        final double numerator = chiSquare(random, df1, lambda) / df1;
+        return numerator / (chiSquare(random, df2) / df2);
+    }
+
+    /**
+     * Fill an array with standard normal values.
+     *
+     * @param random random stream
+     * @param values array to fill
+     */
+    public static void fillNormal(final SplitRandom random,
+            final double[] values) {
+        for (int index = 0; index < values.length; index++) {
+            values[index] = normal(random);
+        }
+    }
+
+    /**
+     * Fill an array with gamma values with unit scale.
+     *
+     * @param random random stream
+     * @param shape shape parameter; must be positive
+     * @param values array to fill
+     * @exception IllegalArgumentException if the shape is not positive
+     */
+    public static void fillGamma(final SplitRandom random, final double shape,
+            final double[] values) {
+        for (int index = 0; index < values.length; index++) {
+            values[index] = gamma(random, shape);
+        }
+    }
+
+    /**
+     * Fill an array with chi-square values.
+     *
+     * @param random random stream
+     * @param df degrees of freedom; must be positive
+     * @param values array to fill
+     * @exception IllegalArgumentException if df is not positive
+     */
+    public static void fillChiSquare(final SplitRandom random, final double df,
+            final double[] values) {
+        for (int index = 0; index < values.length; index++) {
+            values[index] = chiSquare(random, df);
+        }
+    }
+
+    /**
+     * Fill an array with non-central t values.
+     *
+     * @param random random stream
+     * @param df degrees of freedom; must be positive
+     * @param delta non-centrality parameter
+     * @param values array to fill
+     * @exception IllegalArgumentException if df is not positive
+     */
+    public static void fillT(final SplitRandom random, final double df,
+            final double delta, final double[] values) {
+        for (int index = 0; index < values.length; index++) {
+            values[index] = t(random, df, delta);
+        }
+    }
+
+    /**
+     * Fill an array with non-central F values.
+     *
+     * @param random random stream
+     * @param df1 numerator degrees of freedom; must be at least 1
+     * @param df2 denominator degrees of freedom; must be positive
+     * @param lambda non-centrality parameter; must not be negative
+     * @param values array to fill
+     * @exception IllegalArgumentException if a parameter is out of range
+     */
+    public static void fillF(final SplitRandom random, final double df1,
+            final double df2, final double lambda, final double[] values) {
+        for (int index = 0; index < values.length; index++) {
+            values[index] = f(random, df1, df2, lambda);
+        }
+    }
+}
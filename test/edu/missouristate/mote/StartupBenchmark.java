@@ -0,0 +1,136 @@
+package edu.missouristate.mote;
+
+import edu.missouristate.mote.effectsizes.Measure;
+import java.awt.EventQueue;
+import java.awt.Frame;
+import java.awt.GraphicsEnvironment;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Timing of Mote startup. The Measures menu labels are timed from the
+ * registry and from creating every test, which is what building the menu
+ * cost before the registry; then Mote.main is timed to the first paint of
+ * the window. Run the main method directly on a machine with a display.
+ */
+public final class StartupBenchmark {
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a StartupBenchmark.
+     */
+    private StartupBenchmark() {
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return the labels of every measure from the registry.
+     *
+     * @return elapsed nanoseconds
+     */
+    private static long timeRegistry() {
+        final long start = System.nanoTime();
+        int length = 0;
+        for (Measure measure : Measure.values()) {
+            length += measure.getLabel().length();
+        }
+        final long elapsed = System.nanoTime() - start;
+        if (length == 0) {
+            System.out.println("empty");
+        }
+        return elapsed;
+    }
+
+    /**
+     * Return the labels of every measure from a new instance of each test.
+     *
+     * @return elapsed nanoseconds
+     */
+    private static long timeInstances() {
+        final long start = System.nanoTime();
+        int length = 0;
+        for (Measure measure : Measure.values()) {
+            length += measure.createTest().getMeasureName().length();
+        }
+        final long elapsed = System.nanoTime() - start;
+        if (length == 0) {
+            System.out.println("empty");
+        }
+        return elapsed;
+    }
+
+    /**
+     * Return true once a Mote window is showing.
+     *
+     * @return true if showing
+     */
+    private static boolean isShowing() {
+        for (Frame frame : Frame.getFrames()) {
+            if (frame instanceof Mote && frame.isShowing()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Run Mote.main and wait until its window has been painted: the paint
+     * requested by showing the window is queued on the event thread ahead of
+     * the final empty task.
+     *
+     * @return elapsed nanoseconds
+     * @throws InterruptedException if interrupted while waiting
+     * @throws InvocationTargetException never
+     */
+    private static long timeFirstPaint() throws InterruptedException,
+            InvocationTargetException {
+        final long start = System.nanoTime();
+        Mote.main(new String[0]);
+        final boolean[] showing = new boolean[1];
+        while (!showing[0]) {
+            EventQueue.invokeAndWait(new Runnable() {
+                @Override
+                public void run() {
+                    showing[0] = isShowing();
+                }
+            });
+        }
+        EventQueue.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                // Flush the paint
+            }
+        });
+        return System.nanoTime() - start;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Run the benchmark. The first pass of each label timing is cold, as it
+     * is at startup.
+     *
+     * @param args not used
+     * @throws Exception if the window cannot be shown
+     */
+    public static void main(final String[] args) throws Exception {
+        final long registry = timeRegistry();
+        final long instances = timeInstances();
+        System.out.printf("%d measures%n", Measure.values().length);
+        System.out.printf("menu labels from the registry: %.2f ms%n",
+                registry * 1e-6);
+        System.out.printf("menu labels from new tests: %.2f ms%n",
+                instances * 1e-6);
+        if (GraphicsEnvironment.isHeadless()) {
+            System.out.println("main to first paint: skipped, no display");
+            return;
+        }
+        System.out.printf("main to first paint: %.1f ms%n",
+                timeFirstPaint() * 1e-6);
+        System.exit(0);
+    }
+}
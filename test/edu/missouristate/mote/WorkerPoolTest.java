@@ -0,0 +1,137 @@
+package edu.missouristate.mote;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import org.junit.After;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the fork method of the WorkerPool class.
+ */
+public class WorkerPoolTest {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private final boolean splitting = WorkerPool.isSplitting();
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return parts that give their index and the thread they ran on.
+     *
+     * @param count number of parts
+     * @param threads list receiving the thread of each part
+     * @return parts
+     */
+    private static List<Callable<Integer>> createParts(final int count,
+            final List<Thread> threads) {
+        final List<Callable<Integer>> result = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            final int part = index;
+            result.add(new Callable<Integer>() {
+                @Override
+                public Integer call() {
+                    synchronized (threads) {
+                        threads.add(Thread.currentThread());
+                    }
+                    return part;
+                }
+            });
+        }
+        return result;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Restore the splitting setting.
+     */
+    @After
+    public void tearDown() {
+        WorkerPool.setSplitting(splitting);
+    }
+
+    /**
+     * Test that split parts give their results in order.
+     */
+    @Test
+    public void testFork() {
+        WorkerPool.setSplitting(true);
+        assertTrue(WorkerPool.isSplitting());
+        final List<Thread> threads = new ArrayList<>();
+        assertEquals(Arrays.asList(0, 1, 2, 3),
+                WorkerPool.fork(createParts(4, threads)));
+        assertEquals(4, threads.size());
+    }
+
+    /**
+     * Test that parts run in turn on the calling thread when splitting is
+     * off.
+     */
+    @Test
+    public void testForkNotSplitting() {
+        WorkerPool.setSplitting(false);
+        assertFalse(WorkerPool.isSplitting());
+        final List<Thread> threads = new ArrayList<>();
+        assertEquals(Arrays.asList(0, 1, 2),
+                WorkerPool.fork(createParts(3, threads)));
+        for (Thread thread : threads) {
+            assertSame(Thread.currentThread(), thread);
+        }
+    }
+
+    /**
+     * Test that a worker runs the parts of its own calculations in turn.
+     */
+    @Test
+    public void testForkOnWorker() {
+        WorkerPool.setSplitting(true);
+        final List<Thread> threads = new ArrayList<>();
+        final List<Thread> workers = WorkerPool.invokeAll(Arrays.asList(
+                new Callable<Thread>() {
+                    @Override
+                    public Thread call() {
+                        assertFalse(WorkerPool.isSplitting());
+                        WorkerPool.fork(createParts(2, threads));
+                        return Thread.currentThread();
+                    }
+                }, new Callable<Thread>() {
+                    @Override
+                    public Thread call() {
+                        return Thread.currentThread();
+                    }
+                }));
+        assertEquals(2, threads.size());
+        for (Thread thread : threads) {
+            assertSame(workers.get(0), thread);
+        }
+    }
+
+    /**
+     * Test that a runtime exception of a part is rethrown unchanged.
+     */
+    @Test
+    public void testForkException() {
+        WorkerPool.setSplitting(true);
+        final List<Callable<Integer>> parts =
+                createParts(1, new ArrayList<Thread>());
+        parts.add(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                throw new ArithmeticException("part failed");
+            }
+        });
+        try {
+            WorkerPool.fork(parts);
+            fail("expected ArithmeticException");
+        } catch (ArithmeticException ex) {
+            assertEquals("part failed", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package edu.missouristate.mote.bootstrap;
+
+import edu.missouristate.mote.WorkerPool;
+import edu.missouristate.mote.statistics.SplitRandom;
+import edu.missouristate.mote.statistics.Variates;
+
+/**
+ * Timing of a bootstrap of two groups of skewed data. Run the main method
+ * directly; a short bootstrap is run first to warm up.
+ */
+public final class BootstrapBenchmark {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Size of each group
+    private static final int SIZE = 100000;
+    // Timed replicates
+    private static final int REPLICATES = 10000;
+    // Untimed replicates
+    private static final int WARMUP = 200;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a BootstrapBenchmark.
+     */
+    private BootstrapBenchmark() {
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Run the benchmark.
+     *
+     * @param args not used
+     */
+    public static void main(final String[] args) {
+        final SplitRandom random = new SplitRandom(1);
+        final double[][] samples = new double[2][SIZE];
+        for (int index = 0; index < SIZE; index++) {
+            samples[0][index] = Variates.gamma(random, 2) + 0.2;
+            samples[1][index] = Variates.gamma(random, 2);
+        }
+        new Bootstrap(samples, WARMUP, 0).interval(BootstrapMeasure.COHEN_D,
+                0.95);
+        System.out.printf("%d replicates of 2 x %d on %d threads%n",
+                REPLICATES, SIZE, WorkerPool.getThreads());
+        final Bootstrap bootstrap = new Bootstrap(samples, REPLICATES, 1);
+        for (BootstrapMeasure measure : BootstrapMeasure.values()) {
+            System.out.println(bootstrap.interval(measure, 0.95));
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package edu.missouristate.mote.bootstrap;
+
+import edu.missouristate.mote.effectsizes.CohenDIndT;
+import edu.missouristate.mote.effectsizes.GlassDIndT;
+import edu.missouristate.mote.effectsizes.HedgesGIndT;
+import edu.missouristate.mote.effectsizes.TwoGroupInputs;
+import edu.missouristate.mote.statistics.SplitRandom;
+import edu.missouristate.mote.statistics.Variates;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the Bootstrap class.
+ */
+public class BootstrapTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Maximum allowed difference between expected and actual
+    private static final double DELTA = 1.0E-10;
+    // Size of each generated group
+    private static final int SIZE = 200;
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return normal groups with unit variance and the given means.
+     *
+     * @param seed random seed
+     * @param means mean of each group
+     * @return samples
+     */
+    private static double[][] createSamples(final long seed,
+            final double... means) {
+        final SplitRandom random = new SplitRandom(seed);
+        final double[][] result = new double[means.length][SIZE];
+        for (int group = 0; group < means.length; group++) {
+            for (int index = 0; index < SIZE; index++) {
+                result[group][index] = means[group] + Variates.normal(random);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Return the sample standard deviation.
+     *
+     * @param values sample
+     * @param mean sample mean
+     * @return standard deviation
+     */
+    private static double stdDev(final double[] values, final double mean) {
+        double sumSquares = 0;
+        for (double value : values) {
+            sumSquares += (value - mean) * (value - mean);
+        }
+        return Math.sqrt(sumSquares / (values.length - 1));
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * The estimates should match the calculators fed the same summaries.
+     */
+    @Test
+    public void testEstimate() {
+        final double[][] samples = createSamples(3, 0.5, 0);
+        final Bootstrap bootstrap = new Bootstrap(samples, 100, 1);
+        double mean1 = 0;
+        double mean2 = 0;
+        for (int index = 0; index < SIZE; index++) {
+            mean1 += samples[0][index] / SIZE;
+            mean2 += samples[1][index] / SIZE;
+        }
+        final CohenDIndT cohen = new CohenDIndT();
+        final HedgesGIndT hedges = new HedgesGIndT();
+        final GlassDIndT glass = new GlassDIndT();
+        cohen.setSize1(SIZE);
+        cohen.setSize2(SIZE);
+        hedges.setSize1(SIZE);
+        hedges.setSize2(SIZE);
+        glass.setSize1(SIZE);
+        glass.setSize2(SIZE);
+        for (TwoGroupInputs test : new TwoGroupInputs[]{cohen, hedges,
+            glass}) {
+            test.setMean1(mean1);
+            test.setMean2(mean2);
+            test.setStdDev1(stdDev(samples[0], mean1));
+            test.setStdDev2(stdDev(samples[1], mean2));
+        }
+        assertEquals(cohen.getMeasure(),
+                bootstrap.estimate(BootstrapMeasure.COHEN_D), DELTA);
+        assertEquals(hedges.getMeasure(),
+                bootstrap.estimate(BootstrapMeasure.HEDGES_G), DELTA);
+        assertEquals(glass.getMeasure(),
+                bootstrap.estimate(BootstrapMeasure.GLASS_DELTA), DELTA);
+    }
+
+    /**
+     * For normal data the bootstrap intervals should be close to the
+     * analytic interval, and a seed should reproduce them exactly.
+     */
+    @Test
+    public void testInterval() {
+        final double[][] samples = createSamples(5, 0.5, 0);
+        final BootstrapInterval interval = new Bootstrap(samples, 2000, 11)
+                .interval(BootstrapMeasure.COHEN_D, 0.95);
+        final CohenDIndT test = new CohenDIndT();
+        test.setSize1(SIZE);
+        test.setSize2(SIZE);
+        test.setMean1(0.5);
+        test.setMean2(0);
+        test.setStdDev1(1);
+        test.setStdDev2(1);
+        final double width = test.getUpperMeasure() - test.getLowerMeasure();
+        assertEquals(2000, interval.getReplicates());
+        assertTrue(interval.getPercentileLower() < interval.getEstimate());
+        assertTrue(interval.getEstimate() < interval.getPercentileUpper());
+        assertEquals(width, interval.getPercentileUpper()
+                - interval.getPercentileLower(), 0.1 * width);
+        assertEquals(width, interval.getBcaUpper() - interval.getBcaLower(),
+                0.1 * width);
+        assertEquals(0, interval.getAcceleration(), 0.01);
+        final BootstrapInterval again = new Bootstrap(samples, 2000, 11)
+                .interval(BootstrapMeasure.COHEN_D, 0.95);
+        assertEquals(interval.getPercentileLower(),
+                again.getPercentileLower(), 0);
+        assertEquals(interval.getBcaUpper(), again.getBcaUpper(), 0);
+    }
+
+    /**
+     * Eta squared should accept more than two groups and stay in [0, 1].
+     */
+    @Test
+    public void testEtaSquared() {
+        final Bootstrap bootstrap = new Bootstrap(
+                createSamples(7, 0, 0.2, 0.4), 500, 2);
+        final BootstrapInterval interval = bootstrap.interval(
+                BootstrapMeasure.ETA_SQUARED, 0.9);
+        assertTrue(interval.getPercentileLower() >= 0);
+        assertTrue(interval.getBcaLower() >= 0);
+        assertTrue(interval.getPercentileUpper() <= 1);
+        assertTrue(interval.getBcaLower() < interval.getEstimate());
+        assertTrue(interval.getEstimate() < interval.getBcaUpper());
+    }
+
+    /**
+     * When every replicate lies above the estimate, the bias correction and
+     * the BCa limits should stay finite.
+     */
+    @Test
+    public void testAllReplicatesAbove() {
+        final double[] group = createSamples(3, 0)[0];
+        final BootstrapInterval interval = new Bootstrap(
+                new double[][]{group, group.clone(), group.clone()}, 500, 4)
+                .interval(BootstrapMeasure.ETA_SQUARED, 0.9);
+        assertEquals(0, interval.getEstimate(), DELTA);
+        assertTrue(interval.getPercentileLower() > interval.getEstimate());
+        assertFalse(Double.isInfinite(interval.getBiasCorrection()));
+        assertFalse(Double.isNaN(interval.getBcaLower()));
+        assertFalse(Double.isNaN(interval.getBcaUpper()));
+        assertTrue(interval.getBcaLower() <= interval.getBcaUpper());
+    }
+
+    /**
+     * A two-group measure should reject three groups.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooManyGroups() {
+        new Bootstrap(createSamples(1, 0, 0, 0), 10, 1)
+                .interval(BootstrapMeasure.COHEN_D, 0.95);
+    }
+
+    /**
+     * A confidence outside (0, 1) should be rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadConfidence() {
+        new Bootstrap(createSamples(1, 0, 0), 10, 1)
+                .interval(BootstrapMeasure.COHEN_D, 1);
+    }
+}
@@ -0,0 +1,56 @@
+package edu.missouristate.mote.conversion;
+
+/**
+ * Timing of the conversion of a million-row column of d intervals to r and
+ * to odds ratios. Run the main method directly; each conversion is run once
+ * untimed to warm up.
+ */
+public final class ConversionBenchmark {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Number of rows
+    private static final int ROWS = 1000000;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a ConversionBenchmark.
+     */
+    private ConversionBenchmark() {
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Run the benchmark.
+     *
+     * @param args not used
+     */
+    public static void main(final String[] args) {
+        final IntervalColumn column = new IntervalColumn(ROWS);
+        final double[] sizes1 = new double[ROWS];
+        final double[] sizes2 = new double[ROWS];
+        for (int row = 0; row < ROWS; row++) {
+            final double estimate = (row % 200) * 0.01;
+            column.getEstimates()[row] = estimate;
+            column.getLower()[row] = estimate - 0.4;
+            column.getUpper()[row] = estimate + 0.4;
+            sizes1[row] = 10 + row % 90;
+            sizes2[row] = 15 + row % 70;
+        }
+        for (EffectScale target : new EffectScale[]{
+            EffectScale.CORRELATION, EffectScale.ODDS_RATIO}) {
+            final Conversion conversion = new Conversion(EffectScale.COHEN_D,
+                    target);
+            conversion.convert(column, sizes1, sizes2, 0.95);
+            final long start = System.nanoTime();
+            conversion.convert(column, sizes1, sizes2, 0.95);
+            System.out.printf("%d d intervals to %s: %.1f ms%n", ROWS, target,
+                    (System.nanoTime() - start) * 1e-6);
+        }
+    }
+}
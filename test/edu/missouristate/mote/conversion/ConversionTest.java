@@ -0,0 +1,157 @@
+package edu.missouristate.mote.conversion;
+
+import edu.missouristate.mote.effectsizes.EffectSizes;
+import edu.missouristate.mote.effectsizes.NcInterval;
+import edu.missouristate.mote.effectsizes.TFamilyReport;
+import edu.missouristate.mote.effectsizes.TwoGroupSummary;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the Conversion class.
+ */
+public class ConversionTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+
+    // Maximum allowed difference between expected and actual
+    private static final double DELTA = 0.00001;
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+
+    /**
+     * Test that d converts to the point-biserial r of a t-family report.
+     */
+    @Test
+    public void testCohenDToCorrelation() {
+        final TFamilyReport report = EffectSizes.tFamily(
+                new TwoGroupSummary(5.1, 4.3, 1.2, 1.5, 20, 25), 0.95);
+        final NcInterval cohenD = report.getCohenD();
+        final NcInterval rValue = report.getPointBiserialR();
+        final double[] result = new Conversion(EffectScale.COHEN_D,
+                EffectScale.CORRELATION).convert(cohenD.getMeasure(),
+                        cohenD.getLowerMeasure(), cohenD.getUpperMeasure(),
+                        20, 25, 0.95);
+        assertEquals(rValue.getMeasure(), result[0], DELTA);
+        assertEquals(rValue.getLowerMeasure(), result[1], DELTA);
+        assertEquals(rValue.getUpperMeasure(), result[2], DELTA);
+    }
+
+    /**
+     * Test that a conversion and its inverse return the original values.
+     */
+    @Test
+    public void testRoundTrip() {
+        final IntervalColumn column = new IntervalColumn(
+                new double[]{0.5, -0.2, 1.4},
+                new double[]{0.1, -0.7, 0.9},
+                new double[]{0.9, 0.3, 1.9});
+        final double[] sizes1 = {20, 40, 12};
+        final double[] sizes2 = {25, 40, 30};
+        for (EffectScale scale : new EffectScale[]{
+            EffectScale.CORRELATION, EffectScale.ODDS_RATIO}) {
+            final IntervalColumn there = new Conversion(EffectScale.COHEN_D,
+                    scale).convert(column, sizes1, sizes2, 0.95);
+            final IntervalColumn back = new Conversion(scale,
+                    EffectScale.COHEN_D).convert(there, sizes1, sizes2, 0.95);
+            assertArrayEquals(column.getEstimates(), back.getEstimates(),
+                    DELTA);
+            assertArrayEquals(column.getLower(), back.getLower(), DELTA);
+            assertArrayEquals(column.getUpper(), back.getUpper(), DELTA);
+        }
+        assertEquals(Math.exp(0.5 * Math.PI / Math.sqrt(3)),
+                new Conversion(EffectScale.COHEN_D, EffectScale.ODDS_RATIO)
+                .convert(0.5, 20, 25), DELTA);
+    }
+
+    /**
+     * Test conversion to eta squared of an interval above zero.
+     */
+    @Test
+    public void testEtaSquaredMonotone() {
+        final TFamilyReport report = EffectSizes.tFamily(
+                new TwoGroupSummary(5.9, 4.3, 1.2, 1.5, 20, 25), 0.95);
+        final NcInterval cohenD = report.getCohenD();
+        final double[] result = new Conversion(EffectScale.COHEN_D,
+                EffectScale.ETA_SQUARED).convert(cohenD.getMeasure(),
+                        cohenD.getLowerMeasure(), cohenD.getUpperMeasure(),
+                        20, 25, 0.95);
+        final double tValue = cohenD.getTestStatistic();
+        final double lowerNc = report.getLowerNc();
+        assertEquals(tValue * tValue / (tValue * tValue + 43), result[0],
+                DELTA);
+        assertEquals(lowerNc * lowerNc / (lowerNc * lowerNc + 45), result[1],
+                DELTA);
+        assertTrue(result[1] > 0);
+        assertTrue(result[2] > result[0]);
+    }
+
+    /**
+     * Test conversion to eta squared of an interval that contains zero.
+     */
+    @Test
+    public void testEtaSquaredFolded() {
+        final TFamilyReport report = EffectSizes.tFamily(
+                new TwoGroupSummary(5.1, 4.3, 1.2, 1.5, 20, 25), 0.95);
+        final NcInterval cohenD = report.getCohenD();
+        assertTrue(cohenD.getLowerMeasure() < 0);
+        final Conversion conversion = new Conversion(EffectScale.COHEN_D,
+                EffectScale.ETA_SQUARED);
+        final double[] result = conversion.convert(cohenD.getMeasure(),
+                cohenD.getLowerMeasure(), cohenD.getUpperMeasure(), 20, 25,
+                0.95);
+        final double tValue = cohenD.getTestStatistic();
+        assertEquals(tValue * tValue / (tValue * tValue + 43), result[0],
+                DELTA);
+        assertEquals(0, result[1], 0);
+        assertTrue(result[1] <= result[0] && result[0] <= result[2]);
+        final double[] small = conversion.convert(0.324, -0.310, 0.938, 20,
+                20, 0.95);
+        assertEquals(0, small[1], 0);
+        assertTrue(small[1] <= small[0] && small[0] <= small[2]);
+        assertTrue(small[2] < 1);
+    }
+
+    /**
+     * Test that a column converted in parallel blocks matches row by row.
+     */
+    @Test
+    public void testLongColumn() {
+        final int rows = 3 * 65536 + 7;
+        final IntervalColumn column = new IntervalColumn(rows);
+        final double[] sizes1 = new double[rows];
+        final double[] sizes2 = new double[rows];
+        for (int row = 0; row < rows; row++) {
+            column.getEstimates()[row] = (row % 300) * 0.01;
+            column.getLower()[row] = column.getEstimates()[row] - 0.3;
+            column.getUpper()[row] = column.getEstimates()[row] + 0.3;
+            sizes1[row] = 10 + row % 50;
+            sizes2[row] = 10 + row % 70;
+        }
+        final Conversion conversion = new Conversion(EffectScale.COHEN_D,
+                EffectScale.CORRELATION);
+        final IntervalColumn result = conversion.convert(column, sizes1,
+                sizes2, 0.95);
+        for (int row = 0; row < rows; row += 997) {
+            final double[] expected = conversion.convert(
+                    column.getEstimates()[row], column.getLower()[row],
+                    column.getUpper()[row], sizes1[row], sizes2[row], 0.95);
+            assertEquals(expected[0], result.getEstimates()[row], DELTA);
+            assertEquals(expected[1], result.getLower()[row], DELTA);
+            assertEquals(expected[2], result.getUpper()[row], DELTA);
+        }
+    }
+
+    /**
+     * Test that columns of different lengths are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testLengthMismatch() {
+        new Conversion(EffectScale.COHEN_D, EffectScale.CORRELATION).convert(
+                new double[2], new double[2], new double[3]);
+    }
+}
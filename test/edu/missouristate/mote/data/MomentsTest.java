@@ -0,0 +1,105 @@
+package edu.missouristate.mote.data;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the Moments, PairedMoments and GroupMoments classes.
+ */
+public class MomentsTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Maximum allowed difference between expected and actual
+    private static final double DELTA = 1.0E-10;
+    // Sample data
+    private static final double[] VALUES1 = new double[]{
+        4.1, 5.3, 2.2, 6.8, 5.0, 3.9, 4.4, 7.1};
+    private static final double[] VALUES2 = new double[]{
+        3.0, 4.9, 2.5, 5.2, 4.6, 3.1, 4.0, 6.0};
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Merged moments should match moments of all the data.
+     */
+    @Test
+    public void testMoments() {
+        final Moments all = new Moments();
+        final Moments first = new Moments();
+        final Moments second = new Moments();
+        for (int index = 0; index < VALUES1.length; index++) {
+            all.add(VALUES1[index]);
+            (index < 3 ? first : second).add(VALUES1[index]);
+        }
+        assertEquals(4.85, all.getMean(), DELTA);
+        assertEquals(2.54, all.getVariance(), DELTA);
+        first.merge(second);
+        first.merge(new Moments());
+        assertEquals(all.getCount(), first.getCount());
+        assertEquals(all.getMean(), first.getMean(), DELTA);
+        assertEquals(all.getSumSquares(), first.getSumSquares(), DELTA);
+        final Moments empty = new Moments();
+        empty.merge(all);
+        assertEquals(all.getStdDev(), empty.getStdDev(), DELTA);
+        assertTrue(Double.isNaN(new Moments().getMean()));
+    }
+
+    /**
+     * Paired moments should give the correlation and the moments of the
+     * differences.
+     */
+    @Test
+    public void testPairedMoments() {
+        final PairedMoments all = new PairedMoments();
+        final PairedMoments first = new PairedMoments();
+        final PairedMoments second = new PairedMoments();
+        final Moments differences = new Moments();
+        for (int index = 0; index < VALUES1.length; index++) {
+            all.add(VALUES1[index], VALUES2[index]);
+            (index < 5 ? first : second).add(VALUES1[index], VALUES2[index]);
+            differences.add(VALUES1[index] - VALUES2[index]);
+        }
+        assertEquals(differences.getMean(), all.getMeanDiff(), DELTA);
+        assertEquals(differences.getStdDev(), all.getStdDevDiff(), DELTA);
+        assertEquals(0.9470843085, all.getCorrelation(), 1.0E-9);
+        first.merge(second);
+        assertEquals(all.getCount(), first.getCount());
+        assertEquals(all.getMean2(), first.getMean2(), DELTA);
+        assertEquals(all.getStdDev1(), first.getStdDev1(), DELTA);
+        assertEquals(all.getCorrelation(), first.getCorrelation(), DELTA);
+    }
+
+    /**
+     * Group moments should give the one-way sums of squares.
+     */
+    @Test
+    public void testGroupMoments() {
+        final GroupMoments groups = new GroupMoments();
+        final GroupMoments other = new GroupMoments();
+        for (int index = 0; index < VALUES1.length; index++) {
+            groups.add(2, VALUES1[index]);
+            other.add(1, VALUES2[index]);
+        }
+        other.add(2, 5.5);
+        groups.merge(other);
+        assertEquals(2, groups.getGroupCount());
+        assertArrayEquals(new double[]{1, 2}, groups.getCodes(), 0);
+        assertEquals(9, groups.getGroup(2).getCount());
+        assertEquals(1, groups.getDfEffect(), 0);
+        assertEquals(15, groups.getDfError(), 0);
+        final Moments total = groups.getTotal();
+        assertEquals(total.getSumSquares(), groups.getSsTotal(), 1.0E-9);
+        final double grandMean = total.getMean();
+        double ssEffect = 0;
+        for (double code : groups.getCodes()) {
+            final Moments group = groups.getGroup(code);
+            ssEffect += group.getCount() * Math.pow(group.getMean()
+                    - grandMean, 2);
+        }
+        assertEquals(ssEffect, groups.getSsEffect(), DELTA);
+        assertNull(groups.getGroup(3));
+    }
+}
@@ -0,0 +1,155 @@
+package edu.missouristate.mote.data;
+
+import edu.missouristate.mote.effectsizes.CohenDDepTDiff;
+import edu.missouristate.mote.effectsizes.CohenDIndT;
+import edu.missouristate.mote.effectsizes.SumOfSquaresInputs;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the RawDataFile and SummaryInputs classes.
+ */
+public class RawDataFileTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Maximum allowed difference between expected and actual
+    private static final double DELTA = 1.0E-10;
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return a temporary file holding the text.
+     *
+     * @param text file contents
+     * @return temporary file
+     * @throws IOException if the file cannot be written
+     */
+    private static File createFile(final String text) throws IOException {
+        final File result = File.createTempFile("mote", ".csv");
+        result.deleteOnExit();
+        try (OutputStream output = new FileOutputStream(result)) {
+            output.write(text.getBytes(StandardCharsets.US_ASCII));
+        }
+        return result;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Numbers in the supported formats should parse exactly, the header
+     * should be skipped and extra columns ignored.
+     */
+    @Test
+    public void testReadColumn() throws IOException {
+        final File file = createFile("name;value;note\r\n"
+                + "a; 1.5 ;x\r\n"
+                + "b;-0.25;y\r\n"
+                + "\r\n"
+                + "c;2e2;z\r\n"
+                + "d;+12345678901234567890;w\r\n"
+                + "e;0.1;v");
+        final Moments expected = new Moments();
+        for (double value : new double[]{1.5, -0.25, 200,
+            12345678901234567890.0, 0.1}) {
+            expected.add(value);
+        }
+        final Moments actual = RawDataFile.readColumn(file, 1);
+        assertEquals(5, actual.getCount());
+        assertEquals(expected.getMean(), actual.getMean(), 0);
+        assertEquals(expected.getSumSquares(), actual.getSumSquares(), 0);
+    }
+
+    /**
+     * A non-numeric field after the first line should be reported.
+     */
+    @Test(expected = NumberFormatException.class)
+    public void testBadNumber() throws IOException {
+        RawDataFile.readColumn(createFile("1\n2\nNA\n3\n"), 0);
+    }
+
+    /**
+     * Grouped data should feed the independent t and F tests.
+     */
+    @Test
+    public void testReadGroups() throws IOException {
+        final StringBuilder text = new StringBuilder("group\tscore\n");
+        final GroupMoments expected = new GroupMoments();
+        for (int index = 0; index < 60; index++) {
+            final int group = index % 3 == 0 ? 7 : 3;
+            final double score = 10 + (index * 37 % 11) * 0.5 + group * 0.2;
+            text.append(group).append('\t').append(score).append('\n');
+            expected.add(group, score);
+        }
+        final GroupMoments groups = RawDataFile.readGroups(
+                createFile(text.toString()), 0, 1);
+        assertArrayEquals(new double[]{3, 7}, groups.getCodes(), 0);
+        assertEquals(expected.getSsEffect(), groups.getSsEffect(), DELTA);
+        assertEquals(expected.getSsError(), groups.getSsError(), DELTA);
+        final CohenDIndT test = new CohenDIndT();
+        SummaryInputs.apply(groups, test);
+        assertEquals(40, test.getSize1(), 0);
+        assertEquals(20, test.getSize2(), 0);
+        assertEquals(groups.getGroup(3).getMean(), test.getMean1(), DELTA);
+        assertEquals(groups.getGroup(7).getStdDev(), test.getStdDev2(),
+                DELTA);
+        final double[] inputs = new double[4];
+        SummaryInputs.apply(groups, new SumOfSquaresInputs() {
+            @Override
+            public void setSsEffect(final double value) {
+                inputs[0] = value;
+            }
+
+            @Override
+            public void setSsTotal(final double value) {
+                inputs[1] = value;
+            }
+
+            @Override
+            public void setDfEffect(final double value) {
+                inputs[2] = value;
+            }
+
+            @Override
+            public void setDfError(final double value) {
+                inputs[3] = value;
+            }
+        });
+        assertArrayEquals(new double[]{groups.getSsEffect(),
+            groups.getSsTotal(), 1, 58}, inputs, DELTA);
+    }
+
+    /**
+     * Paired columns should feed the dependent t test.
+     */
+    @Test
+    public void testReadPaired() throws IOException {
+        final File file = createFile("5.1,4.0\n6.2, 5.5\n4.8 ,4.9\n7.0,6.1\n"
+                + "5.5,5.0\n");
+        final PairedMoments pairs = RawDataFile.readPaired(file, 0, 1);
+        assertEquals(5, pairs.getCount());
+        assertEquals(0.62, pairs.getMeanDiff(), DELTA);
+        final CohenDDepTDiff test = new CohenDDepTDiff();
+        SummaryInputs.apply(pairs, test);
+        assertEquals(5, test.getSize(), 0);
+        assertEquals(0.62, test.getMeanDiff(), DELTA);
+        assertEquals(pairs.getStdDevDiff(), test.getStdDevDiff(), DELTA);
+        assertEquals(0.62 / pairs.getStdDevDiff(), test.getMeasure(), DELTA);
+    }
+
+    /**
+     * An empty file should give empty moments.
+     */
+    @Test
+    public void testEmptyFile() throws IOException {
+        assertEquals(0, RawDataFile.readColumn(createFile(""), 0).getCount());
+    }
+}
@@ -0,0 +1,181 @@
+package edu.missouristate.mote.effectsizes;
+
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.events.ChangeEvent;
+import edu.missouristate.mote.events.ChangeKind;
+import edu.missouristate.mote.events.ChangeListener;
+import edu.missouristate.mote.propertygrid.ObjectLoader;
+import edu.missouristate.mote.propertygrid.PropertyTableRow;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the change events of the AbstractTest class.
+ */
+public class AbstractTestTest {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private CramersPhiChi2 test;
+    private List<ChangeEvent> events;
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return the inputs of the test that have a setter, in grid order.
+     *
+     * @return inputs
+     */
+    private List<PropertyTableRow> getInputs() {
+        final List<PropertyTableRow> result = new ArrayList<>();
+        for (PropertyTableRow row : ObjectLoader.getRows(test)) {
+            if (!row.isCategory() && row.getAccessor() != null
+                    && Constants.INPUT_CATEGORY.equals(row.getCategory())
+                    && row.getAccessor().hasSetter()) {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Return input values that set the size and chi-square and keep the
+     * other defaults.
+     *
+     * @param inputs inputs
+     * @param size total count
+     * @param chiSquare chi-square
+     * @return values
+     */
+    private static double[] getValues(final List<PropertyTableRow> inputs,
+            final double size, final double chiSquare) {
+        final double[] result = new double[inputs.size()];
+        for (int index = 0; index < result.length; index++) {
+            result[index] = Double.NaN;
+            if ("Size".equals(inputs.get(index).getKey())) {
+                result[index] = size;
+            } else if ("TestStatistic".equals(inputs.get(index).getKey())) {
+                result[index] = chiSquare;
+            }
+        }
+        return result;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Create a test and record its change events.
+     */
+    @Before
+    public void setUp() {
+        test = new CramersPhiChi2();
+        test.setSize(200);
+        test.setRows(4);
+        test.setColumns(3);
+        events = new ArrayList<>();
+        test.addChangeListener(new ChangeListener() {
+            @Override
+            public void stateChanged(final ChangeEvent event) {
+                events.add(event);
+            }
+        });
+    }
+
+    /**
+     * Test that an event names the kinds and properties that changed.
+     */
+    @Test
+    public void testChangedProperties() {
+        test.setTestStatistic(25);
+        assertEquals(1, events.size());
+        final ChangeEvent event = events.get(0);
+        assertSame(test, event.getSource());
+        assertTrue(event.isChanged(ChangeKind.INPUT));
+        assertTrue(event.isChanged(ChangeKind.RESULT));
+        assertTrue(event.isChanged(ChangeKind.CURVE));
+        assertFalse(event.isChanged(ChangeKind.MESSAGE));
+        assertTrue(event.isChanged("TestStatistic"));
+        assertTrue(event.isChanged("Measure"));
+        assertFalse(event.isChanged("Size"));
+        assertFalse(event.isChanged("Confidence"));
+    }
+
+    /**
+     * Test that setting an input to its current value sends nothing.
+     */
+    @Test
+    public void testNoChange() {
+        test.setSize(test.getSize());
+        assertTrue(events.isEmpty());
+    }
+
+    /**
+     * Test that the changes of an update are sent as one event.
+     */
+    @Test
+    public void testUpdate() {
+        test.beginUpdate();
+        test.beginUpdate();
+        test.setTestStatistic(25);
+        test.endUpdate();
+        test.setSize(300);
+        assertTrue(events.isEmpty());
+        test.endUpdate();
+        assertEquals(1, events.size());
+        assertTrue(events.get(0).isChanged("TestStatistic"));
+        assertTrue(events.get(0).isChanged("Size"));
+    }
+
+    /**
+     * Test that a reset is sent as one event.
+     */
+    @Test
+    public void testReset() {
+        test.reset();
+        assertEquals(1, events.size());
+        assertTrue(events.get(0).isChanged("Size"));
+        assertTrue(events.get(0).isChanged("Rows"));
+    }
+
+    /**
+     * Test that a reset followed by several inputs is sent as one event.
+     */
+    @Test
+    public void testResetTo() {
+        test.resetTo(getInputs(), getValues(getInputs(), 300, 25));
+        assertEquals(1, events.size());
+        assertEquals(300, test.getSize(), 0);
+        assertEquals(25, test.getTestStatistic(), 0);
+        assertTrue(events.get(0).isChanged("Size"));
+        assertTrue(events.get(0).isChanged("TestStatistic"));
+        assertTrue(events.get(0).isChanged("Measure"));
+    }
+
+    /**
+     * Test that each study given to resetTo is calculated exactly once.
+     */
+    @Test
+    public void testResetToComputeCount() {
+        final List<PropertyTableRow> inputs = getInputs();
+        for (int study = 0; study < 5; study++) {
+            final long computed = test.getComputeCount();
+            test.resetTo(inputs, getValues(inputs, 100 + study, 5 + study));
+            assertEquals(computed + 1, test.getComputeCount());
+            assertEquals(5 + study, test.getTestStatistic(), 0);
+        }
+    }
+
+    /**
+     * Test that an unmatched endUpdate is rejected.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testEndUpdateUnmatched() {
+        test.endUpdate();
+    }
+}
@@ -0,0 +1,49 @@
+package edu.missouristate.mote.effectsizes;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the CohenDIndT class.
+ */
+public class CohenDIndTTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Maximum allowed difference between expected and actual
+    private static final double DELTA = 0.0000001;
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Test that an interval that cannot be solved still gives t and d of the
+     * new inputs, and no limits.
+     */
+    @Test
+    public void testFailedInterval() {
+        final CohenDIndT test = new CohenDIndT();
+        test.setSize1(20);
+        test.setSize2(25);
+        test.setStdDev1(1);
+        test.setStdDev2(1);
+        test.setMean1(1);
+        assertEquals("", test.getErrorMessage());
+        assertNotNull(test.getInterval());
+        test.setMean1(100);
+        assertEquals("t value may be approximate", test.getErrorMessage());
+        assertEquals(100, test.getMeasure(), DELTA);
+        assertEquals(CohenDIndT.calcT(100, 0, test.getStdErrPooled()),
+                test.getTestStatistic(), DELTA);
+        assertTrue(Double.isNaN(test.getLowerMeasure()));
+        assertTrue(Double.isNaN(test.getUpperMeasure()));
+        assertTrue(Double.isNaN(test.getLowerNc()));
+        assertTrue(Double.isNaN(test.getUpperNc()));
+        assertNull(test.getInterval());
+        test.setMean1(1);
+        assertEquals("", test.getErrorMessage());
+        assertEquals(1, test.getMeasure(), DELTA);
+        assertTrue(test.getLowerMeasure() > 0);
+    }
+}
@@ -0,0 +1,41 @@
+package edu.missouristate.mote.effectsizes;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the CohenDR class.
+ */
+public class CohenDRTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Maximum allowed difference between expected and actual
+    private static final double DELTA = 0.0000001;
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Test that an interval that cannot be solved still gives t and d of the
+     * new correlation, and no limits.
+     */
+    @Test
+    public void testFailedInterval() {
+        final CohenDR test = new CohenDR();
+        test.setSize(30);
+        test.setRValue(0.3);
+        assertEquals("", test.getErrorMessage());
+        test.setRValue(3);
+        final double rValue = test.getRValue();
+        assertEquals("t value may be approximate", test.getErrorMessage());
+        assertEquals(CohenDR.calcD(rValue), test.getMeasure(), DELTA);
+        assertEquals(CohenDR.calcT(rValue, 30), test.getTestStatistic(),
+                DELTA);
+        assertTrue(test.getMeasure() > 4000);
+        assertTrue(Double.isNaN(test.getLowerMeasure()));
+        assertTrue(Double.isNaN(test.getUpperMeasure()));
+        assertNull(test.getInterval());
+    }
+}
@@ -2,6 +2,7 @@ package edu.missouristate.mote.effectsizes;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
+import edu.missouristate.mote.Constants;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -47,6 +48,25 @@ public class ConfIntNcfTest {
         
     }
 
+    /**
+     * Test that a curve limited to fewer points covers the same range.
+     */
+    @Test
+    public void testCreatePdfMaxPoints() {
+        final double[][] full = ConfIntNcf.createPdf(500, 4, 1000, 1900, 1800,
+                2300);
+        final double[][] coarse = ConfIntNcf.createPdf(500, 4, 1000, 1900,
+                1800, 2300, 256);
+        assertTrue(full[0].length > 256);
+        assertEquals(256, coarse[0].length);
+        assertEquals(full[0][0], coarse[0][0], DELTA);
+        assertEquals(full[0][full[0].length - 1],
+                coarse[0][coarse[0].length - 1], Constants.F_STEP);
+        final double[][] small = ConfIntNcf.createPdf(3, 2, 10, 4, 1, 7, 10000);
+        assertArrayEquals(ConfIntNcf.createPdf(3, 2, 10, 4, 1, 7)[1],
+                small[1], DELTA);
+    }
+
     /**
      * Test of findNonCentrality method, of class ConfIntNcf.
      */
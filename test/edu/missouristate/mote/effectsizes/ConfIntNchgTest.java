@@ -0,0 +1,87 @@
+package edu.missouristate.mote.effectsizes;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the ConfIntNchg class.
+ */
+public class ConfIntNchgTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+
+    // Maximum allowed difference between expected and actual
+    private static final double DELTA = 0.00001;
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+
+    /**
+     * Test of constructor, of class ConfIntNchg.
+     */
+    @Test
+    public void testConstructor() throws Exception {
+        final Constructor[] cons = ConfIntNchg.class.getDeclaredConstructors();
+        assertEquals("Should only have one constructor", 1, cons.length);
+        assertTrue("Constructor should be private",
+                Modifier.isPrivate(cons[0].getModifiers()));
+        cons[0].setAccessible(true);
+        assertEquals("Constructor should return the expected type",
+                ConfIntNchg.class, cons[0].newInstance().getClass());
+    }
+
+    /**
+     * Test of the exact interval against Fisher's tea tasting table. The
+     * estimate and lower limit are as reported by R's fisher.test; its upper
+     * limit (621.93) stops short of the root, so the exact root of
+     * P(X &lt;= 3) = 0.025 is used instead.
+     */
+    @Test
+    public void testTeaTasting() {
+        final ExactOddsRatio result = EffectSizes.oddsRatioExact(
+                new TwoByTwoTable(3, 1, 1, 3), 0.95);
+        assertEquals(6.408309, result.getConditionalMle(), 0.0001);
+        assertEquals(0.2117329, result.getLower(), 0.0001);
+        assertEquals(626.2435306, result.getUpper(), 0.0001);
+    }
+
+    /**
+     * Test of a table with an empty cell.
+     */
+    @Test
+    public void testEmptyCell() {
+        final ExactOddsRatio result = EffectSizes.oddsRatioExact(
+                new TwoByTwoTable(0, 5, 5, 5), 0.95);
+        assertEquals(0, result.getConditionalMle(), DELTA);
+        assertEquals(0, result.getLower(), DELTA);
+        assertTrue(result.getUpper() > 0);
+        assertFalse(Double.isInfinite(result.getUpper()));
+    }
+
+    /**
+     * Test that a large table agrees with the Woolf interval.
+     */
+    @Test
+    public void testLargeTable() {
+        final TwoByTwoTable table = new TwoByTwoTable(20000, 15000, 14000,
+                21000);
+        final ExactOddsRatio exact = EffectSizes.oddsRatioExact(table, 0.95);
+        final NormalInterval woolf = EffectSizes.oddsRatio(table, 0.95);
+        assertEquals(woolf.getMeasure(), exact.getConditionalMle(), 0.001);
+        assertEquals(woolf.getLowerMeasure(), exact.getLower(), 0.001);
+        assertEquals(woolf.getUpperMeasure(), exact.getUpper(), 0.001);
+    }
+
+    /**
+     * Test that counts must be whole numbers.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testFractionalCount() {
+        EffectSizes.oddsRatioExact(new TwoByTwoTable(2.5, 1, 1, 3), 0.95);
+    }
+}
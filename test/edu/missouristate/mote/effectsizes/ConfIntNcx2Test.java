@@ -0,0 +1,73 @@
+package edu.missouristate.mote.effectsizes;
+
+import edu.missouristate.mote.statistics.ChiSquareDist;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the ConfIntNcx2 class.
+ */
+public class ConfIntNcx2Test {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Maximum allowed difference between expected and actual
+    private static final double DELTA = 0.00001;
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Test of constructor, of class ConfIntNcx2.
+     */
+    @Test
+    public void testConstructor() throws Exception {
+        final Constructor[] cons = ConfIntNcx2.class.getDeclaredConstructors();
+        assertEquals("Should only have one constructor", 1, cons.length);
+        assertTrue("Constructor should be private",
+                Modifier.isPrivate(cons[0].getModifiers()));
+        cons[0].setAccessible(true);
+        assertEquals("Constructor should return the expected type",
+                ConfIntNcx2.class, cons[0].newInstance().getClass());
+    }
+
+    /**
+     * Test of createPdf method, of class ConfIntNcx2.
+     */
+    @Test
+    public void testCreatePdf() {
+        final double[][] result = ConfIntNcx2.createPdf(25, 6, 5.38, 5.38,
+                42.52);
+        assertEquals(result[0].length, result[1].length);
+        assertEquals(0, result[0][0], DELTA);
+        assertTrue(result[0][result[0].length - 1] > 25);
+        for (int i = 0; i < result[0].length; i++) {
+            assertTrue(result[1][i] >= 0);
+        }
+    }
+
+    /**
+     * Test of findNonCentrality method, of class ConfIntNcx2.
+     */
+    @Test
+    public void testFindNonCentrality() {
+        assertEquals(5.380570554992071,
+                ConfIntNcx2.findNonCentrality(25, 6, 0.975), DELTA);
+        assertEquals(42.521990666409636,
+                ConfIntNcx2.findNonCentrality(25, 6, 0.025), DELTA);
+        assertEquals(22.39325106393924,
+                ConfIntNcx2.findNonCentrality(10, 4, 0.025), DELTA);
+        assertEquals(14.0536371792229,
+                ConfIntNcx2.findNonCentrality(3.2, 1, 0.025), DELTA);
+        // Truncated at zero when the central CDF is below the target
+        assertEquals(0, ConfIntNcx2.findNonCentrality(10, 4, 0.975), 0);
+        // A warm start from a distant guess finds the same root
+        assertEquals(42.521990666409636,
+                ConfIntNcx2.findNonCentrality(25, 6, 0.025, 500), DELTA);
+        final double nc = ConfIntNcx2.findNonCentrality(5000, 12, 0.05);
+        assertEquals(0.05, ChiSquareDist.cdf(5000, 12, nc), 0.0000001);
+    }
+}
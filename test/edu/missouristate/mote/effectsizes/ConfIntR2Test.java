@@ -0,0 +1,53 @@
+package edu.missouristate.mote.effectsizes;
+
+import edu.missouristate.mote.statistics.RSquareDist;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the ConfIntR2 class.
+ */
+public class ConfIntR2Test {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Maximum allowed difference between expected and actual
+    private static final double DELTA = 0.0000001;
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Test of constructor, of class ConfIntR2.
+     */
+    @Test
+    public void testConstructor() throws Exception {
+        final Constructor[] cons = ConfIntR2.class.getDeclaredConstructors();
+        assertEquals("Should only have one constructor", 1, cons.length);
+        assertTrue("Constructor should be private",
+                Modifier.isPrivate(cons[0].getModifiers()));
+        cons[0].setAccessible(true);
+        assertEquals("Constructor should return the expected type",
+                ConfIntR2.class, cons[0].newInstance().getClass());
+    }
+
+    /**
+     * Test of findRhoSquared method, of class ConfIntR2.
+     */
+    @Test
+    public void testFindRhoSquared() {
+        final double lower = ConfIntR2.findRhoSquared(0.3, 3, 50, 0.975, 0.25);
+        assertEquals(0.975, RSquareDist.cdf(0.3, 3, 50, lower), DELTA);
+        final double upper = ConfIntR2.findRhoSquared(0.3, 3, 50, 0.025, 0.3);
+        assertEquals(0.025, RSquareDist.cdf(0.3, 3, 50, upper), DELTA);
+        assertTrue(lower < 0.3 && upper > 0.3);
+        // A distant guess finds the same root
+        assertEquals(upper,
+                ConfIntR2.findRhoSquared(0.3, 3, 50, 0.025, 0.999), 0.000001);
+        // Truncated at zero when the central CDF is below the target
+        assertEquals(0, ConfIntR2.findRhoSquared(0.02, 3, 50, 0.975, 0), 0);
+    }
+}
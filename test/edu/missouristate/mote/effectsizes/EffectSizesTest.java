@@ -0,0 +1,360 @@
+package edu.missouristate.mote.effectsizes;
+
+import edu.missouristate.mote.WorkerPool;
+import edu.missouristate.mote.statistics.RSquareDist;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the EffectSizes class.
+ */
+public class EffectSizesTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+
+    // Maximum allowed difference between expected and actual
+    private static final double DELTA = 0.00001;
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+
+    /**
+     * Assert that two results have the same measure and interval.
+     *
+     * @param expected expected result
+     * @param actual actual result
+     */
+    private static void assertIntervalEquals(final NcInterval expected,
+            final NcInterval actual) {
+        assertEquals(expected.getMeasure(), actual.getMeasure(), DELTA);
+        assertEquals(expected.getLowerMeasure(), actual.getLowerMeasure(),
+                DELTA);
+        assertEquals(expected.getUpperMeasure(), actual.getUpperMeasure(),
+                DELTA);
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+
+    /**
+     * Test of constructor, of class EffectSizes.
+     */
+    @Test
+    public void testConstructor() throws Exception {
+        final Constructor[] cons = EffectSizes.class.getDeclaredConstructors();
+        assertEquals("Should only have one constructor", 1, cons.length);
+        assertTrue("Constructor should be private",
+                Modifier.isPrivate(cons[0].getModifiers()));
+        cons[0].setAccessible(true);
+        assertEquals("Constructor should return the expected type",
+                EffectSizes.class, cons[0].newInstance().getClass());
+    }
+
+    /**
+     * Test of cohenDIndT method, of class EffectSizes.
+     */
+    @Test
+    public void testCohenDIndT() {
+        final TwoGroupSummary input =
+                new TwoGroupSummary(5.1, 4.3, 1.2, 1.5, 20, 25);
+        final NcInterval result = EffectSizes.cohenDIndT(input, 0.95);
+        assertEquals(1.938641432, result.getTestStatistic(), DELTA);
+        assertEquals(0.5815924296, result.getMeasure(), DELTA);
+        assertEquals(-0.0222702026, result.getLowerMeasure(), DELTA);
+        assertEquals(1.178981495, result.getUpperMeasure(), DELTA);
+        assertFalse(result.isF());
+
+        // The t form solves the same non-centrality bounds
+        final NcInterval fromT = EffectSizes.cohenDIndT(
+                input.getTValue(), 20, 25, 0.95);
+        assertEquals(result.getLowerNc(), fromT.getLowerNc(), DELTA);
+        assertEquals(result.getUpperNc(), fromT.getUpperNc(), DELTA);
+    }
+
+    /**
+     * Test that the bean reports the calculator's values.
+     */
+    @Test
+    public void testMatchesBean() {
+        final CohenDDepTDiff bean = new CohenDDepTDiff();
+        bean.setSize(30);
+        bean.setMeanDiff(0.7);
+        bean.setStdDevDiff(1.3);
+        final NcInterval result = EffectSizes.cohenDDepTDiff(
+                new DifferenceSummary(0.7, 1.3, 30), 0.95);
+        assertEquals(bean.getMeasure(), result.getMeasure(), DELTA);
+        assertEquals(bean.getLowerMeasure(), result.getLowerMeasure(), DELTA);
+        assertEquals(bean.getUpperMeasure(), result.getUpperMeasure(), DELTA);
+    }
+
+    /**
+     * Test of oddsRatio method, of class EffectSizes.
+     */
+    @Test
+    public void testOddsRatio() {
+        final NormalInterval result = EffectSizes.oddsRatio(
+                new TwoByTwoTable(20, 10, 15, 25), 0.95);
+        assertEquals(3.333333333, result.getMeasure(), DELTA);
+        assertEquals(1.234924659, result.getLowerMeasure(), DELTA);
+        assertEquals(8.997399985, result.getUpperMeasure(), DELTA);
+    }
+
+    /**
+     * Test of cramersV method, of class EffectSizes.
+     */
+    @Test
+    public void testCramersV() {
+        // 4 x 3 table: df = 6, N * (min(r, c) - 1) = 400
+        final NcInterval result = EffectSizes.cramersV(25, 200, 4, 3, 0.95);
+        assertTrue(result.isChiSquare());
+        assertFalse(result.isF());
+        assertEquals(Math.sqrt(19.0 / 400), result.getMeasure(), DELTA);
+        assertEquals(Math.sqrt(5.380570554992071 / 400),
+                result.getLowerMeasure(), DELTA);
+        assertEquals(Math.sqrt(42.521990666409636 / 400),
+                result.getUpperMeasure(), DELTA);
+        // 2 x 2 table: chi-square is below df, so V and its lower limit are
+        // zero
+        final NcInterval table = EffectSizes.cramersV(new ContingencyTable(
+                new double[][]{{10, 20}, {30, 40}}), 0.95);
+        assertEquals(50.0 / 63.0, table.getTestStatistic(), DELTA);
+        assertEquals(0, table.getMeasure(), DELTA);
+        assertEquals(0, table.getLowerMeasure(), DELTA);
+        assertEquals(EffectSizes.cramersV(50.0 / 63.0, 100, 2, 2, 0.95)
+                .getUpperMeasure(), table.getUpperMeasure(), DELTA);
+        try {
+            new ContingencyTable(new double[][]{{10, 20}, {0, 0}});
+            fail("An empty row should be rejected");
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    /**
+     * Test that V lies within its interval when chi-square is below df.
+     */
+    @Test
+    public void testCramersVBelowDf() {
+        // 5 x 6 table: df = 20
+        for (double chiSquare : new double[]{8, 15, 19.9}) {
+            final NcInterval result = EffectSizes.cramersV(chiSquare, 100, 5,
+                    6, 0.95);
+            assertEquals(0, result.getMeasure(), 0);
+            assertTrue(result.getLowerMeasure() <= result.getMeasure());
+            assertTrue(result.getMeasure() <= result.getUpperMeasure());
+        }
+    }
+
+    /**
+     * Test of deltaR2FChange method, of class EffectSizes.
+     */
+    @Test
+    public void testDeltaR2FChange() {
+        // F = (0.15 / 2) / (0.65 / 94)
+        final NcInterval result = EffectSizes.deltaR2FChange(0.35, 0.2, 100,
+                5, 2, 0.95);
+        assertTrue(result.isF());
+        assertEquals(0.15 * 94 / (2 * 0.65), result.getTestStatistic(),
+                DELTA);
+        assertEquals(0.15, result.getMeasure(), DELTA);
+        assertEquals(0.8 * result.getLowerNc() / (result.getLowerNc() + 97),
+                result.getLowerMeasure(), DELTA);
+        assertEquals(0.8 * result.getUpperNc() / (result.getUpperNc() + 97),
+                result.getUpperMeasure(), DELTA);
+        assertTrue(result.getLowerMeasure() < 0.15);
+        assertTrue(result.getUpperMeasure() > 0.15);
+        try {
+            EffectSizes.deltaR2FChange(0.2, 0.35, 100, 5, 2, 0.95);
+            fail("A reduced R squared above the full should be rejected");
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    /**
+     * Test of eta2FOmni method, of class EffectSizes.
+     */
+    @Test
+    public void testEta2FOmni() {
+        final NcInterval result = EffectSizes.eta2FOmni(4, 3, 40, 0.95);
+        assertTrue(result.isF());
+        assertEquals(12.0 / 52.0, result.getMeasure(), DELTA);
+        assertTrue(result.getLowerMeasure() >= 0);
+        assertTrue(result.getLowerMeasure() < result.getMeasure());
+        assertTrue(result.getUpperMeasure() > result.getMeasure());
+        assertTrue(result.getUpperMeasure() < 1);
+        assertEquals(result.getLowerNc() / (result.getLowerNc() + 44),
+                result.getLowerMeasure(), DELTA);
+    }
+
+    /**
+     * Test that an F below the lower critical value has a lower limit of
+     * zero, and an F below the upper critical value an upper limit of zero.
+     */
+    @Test
+    public void testEta2FOmniBelowCritical() {
+        for (double fValue : new double[]{1, 3}) {
+            final NcInterval result = EffectSizes.eta2FOmni(fValue, 2, 42,
+                    0.9);
+            assertEquals(0, result.getLowerNc(), 0);
+            assertEquals(0, result.getLowerMeasure(), 0);
+            assertTrue(result.getLowerMeasure() <= result.getMeasure());
+            assertTrue(result.getMeasure() <= result.getUpperMeasure());
+            assertTrue(result.getLowerPdf()[0].length > 0);
+        }
+        final NcInterval result = EffectSizes.eta2FOmni(0.01, 2, 42, 0.9);
+        assertEquals(0, result.getLowerMeasure(), 0);
+        assertEquals(0, result.getUpperMeasure(), 0);
+    }
+
+    /**
+     * Test of fFamily method, of class EffectSizes.
+     */
+    @Test
+    public void testFFamily() {
+        final AnovaSummary input = new AnovaSummary(20, 100, 3, 40);
+        final FFamilyReport report = EffectSizes.fFamily(input, 0.95);
+        assertIntervalEquals(EffectSizes.eta2FOmni(input, 0.95),
+                report.getEtaSquared());
+        assertIntervalEquals(EffectSizes.pEta2FEff(input, 0.95),
+                report.getPartialEtaSquared());
+        assertIntervalEquals(EffectSizes.omega2FOmni(input, 0.95),
+                report.getOmegaSquared());
+        assertIntervalEquals(EffectSizes.pOmega2FEff(input, 0.95),
+                report.getPartialOmegaSquared());
+        assertIntervalEquals(EffectSizes.rIntraCorrF(input, 0.95),
+                report.getIntraCorr());
+
+        final FFamilyReport fromF = EffectSizes.fFamily(4, 3, 40, 0.95);
+        assertIntervalEquals(EffectSizes.eta2FOmni(4, 3, 40, 0.95),
+                fromF.getEtaSquared());
+        assertIntervalEquals(EffectSizes.omega2FOmni(4, 3, 40, 0.95),
+                fromF.getOmegaSquared());
+        assertIntervalEquals(EffectSizes.pOmega2FEff(4, 3, 40, 0.95),
+                fromF.getPartialOmegaSquared());
+        assertEquals(3.0 / 7.0, fromF.getIntraCorr().getMeasure(), DELTA);
+        assertEquals(fromF.getLowerNc(),
+                fromF.getIntraCorr().getLowerNc(), DELTA);
+    }
+
+    /**
+     * Test of tFamily method, of class EffectSizes.
+     */
+    @Test
+    public void testTFamily() {
+        final TwoGroupSummary input =
+                new TwoGroupSummary(5.1, 4.3, 1.2, 1.5, 20, 25);
+        final TFamilyReport report = EffectSizes.tFamily(input, 0.95);
+        assertIntervalEquals(EffectSizes.cohenDIndT(input, 0.95),
+                report.getCohenD());
+        assertIntervalEquals(EffectSizes.hedgesGIndT(input, 0.95),
+                report.getHedgesG());
+        assertIntervalEquals(EffectSizes.glassDIndT(input, 0.95),
+                report.getGlassDelta());
+
+        // r = t / sqrt(t^2 + df), applied to t and to each bound
+        final NcInterval rValue = report.getPointBiserialR();
+        final double tValue = input.getTValue();
+        assertEquals(tValue / Math.sqrt(tValue * tValue + 43),
+                rValue.getMeasure(), DELTA);
+        final double lowerNc = report.getLowerNc();
+        assertEquals(lowerNc / Math.sqrt(lowerNc * lowerNc + 43),
+                rValue.getLowerMeasure(), DELTA);
+        assertTrue(rValue.getLowerMeasure() < rValue.getMeasure());
+        assertTrue(rValue.getUpperMeasure() > rValue.getMeasure());
+        assertTrue(rValue.getUpperMeasure() < 1);
+
+        final TFamilyReport fromT = EffectSizes.tFamily(2.2, 20, 25, 0.95);
+        assertIntervalEquals(EffectSizes.cohenDIndT(2.2, 20, 25, 0.95),
+                fromT.getCohenD());
+        assertIntervalEquals(EffectSizes.hedgesGIndT(2.2, 20, 25, 0.95),
+                fromT.getHedgesG());
+        assertNull(fromT.getGlassDelta());
+    }
+
+    /**
+     * Test that bad arguments are rejected.
+     */
+    @Test
+    public void testBadArguments() {
+        try {
+            EffectSizes.cohenDSst(2, 30, 1);
+            fail("Confidence of 1 should be rejected");
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        try {
+            EffectSizes.eta2FOmni(0, 3, 40, 0.95);
+            fail("F of zero should be rejected");
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    /**
+     * Test of r2FOmni method, of class EffectSizes.
+     */
+    @Test
+    public void testR2FOmni() {
+        // Same non-central F as eta squared with df = 3 and 46
+        final NcInterval result = EffectSizes.r2FOmni(0.3, 50, 3, 0.95);
+        final NcInterval eta = EffectSizes.eta2FOmni(0.3 * 46 / (3 * 0.7), 3,
+                46, 0.95);
+        assertEquals(0.3, result.getMeasure(), DELTA);
+        assertEquals(eta.getTestStatistic(), result.getTestStatistic(), DELTA);
+        assertEquals(eta.getLowerMeasure(), result.getLowerMeasure(), DELTA);
+        assertEquals(eta.getUpperMeasure(), result.getUpperMeasure(), DELTA);
+        // An F below the lower critical value has a lower limit of zero
+        final NcInterval small = EffectSizes.r2FOmni(0.02, 50, 3, 0.95);
+        assertEquals(0, small.getLowerNc(), 0);
+        assertEquals(0, small.getLowerMeasure(), 0);
+        assertTrue(small.getUpperMeasure() > 0.02);
+        try {
+            EffectSizes.r2FOmni(0.3, 4, 3, 0.95);
+            fail("N <= predictors + 1 should be rejected");
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    /**
+     * Test of r2Exact method, of class EffectSizes.
+     */
+    @Test
+    public void testR2Exact() {
+        final ExactRSquared result = EffectSizes.r2Exact(0.3, 50, 3, 0.95);
+        assertEquals(0.3, result.getRSquared(), 0);
+        assertEquals(0.975, RSquareDist.cdf(0.3, 3, 50, result.getLower()),
+                0.0000001);
+        assertEquals(0.025, RSquareDist.cdf(0.3, 3, 50, result.getUpper()),
+                0.0000001);
+        assertEquals(0, EffectSizes.r2Exact(0.02, 50, 3, 0.95).getLower(), 0);
+    }
+
+    /**
+     * Test that bounds solved at the same time equal bounds solved in turn.
+     */
+    @Test
+    public void testSplitBounds() {
+        final boolean splitting = WorkerPool.isSplitting();
+        try {
+            final TwoGroupSummary input =
+                    new TwoGroupSummary(5, 4, 2, 2.5, 20, 24);
+            WorkerPool.setSplitting(false);
+            final NcInterval dInTurn = EffectSizes.cohenDIndT(input, 0.95);
+            final NcInterval etaInTurn = EffectSizes.eta2FOmni(6.5, 2, 60, 0.95);
+            WorkerPool.setSplitting(true);
+            assertIntervalEquals(dInTurn, EffectSizes.cohenDIndT(input, 0.95));
+            assertIntervalEquals(etaInTurn,
+                    EffectSizes.eta2FOmni(6.5, 2, 60, 0.95));
+        } finally {
+            WorkerPool.setSplitting(splitting);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package edu.missouristate.mote.effectsizes;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the Measure enum.
+ */
+public class MeasureTest {
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Test of createTest method, of enum Measure.
+     */
+    @Test
+    public void testCreateTest() {
+        for (Measure measure : Measure.values()) {
+            final AbstractTest test = measure.createTest();
+            assertEquals(measure.getTestClass(), test.getClass());
+            assertNotSame(test, measure.createTest());
+        }
+    }
+
+    /**
+     * Test of getMeasureName and getTestName methods, of enum Measure. The
+     * registry names are the names each test reports.
+     */
+    @Test
+    public void testNames() {
+        for (Measure measure : Measure.values()) {
+            final AbstractTest test = measure.createTest();
+            assertEquals(measure.name(), test.getMeasureName(),
+                    measure.getMeasureName());
+            assertEquals(measure.name(), test.getTestName(),
+                    measure.getTestName());
+            assertEquals(test.getMeasureName() + " - " + test.getTestName(),
+                    measure.getLabel());
+        }
+    }
+
+    /**
+     * Test of getFamily method, of enum Measure. Each family is one block of
+     * the menu.
+     */
+    @Test
+    public void testGetFamily() {
+        final Measure[] values = Measure.values();
+        for (int i = 1; i < values.length; i++) {
+            assertTrue(values[i].name(), values[i].getFamily().ordinal()
+                    >= values[i - 1].getFamily().ordinal());
+        }
+        assertEquals(Measure.Family.T, values[0].getFamily());
+    }
+
+    /**
+     * Test of forClass method, of enum Measure.
+     */
+    @Test
+    public void testForClass() {
+        for (Measure measure : Measure.values()) {
+            assertSame(measure, Measure.forClass(measure.getTestClass()));
+        }
+        try {
+            Measure.forClass(AbstractTest.class);
+            fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            assertTrue(ex.getMessage().contains("AbstractTest"));
+        }
+    }
+}
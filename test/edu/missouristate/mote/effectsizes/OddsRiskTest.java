@@ -0,0 +1,35 @@
+package edu.missouristate.mote.effectsizes;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the OddsRisk class.
+ */
+public class OddsRiskTest {
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Test that a failed exact interval is reported, while the normal
+     * interval is still given.
+     */
+    @Test
+    public void testFailedExactInterval() {
+        final OddsRisk test = new OddsRisk();
+        assertEquals("", test.getErrorMessage());
+        test.setValue11(2);
+        test.setValue12(1);
+        test.setValue21(1);
+        test.setValue22(3);
+        assertEquals("", test.getErrorMessage());
+        assertFalse(Double.isNaN(test.getExactLowerMeasure()));
+        test.setValue11(2.5);
+        assertFalse(test.getErrorMessage().isEmpty());
+        assertTrue(Double.isNaN(test.getExactLowerMeasure()));
+        assertTrue(Double.isNaN(test.getExactUpperMeasure()));
+        assertFalse(Double.isNaN(test.getLowerMeasure()));
+        assertFalse(Double.isNaN(test.getUpperMeasure()));
+    }
+}
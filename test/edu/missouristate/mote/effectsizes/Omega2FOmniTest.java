@@ -0,0 +1,44 @@
+package edu.missouristate.mote.effectsizes;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the Omega2FOmni class.
+ */
+public class Omega2FOmniTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Maximum allowed difference between expected and actual
+    private static final double DELTA = 0.0000001;
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Test that an interval that cannot be solved still gives F and omega
+     * squared of the new inputs, and no limits.
+     */
+    @Test
+    public void testFailedInterval() {
+        final Omega2FOmni test = new Omega2FOmni();
+        test.setSsEffect(30);
+        test.setSsTotal(100);
+        test.setDfEffect(2);
+        test.setDfError(40);
+        assertEquals("", test.getErrorMessage());
+        assertTrue(test.getLowerMeasure() > 0);
+        test.setSsEffect(0);
+        assertEquals("F is zero", test.getErrorMessage());
+        assertEquals(0, test.getTestStatistic(), DELTA);
+        assertEquals(Omega2FOmni.calcOmegaSquared(0, 100, 2, test.getMse()),
+                test.getMeasure(), DELTA);
+        assertTrue(Double.isNaN(test.getLowerMeasure()));
+        assertTrue(Double.isNaN(test.getUpperMeasure()));
+        assertTrue(Double.isNaN(test.getLowerNc()));
+        assertTrue(Double.isNaN(test.getUpperNc()));
+        assertNull(test.getInterval());
+    }
+}
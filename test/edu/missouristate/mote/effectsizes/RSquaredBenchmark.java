@@ -0,0 +1,132 @@
+package edu.missouristate.mote.effectsizes;
+
+/**
+ * Timing of the R squared intervals against eta squared with the same
+ * degrees of freedom. Run the main method directly; each pass is run once
+ * untimed to warm up.
+ */
+public final class RSquaredBenchmark {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Number of inputs in each timed pass
+    private static final int INPUTS = 2000;
+    // Confidence level of every interval
+    private static final double CONFIDENCE = 0.95;
+    // Number of predictors
+    private static final double PREDICTORS = 3;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a RSquaredBenchmark.
+     */
+    private RSquaredBenchmark() {
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return the sample size of an input.
+     *
+     * @param index input index
+     * @return N
+     */
+    private static double size(final int index) {
+        return 20 + index % 180;
+    }
+
+    /**
+     * Return the R squared of an input.
+     *
+     * @param index input index
+     * @return R squared
+     */
+    private static double rSquared(final int index) {
+        return 0.05 + (index % 40) * 0.02;
+    }
+
+    /**
+     * Compute eta squared from the F of each R squared.
+     *
+     * @return elapsed nanoseconds
+     */
+    private static long timeEta2() {
+        final long start = System.nanoTime();
+        double sink = 0;
+        for (int index = 0; index < INPUTS; index++) {
+            final double dfError = size(index) - PREDICTORS - 1;
+            final double rSquared = rSquared(index);
+            sink += EffectSizes.eta2FOmni(rSquared * dfError
+                    / (PREDICTORS * (1 - rSquared)), PREDICTORS, dfError,
+                    CONFIDENCE).getUpperMeasure();
+        }
+        final long elapsed = System.nanoTime() - start;
+        if (Double.isNaN(sink)) {
+            System.out.println("NaN");
+        }
+        return elapsed;
+    }
+
+    /**
+     * Compute R squared with the non-central F interval.
+     *
+     * @return elapsed nanoseconds
+     */
+    private static long timeR2() {
+        final long start = System.nanoTime();
+        double sink = 0;
+        for (int index = 0; index < INPUTS; index++) {
+            sink += EffectSizes.r2FOmni(rSquared(index), size(index),
+                    PREDICTORS, CONFIDENCE).getUpperMeasure();
+        }
+        final long elapsed = System.nanoTime() - start;
+        if (Double.isNaN(sink)) {
+            System.out.println("NaN");
+        }
+        return elapsed;
+    }
+
+    /**
+     * Compute the exact interval of rho squared.
+     *
+     * @return elapsed nanoseconds
+     */
+    private static long timeExact() {
+        final long start = System.nanoTime();
+        double sink = 0;
+        for (int index = 0; index < INPUTS; index++) {
+            sink += EffectSizes.r2Exact(rSquared(index), size(index),
+                    PREDICTORS, CONFIDENCE).getUpper();
+        }
+        final long elapsed = System.nanoTime() - start;
+        if (Double.isNaN(sink)) {
+            System.out.println("NaN");
+        }
+        return elapsed;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Run the benchmark.
+     *
+     * @param args not used
+     */
+    public static void main(final String[] args) {
+        timeEta2();
+        timeR2();
+        timeExact();
+        final long eta2 = timeEta2();
+        final long r2 = timeR2();
+        final long exact = timeExact();
+        System.out.printf("%d inputs%n", INPUTS);
+        System.out.printf("eta squared: %.1f ms%n", eta2 * 1e-6);
+        System.out.printf("R squared, non-central F: %.1f ms%n", r2 * 1e-6);
+        System.out.printf("R squared, exact: %.1f ms%n", exact * 1e-6);
+    }
+}
@@ -0,0 +1,124 @@
+package edu.missouristate.mote.effectsizes;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the ResultCache class.
+ */
+public class ResultCacheTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    private static final double DELTA = 0.00001;
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private double input;
+    private int computations;
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return an entry that doubles the input, failing on a negative input.
+     *
+     * @param cache cache of the entry
+     * @return entry
+     */
+    private ResultCache.Entry<Double> createEntry(
+            final ResultCache cache) {
+        return new ResultCache.Entry<Double>(cache) {
+            @Override
+            protected double[] getKey() {
+                return new double[]{input};
+            }
+
+            @Override
+            protected Double compute() {
+                computations++;
+                if (input < 0) {
+                    throw new IllegalArgumentException("negative");
+                }
+                return input * 2;
+            }
+        };
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Test that an entry is computed only when its key changes.
+     */
+    @Test
+    public void testGet() {
+        final ResultCache cache = new ResultCache();
+        final ResultCache.Entry<Double> entry = createEntry(cache);
+        input = 1;
+        assertEquals(2, entry.get(), DELTA);
+        assertEquals(2, entry.get(), DELTA);
+        input = 3;
+        assertEquals(6, entry.get(), DELTA);
+        assertEquals(2, computations);
+        assertEquals(2, cache.getComputeCount());
+        assertEquals(1, cache.getSkipCount());
+    }
+
+    /**
+     * Test that a failure is kept until the key changes.
+     */
+    @Test
+    public void testGetFailure() {
+        final ResultCache cache = new ResultCache();
+        final ResultCache.Entry<Double> entry = createEntry(cache);
+        input = -1;
+        for (int index = 0; index < 2; index++) {
+            try {
+                entry.get();
+                fail("expected IllegalArgumentException");
+            } catch (IllegalArgumentException ex) {
+                assertEquals("negative", ex.getMessage());
+            }
+        }
+        assertEquals(1, computations);
+        input = 1;
+        assertEquals(2, entry.get(), DELTA);
+        assertEquals(2, computations);
+    }
+
+    /**
+     * Test that a test solves its interval again only when a value it is
+     * solved from changes.
+     */
+    @Test
+    public void testTestCounts() {
+        final CohenDIndT test = new CohenDIndT();
+        test.setSize1(16);
+        test.setSize2(16);
+        test.setMean1(5);
+        test.setMean2(4);
+        test.setStdDev1(2);
+        test.setStdDev2(2);
+        final double lower = test.getLowerMeasure();
+        long computed = test.getComputeCount();
+        long skipped = test.getSkipCount();
+        // The same confidence again is skipped
+        test.setConfidence(0.95);
+        assertEquals(computed, test.getComputeCount());
+        assertEquals(skipped + 1, test.getSkipCount());
+        // Entering the standard error equivalent to the standard deviation
+        // leaves every value of the interval as it was
+        test.setStdErr1(0.5);
+        assertEquals(2, test.getStdDev1(), DELTA);
+        assertEquals(computed, test.getComputeCount());
+        assertEquals(skipped + 2, test.getSkipCount());
+        assertEquals(lower, test.getLowerMeasure(), DELTA);
+        // A new confidence solves the interval again
+        test.setConfidence(0.9);
+        assertEquals(computed + 1, test.getComputeCount());
+        assertTrue(test.getLowerMeasure() > lower);
+    }
+}
@@ -0,0 +1,144 @@
+package edu.missouristate.mote.effectsizes;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the SensitivitySweep class.
+ */
+public class SensitivitySweepTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Maximum allowed difference between expected and actual
+    private static final double DELTA = 0.0001;
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Each grid point should match the independent t test with the same
+     * inputs entered through its setters.
+     */
+    @Test
+    public void testIndependentT() {
+        final CohenDIndT template = new CohenDIndT();
+        template.setSize1(20);
+        template.setSize2(25);
+        template.setMean1(5.5);
+        template.setMean2(4.8);
+        template.setStdDev1(1.2);
+        template.setStdDev2(1.4);
+        final double[] sizes1 = new double[]{10, 20, 40};
+        final double[] sizes2 = new double[]{10, 15, 20, 25, 30, 35};
+        final SweepResult result = new SensitivitySweep(template).sweep(
+                SensitivitySweep.Parameter.SIZE1, sizes1,
+                SensitivitySweep.Parameter.SIZE2, sizes2);
+        for (int row = 0; row < sizes1.length; row++) {
+            for (int col = 0; col < sizes2.length; col++) {
+                final CohenDIndT test = new CohenDIndT();
+                test.setSize1(sizes1[row]);
+                test.setSize2(sizes2[col]);
+                test.setMean1(5.5);
+                test.setMean2(4.8);
+                test.setStdDev1(1.2);
+                test.setStdDev2(1.4);
+                assertEquals(test.getMeasure(),
+                        result.getMeasure()[row][col], DELTA);
+                assertEquals(test.getLowerMeasure(),
+                        result.getLowerMeasure()[row][col], DELTA);
+                assertEquals(test.getUpperMeasure(),
+                        result.getUpperMeasure()[row][col], DELTA);
+            }
+        }
+    }
+
+    /**
+     * A one-dimensional confidence sweep should match the dependent t test.
+     */
+    @Test
+    public void testDependentTConfidence() {
+        final CohenDDepTDiff template = new CohenDDepTDiff();
+        template.setSize(30);
+        template.setTestStatistic(2.5);
+        final double[] confidences = new double[40];
+        for (int index = 0; index < confidences.length; index++) {
+            confidences[index] = 0.5 + index * 0.01;
+        }
+        final SweepResult result = new SensitivitySweep(template).sweep(
+                SensitivitySweep.Parameter.CONFIDENCE, confidences);
+        assertNull(result.getRowParameter());
+        assertEquals(1, result.getMeasure().length);
+        for (int col = 0; col < confidences.length; col++) {
+            template.setConfidence(confidences[col]);
+            assertEquals(template.getLowerNc(), result.getLowerNc()[0][col],
+                    DELTA);
+            assertEquals(template.getUpperNc(), result.getUpperNc()[0][col],
+                    DELTA);
+            assertEquals(template.getLowerMeasure(),
+                    result.getLowerMeasure()[0][col], DELTA);
+        }
+    }
+
+    /**
+     * An error degrees of freedom sweep should match the F test omnibus.
+     */
+    @Test
+    public void testEtaSquaredDfError() {
+        final Eta2FOmni template = new Eta2FOmni();
+        template.setDfEffect(3);
+        template.setDfError(40);
+        template.setSsEffect(30);
+        template.setSsTotal(90);
+        final double[] dfErrors = new double[]{30, 40, 60, 80, 120};
+        final SweepResult result = new SensitivitySweep(template).sweep(
+                SensitivitySweep.Parameter.DF_ERROR, dfErrors);
+        for (int col = 0; col < dfErrors.length; col++) {
+            template.setDfError(dfErrors[col]);
+            assertEquals(template.getMeasure(), result.getMeasure()[0][col],
+                    DELTA);
+            assertEquals(template.getLowerMeasure(),
+                    result.getLowerMeasure()[0][col], DELTA);
+            assertEquals(template.getUpperMeasure(),
+                    result.getUpperMeasure()[0][col], DELTA);
+        }
+    }
+
+    /**
+     * An F below the lower critical value should have a lower limit of zero
+     * at every grid point, as in the F test omnibus.
+     */
+    @Test
+    public void testEtaSquaredBelowCritical() {
+        final Eta2FOmni template = new Eta2FOmni();
+        template.setDfEffect(2);
+        final double[] dfErrors = new double[]{30, 42, 60};
+        final double[] fValues = new double[]{1, 2, 3};
+        final SweepResult result = new SensitivitySweep(template).sweep(
+                SensitivitySweep.Parameter.DF_ERROR, dfErrors,
+                SensitivitySweep.Parameter.TEST_STATISTIC, fValues);
+        for (int row = 0; row < dfErrors.length; row++) {
+            for (int col = 0; col < fValues.length; col++) {
+                template.setDfError(dfErrors[row]);
+                template.setTestStatistic(fValues[col]);
+                assertEquals(0, result.getLowerMeasure()[row][col], 0);
+                assertEquals(template.getLowerMeasure(),
+                        result.getLowerMeasure()[row][col], DELTA);
+                assertEquals(template.getUpperMeasure(),
+                        result.getUpperMeasure()[row][col], DELTA);
+                assertTrue(result.getMeasure()[row][col]
+                        <= result.getUpperMeasure()[row][col]);
+            }
+        }
+    }
+
+    /**
+     * Parameters that do not apply to the template should be rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongParameter() {
+        new SensitivitySweep(new Eta2FOmni()).sweep(
+                SensitivitySweep.Parameter.SIZE1, new double[]{10});
+    }
+}
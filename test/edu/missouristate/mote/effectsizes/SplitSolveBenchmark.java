@@ -0,0 +1,78 @@
+package edu.missouristate.mote.effectsizes;
+
+import edu.missouristate.mote.WorkerPool;
+
+/**
+ * Latency of one interactive calculation, its two interval limits and two
+ * coarse curves, with the pieces run at the same time on the worker pool and
+ * in turn. Run the main method directly; each pass is run once untimed to
+ * warm up. The pieces only overlap with more than one processor.
+ */
+public final class SplitSolveBenchmark {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Number of calculations in each timed pass
+    private static final int CALCULATIONS = 300;
+    // Confidence level of every interval
+    private static final double CONFIDENCE = 0.95;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a SplitSolveBenchmark.
+     */
+    private SplitSolveBenchmark() {
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Time Cohen's d and eta squared calculations with their coarse curves.
+     *
+     * @param splitting true to run the pieces at the same time
+     * @return elapsed nanoseconds per calculation
+     */
+    private static double time(final boolean splitting) {
+        WorkerPool.setSplitting(splitting);
+        final long start = System.nanoTime();
+        double sink = 0;
+        for (int index = 0; index < CALCULATIONS; index++) {
+            final double size = 10 + index % 90;
+            final NcInterval d = EffectSizes.cohenDIndT(new TwoGroupSummary(
+                    (index % 40) * 0.05, 0, 1, 1.2, size, size + 5),
+                    CONFIDENCE);
+            final NcInterval eta = EffectSizes.eta2FOmni(
+                    5 + (index % 30) * 0.5, 3, size * 2, CONFIDENCE);
+            sink += d.getCoarsePdfs()[1][1][0] + eta.getCoarsePdfs()[1][1][0];
+        }
+        final long elapsed = System.nanoTime() - start;
+        if (Double.isNaN(sink)) {
+            System.out.println("NaN");
+        }
+        return (double) elapsed / CALCULATIONS / 2;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Run the benchmark.
+     *
+     * @param args not used
+     */
+    public static void main(final String[] args) {
+        time(false);
+        time(true);
+        final double inTurn = time(false);
+        final double split = time(true);
+        System.out.printf("%d calculations, %d workers%n", CALCULATIONS * 2,
+                WorkerPool.getThreads());
+        System.out.printf("in turn: %.2f ms per calculation%n", inTurn * 1e-6);
+        System.out.printf("split:   %.2f ms per calculation%n", split * 1e-6);
+        System.out.printf("speedup: %.2fx%n", inTurn / split);
+    }
+}
@@ -0,0 +1,108 @@
+package edu.missouristate.mote.effectsizes;
+
+/**
+ * Timing of the independent t measures computed one at a time against one
+ * single-solve report. Run the main method directly; each pass is run once
+ * untimed to warm up.
+ */
+public final class TFamilyBenchmark {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Number of inputs in each timed pass
+    private static final int INPUTS = 2000;
+    // Confidence level of every interval
+    private static final double CONFIDENCE = 0.95;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a TFamilyBenchmark.
+     */
+    private TFamilyBenchmark() {
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return a spread of group summaries.
+     *
+     * @return group summaries
+     */
+    private static TwoGroupSummary[] createInputs() {
+        final TwoGroupSummary[] result = new TwoGroupSummary[INPUTS];
+        for (int index = 0; index < INPUTS; index++) {
+            final double size = 10 + index % 90;
+            result[index] = new TwoGroupSummary(
+                    (index % 40) * 0.05, 0, 1, 1.2, size, size + 5);
+        }
+        return result;
+    }
+
+    /**
+     * Compute d, g and Glass's delta one measure at a time.
+     *
+     * @param inputs group summaries
+     * @return elapsed nanoseconds
+     */
+    private static long timeSeparate(final TwoGroupSummary[] inputs) {
+        final long start = System.nanoTime();
+        double sink = 0;
+        for (TwoGroupSummary input : inputs) {
+            sink += EffectSizes.cohenDIndT(input, CONFIDENCE).getUpperMeasure();
+            sink += EffectSizes.hedgesGIndT(input, CONFIDENCE)
+                    .getUpperMeasure();
+            sink += EffectSizes.glassDIndT(input, CONFIDENCE).getUpperMeasure();
+        }
+        final long elapsed = System.nanoTime() - start;
+        if (Double.isNaN(sink)) {
+            System.out.println("NaN");
+        }
+        return elapsed;
+    }
+
+    /**
+     * Compute d, g, Glass's delta and r with one report.
+     *
+     * @param inputs group summaries
+     * @return elapsed nanoseconds
+     */
+    private static long timeReport(final TwoGroupSummary[] inputs) {
+        final long start = System.nanoTime();
+        double sink = 0;
+        for (TwoGroupSummary input : inputs) {
+            sink += EffectSizes.tFamily(input, CONFIDENCE).getPointBiserialR()
+                    .getUpperMeasure();
+        }
+        final long elapsed = System.nanoTime() - start;
+        if (Double.isNaN(sink)) {
+            System.out.println("NaN");
+        }
+        return elapsed;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Run the benchmark.
+     *
+     * @param args not used
+     */
+    public static void main(final String[] args) {
+        final TwoGroupSummary[] inputs = createInputs();
+        timeSeparate(inputs);
+        timeReport(inputs);
+        final long separate = timeSeparate(inputs);
+        final long report = timeReport(inputs);
+        System.out.printf("%d inputs%n", INPUTS);
+        System.out.printf("d, g, delta separately: %.1f ms (6 root searches"
+                + " each)%n", separate * 1e-6);
+        System.out.printf("d, g, delta and r report: %.1f ms (2 root searches"
+                + " each)%n", report * 1e-6);
+        System.out.printf("speedup: %.2fx%n", (double) separate / report);
+    }
+}
@@ -0,0 +1,107 @@
+package edu.missouristate.mote.graph;
+
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.effectsizes.EffectSizes;
+import edu.missouristate.mote.effectsizes.NcInterval;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.swing.SwingUtilities;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the CurveRefiner class.
+ */
+public class CurveRefinerTest {
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private CurveRefiner refiner;
+    private double[][][] curves;
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Test that wide curves are given coarse first and in full when the
+     * listener is called.
+     */
+    @Test
+    public void testGetCurves() throws Exception {
+        final NcInterval interval = EffectSizes.eta2FOmni(500, 4, 1000, 0.95);
+        final CountDownLatch refined = new CountDownLatch(1);
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                refiner = new CurveRefiner(new Runnable() {
+                    @Override
+                    public void run() {
+                        curves = refiner.getCurves(interval);
+                        refined.countDown();
+                    }
+                });
+                curves = refiner.getCurves(interval);
+                assertTrue(refiner.isRefining());
+            }
+        });
+        assertEquals(Constants.COARSE_PDF_POINTS, curves[0][0].length);
+        assertTrue(refined.await(30, TimeUnit.SECONDS));
+        assertSame(interval.getLowerPdf(), curves[0]);
+        assertSame(interval.getUpperPdf(), curves[1]);
+        assertFalse(refiner.isRefining());
+    }
+
+    /**
+     * Test that narrow curves are given in full at once.
+     */
+    @Test
+    public void testGetCurvesNarrow() throws Exception {
+        final NcInterval interval = EffectSizes.cohenDIndT(2, 20, 20, 0.95);
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                refiner = new CurveRefiner(null);
+                curves = refiner.getCurves(interval);
+                assertFalse(refiner.isRefining());
+            }
+        });
+        assertSame(interval.getLowerPdf(), curves[0]);
+        assertSame(interval.getUpperPdf(), curves[1]);
+    }
+
+    /**
+     * Test that asking for other curves drops the refinement in progress.
+     */
+    @Test
+    public void testCancel() throws Exception {
+        final NcInterval first = EffectSizes.eta2FOmni(500, 4, 1000, 0.95);
+        final NcInterval second = EffectSizes.eta2FOmni(400, 4, 1000, 0.95);
+        final CountDownLatch refined = new CountDownLatch(1);
+        final int[] calls = new int[1];
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                refiner = new CurveRefiner(new Runnable() {
+                    @Override
+                    public void run() {
+                        calls[0]++;
+                        curves = refiner.getCurves(second);
+                        refined.countDown();
+                    }
+                });
+                refiner.getCurves(first);
+                refiner.getCurves(second);
+            }
+        });
+        assertTrue(refined.await(30, TimeUnit.SECONDS));
+        // Let any late call of the first refinement run
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+            }
+        });
+        assertEquals(1, calls[0]);
+        assertSame(second.getLowerPdf(), curves[0]);
+    }
+}
@@ -0,0 +1,122 @@
+package edu.missouristate.mote.graph;
+
+import edu.missouristate.mote.Constants;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.data.xy.DefaultXYDataset;
+
+/**
+ * Frame rate of the CurveRenderer against a JFreeChart line chart, drawing
+ * two dense density curves into an image of the default graph size. The
+ * renderer is timed when only the interval moves, which reuses the reduced
+ * curves, and when the curves change every frame. Run the main method
+ * directly.
+ */
+public final class CurveRendererBenchmark {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Points per curve
+    private static final int POINTS = 100000;
+    // Frames per run
+    private static final int FRAMES = 60;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a CurveRendererBenchmark.
+     */
+    private CurveRendererBenchmark() {
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return a normal density curve on [-6, 6] around a center.
+     *
+     * @param center mean
+     * @return curve
+     */
+    private static double[][] createCurve(final double center) {
+        final double[][] result = new double[2][POINTS];
+        for (int index = 0; index < POINTS; index++) {
+            final double xValue = -6 + 12.0 * index / (POINTS - 1);
+            final double zValue = xValue - center;
+            result[0][index] = xValue;
+            result[1][index] = Math.exp(-0.5 * zValue * zValue)
+                    / Math.sqrt(2 * Math.PI);
+        }
+        return result;
+    }
+
+    /**
+     * Print the frame rate of a run.
+     *
+     * @param name name of the run
+     * @param nanos elapsed nanoseconds
+     */
+    private static void report(final String name, final long nanos) {
+        System.out.printf("%-26s %7.2f ms/frame %8.1f fps%n", name,
+                nanos / 1e6 / FRAMES, FRAMES / (nanos / 1e9));
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Run the benchmark.
+     *
+     * @param args not used
+     */
+    public static void main(final String[] args) {
+        final double[][] lower = createCurve(-1);
+        final double[][] upper = createCurve(1);
+        final double[][] lowerMoved = createCurve(-0.9);
+        final BufferedImage image = new BufferedImage(Constants.GRAPH_WIDTH,
+                Constants.GRAPH_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        final CurveRenderer renderer = new CurveRenderer();
+        renderer.setCurves(lower, upper);
+        renderer.setLabels("d=-0.5000", "d=0.0000", "d=0.5000",
+                "95% confidence");
+        renderer.setTitle("95% confidence\n-0.5000 < d=0.0000 < 0.5000");
+        final DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries(0, lower);
+        dataset.addSeries(1, upper);
+        final JFreeChart chart = ChartFactory.createXYLineChart("", "t",
+                "density", dataset);
+        final Rectangle2D area = new Rectangle2D.Double(0, 0,
+                Constants.GRAPH_WIDTH, Constants.GRAPH_HEIGHT);
+        for (int run = 0; run < 3; run++) {
+            System.out.println("run " + run);
+            long start = System.nanoTime();
+            for (int frame = 0; frame < FRAMES; frame++) {
+                renderer.setInterval(-1 + frame * 0.001, 0, 1, 0.4);
+                final Graphics2D g2 = image.createGraphics();
+                renderer.paint(g2, image.getWidth(), image.getHeight());
+                g2.dispose();
+            }
+            report("renderer, interval moves", System.nanoTime() - start);
+            start = System.nanoTime();
+            for (int frame = 0; frame < FRAMES; frame++) {
+                renderer.setCurves(frame % 2 == 0 ? lowerMoved : lower, upper);
+                final Graphics2D g2 = image.createGraphics();
+                renderer.paint(g2, image.getWidth(), image.getHeight());
+                g2.dispose();
+            }
+            report("renderer, curves change", System.nanoTime() - start);
+            start = System.nanoTime();
+            for (int frame = 0; frame < FRAMES / 6; frame++) {
+                final Graphics2D g2 = image.createGraphics();
+                chart.draw(g2, area);
+                g2.dispose();
+            }
+            report("JFreeChart", (System.nanoTime() - start) * 6);
+        }
+    }
+}
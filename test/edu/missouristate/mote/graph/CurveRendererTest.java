@@ -0,0 +1,124 @@
+package edu.missouristate.mote.graph;
+
+import java.awt.geom.Path2D;
+import java.awt.geom.PathIterator;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the CurveRenderer class.
+ */
+public class CurveRendererTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    private static final double DELTA = 0.00001;
+    private static final int POINTS = 100000;
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return a dense, oscillating curve on [0, 1] with a peak of 1.
+     *
+     * @return curve
+     */
+    private static double[][] createCurve() {
+        final double[][] result = new double[2][POINTS];
+        for (int index = 0; index < POINTS; index++) {
+            final double xValue = index / (POINTS - 1.0);
+            result[0][index] = xValue;
+            result[1][index] = 0.5 + 0.5 * Math.sin(xValue * 2000);
+        }
+        return result;
+    }
+
+    /**
+     * Return the number of points of a path.
+     *
+     * @param path path
+     * @return number of points
+     */
+    private static int countPoints(final Path2D path) {
+        int result = 0;
+        for (PathIterator it = path.getPathIterator(null); !it.isDone();
+                it.next()) {
+            result++;
+        }
+        return result;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Test of createPath method, of class CurveRenderer. A dense curve keeps
+     * at most four points per pixel column and keeps its extremes.
+     */
+    @Test
+    public void testCreatePath() {
+        final Rectangle2D area = new Rectangle2D.Double(10, 20, 500, 300);
+        final Path2D path = CurveRenderer.createPath(createCurve(), area, 0,
+                1, 1);
+        assertTrue(countPoints(path) <= 4 * 501);
+        final Rectangle2D bounds = path.getBounds2D();
+        assertEquals(area.getMinY(), bounds.getMinY(), 0.01);
+        assertEquals(area.getMaxY(), bounds.getMaxY(), 0.01);
+        assertEquals(area.getMinX(), bounds.getMinX(), DELTA);
+        assertEquals(area.getMaxX(), bounds.getMaxX(), 0.01);
+    }
+
+    /**
+     * Test that a sparse curve keeps every point.
+     */
+    @Test
+    public void testCreatePathSparse() {
+        final double[][] curve = {{0, 0.5, 1}, {0, 1, Double.NaN}};
+        final Rectangle2D area = new Rectangle2D.Double(0, 0, 100, 100);
+        final Path2D path = CurveRenderer.createPath(curve, area, 0, 1, 1);
+        assertEquals(2, countPoints(path));
+    }
+
+    /**
+     * Test that the paths are built again only when the curves or the area
+     * change.
+     */
+    @Test
+    public void testGetPaths() {
+        final CurveRenderer renderer = new CurveRenderer();
+        renderer.setCurves(createCurve());
+        final Rectangle2D area = new Rectangle2D.Double(0, 0, 400, 300);
+        final Path2D[] paths = renderer.getPaths(area);
+        assertSame(paths, renderer.getPaths(
+                new Rectangle2D.Double(0, 0, 400, 300)));
+        assertNotSame(paths, renderer.getPaths(
+                new Rectangle2D.Double(0, 0, 401, 300)));
+        final Path2D[] resized = renderer.getPaths(area);
+        renderer.setCurves(createCurve());
+        assertNotSame(resized, renderer.getPaths(area));
+    }
+
+    /**
+     * Test of createImage method, of class CurveRenderer.
+     */
+    @Test
+    public void testCreateImage() {
+        final CurveRenderer renderer = new CurveRenderer();
+        renderer.setCurves(createCurve());
+        renderer.setInterval(0.25, 0.5, 0.75, 1);
+        renderer.setLabels("low", "mid", "high", "95% confidence");
+        renderer.setTitle("title\nsubtitle");
+        final BufferedImage image = renderer.createImage(200, 150);
+        assertEquals(200, image.getWidth());
+        boolean drawn = false;
+        for (int x = 0; x < image.getWidth() && !drawn; x++) {
+            for (int y = 0; y < image.getHeight() && !drawn; y++) {
+                drawn = (image.getRGB(x, y) & 0xFFFFFF) != 0xFFFFFF;
+            }
+        }
+        assertTrue(drawn);
+    }
+}
@@ -0,0 +1,96 @@
+package edu.missouristate.mote.graph;
+
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.effectsizes.CohenDIndT;
+import edu.missouristate.mote.events.ChangeEvent;
+import edu.missouristate.mote.events.ChangeListener;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.ChartChangeListener;
+
+/**
+ * Timing of a graph redraw per edit of its test. A run of confidence edits
+ * is applied to a Cohen's d test; each change event is drawn into the chart,
+ * with the curves already built by the test, and the chart is then rendered
+ * to an image, as the chart panel would repaint it. Run the main method
+ * directly.
+ */
+public final class GraphUpdateBenchmark {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Number of edits per run
+    private static final int EDITS = 400;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a GraphUpdateBenchmark.
+     */
+    private GraphUpdateBenchmark() {
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Run the benchmark.
+     *
+     * @param args not used
+     */
+    public static void main(final String[] args) {
+        final CohenDIndT test = new CohenDIndT();
+        test.setSize1(20);
+        test.setSize2(20);
+        test.setMean1(5);
+        test.setMean2(4);
+        test.setStdDev1(2);
+        test.setStdDev2(2);
+        final NonCentralGraph graph = new NonCentralGraph(test);
+        graph.dispose();
+        final ChangeEvent[] events = new ChangeEvent[1];
+        test.addChangeListener(new ChangeListener() {
+            @Override
+            public void stateChanged(final ChangeEvent event) {
+                events[0] = event;
+            }
+        });
+        final int[] notifications = new int[1];
+        graph.getChart().addChangeListener(new ChartChangeListener() {
+            @Override
+            public void chartChanged(final ChartChangeEvent event) {
+                notifications[0]++;
+            }
+        });
+        final BufferedImage image = new BufferedImage(Constants.GRAPH_WIDTH,
+                Constants.GRAPH_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        final Rectangle2D area = new Rectangle2D.Double(0, 0,
+                Constants.GRAPH_WIDTH, Constants.GRAPH_HEIGHT);
+        for (int run = 0; run < 3; run++) {
+            notifications[0] = 0;
+            long updateNanos = 0, renderNanos = 0;
+            for (int edit = 0; edit < EDITS; edit++) {
+                test.setConfidence(0.8 + 0.15 * (edit % 2));
+                // Build the curves outside the timing
+                test.getLowerPdf();
+                test.getUpperPdf();
+                long start = System.nanoTime();
+                graph.refresh(events[0]);
+                updateNanos += System.nanoTime() - start;
+                start = System.nanoTime();
+                final Graphics2D g2 = image.createGraphics();
+                graph.getChart().draw(g2, area);
+                g2.dispose();
+                renderNanos += System.nanoTime() - start;
+            }
+            System.out.printf("run %d: update %.1f us, render %.2f ms, "
+                    + "%.1f chart notifications per edit%n", run,
+                    updateNanos / 1e3 / EDITS, renderNanos / 1e6 / EDITS,
+                    notifications[0] / (double) EDITS);
+        }
+    }
+}
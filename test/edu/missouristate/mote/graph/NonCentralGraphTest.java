@@ -0,0 +1,91 @@
+package edu.missouristate.mote.graph;
+
+import edu.missouristate.mote.effectsizes.CohenDIndT;
+import edu.missouristate.mote.events.ChangeEvent;
+import edu.missouristate.mote.events.ChangeListener;
+import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.ChartChangeListener;
+import org.jfree.data.xy.XYDataset;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the NonCentralGraph class.
+ */
+public class NonCentralGraphTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    private static final double DELTA = 0.00001;
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return a test with a non-zero effect.
+     *
+     * @return test
+     */
+    private static CohenDIndT createTest() {
+        final CohenDIndT test = new CohenDIndT();
+        test.setSize1(20);
+        test.setSize2(20);
+        test.setMean1(5);
+        test.setMean2(4);
+        test.setStdDev1(2);
+        test.setStdDev2(2);
+        return test;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Test that a refresh notifies the chart once, keeps the dataset and
+     * shows each annotation once.
+     */
+    @Test
+    public void testRefresh() {
+        final CohenDIndT test = createTest();
+        final NonCentralGraph graph = new NonCentralGraph(test);
+        graph.dispose();
+        final XYDataset dataset = graph.getChart().getXYPlot().getDataset();
+        final int count = graph.getChart().getXYPlot().getAnnotations().size();
+        final ChangeEvent[] events = new ChangeEvent[1];
+        test.addChangeListener(new ChangeListener() {
+            @Override
+            public void stateChanged(final ChangeEvent event) {
+                events[0] = event;
+            }
+        });
+        final int[] notifications = new int[1];
+        graph.getChart().addChangeListener(new ChartChangeListener() {
+            @Override
+            public void chartChanged(final ChartChangeEvent event) {
+                notifications[0]++;
+            }
+        });
+        test.setConfidence(0.9);
+        graph.refresh(events[0]);
+        assertEquals(1, notifications[0]);
+        assertSame(dataset, graph.getChart().getXYPlot().getDataset());
+        assertEquals(count,
+                graph.getChart().getXYPlot().getAnnotations().size());
+        assertEquals(test.getLowerPdf()[1][0], dataset.getYValue(0, 0), DELTA);
+    }
+
+    /**
+     * Test of findApproxYValue method, of class AbstractGraph.
+     */
+    @Test
+    public void testFindApproxYValue() {
+        final double[][] xydata = {{0, 1, 2, 3}, {10, 11, 12, 13}};
+        assertEquals(10, AbstractGraph.findApproxYValue(-1, xydata), DELTA);
+        assertEquals(11, AbstractGraph.findApproxYValue(0, xydata), DELTA);
+        assertEquals(11, AbstractGraph.findApproxYValue(1, xydata), DELTA);
+        assertEquals(12, AbstractGraph.findApproxYValue(1.5, xydata), DELTA);
+        assertEquals(13, AbstractGraph.findApproxYValue(3, xydata), DELTA);
+        assertEquals(13, AbstractGraph.findApproxYValue(4, xydata), DELTA);
+    }
+}
@@ -0,0 +1,89 @@
+package edu.missouristate.mote.meta;
+
+import edu.missouristate.mote.WorkerPool;
+import edu.missouristate.mote.statistics.SplitRandom;
+import edu.missouristate.mote.statistics.Variates;
+
+/**
+ * Timing of the pooling of a large set of simulated studies. Run the main
+ * method directly; a small analysis is run first to warm up.
+ */
+public final class MetaAnalysisBenchmark {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Number of studies
+    private static final int STUDIES = 50000;
+    // Number of studies in the leave-one-out and cumulative analyses
+    private static final int SUBSET = 5000;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a MetaAnalysisBenchmark.
+     */
+    private MetaAnalysisBenchmark() {
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return simulated studies of d with true mean 0.3 and tau 0.2.
+     *
+     * @param count number of studies
+     * @return studies
+     */
+    private static StudyAccumulator simulate(final int count) {
+        final SplitRandom random = new SplitRandom(1);
+        final StudyAccumulator result = new StudyAccumulator();
+        for (int study = 0; study < count; study++) {
+            final double size = 10 + random.nextDouble() * 190;
+            final double variance = 2 / size;
+            result.add(0.3 + 0.2 * Variates.normal(random)
+                    + Math.sqrt(variance) * Variates.normal(random), variance);
+        }
+        return result;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Run the benchmark.
+     *
+     * @param args not used
+     */
+    public static void main(final String[] args) {
+        final MetaAnalysis warmup = new MetaAnalysis(simulate(500));
+        for (PoolingMethod method : PoolingMethod.values()) {
+            warmup.leaveOneOut(method, 0.95);
+            warmup.cumulative(method, 0.95);
+        }
+        System.out.printf("%d studies on %d threads%n", STUDIES,
+                WorkerPool.getThreads());
+        long start = System.nanoTime();
+        final MetaAnalysis analysis = new MetaAnalysis(simulate(STUDIES));
+        System.out.printf("simulate and accumulate: %.1f ms%n",
+                (System.nanoTime() - start) * 1e-6);
+        for (PoolingMethod method : PoolingMethod.values()) {
+            start = System.nanoTime();
+            final MetaResult result = analysis.pool(method, 0.95);
+            System.out.printf("%.1f ms  %s%n",
+                    (System.nanoTime() - start) * 1e-6, result);
+        }
+        final MetaAnalysis subset = new MetaAnalysis(simulate(SUBSET));
+        for (PoolingMethod method : PoolingMethod.values()) {
+            start = System.nanoTime();
+            subset.leaveOneOut(method, 0.95);
+            final double leave = (System.nanoTime() - start) * 1e-6;
+            start = System.nanoTime();
+            subset.cumulative(method, 0.95);
+            System.out.printf("%d studies, %s: leave-one-out %.0f ms, "
+                    + "cumulative %.0f ms%n", SUBSET, method.getLabel(), leave,
+                    (System.nanoTime() - start) * 1e-6);
+        }
+    }
+}
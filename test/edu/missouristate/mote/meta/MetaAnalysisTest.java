@@ -0,0 +1,181 @@
+package edu.missouristate.mote.meta;
+
+import edu.missouristate.mote.planning.CriticalValues;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the MetaAnalysis class. The reference values are the log
+ * risk ratios of the 13 BCG vaccine trials of Colditz et al. (1994).
+ */
+public class MetaAnalysisTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+
+    // Maximum allowed difference between expected and actual
+    private static final double DELTA = 0.0001;
+
+    // Treated cases, treated non-cases, control cases, control non-cases
+    private static final double[][] BCG = {
+        {4, 119, 11, 128}, {6, 300, 29, 274}, {3, 228, 11, 209},
+        {62, 13536, 248, 12619}, {33, 5036, 47, 5761},
+        {180, 1361, 372, 1079}, {8, 2537, 10, 619},
+        {505, 87886, 499, 87892}, {29, 7470, 45, 7232},
+        {17, 1699, 65, 1600}, {186, 50448, 141, 27197},
+        {5, 2493, 3, 2338}, {27, 16886, 29, 17825}};
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+
+    /**
+     * Return the studies of a range of the BCG trials.
+     *
+     * @param start first trial
+     * @param end trial after the last
+     * @param skip trial to leave out, or -1 for none
+     * @return studies
+     */
+    private static StudyAccumulator bcg(final int start, final int end,
+            final int skip) {
+        final StudyAccumulator result = new StudyAccumulator();
+        for (int trial = start; trial < end; trial++) {
+            if (trial == skip) {
+                continue;
+            }
+            final double[] row = BCG[trial];
+            final double treated = row[0] + row[1];
+            final double control = row[2] + row[3];
+            result.add(Math.log((row[0] / treated) / (row[2] / control)),
+                    1 / row[0] - 1 / treated + 1 / row[2] - 1 / control);
+        }
+        return result;
+    }
+
+    /**
+     * Assert that two results agree.
+     *
+     * @param expected expected result
+     * @param actual actual result
+     */
+    private static void assertResultEquals(final MetaResult expected,
+            final MetaResult actual) {
+        assertEquals(expected.getStudies(), actual.getStudies());
+        assertEquals(expected.getEstimate(), actual.getEstimate(), DELTA);
+        assertEquals(expected.getStdErr(), actual.getStdErr(), DELTA);
+        assertEquals(expected.getTauSquared(), actual.getTauSquared(), DELTA);
+        assertEquals(expected.getQ(), actual.getQ(), DELTA);
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+
+    /**
+     * Test of pool method, of class MetaAnalysis.
+     */
+    @Test
+    public void testPool() {
+        final MetaAnalysis analysis = new MetaAnalysis(bcg(0, 13, -1));
+        final MetaResult fixed = analysis.pool(PoolingMethod.FIXED, 0.95);
+        assertEquals(-0.4303, fixed.getEstimate(), DELTA);
+        assertEquals(0.0405, fixed.getStdErr(), DELTA);
+        assertEquals(152.2330, fixed.getQ(), 0.001);
+        assertEquals(0.9212, fixed.getISquared(), DELTA);
+
+        final MetaResult moments = analysis.pool(
+                PoolingMethod.DERSIMONIAN_LAIRD, 0.95);
+        assertEquals(-0.7141, moments.getEstimate(), DELTA);
+        assertEquals(0.1787, moments.getStdErr(), DELTA);
+        assertEquals(0.3088, moments.getTauSquared(), DELTA);
+
+        final MetaResult reml = analysis.pool(PoolingMethod.REML, 0.95);
+        assertEquals(-0.7145, reml.getEstimate(), DELTA);
+        assertEquals(0.1798, reml.getStdErr(), DELTA);
+        assertEquals(0.3132, reml.getTauSquared(), DELTA);
+        assertEquals(-1.0669, reml.getLower(), DELTA);
+        assertEquals(-0.3622, reml.getUpper(), DELTA);
+    }
+
+    /**
+     * Test of the Hartung-Knapp interval.
+     */
+    @Test
+    public void testHartungKnapp() {
+        final MetaAnalysis analysis = new MetaAnalysis(bcg(0, 13, -1));
+        final MetaResult reml = analysis.pool(PoolingMethod.REML, 0.95);
+        final MetaResult result = analysis.pool(PoolingMethod.HARTUNG_KNAPP,
+                0.95);
+        assertEquals(reml.getEstimate(), result.getEstimate(), DELTA);
+        assertEquals(reml.getTauSquared(), result.getTauSquared(), DELTA);
+        double sumW = 0;
+        double residual = 0;
+        for (int trial = 0; trial < 13; trial++) {
+            final StudyAccumulator one = bcg(trial, trial + 1, -1);
+            final double weight = 1 / (one.getVariances()[0]
+                    + reml.getTauSquared());
+            final double delta = one.getEstimates()[0] - reml.getEstimate();
+            sumW += weight;
+            residual += weight * delta * delta;
+        }
+        final double stdErr = Math.sqrt(residual / (12 * sumW));
+        assertEquals(stdErr, result.getStdErr(), DELTA);
+        assertEquals(reml.getEstimate() - CriticalValues.t(0.05, 12) * stdErr,
+                result.getLower(), DELTA);
+    }
+
+    /**
+     * Test of cumulative method, of class MetaAnalysis.
+     */
+    @Test
+    public void testCumulative() {
+        final MetaAnalysis analysis = new MetaAnalysis(bcg(0, 13, -1));
+        for (PoolingMethod method : PoolingMethod.values()) {
+            final MetaResult[] result = analysis.cumulative(method, 0.95);
+            assertEquals(13, result.length);
+            for (int last = 0; last < 13; last++) {
+                assertResultEquals(new MetaAnalysis(bcg(0, last + 1, -1))
+                        .pool(method, 0.95), result[last]);
+            }
+        }
+    }
+
+    /**
+     * Test of leaveOneOut method, of class MetaAnalysis.
+     */
+    @Test
+    public void testLeaveOneOut() {
+        final MetaAnalysis analysis = new MetaAnalysis(bcg(0, 13, -1));
+        for (PoolingMethod method : PoolingMethod.values()) {
+            final MetaResult[] result = analysis.leaveOneOut(method, 0.95);
+            assertEquals(13, result.length);
+            for (int skip = 0; skip < 13; skip++) {
+                assertResultEquals(new MetaAnalysis(bcg(0, 13, skip))
+                        .pool(method, 0.95), result[skip]);
+            }
+        }
+    }
+
+    /**
+     * Test that merged accumulators pool as one.
+     */
+    @Test
+    public void testMerge() {
+        final StudyAccumulator merged = bcg(0, 5, -1);
+        merged.merge(bcg(5, 13, -1));
+        assertEquals(13, merged.getCount());
+        assertResultEquals(new MetaAnalysis(bcg(0, 13, -1)).pool(
+                PoolingMethod.REML, 0.95), new MetaAnalysis(merged).pool(
+                        PoolingMethod.REML, 0.95));
+    }
+
+    /**
+     * Test that a study needs a positive variance.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadVariance() {
+        new StudyAccumulator().add(0.5, 0);
+    }
+}
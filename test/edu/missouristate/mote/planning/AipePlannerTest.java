@@ -0,0 +1,92 @@
+package edu.missouristate.mote.planning;
+
+import edu.missouristate.mote.effectsizes.CohenDDepTDiff;
+import edu.missouristate.mote.effectsizes.CohenDIndT;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the AipePlanner class.
+ */
+public class AipePlannerTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Maximum allowed difference between expected and actual
+    private static final double DELTA = 0.00001;
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * The expected width should match the interval of the independent t test.
+     */
+    @Test
+    public void testExpectedWidth() {
+        final AipePlanner planner = new AipePlanner(Design.INDEPENDENT_T,
+                0.95);
+        final CohenDIndT test = new CohenDIndT();
+        test.setSize1(40);
+        test.setSize2(40);
+        test.setMean1(0.6);
+        test.setMean2(0);
+        test.setStdDev1(1);
+        test.setStdDev2(1);
+        assertEquals(test.getUpperMeasure() - test.getLowerMeasure(),
+                planner.expectedWidth(0.6, 40), DELTA);
+        assertEquals(planner.expectedWidth(0.6, 40),
+                planner.expectedWidth(-0.6, 40), DELTA);
+    }
+
+    /**
+     * Test of sampleSize method, of class AipePlanner.
+     */
+    @Test
+    public void testSampleSize() {
+        final AipePlanner planner = new AipePlanner(Design.INDEPENDENT_T,
+                0.95);
+        final int size = planner.sampleSize(0.5, 0.5);
+        assertEquals(127, size);
+        assertTrue(planner.expectedWidth(0.5, size) <= 0.5);
+        assertTrue(planner.expectedWidth(0.5, size - 1) > 0.5);
+        assertEquals(2, planner.sampleSize(0.5, 100));
+    }
+
+    /**
+     * The paired design should match the dependent t test.
+     */
+    @Test
+    public void testDependentSampleSize() {
+        final AipePlanner planner = new AipePlanner(Design.DEPENDENT_T, 0.95);
+        final int size = planner.sampleSize(0.4, 0.4);
+        assertEquals(104, size);
+        final CohenDDepTDiff test = new CohenDDepTDiff();
+        test.setSize(size);
+        test.setTestStatistic(0.4 * Math.sqrt(size));
+        assertEquals(test.getUpperMeasure() - test.getLowerMeasure(),
+                planner.expectedWidth(0.4, size), DELTA);
+    }
+
+    /**
+     * The assurance search should find the boundary of the assurance width
+     * and never plan fewer observations than the expected width.
+     */
+    @Test
+    public void testAssuranceSampleSize() {
+        final AipePlanner planner = new AipePlanner(Design.INDEPENDENT_T,
+                0.95);
+        final int size = planner.sampleSize(0.5, 0.5, 0.99);
+        assertTrue(size >= planner.sampleSize(0.5, 0.5));
+        assertTrue(planner.assuranceWidth(0.5, size, 0.99) <= 0.5);
+        assertTrue(planner.assuranceWidth(0.5, size - 1, 0.99) > 0.5);
+    }
+
+    /**
+     * F designs have no interval for d.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongDesign() {
+        new AipePlanner(Design.ONE_WAY_F, 0.95);
+    }
+}
@@ -0,0 +1,82 @@
+package edu.missouristate.mote.planning;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the PowerAnalysis class.
+ */
+public class PowerAnalysisTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Maximum allowed difference between expected and actual
+    private static final double DELTA = 0.00001;
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Test of power method, of class PowerAnalysis.
+     */
+    @Test
+    public void testPower() {
+        final PowerAnalysis independent = new PowerAnalysis(
+                Design.INDEPENDENT_T, 0.05);
+        assertEquals(0.8014596, independent.power(0.5, 64), DELTA);
+        final PowerAnalysis dependent = new PowerAnalysis(
+                Design.DEPENDENT_T, 0.05);
+        assertEquals(0.8077775, dependent.power(0.5, 34), DELTA);
+        final PowerAnalysis anova = new PowerAnalysis(Design.ONE_WAY_F, 4,
+                0.05);
+        assertEquals(0.8039888, anova.power(0.25, 45), DELTA);
+        assertEquals(1, independent.power(3, 400), DELTA);
+    }
+
+    /**
+     * Test of sampleSize method, of class PowerAnalysis.
+     */
+    @Test
+    public void testSampleSize() {
+        final PowerAnalysis independent = new PowerAnalysis(
+                Design.INDEPENDENT_T, 0.05);
+        assertEquals(64, independent.sampleSize(0.5, 0.8));
+        assertEquals(1571, independent.sampleSize(0.1, 0.8));
+        assertEquals(2, independent.sampleSize(10, 0.8));
+        assertEquals(34, new PowerAnalysis(Design.DEPENDENT_T, 0.05)
+                .sampleSize(0.5, 0.8));
+        assertEquals(45, new PowerAnalysis(Design.ONE_WAY_F, 4, 0.05)
+                .sampleSize(0.25, 0.8));
+    }
+
+    /**
+     * Test of powerCurve and powerTable methods, of class PowerAnalysis.
+     */
+    @Test
+    public void testPowerTable() {
+        final PowerAnalysis analysis = new PowerAnalysis(
+                Design.INDEPENDENT_T, 0.05);
+        final double[] effects = new double[]{0.2, 0.5, 0.8};
+        final int[] sizes = new int[]{10, 20, 50, 100};
+        final double[][] table = analysis.powerTable(effects, sizes);
+        for (int row = 0; row < effects.length; row++) {
+            final double[] curve = new double[sizes.length];
+            analysis.powerCurve(effects[row], sizes, curve);
+            assertArrayEquals(curve, table[row], DELTA);
+            for (int col = 1; col < sizes.length; col++) {
+                assertTrue(table[row][col] > table[row][col - 1]);
+            }
+        }
+        assertEquals(analysis.power(0.5, 64),
+                analysis.powerCurve(0.5, 2, 100)[62], DELTA);
+    }
+
+    /**
+     * An unreachable target should fail rather than loop.
+     */
+    @Test(expected = ArithmeticException.class)
+    public void testSampleSizeUnreachable() {
+        new PowerAnalysis(Design.DEPENDENT_T, 0.05).sampleSize(0, 0.8);
+    }
+}
@@ -0,0 +1,60 @@
+package edu.missouristate.mote.propertygrid;
+
+import edu.missouristate.mote.effectsizes.CramersPhiChi2;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the ObjectLoader class.
+ */
+public class ObjectLoaderTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Maximum allowed difference between expected and actual
+    private static final double DELTA = 0.000000000000001;
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Test of getRows method, of class ObjectLoader.
+     */
+    @Test
+    public void testGetRows() {
+        final CramersPhiChi2 test = new CramersPhiChi2();
+        final List<PropertyTableRow> rows = ObjectLoader.getRows(test);
+        // Three categories and twelve properties
+        assertEquals(15, rows.size());
+        assertTrue(rows.get(0).isCategory());
+        assertNull(rows.get(0).getAccessor());
+        assertEquals("Sample Size", rows.get(2).getName());
+        assertFalse(rows.get(2).isReadonly());
+        // Accessors read and write the object
+        final PropertyAccessor size = rows.get(2).getAccessor();
+        size.set(test, 200);
+        assertEquals(200, test.getSize(), DELTA);
+        assertEquals(200, size.get(test), DELTA);
+        // Derived values have no setter
+        assertTrue(rows.get(7).isReadonly());
+        assertFalse(rows.get(7).getAccessor().hasSetter());
+    }
+
+    /**
+     * Test of getRows method, of class ObjectLoader. Every object of a class
+     * shares the rows built for the class.
+     */
+    @Test
+    public void testGetRowsCached() {
+        final List<PropertyTableRow> first = ObjectLoader.getRows(
+                new CramersPhiChi2());
+        final List<PropertyTableRow> second = ObjectLoader.getRows(
+                new CramersPhiChi2());
+        assertNotSame(first, second);
+        for (int i = 0; i < first.size(); i++) {
+            assertSame(first.get(i), second.get(i));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package edu.missouristate.mote.propertygrid;
+
+import edu.missouristate.mote.effectsizes.CohenDIndT;
+import javax.swing.SwingUtilities;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the PropertyScrubber class.
+ */
+public class PropertyScrubberTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    private static final double DELTA = 0.00001;
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return the row of a property of a test.
+     *
+     * @param test test
+     * @param key getter name without the "get" prefix
+     * @return row
+     */
+    private static PropertyTableRow getRow(final Object test,
+            final String key) {
+        for (PropertyTableRow row : ObjectLoader.getRows(test)) {
+            if (key.equals(row.getKey())) {
+                return row;
+            }
+        }
+        throw new IllegalArgumentException(key);
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Test of round method, of class PropertyScrubber.
+     */
+    @Test
+    public void testRound() {
+        assertEquals(0.951, PropertyScrubber.round(0.9509999, 0.001), 0);
+        assertEquals(40, PropertyScrubber.round(40.4, 1), 0);
+        assertEquals(-2.35, PropertyScrubber.round(-2.3549, 0.01), 0);
+    }
+
+    /**
+     * Test of getStep method, of class PropertyScrubber.
+     */
+    @Test
+    public void testGetStep() {
+        final CohenDIndT test = new CohenDIndT();
+        assertEquals(1, PropertyScrubber.getStep(getRow(test, "Size1"), 20),
+                DELTA);
+        assertEquals(0.001, PropertyScrubber.getStep(
+                getRow(test, "Confidence"), 0.95), DELTA);
+        final PropertyTableRow statistic = getRow(test, "TestStatistic");
+        assertEquals(0.01, PropertyScrubber.getStep(statistic, 0), DELTA);
+        assertEquals(0.01, PropertyScrubber.getStep(statistic, -2.5), DELTA);
+        assertEquals(1, PropertyScrubber.getStep(statistic, 350), DELTA);
+        assertFalse(PropertyScrubber.canScrub(getRow(test, "Df")));
+    }
+
+    /**
+     * Test that a drag sets at most one value per frame, drops the values
+     * waiting in between and sets the last value when it ends.
+     */
+    @Test
+    public void testDrag() throws Exception {
+        final CohenDIndT test = new CohenDIndT();
+        test.setSize1(20);
+        test.setSize2(20);
+        final PropertyScrubber scrubber = new PropertyScrubber();
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertTrue(scrubber.start(test, getRow(test, "Size1"), 100));
+                scrubber.drag(110, false);
+                assertEquals(30, test.getSize1(), DELTA);
+                scrubber.drag(120, false);
+                scrubber.drag(125, true);
+                scrubber.stop();
+            }
+        });
+        assertFalse(scrubber.isScrubbing());
+        // A tenth of a size per pixel, kept whole
+        assertEquals(22, test.getSize1(), DELTA);
+        assertEquals(3, scrubber.getApplyCount() + scrubber.getDropCount());
+        assertTrue(scrubber.getApplyCount() >= 2);
+    }
+}
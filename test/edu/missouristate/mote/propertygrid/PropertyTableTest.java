@@ -0,0 +1,44 @@
+package edu.missouristate.mote.propertygrid;
+
+import edu.missouristate.mote.effectsizes.CramersPhiChi2;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the PropertyTable class.
+ */
+public class PropertyTableTest {
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Test of refresh method, of class PropertyTable. Only the cells whose
+     * value changed are updated.
+     */
+    @Test
+    public void testRefresh() {
+        final CramersPhiChi2 test = new CramersPhiChi2();
+        test.setSize(200);
+        test.setRows(4);
+        test.setColumns(3);
+        final PropertyTable table = new PropertyTable();
+        table.setSelectedObject(test);
+        final int[] updates = new int[1];
+        table.getModel().addTableModelListener(new TableModelListener() {
+            @Override
+            public void tableChanged(final TableModelEvent evt) {
+                updates[0]++;
+            }
+        });
+        table.refresh();
+        assertEquals(0, updates[0]);
+        // The statistic, phi and the five results change; the other five
+        // inputs and derived values do not
+        test.setTestStatistic(25);
+        assertEquals(7, updates[0]);
+        assertEquals(25.0, table.getValueAt(1, 1));
+    }
+}
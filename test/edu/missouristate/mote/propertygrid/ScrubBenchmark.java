@@ -0,0 +1,187 @@
+package edu.missouristate.mote.propertygrid;
+
+import edu.missouristate.mote.Constants;
+import edu.missouristate.mote.effectsizes.CohenDIndT;
+import edu.missouristate.mote.graph.NonCentralGraph;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import javax.swing.SwingUtilities;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.ChartChangeListener;
+
+/**
+ * Update rate of scrubbing a Cohen's d test with its property table and
+ * graph attached. Every chart change is rendered to an image, as the chart
+ * panel would repaint it. The first part times back-to-back sample size
+ * changes with no throttling, the largest rate the pipeline can sustain; the
+ * second drags the sample size through a PropertyScrubber at 250 mouse
+ * events per second for three seconds. Run the main method directly.
+ */
+public final class ScrubBenchmark {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Number of back-to-back changes
+    private static final int CHANGES = 2000;
+    // Time between two drag events, in milliseconds
+    private static final int EVENT_MILLIS = 4;
+    // Duration of the drag, in milliseconds
+    private static final int DRAG_MILLIS = 3000;
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private static CohenDIndT test;
+    private static PropertyTable table;
+    private static NonCentralGraph graph;
+    private static PropertyScrubber scrubber;
+    private static int renders;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a ScrubBenchmark.
+     */
+    private ScrubBenchmark() {
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Create the test, its table and the scrubber.
+     */
+    private static void setUp() {
+        test = new CohenDIndT();
+        test.setSize1(20);
+        test.setSize2(20);
+        test.setMean1(5);
+        test.setMean2(4);
+        test.setStdDev1(2);
+        test.setStdDev2(2);
+        table = new PropertyTable();
+        table.setSelectedObject(test);
+        scrubber = new PropertyScrubber();
+        attachGraph();
+    }
+
+    /**
+     * Create a graph of the test, rendering its chart on every change.
+     */
+    private static void attachGraph() {
+        graph = new NonCentralGraph(test);
+        final JFreeChart chart = graph.getChart();
+        final BufferedImage image = new BufferedImage(Constants.GRAPH_WIDTH,
+                Constants.GRAPH_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        final Rectangle2D area = new Rectangle2D.Double(0, 0,
+                Constants.GRAPH_WIDTH, Constants.GRAPH_HEIGHT);
+        chart.addChangeListener(new ChartChangeListener() {
+            @Override
+            public void chartChanged(final ChartChangeEvent event) {
+                final Graphics2D g2 = image.createGraphics();
+                chart.draw(g2, area);
+                g2.dispose();
+                renders++;
+            }
+        });
+    }
+
+    /**
+     * Return the table row of the group 1 sample size.
+     *
+     * @return row
+     */
+    private static PropertyTableRow getSizeRow() {
+        for (PropertyTableRow row : ObjectLoader.getRows(test)) {
+            if ("Size1".equals(row.getKey())) {
+                return row;
+            }
+        }
+        throw new IllegalStateException("no Size1 row");
+    }
+
+    /**
+     * Run code on the event dispatch thread and wait for it.
+     *
+     * @param runnable code to run
+     * @exception Exception if the code fails
+     */
+    private static void onEdt(final Runnable runnable) throws Exception {
+        SwingUtilities.invokeAndWait(runnable);
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Run the benchmark.
+     *
+     * @param args not used
+     * @exception Exception if the Swing code fails
+     */
+    public static void main(final String[] args) throws Exception {
+        onEdt(new Runnable() {
+            @Override
+            public void run() {
+                setUp();
+            }
+        });
+        final PropertyAccessor accessor = getSizeRow().getAccessor();
+        for (int run = 0; run < 3; run++) {
+            final long[] nanos = new long[1];
+            onEdt(new Runnable() {
+                @Override
+                public void run() {
+                    graph.dispose();
+                    renders = 0;
+                    final long start = System.nanoTime();
+                    for (int change = 0; change < CHANGES; change++) {
+                        accessor.set(test, 20 + change);
+                        graph.refresh();
+                    }
+                    nanos[0] = System.nanoTime() - start;
+                }
+            });
+            System.out.printf("run %d: back-to-back %.2f ms per update, "
+                    + "%.0f updates/s, %.1f renders per update%n", run,
+                    nanos[0] / 1e6 / CHANGES, CHANGES / (nanos[0] / 1e9),
+                    renders / (double) CHANGES);
+        }
+        onEdt(new Runnable() {
+            @Override
+            public void run() {
+                test.setSize1(20);
+                attachGraph();
+                renders = 0;
+                scrubber.start(test, getSizeRow(), 0);
+            }
+        });
+        final long start = System.nanoTime();
+        int events = 0;
+        while (System.nanoTime() - start < DRAG_MILLIS * 1000000L) {
+            final int xPos = ++events;
+            SwingUtilities.invokeLater(new Runnable() {
+                @Override
+                public void run() {
+                    scrubber.drag(xPos, false);
+                }
+            });
+            Thread.sleep(EVENT_MILLIS);
+        }
+        onEdt(new Runnable() {
+            @Override
+            public void run() {
+                scrubber.stop();
+            }
+        });
+        final double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("drag: %d events, %.0f values set/s, %d dropped, "
+                + "%.0f renders/s, final n1 = %.0f%n", events,
+                scrubber.getApplyCount() / seconds, scrubber.getDropCount(),
+                renders / seconds, test.getSize1());
+    }
+}
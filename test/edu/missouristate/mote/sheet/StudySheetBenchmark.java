@@ -0,0 +1,206 @@
+package edu.missouristate.mote.sheet;
+
+import edu.missouristate.mote.WorkerPool;
+import edu.missouristate.mote.effectsizes.Measure;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.StringReader;
+import javax.swing.JTable;
+import javax.swing.SwingUtilities;
+
+/**
+ * Speed of a study sheet of 100,000 Cohen's d studies: importing them from
+ * CSV text, painting a page of the table while scrolling through it (the
+ * table asks only for the cells it paints), the time until a page scrolled
+ * to is calculated, and the rate of calculating every study of a range. Run
+ * the main method directly.
+ */
+public final class StudySheetBenchmark {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Number of studies
+    private static final int STUDIES = 100000;
+    // Size of the painted page, in pixels
+    private static final int PAGE_WIDTH = 900;
+    private static final int PAGE_HEIGHT = 500;
+    // Number of studies between two pages of the scroll
+    private static final int SCROLL_STEP = 997;
+    // Number of studies calculated for the rate
+    private static final int RANGE = 20000;
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private static StudyTableModel model;
+    private static JTable table;
+    private static BufferedImage image;
+    private static int calculated;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a StudySheetBenchmark.
+     */
+    private StudySheetBenchmark() {
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return CSV text of the studies.
+     *
+     * @return text
+     */
+    private static String createCsv() {
+        final StringBuilder result = new StringBuilder(STUDIES * 40);
+        result.append("Mean1,Mean2,StdDev1,StdDev2,Size1,Size2\n");
+        for (int study = 0; study < STUDIES; study++) {
+            result.append(5 + study % 13 * 0.1).append(",4,")
+                    .append(1.5 + study % 5 * 0.1).append(",2,")
+                    .append(10 + study % 90).append(',')
+                    .append(12 + study % 70).append('\n');
+        }
+        return result.toString();
+    }
+
+    /**
+     * Run code on the event dispatch thread and wait for it.
+     *
+     * @param runnable code to run
+     * @exception Exception if the code fails
+     */
+    private static void onEdt(final Runnable runnable) throws Exception {
+        SwingUtilities.invokeAndWait(runnable);
+    }
+
+    /**
+     * Paint the page of the table starting at a study, as the scroll pane
+     * would, and count the painted studies with results.
+     *
+     * @param first first study of the page
+     * @return painted studies
+     */
+    private static int paintPage(final int first) {
+        final int rowHeight = table.getRowHeight();
+        final int rows = PAGE_HEIGHT / rowHeight;
+        model.setVisibleRows(first, first + rows - 1);
+        final Graphics2D g2 = image.createGraphics();
+        g2.translate(0, -first * rowHeight);
+        g2.setClip(new Rectangle(0, first * rowHeight, PAGE_WIDTH,
+                rows * rowHeight));
+        table.paint(g2);
+        g2.dispose();
+        calculated = 0;
+        for (int row = first; row < first + rows; row++) {
+            if (model.getSheet().getResult(row) != null) {
+                calculated++;
+            }
+        }
+        return rows;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Run the benchmark.
+     *
+     * @param args not used
+     * @exception Exception if the Swing code fails
+     */
+    public static void main(final String[] args) throws Exception {
+        final String csv = createCsv();
+        final long[] nanos = new long[1];
+        onEdt(new Runnable() {
+            @Override
+            public void run() {
+                model = new StudyTableModel(
+                        new StudySheet(Measure.COHEN_D_IND_T));
+                table = new JTable(model);
+                table.setSize(PAGE_WIDTH, STUDIES * table.getRowHeight());
+                table.doLayout();
+                image = new BufferedImage(PAGE_WIDTH, PAGE_HEIGHT,
+                        BufferedImage.TYPE_INT_RGB);
+                final long start = System.nanoTime();
+                try {
+                    model.importCsv(new StringReader(csv));
+                } catch (IOException ex) {
+                    throw new IllegalStateException(ex);
+                }
+                nanos[0] = System.nanoTime() - start;
+            }
+        });
+        System.out.printf("import: %d studies in %.0f ms, %d workers%n",
+                model.getRowCount(), nanos[0] / 1e6, WorkerPool.getThreads());
+        for (int run = 0; run < 3; run++) {
+            final long[] worst = new long[1];
+            final int[] pages = new int[1];
+            onEdt(new Runnable() {
+                @Override
+                public void run() {
+                    final long start = System.nanoTime();
+                    for (int first = 0; first + 40 < STUDIES;
+                            first += SCROLL_STEP) {
+                        final long pageStart = System.nanoTime();
+                        paintPage(first);
+                        worst[0] = Math.max(worst[0],
+                                System.nanoTime() - pageStart);
+                        pages[0]++;
+                    }
+                    nanos[0] = System.nanoTime() - start;
+                }
+            });
+            System.out.printf("run %d: scroll %d pages, %.2f ms per page "
+                    + "(worst %.2f ms)%n", run, pages[0],
+                    nanos[0] / 1e6 / pages[0], worst[0] / 1e6);
+        }
+        final int stop = STUDIES / 2 + 17;
+        final int[] rows = new int[1];
+        final long start = System.nanoTime();
+        do {
+            onEdt(new Runnable() {
+                @Override
+                public void run() {
+                    rows[0] = paintPage(stop);
+                }
+            });
+            Thread.sleep(1);
+        } while (calculated < rows[0]);
+        System.out.printf("page of %d studies calculated %.1f ms after the "
+                + "scroll stopped%n", rows[0], (System.nanoTime() - start)
+                / 1e6);
+        final long rangeStart = System.nanoTime();
+        onEdt(new Runnable() {
+            @Override
+            public void run() {
+                model.calculate(0, RANGE - 1);
+            }
+        });
+        int done = 0;
+        while (done < RANGE) {
+            Thread.sleep(5);
+            final int[] count = new int[1];
+            onEdt(new Runnable() {
+                @Override
+                public void run() {
+                    for (int study = 0; study < RANGE; study++) {
+                        if (model.getSheet().getResult(study) != null) {
+                            count[0]++;
+                        }
+                    }
+                }
+            });
+            done = count[0];
+        }
+        final double seconds = (System.nanoTime() - rangeStart) / 1e9;
+        System.out.printf("calculate %d studies: %.2f s, %.0f studies/s; "
+                + "%d skipped while scrolling%n", RANGE, seconds,
+                RANGE / seconds, model.getSkipCount());
+    }
+}
@@ -0,0 +1,195 @@
+package edu.missouristate.mote.sheet;
+
+import edu.missouristate.mote.effectsizes.CohenDIndT;
+import edu.missouristate.mote.effectsizes.Measure;
+import java.io.StringReader;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the StudySheet class.
+ */
+public class StudySheetTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    private static final double EPSILON = 1e-12;
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private StudySheet sheet;
+    private int size1;
+    private int size2;
+    private int mean1;
+    private int stdDev1;
+    private int lower;
+    private int measure;
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return the index of a result property.
+     *
+     * @param key property key
+     * @return index into getResults()
+     */
+    private int findResult(final String key) {
+        for (int index = 0; index < sheet.getResults().size(); index++) {
+            if (sheet.getResults().get(index).getKey().equals(key)) {
+                return index;
+            }
+        }
+        throw new AssertionError(key);
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Create a sheet of Cohen's d, independent t.
+     */
+    @Before
+    public void setUp() {
+        sheet = new StudySheet(Measure.COHEN_D_IND_T);
+        size1 = sheet.findInput("Size1");
+        size2 = sheet.findInput("Size2");
+        mean1 = sheet.findInput("Group 1 Mean (m1)");
+        stdDev1 = sheet.findInput("stddev1");
+        lower = findResult("LowerMeasure");
+        measure = findResult("Measure");
+    }
+
+    /**
+     * Test that the columns are the editable inputs and the results.
+     */
+    @Test
+    public void testColumns() {
+        assertTrue(size1 >= 0 && size2 >= 0 && mean1 >= 0 && stdDev1 >= 0);
+        assertEquals(-1, sheet.findInput("Measure"));
+        assertEquals(-1, sheet.findInput("DF"));
+        assertEquals(5, sheet.getResults().size());
+    }
+
+    /**
+     * Test that a study gives the results of a test with the same inputs
+     * entered, and that the results are kept until an input changes.
+     */
+    @Test
+    public void testCompute() {
+        sheet.paste(0, 0, "5\t4\t2\t2.5\t\t\t20\t24\n");
+        assertNull(sheet.getResult(0));
+        final StudyResult result = sheet.compute(0);
+        assertSame(result, sheet.getResult(0));
+        final CohenDIndT test = new CohenDIndT();
+        test.setMean1(5);
+        test.setMean2(4);
+        test.setStdDev1(2);
+        test.setStdDev2(2.5);
+        test.setSize1(20);
+        test.setSize2(24);
+        assertEquals("", result.getMessage());
+        assertEquals(test.getMeasure(), result.getValue(measure), EPSILON);
+        assertEquals(test.getLowerMeasure(), result.getValue(lower), EPSILON);
+        sheet.setInput(0, size2, 24);
+        assertSame(result, sheet.getResult(0));
+        sheet.setInput(0, size2, 30);
+        assertNull(sheet.getResult(0));
+        assertTrue(sheet.compute(0).getValue(lower) > result.getValue(lower));
+    }
+
+    /**
+     * Test that a study is calculated from its own inputs only, whatever the
+     * previous study on the same thread was.
+     */
+    @Test
+    public void testCalculateIndependent() {
+        sheet.addStudies(2);
+        sheet.setInput(0, mean1, 9);
+        sheet.setInput(0, stdDev1, 1);
+        sheet.setInput(0, size1, 50);
+        sheet.setInput(0, size2, 50);
+        sheet.setInput(1, size1, 50);
+        sheet.setInput(1, size2, 50);
+        sheet.compute(0);
+        final StudyResult result = sheet.compute(1);
+        assertEquals(0, result.getValue(measure), EPSILON);
+    }
+
+    /**
+     * Test that blank studies and failed studies have no values, even after
+     * a study that succeeded on the same thread.
+     */
+    @Test
+    public void testCalculateBlankAndError() {
+        sheet.addStudies(1);
+        final StudyResult blank = sheet.compute(0);
+        assertEquals("", blank.getMessage());
+        assertTrue(Double.isNaN(blank.getValue(measure)));
+        final StudySheet rSquared = new StudySheet(Measure.R2_F_OMNI);
+        rSquared.paste(0, 0, "0.3\t100\n0.3\t2\n");
+        assertEquals("", rSquared.compute(0).getMessage());
+        final StudyResult error = rSquared.compute(1);
+        assertEquals("N <= predictors + 1", error.getMessage());
+        for (int index = 0; index < rSquared.getResults().size(); index++) {
+            assertTrue(Double.isNaN(error.getValue(index)));
+        }
+    }
+
+    /**
+     * Test that a CSV file with a header fills the named inputs and ignores
+     * unknown columns.
+     */
+    @Test
+    public void testImportCsv() throws Exception {
+        sheet.addStudies(1);
+        final int count = sheet.importCsv(new StringReader(
+                "Size1,\"Group 2 Size (n2)\",Notes;TestStatistic\n"
+                + "10,12,a,2.1\n"
+                + "\n"
+                + "20,,b,\n"));
+        assertEquals(2, count);
+        assertEquals(3, sheet.getStudyCount());
+        assertEquals(10, sheet.getInput(1, size1), 0);
+        assertEquals(12, sheet.getInput(1, size2), 0);
+        final int tValue = sheet.findInput("t Statistic");
+        assertEquals(2.1, sheet.getInput(1, tValue), 0);
+        assertEquals(20, sheet.getInput(2, size1), 0);
+        assertTrue(Double.isNaN(sheet.getInput(2, size2)));
+    }
+
+    /**
+     * Test that a bad number names its line and keeps the lines before it.
+     */
+    @Test
+    public void testImportCsvBadNumber() throws Exception {
+        try {
+            sheet.importCsv(new StringReader("1,2\n3,x\n"));
+            fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            assertTrue(ex.getMessage().startsWith("line 2:"));
+        }
+        assertEquals(2, sheet.getStudyCount());
+        assertEquals(1, sheet.getInput(0, 0), 0);
+    }
+
+    /**
+     * Test that pasted lines start at a study and input and add studies as
+     * needed.
+     */
+    @Test
+    public void testPaste() {
+        sheet.addStudies(2);
+        assertEquals(3, sheet.paste(1, size1, "30\t31\r\n40\t41\r\n50\r\n"));
+        assertEquals(4, sheet.getStudyCount());
+        assertTrue(Double.isNaN(sheet.getInput(0, size1)));
+        assertEquals(30, sheet.getInput(1, size1), 0);
+        assertEquals(31, sheet.getInput(1, size2), 0);
+        assertEquals(41, sheet.getInput(2, size2), 0);
+        assertEquals(50, sheet.getInput(3, size1), 0);
+        assertTrue(Double.isNaN(sheet.getInput(3, size2)));
+    }
+}
@@ -0,0 +1,236 @@
+package edu.missouristate.mote.sheet;
+
+import edu.missouristate.mote.effectsizes.Measure;
+import java.io.IOException;
+import java.io.StringReader;
+import javax.swing.SwingUtilities;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the StudyTableModel class. The model is used on the event
+ * dispatch thread, as the table uses it.
+ */
+public class StudyTableModelTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    private static final int STUDIES = 1000;
+    private static final long TIMEOUT_MILLIS = 30000;
+
+    // *************************************************************************
+    // FIELDS
+    // *************************************************************************
+    private StudyTableModel model;
+    private int measureColumn;
+    private int calculated;
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Run code on the event dispatch thread and wait for it.
+     *
+     * @param runnable code to run
+     * @exception Exception if the code fails
+     */
+    private static void onEdt(final Runnable runnable) throws Exception {
+        SwingUtilities.invokeAndWait(runnable);
+    }
+
+    /**
+     * Paint the measure cells of a range of studies, as the table does, and
+     * count the studies whose results are shown.
+     *
+     * @param first first study
+     * @param last last study
+     * @exception Exception if the code fails
+     */
+    private void paint(final int first, final int last) throws Exception {
+        onEdt(new Runnable() {
+            @Override
+            public void run() {
+                calculated = 0;
+                for (int row = first; row <= last; row++) {
+                    if (model.getValueAt(row, measureColumn) != null) {
+                        calculated++;
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Paint a range of studies until all of them are calculated.
+     *
+     * @param first first study
+     * @param last last study
+     * @exception Exception if the code fails
+     */
+    private void awaitPaint(final int first, final int last) throws Exception {
+        final long end = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        paint(first, last);
+        while (calculated < last - first + 1) {
+            assertTrue("timed out", System.currentTimeMillis() < end);
+            Thread.sleep(5);
+            paint(first, last);
+        }
+    }
+
+    /**
+     * Return the number of studies of the sheet with results.
+     *
+     * @return count
+     */
+    private int countResults() {
+        int result = 0;
+        for (int study = 0; study < STUDIES; study++) {
+            if (model.getSheet().getResult(study) != null) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Create a model of Cohen's d studies with the first twenty visible.
+     */
+    @Before
+    public void setUp() throws Exception {
+        onEdt(new Runnable() {
+            @Override
+            public void run() {
+                final StringBuilder text =
+                        new StringBuilder("TestStatistic,Size1,Size2\n");
+                for (int study = 0; study < STUDIES; study++) {
+                    text.append(study % 50 / 10.0).append(",20,")
+                            .append(20 + study % 7).append('\n');
+                }
+                model = new StudyTableModel(
+                        new StudySheet(Measure.COHEN_D_IND_T));
+                try {
+                    model.importCsv(new StringReader(text.toString()));
+                } catch (IOException ex) {
+                    throw new IllegalStateException(ex);
+                }
+                model.setVisibleRows(0, 19);
+                for (int column = 0; column < model.getColumnCount();
+                        column++) {
+                    if ("Cohen's d".equals(model.getColumnName(column))) {
+                        measureColumn = column;
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Test that only the painted studies are calculated.
+     */
+    @Test
+    public void testLazy() throws Exception {
+        assertEquals(STUDIES, model.getRowCount());
+        paint(0, 19);
+        assertEquals(0, calculated);
+        awaitPaint(0, 19);
+        onEdt(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(20, countResults());
+                assertEquals(20, model.getCalculateCount());
+            }
+        });
+    }
+
+    /**
+     * Test that studies scrolled away before a worker reaches them are
+     * skipped.
+     */
+    @Test
+    public void testSkipInvisible() throws Exception {
+        onEdt(new Runnable() {
+            @Override
+            public void run() {
+                model.setVisibleRows(500, 519);
+                for (int row = 500; row < 520; row++) {
+                    model.getValueAt(row, measureColumn);
+                }
+                model.setVisibleRows(0, 19);
+            }
+        });
+        awaitPaint(0, 19);
+        final long end = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        final long[] skipped = new long[1];
+        while (skipped[0] < 20) {
+            assertTrue("timed out", System.currentTimeMillis() < end);
+            onEdt(new Runnable() {
+                @Override
+                public void run() {
+                    skipped[0] = model.getSkipCount();
+                }
+            });
+            Thread.sleep(5);
+        }
+        onEdt(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(20, countResults());
+            }
+        });
+    }
+
+    /**
+     * Test that studies asked for are calculated whether visible or not.
+     */
+    @Test
+    public void testCalculate() throws Exception {
+        onEdt(new Runnable() {
+            @Override
+            public void run() {
+                model.calculate(900, 949);
+            }
+        });
+        awaitPaint(900, 949);
+        onEdt(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(50, countResults());
+            }
+        });
+    }
+
+    /**
+     * Test that editing an input shows the recalculated results.
+     */
+    @Test
+    public void testSetValueAt() throws Exception {
+        awaitPaint(0, 0);
+        final Object[] before = new Object[1];
+        onEdt(new Runnable() {
+            @Override
+            public void run() {
+                before[0] = model.getValueAt(0, measureColumn);
+                final int column =
+                        1 + model.getSheet().findInput("TestStatistic");
+                assertTrue(model.isCellEditable(0, column));
+                assertFalse(model.isCellEditable(0, measureColumn));
+                model.setValueAt("2.5", 0, column);
+                assertEquals(2.5, model.getValueAt(0, column));
+                assertNull(model.getSheet().getResult(0));
+            }
+        });
+        awaitPaint(0, 0);
+        onEdt(new Runnable() {
+            @Override
+            public void run() {
+                assertTrue((Double) model.getValueAt(0, measureColumn)
+                        > (Double) before[0]);
+            }
+        });
+    }
+}
@@ -0,0 +1,121 @@
+package edu.missouristate.mote.simulation;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the CoverageSimulation class.
+ */
+public class CoverageSimulationTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Allowed difference between actual and nominal coverage
+    private static final double COVERAGE_DELTA = 0.015;
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * The non-central t interval for d should have nominal coverage.
+     */
+    @Test
+    public void testIndependentT() {
+        final CoverageResult result = new CoverageSimulation(
+                new IndependentTScenario(0.5, 20, 25, 0.95), 20000, 1).run();
+        final CoverageTally tally = result.getTally();
+        assertEquals(20000, tally.getReplications());
+        assertEquals(0, tally.getUndefined());
+        assertEquals(0.95, tally.getCoverage(), COVERAGE_DELTA);
+        assertEquals(tally.getReplications(), tally.getCovered()
+                + tally.getMissedBelow() + tally.getMissedAbove());
+        assertTrue(tally.getMeanWidth() > 1.1 && tally.getMeanWidth() < 1.3);
+    }
+
+    /**
+     * The non-central F interval for eta squared should have nominal
+     * coverage, including the studies whose F is below the lower critical
+     * value.
+     */
+    @Test
+    public void testOneWayF() {
+        final OneWayFScenario scenario = new OneWayFScenario(
+                new double[]{0, 0.3, 0.6}, 15, 0.9);
+        assertEquals(2.7, scenario.getNonCentrality(), 1.0E-12);
+        assertEquals(2.7 / 47.7, scenario.getParameter(), 1.0E-12);
+        final CoverageResult result = new CoverageSimulation(scenario, 3000,
+                2).run();
+        assertEquals(0.9, result.getTally().getCoverage(), 0.03);
+    }
+
+    /**
+     * The log odds ratio interval should have roughly nominal coverage.
+     */
+    @Test
+    public void testOddsRatio() {
+        final OddsRatioScenario scenario = new OddsRatioScenario(0.3, 0.15,
+                80, 90, 0.95);
+        assertEquals(0.3 / 0.7 / (0.15 / 0.85), scenario.getParameter(),
+                1.0E-12);
+        final CoverageResult result = new CoverageSimulation(scenario, 20000,
+                3).run();
+        assertEquals(0.95, result.getTally().getCoverage(), COVERAGE_DELTA);
+    }
+
+    /**
+     * The same seed should reproduce the same tally, and progress should be
+     * reported up to the total.
+     */
+    @Test
+    public void testDeterministic() {
+        final IndependentTScenario scenario = new IndependentTScenario(0.2,
+                10, 10, 0.95);
+        final AtomicLong last = new AtomicLong();
+        final CoverageSimulation simulation = new CoverageSimulation(scenario,
+                10000, 42);
+        simulation.setProgressListener(new ProgressListener() {
+            @Override
+            public void progress(final long completed, final long total,
+                    final long elapsedNanos) {
+                assertEquals(10000, total);
+                synchronized (last) {
+                    last.set(Math.max(last.get(), completed));
+                }
+            }
+        });
+        final CoverageTally tally1 = simulation.run().getTally();
+        final CoverageTally tally2 = new CoverageSimulation(scenario, 10000,
+                42).run().getTally();
+        assertEquals(10000, last.get());
+        assertEquals(tally1.getCovered(), tally2.getCovered());
+        assertEquals(tally1.getMeanWidth(), tally2.getMeanWidth(), 0);
+        assertEquals(tally1.getWidthStdDev(), tally2.getWidthStdDev(), 0);
+    }
+
+    /**
+     * Merged tallies should match a single tally of the same intervals.
+     */
+    @Test
+    public void testMerge() {
+        final CoverageTally all = new CoverageTally();
+        final CoverageTally first = new CoverageTally();
+        final CoverageTally second = new CoverageTally();
+        for (int index = 0; index < 50; index++) {
+            final double lower = index * 0.1;
+            final double upper = lower + 1 + (index % 7) * 0.3;
+            all.add(lower, upper, 2.5);
+            (index < 20 ? first : second).add(lower, upper, 2.5);
+        }
+        all.addUndefined();
+        second.addUndefined();
+        first.merge(second);
+        assertEquals(all.getReplications(), first.getReplications());
+        assertEquals(all.getUndefined(), first.getUndefined());
+        assertEquals(all.getCovered(), first.getCovered());
+        assertEquals(all.getMissedBelow(), first.getMissedBelow());
+        assertEquals(all.getMeanWidth(), first.getMeanWidth(), 1.0E-12);
+        assertEquals(all.getWidthStdDev(), first.getWidthStdDev(), 1.0E-12);
+    }
+}
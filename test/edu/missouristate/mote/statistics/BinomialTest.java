@@ -47,4 +47,18 @@ public class BinomialTest {
         assertEquals(8.0811721649869389e+58, Binomial.eval(10000, 19), DELTA);
         assertEquals(112837.91671096261, Binomial.eval(1e10, 0.5), DELTA); //wrong
     }
-}
\ No newline at end of file
+
+    /**
+     * Test of evalLog method, of class Binomial.
+     */
+    @Test
+    public void testEvalLog() {
+        assertEquals(Math.log(45), Binomial.evalLog(10, 2), 1e-12);
+        assertEquals(Math.log(8.0811721649869389e+58),
+                Binomial.evalLog(10000, 19), 1e-9);
+        assertEquals(0, Binomial.evalLog(7, 0), DELTA);
+        assertEquals(Double.NEGATIVE_INFINITY, Binomial.evalLog(7, 8), DELTA);
+        assertEquals(Gamma.evalLog(50001), Binomial.logFactorial(50000),
+                1e-6);
+    }
+}
@@ -0,0 +1,91 @@
+package edu.missouristate.mote.statistics;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the ChiSquareDist class.
+ */
+public class ChiSquareDistTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Maximum allowed difference between expected and actual
+    private static final double DELTA = 0.000000000001;
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Test of constructor, of class ChiSquareDist.
+     */
+    @Test
+    public void testConstructor() throws Exception {
+        final Constructor[] cons = ChiSquareDist.class.getDeclaredConstructors();
+        assertEquals("Should only have one constructor", 1, cons.length);
+        assertTrue("Constructor should be private",
+                Modifier.isPrivate(cons[0].getModifiers()));
+        cons[0].setAccessible(true);
+        assertEquals("Constructor should return the expected type",
+                ChiSquareDist.class, cons[0].newInstance().getClass());
+    }
+
+    /**
+     * Test of cdf method, of class ChiSquareDist.
+     */
+    @Test
+    public void testCdf() {
+        assertEquals(0, ChiSquareDist.cdf(-1, 3, 2), DELTA);
+        assertEquals(0, ChiSquareDist.cdf(0, 3, 2), DELTA);
+        assertEquals(0.95, ChiSquareDist.cdf(3.841458820694124, 1, 0), DELTA);
+        assertEquals(0.59340518008315568, ChiSquareDist.cdf(5, 3, 2), DELTA);
+        assertEquals(0.57129701038674585, ChiSquareDist.cdf(1, 1, 0.5), DELTA);
+        assertEquals(0.058784949352640406, ChiSquareDist.cdf(0.5, 2, 3),
+                DELTA);
+        assertEquals(0.89887691001360648, ChiSquareDist.cdf(12, 7, 0.01),
+                DELTA);
+        assertEquals(0.80066355149942681, ChiSquareDist.cdf(100, 5, 80),
+                DELTA);
+        assertEquals(0.075075980846013454, ChiSquareDist.cdf(60, 5, 80),
+                DELTA);
+        assertEquals(0.69018461920809937, ChiSquareDist.cdf(1000, 20, 950),
+                DELTA);
+        assertEquals(0.14637420632513959, ChiSquareDist.cdf(2300, 3, 2400),
+                DELTA);
+    }
+
+    /**
+     * Test that the normal approximation for a large non-centrality agrees
+     * with the series where they meet.
+     */
+    @Test
+    public void testCdfLargeNc() {
+        final double nc = 1.0e5;
+        final double spread = Math.sqrt(2 * (10 + 2 * nc));
+        for (int deviations = -3; deviations <= 3; deviations++) {
+            final double xValue = 10 + nc + deviations * spread;
+            assertEquals(ChiSquareDist.cdf(xValue, 10, nc),
+                    ChiSquareDist.cdf(xValue, 10, Math.nextUp(nc)),
+                    0.00000001);
+        }
+    }
+
+    /**
+     * Test of pdf method, of class ChiSquareDist.
+     */
+    @Test
+    public void testPdf() {
+        assertEquals(0, ChiSquareDist.pdf(-1, 3, 2), DELTA);
+        assertEquals(0.02981946110542983,
+                ChiSquareDist.pdf(3.841458820694124, 1, 0), DELTA);
+        assertEquals(0.10044198178668672, ChiSquareDist.pdf(5, 3, 2), DELTA);
+        assertEquals(0.12265451030192287, ChiSquareDist.pdf(0.5, 2, 3), DELTA);
+        assertEquals(0.00012928984266167483, ChiSquareDist.pdf(150, 5, 80),
+                DELTA);
+        assertEquals(0.0023918866580234632, ChiSquareDist.pdf(2300, 3, 2400),
+                DELTA);
+    }
+}
@@ -57,4 +57,15 @@ public class FDistTest {
         assertEquals(0.1982333055446437, FDist.pdf(2, 3, 5, 4), DELTA);
         assertEquals(0.00984128, FDist.pdf(6.1, 10, 7, 2.3), DELTA);
     }
-}
\ No newline at end of file
+
+    /**
+     * Test of quantile method, of class FDist.
+     */
+    @Test
+    public void testQuantile() {
+        assertEquals(3.0983912121, FDist.quantile(0.95, 3, 20), DELTA);
+        assertEquals(0.95, FDist.cdf(FDist.quantile(0.95, 2, 10), 2, 10, 0),
+                DELTA);
+        assertEquals(Double.NaN, FDist.quantile(1, 2, 10), DELTA);
+    }
+}
@@ -0,0 +1,67 @@
+package edu.missouristate.mote.statistics;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the GammaInc class.
+ */
+public class GammaIncTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Maximum allowed difference between expected and actual
+    private static final double DELTA = 0.00000000000001;
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Test of constructor, of class GammaInc.
+     */
+    @Test
+    public void testConstructor() throws Exception {
+        final Constructor[] cons = GammaInc.class.getDeclaredConstructors();
+        assertEquals("Should only have one constructor", 1, cons.length);
+        assertTrue("Constructor should be private",
+                Modifier.isPrivate(cons[0].getModifiers()));
+        cons[0].setAccessible(true);
+        assertEquals("Constructor should return the expected type",
+                GammaInc.class, cons[0].newInstance().getClass());
+    }
+
+    /**
+     * Test of eval method, of class GammaInc.
+     */
+    @Test
+    public void testEval() {
+        assertEquals(0, GammaInc.eval(2, -1), DELTA);
+        assertEquals(0, GammaInc.eval(2, 0), DELTA);
+        assertEquals(1, GammaInc.eval(2, Double.POSITIVE_INFINITY), DELTA);
+        assertTrue(Double.isNaN(GammaInc.eval(0, 1)));
+        // 1 - e^-x
+        assertEquals(0.8646647167633873, GammaInc.eval(1, 2), DELTA);
+        // erf(sqrt(x))
+        assertEquals(0.9544997361036416, GammaInc.eval(0.5, 2), DELTA);
+        assertEquals(0.0011283787909692, GammaInc.eval(0.5, 1e-6), DELTA);
+        assertEquals(0.18473675547622792, GammaInc.eval(5, 3), DELTA);
+        assertEquals(0.5132987982791725, GammaInc.eval(100, 100), 1e-12);
+    }
+
+    /**
+     * Test of evalComplement method, of class GammaInc.
+     */
+    @Test
+    public void testEvalComplement() {
+        assertEquals(1, GammaInc.evalComplement(2, 0), DELTA);
+        assertEquals(0.8152632445237721, GammaInc.evalComplement(5, 3), DELTA);
+        // e^-30 * (1 + 30 + 30^2 / 2), far below the resolution of 1 - P
+        final double expected = 4.501016648012124e-11;
+        assertEquals(1, GammaInc.evalComplement(3, 30) / expected, 1e-12);
+        assertEquals(1, GammaInc.eval(7.5, 4.2)
+                + GammaInc.evalComplement(7.5, 4.2), DELTA);
+    }
+}
@@ -50,4 +50,33 @@ public class HypergeometricTest {
         // Should evaluate to positive infinity
         assertEquals(2.9636033366827517E307, Hypergeometric.eval1f1(1, 1.1, 10000), DELTA);
     }
-}
\ No newline at end of file
+
+    /**
+     * Test of eval2f1 method, of class Hypergeometric.
+     */
+    @Test
+    public void testEval2f1() {
+        // 2F1(1, 1; 2; z) = -ln(1 - z) / z
+        assertEquals(-Math.log(0.7) / 0.3, Hypergeometric.eval2f1(1, 1, 2, 0.3), DELTA);
+        // Negative z, by the Pfaff transformation
+        assertEquals(Math.log(1.5) / 0.5, Hypergeometric.eval2f1(1, 1, 2, -0.5), DELTA);
+        // Gauss's theorem at z = 1
+        assertEquals(2, Hypergeometric.eval2f1(1, 1, 3, 1), DELTA);
+        assertEquals(Double.POSITIVE_INFINITY, Hypergeometric.eval2f1(1, 1, 2, 1), DELTA);
+        // Terminating series
+        assertEquals(-0.098, Hypergeometric.eval2f1(-3, 2, 1, 0.3), DELTA);
+        assertTrue(Double.isNaN(Hypergeometric.eval2f1(1, 1, 2, 1.5)));
+    }
+
+    /**
+     * Test of evalLog2f1 method, of class Hypergeometric.
+     */
+    @Test
+    public void testEvalLog2f1() {
+        assertEquals(Math.log(-Math.log(0.7) / 0.3),
+                Hypergeometric.evalLog2f1(1, 1, 2, 0.3), DELTA);
+        // 2F1(a, b; b; z) = (1 - z)^-a, far beyond the range of a double
+        assertEquals(-2000 * Math.log1p(-0.9),
+                Hypergeometric.evalLog2f1(2000, 3, 3, 0.9), 0.0000001);
+    }
+}
@@ -0,0 +1,43 @@
+package edu.missouristate.mote.statistics;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the NctKernel class.
+ */
+public class NctKernelTest {
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Test of cdf method, of class NctKernel.
+     */
+    @Test
+    public void testCdf() {
+        final double[] tValues = new double[]{-4, 0, 1.5, 9};
+        final double[] dfs = new double[]{1, 5, 40, 300};
+        final double[] deltas = new double[]{-3, -0.5, 0, 0.3, 2.5, 8};
+        for (double tValue : tValues) {
+            for (double df : dfs) {
+                final NctKernel kernel = new NctKernel(tValue, df);
+                for (double delta : deltas) {
+                    assertEquals(TDist.cdf(tValue, df, delta),
+                            kernel.cdf(delta), 0);
+                }
+            }
+        }
+        assertEquals(Double.NaN, new NctKernel(1, 0).cdf(1), 0);
+    }
+
+    /**
+     * Test of getTValue and getDf methods, of class NctKernel.
+     */
+    @Test
+    public void testGetters() {
+        final NctKernel kernel = new NctKernel(2.5, 18);
+        assertEquals(2.5, kernel.getTValue(), 0);
+        assertEquals(18, kernel.getDf(), 0);
+    }
+}
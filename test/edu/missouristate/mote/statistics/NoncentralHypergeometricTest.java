@@ -0,0 +1,73 @@
+package edu.missouristate.mote.statistics;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the NoncentralHypergeometric class.
+ */
+public class NoncentralHypergeometricTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Maximum allowed difference between expected and actual
+    private static final double DELTA = 0.0000001;
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Test of the support of the distribution.
+     */
+    @Test
+    public void testSupport() {
+        final NoncentralHypergeometric dist =
+                new NoncentralHypergeometric(4, 6, 7);
+        assertEquals(1, dist.getLower());
+        assertEquals(4, dist.getUpper());
+    }
+
+    /**
+     * Test of evaluate method, of class NoncentralHypergeometric.
+     */
+    @Test
+    public void testEvaluate() {
+        // Margins 4, 4 and 4; weights C(4, x) C(4, 4 - x) psi^x
+        final NoncentralHypergeometric dist =
+                new NoncentralHypergeometric(4, 4, 4);
+        final double psi = 3;
+        final double[] weights = new double[5];
+        double total = 0;
+        for (int x = 0; x <= 4; x++) {
+            weights[x] = Binomial.eval(4, x) * Binomial.eval(4, 4 - x)
+                    * Math.pow(psi, x);
+            total += weights[x];
+        }
+        final double[] result = dist.evaluate(2, Math.log(psi));
+        assertEquals((weights[0] + weights[1] + weights[2]) / total,
+                result[0], DELTA);
+        assertEquals((weights[2] + weights[3] + weights[4]) / total,
+                result[1], DELTA);
+        double mean = 0;
+        for (int x = 0; x <= 4; x++) {
+            mean += x * weights[x] / total;
+        }
+        assertEquals(mean, result[2], DELTA);
+        // The central case is symmetric
+        assertEquals(2, dist.mean(0), DELTA);
+    }
+
+    /**
+     * Test that large tables do not overflow.
+     */
+    @Test
+    public void testLargeTable() {
+        final NoncentralHypergeometric dist =
+                new NoncentralHypergeometric(40000, 30000, 35000);
+        final double mean = dist.mean(0.1);
+        assertTrue(mean > dist.getLower() && mean < dist.getUpper());
+        assertEquals(1, dist.cdf(dist.getUpper(), 0.1), DELTA);
+        assertEquals(1, dist.sf(dist.getLower(), 0.1), DELTA);
+    }
+}
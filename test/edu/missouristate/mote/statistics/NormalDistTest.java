@@ -55,4 +55,26 @@ public class NormalDistTest {
         assertEquals(0.19418605498321298, NormalDist.pdf(1.2), DELTA);
         assertEquals(0.0044318484119380075, NormalDist.pdf(-3), DELTA);
     }
-}
\ No newline at end of file
+
+    /**
+     * Test of quantile method, of class NormalDist.
+     */
+    @Test
+    public void testQuantile() {
+        assertEquals(0, NormalDist.quantile(0.5), 0);
+        assertEquals(1.959963984540054, NormalDist.quantile(0.975), 1.0E-14);
+        assertEquals(-1.5, NormalDist.quantile(0.066807201268858071),
+                1.0E-12);
+        assertEquals(-8, NormalDist.quantile(6.2209605742717405e-16), 1.0E-9);
+        assertEquals(Double.POSITIVE_INFINITY, NormalDist.quantile(1), 0);
+        assertEquals(Double.NEGATIVE_INFINITY, NormalDist.quantile(0), 0);
+    }
+
+    /**
+     * Test of quantile method, of class NormalDist, with a bad probability.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testQuantileBadProb() {
+        NormalDist.quantile(1.5);
+    }
+}
@@ -0,0 +1,61 @@
+package edu.missouristate.mote.statistics;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the RSquareDist class.
+ */
+public class RSquareDistTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Maximum allowed difference between expected and actual
+    private static final double DELTA = 0.000000000001;
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Test of constructor, of class RSquareDist.
+     */
+    @Test
+    public void testConstructor() throws Exception {
+        final Constructor[] cons = RSquareDist.class.getDeclaredConstructors();
+        assertEquals("Should only have one constructor", 1, cons.length);
+        assertTrue("Constructor should be private",
+                Modifier.isPrivate(cons[0].getModifiers()));
+        cons[0].setAccessible(true);
+        assertEquals("Constructor should return the expected type",
+                RSquareDist.class, cons[0].newInstance().getClass());
+    }
+
+    /**
+     * Test of cdf method, of class RSquareDist.
+     */
+    @Test
+    public void testCdf() {
+        assertEquals(0.7197290055251876, RSquareDist.cdf(0.3, 3, 50, 0.2), DELTA);
+        assertEquals(0.03794610612138716, RSquareDist.cdf(0.1, 2, 30, 0.3), DELTA);
+        assertEquals(0.8760932184555649, RSquareDist.cdf(0.6, 5, 100, 0.5), DELTA);
+        assertEquals(0.006002482745817749, RSquareDist.cdf(0.8, 3, 40, 0.9), DELTA);
+        assertEquals(0.994703546931267, RSquareDist.cdf(0.45, 4, 200, 0.3), DELTA);
+        // Central case is Beta(k / 2, (N - k - 1) / 2)
+        assertEquals(BetaInc.eval(1.5, 23, 0.1), RSquareDist.cdf(0.1, 3, 50, 0), DELTA);
+        assertEquals(0, RSquareDist.cdf(0, 3, 50, 0.2), 0);
+        assertEquals(1, RSquareDist.cdf(1, 3, 50, 0.2), 0);
+    }
+
+    /**
+     * Test of pdf method, of class RSquareDist.
+     */
+    @Test
+    public void testPdf() {
+        assertEquals(3.076322748926308, RSquareDist.pdf(0.3, 3, 50, 0.2), DELTA);
+        assertEquals(0.2807564178283067, RSquareDist.pdf(0.8, 3, 40, 0.9), DELTA);
+        assertEquals(0, RSquareDist.pdf(1, 3, 50, 0.2), 0);
+    }
+}
@@ -0,0 +1,71 @@
+package edu.missouristate.mote.statistics;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the SplitRandom class.
+ */
+public class SplitRandomTest {
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * The streams should match those of java.util.SplittableRandom.
+     */
+    @Test
+    public void testNextLong() {
+        assertEquals(-2152535657050944081L, new SplitRandom(0).nextLong());
+        assertEquals(1750893463095773485L,
+                new SplitRandom(0).split().nextLong());
+        assertEquals(0.8833108082136426, new SplitRandom(0).nextDouble(), 0);
+    }
+
+    /**
+     * Test of nextInt method, of class SplitRandom.
+     */
+    @Test
+    public void testNextInt() {
+        final SplitRandom random = new SplitRandom(17);
+        final int[] counts = new int[7];
+        for (int index = 0; index < 70000; index++) {
+            counts[random.nextInt(7)]++;
+        }
+        for (int count : counts) {
+            assertEquals(10000, count, 400);
+        }
+    }
+
+    /**
+     * Test of nextDouble and nextGaussian methods, of class SplitRandom.
+     */
+    @Test
+    public void testMoments() {
+        final SplitRandom random = new SplitRandom(99);
+        double sum = 0;
+        double sumSquares = 0;
+        final int count = 100000;
+        for (int index = 0; index < count; index++) {
+            final double uniform = random.nextDouble();
+            assertTrue(uniform >= 0 && uniform < 1);
+            final double normal = random.nextGaussian();
+            sum += normal;
+            sumSquares += normal * normal;
+        }
+        assertEquals(0, sum / count, 0.02);
+        assertEquals(1, sumSquares / count, 0.02);
+    }
+
+    /**
+     * The same seed should always give the same stream.
+     */
+    @Test
+    public void testSeed() {
+        final SplitRandom random1 = new SplitRandom(5).split();
+        final SplitRandom random2 = new SplitRandom(5).split();
+        for (int index = 0; index < 100; index++) {
+            assertEquals(random1.nextLong(), random2.nextLong());
+        }
+    }
+}
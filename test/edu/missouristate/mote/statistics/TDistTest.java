@@ -62,4 +62,18 @@ public class TDistTest {
                 14.466947078704834), DELTA);  
         assertEquals(0, TDist.pdf(13, 400, 15), DELTA);  
     }
-}
\ No newline at end of file
+
+    /**
+     * Test of quantile method, of class TDist.
+     */
+    @Test
+    public void testQuantile() {
+        assertEquals(2.2281388520, TDist.quantile(0.975, 10), DELTA);
+        assertEquals(-3.1824463053, TDist.quantile(0.025, 3), DELTA);
+        assertEquals(0, TDist.quantile(0.5, 7), DELTA);
+        assertEquals(Double.NaN, TDist.quantile(0.5, -1), DELTA);
+        final double tValue = TDist.quantile(0.9, 12, 2.5);
+        assertEquals(0.9, TDist.cdf(tValue, 12, 2.5), DELTA);
+        assertTrue(tValue > 2.5);
+    }
+}
@@ -0,0 +1,138 @@
+package edu.missouristate.mote.statistics;
+
+import java.util.Random;
+
+/**
+ * Throughput comparison of the Variates generators with baselines built on
+ * java.util.Random.nextGaussian. Run the main method directly; each case is
+ * warmed up before it is timed.
+ */
+public final class VariatesBenchmark {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Variates per batch
+    private static final int BATCH = 1 << 20;
+    // Untimed batches
+    private static final int WARMUP = 5;
+    // Timed batches
+    private static final int ROUNDS = 10;
+    // Degrees of freedom of the chi-square and t cases
+    private static final int DF = 10;
+
+    // *************************************************************************
+    // CONSTRUCTORS
+    // *************************************************************************
+    /**
+     * Initialize a new instance of a VariatesBenchmark.
+     */
+    private VariatesBenchmark() {
+    }
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Time a case and print nanoseconds per variate.
+     *
+     * @param name case name
+     * @param task case to run; fills the array once
+     * @param values array to fill
+     */
+    private static void time(final String name, final Runnable task,
+            final double[] values) {
+        for (int round = 0; round < WARMUP; round++) {
+            task.run();
+        }
+        final long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            task.run();
+        }
+        final double nanos = (double) (System.nanoTime() - start)
+                / ((long) ROUNDS * values.length);
+        System.out.printf("%-34s %8.2f ns/variate  (check %.3f)%n", name,
+                nanos, values[values.length / 2]);
+    }
+
+    /**
+     * Return a chi-square value as a sum of squared normals.
+     *
+     * @param random random generator
+     * @param df integer degrees of freedom
+     * @return chi-square value
+     */
+    private static double chiSquare(final Random random, final int df) {
+        double result = 0;
+        for (int index = 0; index < df; index++) {
+            final double normal = random.nextGaussian();
+            result += normal * normal;
+        }
+        return result;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Run the benchmark.
+     *
+     * @param args not used
+     */
+    public static void main(final String[] args) {
+        final double[] values = new double[BATCH];
+        final Random baseline = new Random(1);
+        final SplitRandom random = new SplitRandom(1);
+        time("normal: Random.nextGaussian", new Runnable() {
+            @Override
+            public void run() {
+                for (int index = 0; index < values.length; index++) {
+                    values[index] = baseline.nextGaussian();
+                }
+            }
+        }, values);
+        time("normal: SplitRandom.nextGaussian", new Runnable() {
+            @Override
+            public void run() {
+                for (int index = 0; index < values.length; index++) {
+                    values[index] = random.nextGaussian();
+                }
+            }
+        }, values);
+        time("normal: Variates.fillNormal", new Runnable() {
+            @Override
+            public void run() {
+                Variates.fillNormal(random, values);
+            }
+        }, values);
+        time("chi-square(10): sum of squares", new Runnable() {
+            @Override
+            public void run() {
+                for (int index = 0; index < values.length; index++) {
+                    values[index] = chiSquare(baseline, DF);
+                }
+            }
+        }, values);
+        time("chi-square(10): Variates", new Runnable() {
+            @Override
+            public void run() {
+                Variates.fillChiSquare(random, DF, values);
+            }
+        }, values);
+        time("t(10, 1.5): from nextGaussian", new Runnable() {
+            @Override
+            public void run() {
+                for (int index = 0; index < values.length; index++) {
+                    values[index] = (baseline.nextGaussian() + 1.5)
+                            / Math.sqrt(chiSquare(baseline, DF) / DF);
+                }
+            }
+        }, values);
+        time("t(10, 1.5): Variates", new Runnable() {
+            @Override
+            public void run() {
+                Variates.fillT(random, DF, 1.5, values);
+            }
+        }, values);
+    }
+}
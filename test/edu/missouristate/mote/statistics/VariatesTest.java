@@ -0,0 +1,154 @@
+package edu.missouristate.mote.statistics;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the Variates class. Each generator is compared with the
+ * matching distribution function at a spread of sample quantiles.
+ */
+public class VariatesTest {
+
+    // *************************************************************************
+    // CONSTANTS
+    // *************************************************************************
+    // Number of variates per test
+    private static final int COUNT = 40000;
+    // Maximum allowed distance between the empirical and exact CDFs
+    private static final double KS_DELTA = 0.01;
+
+    // *************************************************************************
+    // PRIVATE METHODS
+    // *************************************************************************
+    /**
+     * Return every hundredth sorted value and its empirical cumulative
+     * probability.
+     *
+     * @param values variates; sorted in place
+     * @return quantiles in [0] and probabilities in [1]
+     */
+    private static double[][] empirical(final double[] values) {
+        Arrays.sort(values);
+        final double[][] result = new double[2][values.length / 100];
+        for (int index = 0; index < result[0].length; index++) {
+            final int position = index * 100 + 50;
+            result[0][index] = values[position];
+            result[1][index] = (position + 0.5) / values.length;
+        }
+        return result;
+    }
+
+    // *************************************************************************
+    // PUBLIC METHODS
+    // *************************************************************************
+    /**
+     * Test of constructor, of class Variates.
+     */
+    @Test
+    public void testConstructor() throws Exception {
+        final Constructor[] cons = Variates.class.getDeclaredConstructors();
+        assertEquals("Should only have one constructor", 1, cons.length);
+        assertTrue("Constructor should be private",
+                Modifier.isPrivate(cons[0].getModifiers()));
+        cons[0].setAccessible(true);
+        assertEquals("Constructor should return the expected type",
+                Variates.class, cons[0].newInstance().getClass());
+    }
+
+    /**
+     * Test of fillNormal method, of class Variates.
+     */
+    @Test
+    public void testNormal() {
+        final double[] values = new double[COUNT * 5];
+        Variates.fillNormal(new SplitRandom(1), values);
+        double sum = 0;
+        double sumSquares = 0;
+        for (double value : values) {
+            sum += value;
+            sumSquares += value * value;
+        }
+        assertEquals(0, sum / values.length, 0.01);
+        assertEquals(1, sumSquares / values.length, 0.01);
+        final double[][] cdf = empirical(values);
+        for (int index = 0; index < cdf[0].length; index++) {
+            assertEquals(cdf[1][index], NormalDist.cdf(cdf[0][index]),
+                    KS_DELTA);
+        }
+    }
+
+    /**
+     * Test of fillGamma method, of class Variates.
+     */
+    @Test
+    public void testGamma() {
+        final double[] values = new double[COUNT];
+        for (double shape : new double[]{0.5, 3.7}) {
+            Variates.fillGamma(new SplitRandom(2), shape, values);
+            double sum = 0;
+            double sumSquares = 0;
+            for (double value : values) {
+                assertTrue(value > 0);
+                sum += value;
+                sumSquares += value * value;
+            }
+            final double mean = sum / values.length;
+            assertEquals(shape, mean, 0.05 * shape);
+            assertEquals(shape, sumSquares / values.length - mean * mean,
+                    0.1 * shape);
+        }
+    }
+
+    /**
+     * Test of fillT method, of class Variates.
+     */
+    @Test
+    public void testT() {
+        final double[] values = new double[COUNT];
+        Variates.fillT(new SplitRandom(3), 8, 1.5, values);
+        final double[][] cdf = empirical(values);
+        for (int index = 0; index < cdf[0].length; index++) {
+            assertEquals(cdf[1][index], TDist.cdf(cdf[0][index], 8, 1.5),
+                    KS_DELTA);
+        }
+    }
+
+    /**
+     * Test of fillF method, of class Variates.
+     */
+    @Test
+    public void testF() {
+        final double[] values = new double[COUNT];
+        Variates.fillF(new SplitRandom(4), 3, 20, 4, values);
+        final double[][] cdf = empirical(values);
+        for (int index = 0; index < cdf[0].length; index += 10) {
+            assertEquals(cdf[1][index], FDist.cdf(cdf[0][index], 3, 20, 4),
+                    KS_DELTA);
+        }
+    }
+
+    /**
+     * Test of fillChiSquare method, of class Variates.
+     */
+    @Test
+    public void testChiSquare() {
+        final double[] values = new double[COUNT];
+        Variates.fillChiSquare(new SplitRandom(5), 5, values);
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        assertEquals(5, sum / values.length, 0.1);
+    }
+
+    /**
+     * Out of range parameters should be rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadShape() {
+        Variates.gamma(new SplitRandom(6), 0);
+    }
+}